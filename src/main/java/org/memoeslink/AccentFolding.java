@@ -0,0 +1,66 @@
+package org.memoeslink;
+
+import java.text.Normalizer;
+
+final class AccentFolding {
+    private static final int LATIN_START = 0x0000;
+    private static final int LATIN_END = 0x024F; // Basic Latin, Latin-1 Supplement and Latin Extended-A/B
+    private static final int LATIN_EXTENDED_ADDITIONAL_START = 0x1E00;
+    private static final int LATIN_EXTENDED_ADDITIONAL_END = 0x1EFF;
+    private static final char[] LATIN = new char[LATIN_END - LATIN_START + 1];
+    private static final char[] LATIN_EXTENDED_ADDITIONAL = new char[LATIN_EXTENDED_ADDITIONAL_END - LATIN_EXTENDED_ADDITIONAL_START + 1];
+
+    static {
+        fill(LATIN, LATIN_START);
+        fill(LATIN_EXTENDED_ADDITIONAL, LATIN_EXTENDED_ADDITIONAL_START);
+    }
+
+    private AccentFolding() {
+    }
+
+    /**
+     * Checks if the given character is covered by the folding table.
+     *
+     * @param c the character to check
+     * @return {@code true} if {@code c} belongs to one of the Latin blocks of the table, otherwise {@code false}
+     */
+    static boolean isCovered(int c) {
+        return (c >= LATIN_START && c <= LATIN_END) || (c >= LATIN_EXTENDED_ADDITIONAL_START && c <= LATIN_EXTENDED_ADDITIONAL_END);
+    }
+
+    /**
+     * Returns the base letter of a character covered by the folding table, that is, the character
+     * left after decomposing it and removing its combining diacritical marks.
+     *
+     * @param c the character to fold, which must be covered by the table
+     * @return the base character of {@code c}, or {@code c} itself if it has no accents
+     */
+    static char fold(int c) {
+        if (c <= LATIN_END) return LATIN[c - LATIN_START];
+        return LATIN_EXTENDED_ADDITIONAL[c - LATIN_EXTENDED_ADDITIONAL_START];
+    }
+
+    /**
+     * Fills a table with the base characters of a contiguous block, stripping the combining diacritical marks
+     * (U+0300 to U+036F) from the canonical decomposition of each character.
+     *
+     * @param table the table to fill
+     * @param start the first character of the block
+     */
+    private static void fill(char[] table, int start) {
+        for (int i = 0; i < table.length; i++) {
+            char c = (char) (start + i);
+            String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+            table[i] = c;
+
+            for (int j = 0; j < decomposed.length(); j++) {
+                char d = decomposed.charAt(j);
+
+                if (d < 0x0300 || d > 0x036F) {
+                    table[i] = d;
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package org.memoeslink;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A named alphabet whose letters, vowels and consonants are compiled into {@link CodePointSet}s when
+ * it is registered, so that checking a character against it takes constant time.
+ */
+public final class Alphabet {
+    private static final Map<String, Alphabet> REGISTRY = new ConcurrentHashMap<>();
+    public static final Alphabet GLOBAL = register("global", CharHelper.GLOBAL_LETTERS, CharHelper.GLOBAL_VOWELS, CharHelper.GLOBAL_CONSONANTS);
+    private final String name;
+    private final CodePointSet letters;
+    private final CodePointSet vowels;
+    private final CodePointSet consonants;
+
+    private Alphabet(String name, CodePointSet letters, CodePointSet vowels, CodePointSet consonants) {
+        this.name = name;
+        this.letters = letters;
+        this.vowels = vowels;
+        this.consonants = consonants;
+    }
+
+    /**
+     * Registers an alphabet under the given name, replacing any alphabet previously registered with it.
+     * The letters of the alphabet always include its vowels and consonants.
+     *
+     * @param name       the name of the alphabet
+     * @param letters    the letters of the alphabet that are neither vowels nor consonants, may be {@code null}
+     * @param vowels     the vowels of the alphabet, may be {@code null}
+     * @param consonants the consonants of the alphabet, may be {@code null}
+     * @return the registered alphabet
+     * @throws IllegalArgumentException if {@code name} is {@code null} or empty
+     */
+    public static Alphabet register(String name, CharSequence letters, CharSequence vowels, CharSequence consonants) {
+        if (StringHelper.isNullOrEmpty(name))
+            throw new IllegalArgumentException("Alphabet name cannot be null or empty");
+        CodePointSet vowelSet = CodePointSet.of(vowels);
+        CodePointSet consonantSet = CodePointSet.of(consonants);
+        Alphabet alphabet = new Alphabet(name, CodePointSet.of(letters).union(vowelSet).union(consonantSet), vowelSet, consonantSet);
+        REGISTRY.put(name, alphabet);
+        return alphabet;
+    }
+
+    /**
+     * Registers an alphabet made up only of the given vowels and consonants.
+     *
+     * @param name       the name of the alphabet
+     * @param vowels     the vowels of the alphabet, may be {@code null}
+     * @param consonants the consonants of the alphabet, may be {@code null}
+     * @return the registered alphabet
+     * @throws IllegalArgumentException if {@code name} is {@code null} or empty
+     */
+    public static Alphabet register(String name, CharSequence vowels, CharSequence consonants) {
+        return register(name, null, vowels, consonants);
+    }
+
+    /**
+     * Returns the alphabet registered under the given name.
+     *
+     * @param name the name of the alphabet
+     * @return the registered alphabet, or {@code null} if there is none with that name
+     */
+    public static Alphabet get(String name) {
+        return name == null ? null : REGISTRY.get(name);
+    }
+
+    /**
+     * Removes the alphabet registered under the given name.
+     *
+     * @param name the name of the alphabet
+     * @return {@code true} if an alphabet was removed, otherwise {@code false}
+     */
+    public static boolean unregister(String name) {
+        return name != null && REGISTRY.remove(name) != null;
+    }
+
+    /**
+     * Returns the name of this alphabet.
+     *
+     * @return the name of this alphabet
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the letters of this alphabet, including its vowels and consonants.
+     *
+     * @return the letters of this alphabet
+     */
+    public CodePointSet getLetters() {
+        return letters;
+    }
+
+    /**
+     * Returns the vowels of this alphabet.
+     *
+     * @return the vowels of this alphabet
+     */
+    public CodePointSet getVowels() {
+        return vowels;
+    }
+
+    /**
+     * Returns the consonants of this alphabet.
+     *
+     * @return the consonants of this alphabet
+     */
+    public CodePointSet getConsonants() {
+        return consonants;
+    }
+
+    /**
+     * Checks if the given character is a letter of this alphabet.
+     *
+     * @param c the character to check
+     * @return {@code true} if {@code c} is a letter of this alphabet, otherwise {@code false}
+     */
+    public boolean isLetter(int c) {
+        return letters.contains(c);
+    }
+
+    /**
+     * Checks if the given character is a vowel of this alphabet.
+     *
+     * @param c the character to check
+     * @return {@code true} if {@code c} is a vowel of this alphabet, otherwise {@code false}
+     */
+    public boolean isVowel(int c) {
+        return vowels.contains(c);
+    }
+
+    /**
+     * Checks if the given character is a consonant of this alphabet.
+     *
+     * @param c the character to check
+     * @return {@code true} if {@code c} is a consonant of this alphabet, otherwise {@code false}
+     */
+    public boolean isConsonant(int c) {
+        return consonants.contains(c);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,184 @@
+package org.memoeslink;
+
+import java.util.Arrays;
+
+/**
+ * Counts and finds the chars of an ASCII category in a string, on behalf of the ASCII checks of
+ * {@link StringValidation} and the ASCII counters of {@link StringFilter}. Long strings are copied in
+ * blocks into a per-thread buffer and classified by a {@link Kernel} that tests many chars per instruction,
+ * which is only available if the {@code jdk.incubator.vector} module is present at run time
+ * ({@code --add-modules jdk.incubator.vector}). Otherwise, and for short strings, every char is tested
+ * with the predicate of its category.
+ */
+final class AsciiScan {
+    static final int VECTOR_THRESHOLD = 64;
+    private static final int BUFFER_SIZE = 1024;
+    private static final Kernel KERNEL = loadKernel();
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[BUFFER_SIZE]);
+
+    /**
+     * The ASCII categories, each one defined by a predicate of {@link CharHelper}, which reads the ASCII flags of
+     * {@link CharProperties}. The ranges and the bitset used to scan chars and bytes are derived from the predicate,
+     * so that every ASCII class has a single definition.
+     */
+    enum Category {
+        ASCII(CharHelper::isAscii),
+        SPACE(CharHelper::isAsciiSpace),
+        WHITESPACE(CharHelper::isAsciiWhitespace),
+        ALPHA(CharHelper::isAsciiAlpha),
+        ALPHA_LOWER(CharHelper::isAsciiAlphaLower),
+        ALPHA_UPPER(CharHelper::isAsciiAlphaUpper),
+        NUMERIC(CharHelper::isAsciiNumeric),
+        ALPHA_OR_SPACE(CharHelper::isAsciiAlphaOrSpace),
+        ALPHA_OR_WHITESPACE(CharHelper::isAsciiAlphaOrWhitespace),
+        ALPHANUMERIC(CharHelper::isAsciiAlphanumeric),
+        ALPHANUMERIC_OR_SPACE(CharHelper::isAsciiAlphanumericOrSpace),
+        ALPHANUMERIC_OR_WHITESPACE(CharHelper::isAsciiAlphanumericOrWhitespace);
+
+        private final CharPredicate predicate;
+        private final char[] ranges;
+        private final long[] mask = new long[2];
+
+        Category(CharPredicate predicate) {
+            this.predicate = predicate;
+            char[] bounds = new char[0x80];
+            int count = 0;
+
+            for (char c = 0; c < 0x80; c++) {
+                if (!predicate.test(c)) continue;
+                mask[c >>> 6] |= 1L << c;
+
+                if (count == 0 || bounds[count - 1] != c - 1) {
+                    bounds[count++] = c;
+                    bounds[count++] = c;
+                } else {
+                    bounds[count - 1] = c;
+                }
+            }
+            this.ranges = Arrays.copyOf(bounds, count);
+        }
+
+        CharPredicate predicate() {
+            return predicate;
+        }
+
+        /**
+         * Returns the ranges of the category as pairs of inclusive bounds. The array must not be modified.
+         */
+        char[] ranges() {
+            return ranges;
+        }
+
+        /**
+         * Returns the chars of the category as a bitset of 128 bits in two words. The array must not be modified.
+         */
+        long[] mask() {
+            return mask;
+        }
+    }
+
+    /**
+     * Classifies the chars of a buffer against the ranges of a category.
+     */
+    interface Kernel {
+
+        /**
+         * Counts the chars of {@code chars[0, length)} that are in any of the ranges.
+         */
+        int count(char[] chars, int length, char[] ranges);
+
+        /**
+         * Finds the first char of {@code chars[0, length)} whose membership in the ranges is {@code expected}.
+         *
+         * @return the index of the char, or -1 if there is none
+         */
+        int indexOf(char[] chars, int length, char[] ranges, boolean expected);
+    }
+
+    private AsciiScan() {
+    }
+
+    private static Kernel loadKernel() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return null;
+
+        try {
+            return (Kernel) Class.forName("org.memoeslink.AsciiVectorKernel").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the kernel that classifies long strings.
+     *
+     * @return the kernel, or {@code null} if the Vector API is not available
+     */
+    static Kernel kernel() {
+        return KERNEL;
+    }
+
+    static int count(String s, Category category) {
+        return count(s, category, KERNEL);
+    }
+
+    static boolean all(String s, Category category) {
+        return indexOf(s, category, false, KERNEL) < 0;
+    }
+
+    static boolean any(String s, Category category) {
+        return indexOf(s, category, true, KERNEL) >= 0;
+    }
+
+    /**
+     * Counts the chars of a string in a category.
+     *
+     * @param s        the string to scan
+     * @param category the category to count
+     * @param kernel   the kernel for long strings, or {@code null} to test every char with the predicate
+     * @return the number of chars in the category, or 0 if the string is {@code null}
+     */
+    static int count(String s, Category category, Kernel kernel) {
+        if (s == null) return 0;
+
+        if (kernel == null || s.length() < VECTOR_THRESHOLD) return StringFilter.count(s, category.predicate);
+        char[] buffer = BUFFER.get();
+        int count = 0;
+
+        for (int start = 0; start < s.length(); start += buffer.length) {
+            int end = Math.min(s.length(), start + buffer.length);
+            s.getChars(start, end, buffer, 0);
+            count += kernel.count(buffer, end - start, category.ranges);
+        }
+        return count;
+    }
+
+    /**
+     * Finds the first char of a string whose membership in a category is {@code expected}.
+     *
+     * @param s        the string to scan
+     * @param category the category to test
+     * @param expected whether the char to find is in the category
+     * @param kernel   the kernel for long strings, or {@code null} to test every char with the predicate
+     * @return the index of the char, or -1 if there is none or the string is {@code null}
+     */
+    static int indexOf(String s, Category category, boolean expected, Kernel kernel) {
+        if (s == null) return -1;
+
+        if (kernel == null || s.length() < VECTOR_THRESHOLD) {
+            for (int i = 0; i < s.length(); i++) {
+                if (category.predicate.test(s.charAt(i)) == expected) return i;
+            }
+            return -1;
+        }
+        char[] buffer = BUFFER.get();
+
+        for (int start = 0; start < s.length(); start += buffer.length) {
+            int end = Math.min(s.length(), start + buffer.length);
+            s.getChars(start, end, buffer, 0);
+            int index = kernel.indexOf(buffer, end - start, category.ranges, expected);
+
+            if (index >= 0) return start + index;
+        }
+        return -1;
+    }
+}
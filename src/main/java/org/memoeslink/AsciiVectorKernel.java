@@ -0,0 +1,70 @@
+package org.memoeslink;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * An {@link AsciiScan.Kernel} built on the Vector API, which tests 8 to 32 chars per instruction depending
+ * on the vector size of the platform. A char is in a range {@code [low, high]} if {@code c - low} is at most
+ * {@code high - low} as an unsigned number, so each range takes a subtraction and a comparison.
+ * This class is only loaded by {@link AsciiScan} if the {@code jdk.incubator.vector} module is present.
+ */
+final class AsciiVectorKernel implements AsciiScan.Kernel {
+    private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+
+    AsciiVectorKernel() {
+    }
+
+    private static VectorMask<Short> matches(ShortVector chars, char[] ranges) {
+        VectorMask<Short> mask = chars.sub((short) ranges[0]).compare(VectorOperators.UNSIGNED_LE, (short) (ranges[1] - ranges[0]));
+
+        for (int i = 2; i < ranges.length; i += 2) {
+            mask = mask.or(chars.sub((short) ranges[i]).compare(VectorOperators.UNSIGNED_LE, (short) (ranges[i + 1] - ranges[i])));
+        }
+        return mask;
+    }
+
+    private static boolean matches(char c, char[] ranges) {
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (c >= ranges[i] && c <= ranges[i + 1]) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int count(char[] chars, int length, char[] ranges) {
+        int bound = SPECIES.loopBound(length);
+        int count = 0;
+        int i = 0;
+
+        for (; i < bound; i += SPECIES.length()) {
+            count += matches(ShortVector.fromCharArray(SPECIES, chars, i), ranges).trueCount();
+        }
+
+        for (; i < length; i++) {
+            if (matches(chars[i], ranges)) count++;
+        }
+        return count;
+    }
+
+    @Override
+    public int indexOf(char[] chars, int length, char[] ranges, boolean expected) {
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+
+        for (; i < bound; i += SPECIES.length()) {
+            VectorMask<Short> mask = matches(ShortVector.fromCharArray(SPECIES, chars, i), ranges);
+
+            if (!expected) mask = mask.not();
+
+            if (mask.anyTrue()) return i + mask.firstTrue();
+        }
+
+        for (; i < length; i++) {
+            if (matches(chars[i], ranges) == expected) return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,174 @@
+package org.memoeslink;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Applies a string operation, such as {@code StringFilter::removeZeroWidthSpaces} or
+ * {@code RegexFilter::removeCntrl}, to every element of a large batch of strings. The batch is split
+ * into tasks of about the same number of chars, rather than of strings, which run in parallel in the
+ * common {@link java.util.concurrent.ForkJoinPool}. Batches too small to benefit from it are processed
+ * on the calling thread. The operation must be safe to call from several threads, and it is called with
+ * {@code null} for {@code null} elements.
+ */
+public final class BulkFilter {
+    static final int DEFAULT_THRESHOLD = 1 << 15;
+    private static final int STRING_WEIGHT = 16; // Fixed cost of a call, in chars
+
+    private BulkFilter() {
+    }
+
+    /**
+     * Applies an operation to every string of an array.
+     *
+     * @param strings   the strings to process
+     * @param operation the operation to apply to each string
+     * @return a new array with the results, in the same order
+     */
+    public static String[] apply(String[] strings, UnaryOperator<String> operation) {
+        return apply(strings, 0, strings.length, operation, new String[strings.length], 0);
+    }
+
+    /**
+     * Applies an operation to a range of an array of strings, writing the results into a preallocated array.
+     * The output range may be the input range itself to replace the strings in place.
+     *
+     * @param strings   the strings to process
+     * @param offset    the index of the first string to process
+     * @param length    the number of strings to process
+     * @param operation the operation to apply to each string
+     * @param out       the array that receives the results
+     * @param outOffset the index of {@code out} that receives the first result
+     * @return {@code out}
+     * @throws IndexOutOfBoundsException if a range is out of the bounds of its array
+     */
+    public static String[] apply(String[] strings, int offset, int length, UnaryOperator<String> operation, String[] out, int outOffset) {
+        Objects.checkFromIndexSize(offset, length, strings.length);
+        return apply(i -> strings[offset + i], length, operation, out, outOffset, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Applies an operation to every string of a list.
+     *
+     * @param strings   the strings to process
+     * @param operation the operation to apply to each string
+     * @return a new array with the results, in the same order
+     */
+    public static String[] apply(List<String> strings, UnaryOperator<String> operation) {
+        return apply(strings, operation, new String[strings.size()], 0);
+    }
+
+    /**
+     * Applies an operation to every string of a list, writing the results into a preallocated array.
+     * Lists without fast random access are copied into an array first.
+     *
+     * @param strings   the strings to process
+     * @param operation the operation to apply to each string
+     * @param out       the array that receives the results
+     * @param outOffset the index of {@code out} that receives the first result
+     * @return {@code out}
+     * @throws IndexOutOfBoundsException if {@code out} has no room for the results from {@code outOffset}
+     */
+    public static String[] apply(List<String> strings, UnaryOperator<String> operation, String[] out, int outOffset) {
+        if (!(strings instanceof RandomAccess)) {
+            String[] array = strings.toArray(new String[0]);
+            return apply(array, 0, array.length, operation, out, outOffset);
+        }
+        return apply(strings::get, strings.size(), operation, out, outOffset, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Applies an operation to every string of a stream. The stream is collected into an array first,
+     * so that the batch can be split by size.
+     *
+     * @param strings   the strings to process
+     * @param operation the operation to apply to each string
+     * @return a new array with the results, in encounter order
+     */
+    public static String[] apply(Stream<String> strings, UnaryOperator<String> operation) {
+        String[] array = strings.toArray(String[]::new);
+        return apply(array, 0, array.length, operation, array, 0);
+    }
+
+    static String[] apply(IntFunction<String> strings, int length, UnaryOperator<String> operation, String[] out, int outOffset, int threshold) {
+        Objects.requireNonNull(operation);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        long[] weights = new long[length + 1]; // Prefix sums of the cost of each string
+
+        for (int i = 0; i < length; i++) {
+            String s = strings.apply(i);
+            weights[i + 1] = weights[i] + STRING_WEIGHT + (s == null ? 0 : s.length());
+        }
+        new ApplyTask(strings, operation, out, outOffset, weights, 0, length, threshold).invokeOrCompute();
+        return out;
+    }
+
+    @SuppressWarnings("serial") // Serializable only through ForkJoinTask; tasks are never serialized
+    private static final class ApplyTask extends RecursiveAction {
+        private final IntFunction<String> strings;
+        private final UnaryOperator<String> operation;
+        private final String[] out;
+        private final int outOffset;
+        private final long[] weights;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        private ApplyTask(IntFunction<String> strings, UnaryOperator<String> operation, String[] out, int outOffset, long[] weights, int from, int to, int threshold) {
+            this.strings = strings;
+            this.operation = operation;
+            this.out = out;
+            this.outOffset = outOffset;
+            this.weights = weights;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        /**
+         * Runs the task on the calling thread if it is small, so that small batches never involve the pool.
+         */
+        private void invokeOrCompute() {
+            if (weights[to] - weights[from] <= threshold) {
+                computeDirectly();
+            } else {
+                invoke();
+            }
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from < 2 || weights[to] - weights[from] <= threshold) {
+                computeDirectly();
+                return;
+            }
+            int middle = split();
+            invokeAll(new ApplyTask(strings, operation, out, outOffset, weights, from, middle, threshold),
+                    new ApplyTask(strings, operation, out, outOffset, weights, middle, to, threshold));
+        }
+
+        /**
+         * Finds the index that splits the range into two halves of about the same weight,
+         * leaving at least one string on each side.
+         */
+        private int split() {
+            long half = weights[from] + (weights[to] - weights[from]) / 2;
+            int index = Arrays.binarySearch(weights, from + 1, to, half);
+
+            if (index < 0) index = -index - 1;
+            return Math.min(Math.max(index, from + 1), to - 1);
+        }
+
+        private void computeDirectly() {
+            for (int i = from; i < to; i++) {
+                out[outOffset + i] = operation.apply(strings.apply(i));
+            }
+        }
+    }
+}
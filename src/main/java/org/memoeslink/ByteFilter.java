@@ -0,0 +1,925 @@
+package org.memoeslink;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * The ASCII filters and counters of {@link StringFilter} applied directly to UTF-8 bytes, without decoding
+ * them into chars. Every byte of a multibyte UTF-8 sequence is at least 0x80, so it never matches an ASCII
+ * category: keeping a category drops whole multibyte sequences and removing a category passes them through
+ * untouched, which leaves valid UTF-8 input valid. Byte arrays and buffers are filtered in place.
+ */
+public final class ByteFilter {
+    private static final long[] ASCII_CHARS = AsciiScan.Category.ASCII.mask();
+    private static final long[] ASCII_SPACES = AsciiScan.Category.SPACE.mask();
+    private static final long[] ASCII_WHITESPACES = AsciiScan.Category.WHITESPACE.mask();
+    private static final long[] ASCII_ALPHA = AsciiScan.Category.ALPHA.mask();
+    private static final long[] ASCII_ALPHA_LOWER = AsciiScan.Category.ALPHA_LOWER.mask();
+    private static final long[] ASCII_ALPHA_UPPER = AsciiScan.Category.ALPHA_UPPER.mask();
+    private static final long[] ASCII_NUMERIC = AsciiScan.Category.NUMERIC.mask();
+    private static final long[] ASCII_ALPHA_OR_SPACES = AsciiScan.Category.ALPHA_OR_SPACE.mask();
+    private static final long[] ASCII_ALPHA_OR_WHITESPACES = AsciiScan.Category.ALPHA_OR_WHITESPACE.mask();
+    private static final long[] ASCII_ALPHANUMERIC = AsciiScan.Category.ALPHANUMERIC.mask();
+    private static final long[] ASCII_ALPHANUMERIC_OR_SPACES = AsciiScan.Category.ALPHANUMERIC_OR_SPACE.mask();
+    private static final long[] ASCII_ALPHANUMERIC_OR_WHITESPACES = AsciiScan.Category.ALPHANUMERIC_OR_WHITESPACE.mask();
+
+    private ByteFilter() {
+    }
+
+    private static boolean matches(long[] mask, byte b) {
+        return b >= 0 && (mask[b >>> 6] & (1L << b)) != 0;
+    }
+
+    /**
+     * Moves the bytes of an array range that are in the mask, or that are not if {@code expected} is {@code false},
+     * to the start of the range, keeping their order.
+     *
+     * @param bytes    the array to compact
+     * @param offset   the start of the range
+     * @param length   the length of the range
+     * @param mask     the ASCII characters to test against
+     * @param expected whether the bytes to keep are in the mask
+     * @return the number of bytes kept
+     */
+    private static int compact(byte[] bytes, int offset, int length, long[] mask, boolean expected) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        int end = offset + length;
+        int count = offset;
+
+        for (int i = offset; i < end; i++) {
+            byte b = bytes[i];
+
+            if (matches(mask, b) == expected) bytes[count++] = b;
+        }
+        return count - offset;
+    }
+
+    /**
+     * Compacts the remaining bytes of a buffer like {@link #compact(byte[], int, int, long[], boolean)}
+     * and sets its limit to the end of the kept bytes. The position is left unchanged.
+     *
+     * @param buffer   the buffer to compact
+     * @param mask     the ASCII characters to test against
+     * @param expected whether the bytes to keep are in the mask
+     * @return the number of bytes kept
+     */
+    private static int compact(ByteBuffer buffer, long[] mask, boolean expected) {
+        int position = buffer.position();
+        int count;
+
+        if (buffer.hasArray()) {
+            count = compact(buffer.array(), buffer.arrayOffset() + position, buffer.remaining(), mask, expected);
+        } else {
+            int limit = buffer.limit();
+            int end = position;
+
+            for (int i = position; i < limit; i++) {
+                byte b = buffer.get(i);
+
+                if (matches(mask, b) == expected) buffer.put(end++, b);
+            }
+            count = end - position;
+        }
+        buffer.limit(position + count);
+        return count;
+    }
+
+    private static int count(byte[] bytes, int offset, int length, long[] mask) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        int end = offset + length;
+        int count = 0;
+
+        for (int i = offset; i < end; i++) {
+            if (matches(mask, bytes[i])) count++;
+        }
+        return count;
+    }
+
+    private static int count(ByteBuffer buffer, long[] mask) {
+        if (buffer.hasArray())
+            return count(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), mask);
+        int limit = buffer.limit();
+        int count = 0;
+
+        for (int i = buffer.position(); i < limit; i++) {
+            if (matches(mask, buffer.get(i))) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Keeps only the ASCII characters of a range of UTF-8 bytes, moving them to the start of the range.
+     *
+     * @param bytes  the UTF-8 bytes to filter in place
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the new length of the range
+     */
+    public static int keepAscii(byte[] bytes, int offset, int length) {
+        return compact(bytes, offset, length, ASCII_CHARS, true);
+    }
+
+    /**
+     * Keeps only the ASCII characters among the remaining UTF-8 bytes of a buffer, moving them to its position
+     * and setting its limit after the last one.
+     *
+     * @param buffer the UTF-8 bytes to filter in place
+     * @return the number of bytes kept
+     */
+    public static int keepAscii(ByteBuffer buffer) {
+        return compact(buffer, ASCII_CHARS, true);
+    }
+
+    /**
+     * Keeps only the ASCII spaces (\u0020) of a range of UTF-8 bytes, moving them to the start of the range.
+     *
+     * @param bytes  the UTF-8 bytes to filter in place
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the new length of the range
+     */
+    public static int keepAsciiSpaces(byte[] bytes, int offset, int length) {
+        return compact(bytes, offset, length, ASCII_SPACES, true);
+    }
+
+    /**
+     * Keeps only the ASCII spaces (\u0020) among the remaining UTF-8 bytes of a buffer, moving them to its position
+     * and setting its limit after the last one.
+     *
+     * @param buffer the UTF-8 bytes to filter in place
+     * @return the number of bytes kept
+     */
+    public static int keepAsciiSpaces(ByteBuffer buffer) {
+        return compact(buffer, ASCII_SPACES, true);
+    }
+
+    /**
+     * Keeps only the ASCII whitespaces of a range of UTF-8 bytes, moving them to the start of the range.
+     *
+     * @param bytes  the UTF-8 bytes to filter in place
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the new length of the range
+     */
+    public static int keepAsciiWhitespaces(byte[] bytes, int offset, int length) {
+        return compact(bytes, offset, length, ASCII_WHITESPACES, true);
+    }
+
+    /**
+     * Keeps only the ASCII whitespaces among the remaining UTF-8 bytes of a buffer, moving them to its position
+     * and setting its limit after the last one.
+     *
+     * @param buffer the UTF-8 bytes to filter in place
+     * @return the number of bytes kept
+     */
+    public static int keepAsciiWhitespaces(ByteBuffer buffer) {
+        return compact(buffer, ASCII_WHITESPACES, true);
+    }
+
+    /**
+     * Keeps only the ASCII alphabetic characters (a-z, A-Z) of a range of UTF-8 bytes, moving them to the start of the range.
+     *
+     * @param bytes  the UTF-8 bytes to filter in place
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the new length of the range
+     */
+    public static int keepAsciiAlpha(byte[] bytes, int offset, int length) {
+        return compact(bytes, offset, length, ASCII_ALPHA, true);
+    }
+
+    /**
+     * Keeps only the ASCII alphabetic characters (a-z, A-Z) among the remaining UTF-8 bytes of a buffer, moving them to its position
+     * and setting its limit after the last one.
+     *
+     * @param buffer the UTF-8 bytes to filter in place
+     * @return the number of bytes kept
+     */
+    public static int keepAsciiAlpha(ByteBuffer buffer) {
+        return compact(buffer, ASCII_ALPHA, true);
+    }
+
+    /**
+     * Keeps only the ASCII lowercase alphabetic characters (a-z) of a range of UTF-8 bytes, moving them to the start of the range.
+     *
+     * @param bytes  the UTF-8 bytes to filter in place
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the new length of the range
+     */
+    public static int keepAsciiAlphaLower(byte[] bytes, int offset, int length) {
+        return compact(bytes, offset, length, ASCII_ALPHA_LOWER, true);
+    }
+
+    /**
+     * Keeps only the ASCII lowercase alphabetic characters (a-z) among the remaining UTF-8 bytes of a buffer, moving them to its position
+     * and setting its limit after the last one.
+     *
+     * @param buffer the UTF-8 bytes to filter in place
+     * @return the number of bytes kept
+     */
+    public static int keepAsciiAlphaLower(ByteBuffer buffer) {
+        return compact(buffer, ASCII_ALPHA_LOWER, true);
+    }
+
+    /**
+     * Keeps only the ASCII uppercase alphabetic characters (A-Z) of a range of UTF-8 bytes, moving them to the start of the range.
+     *
+     * @param bytes  the UTF-8 bytes to filter in place
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the new length of the range
+     */
+    public static int keepAsciiAlphaUpper(byte[] bytes, int offset, int length) {
+        return compact(bytes, offset, length, ASCII_ALPHA_UPPER, true);
+    }
+
+    /**
+     * Keeps only the ASCII uppercase alphabetic characters (A-Z) among the remaining UTF-8 bytes of a buffer, moving them to its position
+     * and setting its limit after the last one.
+     *
+     * @param buffer the UTF-8 bytes to filter in place
+     * @return the number of bytes kept
+     */
+    public static int keepAsciiAlphaUpper(ByteBuffer buffer) {
+        return compact(buffer, ASCII_ALPHA_UPPER, true);
+    }
+
+    /**
+     * Keeps only the ASCII numeric characters (0-9) of a range of UTF-8 bytes, moving them to the start of the range.
+     *
+     * @param bytes  the UTF-8 bytes to filter in place
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the new length of the range
+     */
+    public static int keepAsciiNumeric(byte[] bytes, int offset, int length) {
+        return compact(bytes, offset, length, ASCII_NUMERIC, true);
+    }
+
+    /**
+     * Keeps only the ASCII numeric characters (0-9) among the remaining UTF-8 bytes of a buffer, moving them to its position
+     * and setting its limit after the last one.
+     *
+     * @param buffer the UTF-8 bytes to filter in place
+     * @return the number of bytes kept
+     */
+    public static int keepAsciiNumeric(ByteBuffer buffer) {
+        return compact(buffer, ASCII_NUMERIC, true);
+    }
+
+    /**
+     * Keeps only the ASCII alphabetic characters (a-z, A-Z) or spaces (\u0020) of a range of UTF-8 bytes, moving them to the start of the range.
+     *
+     * @param bytes  the UTF-8 bytes to filter in place
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the new length of the range
+     */
+    public static int keepAsciiAlphaOrSpaces(byte[] bytes, int offset, int length) {
+        return compact(bytes, offset, length, ASCII_ALPHA_OR_SPACES, true);
+    }
+
+    /**
+     * Keeps only the ASCII alphabetic characters (a-z, A-Z) or spaces (\u0020) among the remaining UTF-8 bytes of a buffer, moving them to its position
+     * and setting its limit after the last one.
+     *
+     * @param buffer the UTF-8 bytes to filter in place
+     * @return the number of bytes kept
+     */
+    public static int keepAsciiAlphaOrSpaces(ByteBuffer buffer) {
+        return compact(buffer, ASCII_ALPHA_OR_SPACES, true);
+    }
+
+    /**
+     * Keeps only the ASCII alphabetic characters (a-z, A-Z) or whitespaces of a range of UTF-8 bytes, moving them to the start of the range.
+     *
+     * @param bytes  the UTF-8 bytes to filter in place
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the new length of the range
+     */
+    public static int keepAsciiAlphaOrWhitespaces(byte[] bytes, int offset, int length) {
+        return compact(bytes, offset, length, ASCII_ALPHA_OR_WHITESPACES, true);
+    }
+
+    /**
+     * Keeps only the ASCII alphabetic characters (a-z, A-Z) or whitespaces among the remaining UTF-8 bytes of a buffer, moving them to its position
+     * and setting its limit after the last one.
+     *
+     * @param buffer the UTF-8 bytes to filter in place
+     * @return the number of bytes kept
+     */
+    public static int keepAsciiAlphaOrWhitespaces(ByteBuffer buffer) {
+        return compact(buffer, ASCII_ALPHA_OR_WHITESPACES, true);
+    }
+
+    /**
+     * Keeps only the ASCII alphanumeric characters (a-z, A-Z, 0-9) of a range of UTF-8 bytes, moving them to the start of the range.
+     *
+     * @param bytes  the UTF-8 bytes to filter in place
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the new length of the range
+     */
+    public static int keepAsciiAlphanumeric(byte[] bytes, int offset, int length) {
+        return compact(bytes, offset, length, ASCII_ALPHANUMERIC, true);
+    }
+
+    /**
+     * Keeps only the ASCII alphanumeric characters (a-z, A-Z, 0-9) among the remaining UTF-8 bytes of a buffer, moving them to its position
+     * and setting its limit after the last one.
+     *
+     * @param buffer the UTF-8 bytes to filter in place
+     * @return the number of bytes kept
+     */
+    public static int keepAsciiAlphanumeric(ByteBuffer buffer) {
+        return compact(buffer, ASCII_ALPHANUMERIC, true);
+    }
+
+    /**
+     * Keeps only the ASCII alphanumeric characters (a-z, A-Z, 0-9) or spaces (\u0020) of a range of UTF-8 bytes, moving them to the start of the range.
+     *
+     * @param bytes  the UTF-8 bytes to filter in place
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the new length of the range
+     */
+    public static int keepAsciiAlphanumericOrSpaces(byte[] bytes, int offset, int length) {
+        return compact(bytes, offset, length, ASCII_ALPHANUMERIC_OR_SPACES, true);
+    }
+
+    /**
+     * Keeps only the ASCII alphanumeric characters (a-z, A-Z, 0-9) or spaces (\u0020) among the remaining UTF-8 bytes of a buffer, moving them to its position
+     * and setting its limit after the last one.
+     *
+     * @param buffer the UTF-8 bytes to filter in place
+     * @return the number of bytes kept
+     */
+    public static int keepAsciiAlphanumericOrSpaces(ByteBuffer buffer) {
+        return compact(buffer, ASCII_ALPHANUMERIC_OR_SPACES, true);
+    }
+
+    /**
+     * Keeps only the ASCII alphanumeric characters (a-z, A-Z, 0-9) or whitespaces of a range of UTF-8 bytes, moving them to the start of the range.
+     *
+     * @param bytes  the UTF-8 bytes to filter in place
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the new length of the range
+     */
+    public static int keepAsciiAlphanumericOrWhitespaces(byte[] bytes, int offset, int length) {
+        return compact(bytes, offset, length, ASCII_ALPHANUMERIC_OR_WHITESPACES, true);
+    }
+
+    /**
+     * Keeps only the ASCII alphanumeric characters (a-z, A-Z, 0-9) or whitespaces among the remaining UTF-8 bytes of a buffer, moving them to its position
+     * and setting its limit after the last one.
+     *
+     * @param buffer the UTF-8 bytes to filter in place
+     * @return the number of bytes kept
+     */
+    public static int keepAsciiAlphanumericOrWhitespaces(ByteBuffer buffer) {
+        return compact(buffer, ASCII_ALPHANUMERIC_OR_WHITESPACES, true);
+    }
+
+    /**
+     * Removes the ASCII characters from a range of UTF-8 bytes, moving the remaining bytes to the start of the range.
+     *
+     * @param bytes  the UTF-8 bytes to filter in place
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the new length of the range
+     */
+    public static int removeAscii(byte[] bytes, int offset, int length) {
+        return compact(bytes, offset, length, ASCII_CHARS, false);
+    }
+
+    /**
+     * Removes the ASCII characters from the remaining UTF-8 bytes of a buffer, moving the other bytes to its position
+     * and setting its limit after the last one.
+     *
+     * @param buffer the UTF-8 bytes to filter in place
+     * @return the number of bytes kept
+     */
+    public static int removeAscii(ByteBuffer buffer) {
+        return compact(buffer, ASCII_CHARS, false);
+    }
+
+    /**
+     * Removes the ASCII spaces (\u0020) from a range of UTF-8 bytes, moving the remaining bytes to the start of the range.
+     *
+     * @param bytes  the UTF-8 bytes to filter in place
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the new length of the range
+     */
+    public static int removeAsciiSpaces(byte[] bytes, int offset, int length) {
+        return compact(bytes, offset, length, ASCII_SPACES, false);
+    }
+
+    /**
+     * Removes the ASCII spaces (\u0020) from the remaining UTF-8 bytes of a buffer, moving the other bytes to its position
+     * and setting its limit after the last one.
+     *
+     * @param buffer the UTF-8 bytes to filter in place
+     * @return the number of bytes kept
+     */
+    public static int removeAsciiSpaces(ByteBuffer buffer) {
+        return compact(buffer, ASCII_SPACES, false);
+    }
+
+    /**
+     * Removes the ASCII whitespaces from a range of UTF-8 bytes, moving the remaining bytes to the start of the range.
+     *
+     * @param bytes  the UTF-8 bytes to filter in place
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the new length of the range
+     */
+    public static int removeAsciiWhitespaces(byte[] bytes, int offset, int length) {
+        return compact(bytes, offset, length, ASCII_WHITESPACES, false);
+    }
+
+    /**
+     * Removes the ASCII whitespaces from the remaining UTF-8 bytes of a buffer, moving the other bytes to its position
+     * and setting its limit after the last one.
+     *
+     * @param buffer the UTF-8 bytes to filter in place
+     * @return the number of bytes kept
+     */
+    public static int removeAsciiWhitespaces(ByteBuffer buffer) {
+        return compact(buffer, ASCII_WHITESPACES, false);
+    }
+
+    /**
+     * Removes the ASCII alphabetic characters (a-z, A-Z) from a range of UTF-8 bytes, moving the remaining bytes to the start of the range.
+     *
+     * @param bytes  the UTF-8 bytes to filter in place
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the new length of the range
+     */
+    public static int removeAsciiAlpha(byte[] bytes, int offset, int length) {
+        return compact(bytes, offset, length, ASCII_ALPHA, false);
+    }
+
+    /**
+     * Removes the ASCII alphabetic characters (a-z, A-Z) from the remaining UTF-8 bytes of a buffer, moving the other bytes to its position
+     * and setting its limit after the last one.
+     *
+     * @param buffer the UTF-8 bytes to filter in place
+     * @return the number of bytes kept
+     */
+    public static int removeAsciiAlpha(ByteBuffer buffer) {
+        return compact(buffer, ASCII_ALPHA, false);
+    }
+
+    /**
+     * Removes the ASCII lowercase alphabetic characters (a-z) from a range of UTF-8 bytes, moving the remaining bytes to the start of the range.
+     *
+     * @param bytes  the UTF-8 bytes to filter in place
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the new length of the range
+     */
+    public static int removeAsciiAlphaLower(byte[] bytes, int offset, int length) {
+        return compact(bytes, offset, length, ASCII_ALPHA_LOWER, false);
+    }
+
+    /**
+     * Removes the ASCII lowercase alphabetic characters (a-z) from the remaining UTF-8 bytes of a buffer, moving the other bytes to its position
+     * and setting its limit after the last one.
+     *
+     * @param buffer the UTF-8 bytes to filter in place
+     * @return the number of bytes kept
+     */
+    public static int removeAsciiAlphaLower(ByteBuffer buffer) {
+        return compact(buffer, ASCII_ALPHA_LOWER, false);
+    }
+
+    /**
+     * Removes the ASCII uppercase alphabetic characters (A-Z) from a range of UTF-8 bytes, moving the remaining bytes to the start of the range.
+     *
+     * @param bytes  the UTF-8 bytes to filter in place
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the new length of the range
+     */
+    public static int removeAsciiAlphaUpper(byte[] bytes, int offset, int length) {
+        return compact(bytes, offset, length, ASCII_ALPHA_UPPER, false);
+    }
+
+    /**
+     * Removes the ASCII uppercase alphabetic characters (A-Z) from the remaining UTF-8 bytes of a buffer, moving the other bytes to its position
+     * and setting its limit after the last one.
+     *
+     * @param buffer the UTF-8 bytes to filter in place
+     * @return the number of bytes kept
+     */
+    public static int removeAsciiAlphaUpper(ByteBuffer buffer) {
+        return compact(buffer, ASCII_ALPHA_UPPER, false);
+    }
+
+    /**
+     * Removes the ASCII numeric characters (0-9) from a range of UTF-8 bytes, moving the remaining bytes to the start of the range.
+     *
+     * @param bytes  the UTF-8 bytes to filter in place
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the new length of the range
+     */
+    public static int removeAsciiNumeric(byte[] bytes, int offset, int length) {
+        return compact(bytes, offset, length, ASCII_NUMERIC, false);
+    }
+
+    /**
+     * Removes the ASCII numeric characters (0-9) from the remaining UTF-8 bytes of a buffer, moving the other bytes to its position
+     * and setting its limit after the last one.
+     *
+     * @param buffer the UTF-8 bytes to filter in place
+     * @return the number of bytes kept
+     */
+    public static int removeAsciiNumeric(ByteBuffer buffer) {
+        return compact(buffer, ASCII_NUMERIC, false);
+    }
+
+    /**
+     * Removes the ASCII alphabetic characters (a-z, A-Z) or spaces (\u0020) from a range of UTF-8 bytes, moving the remaining bytes to the start of the range.
+     *
+     * @param bytes  the UTF-8 bytes to filter in place
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the new length of the range
+     */
+    public static int removeAsciiAlphaOrSpaces(byte[] bytes, int offset, int length) {
+        return compact(bytes, offset, length, ASCII_ALPHA_OR_SPACES, false);
+    }
+
+    /**
+     * Removes the ASCII alphabetic characters (a-z, A-Z) or spaces (\u0020) from the remaining UTF-8 bytes of a buffer, moving the other bytes to its position
+     * and setting its limit after the last one.
+     *
+     * @param buffer the UTF-8 bytes to filter in place
+     * @return the number of bytes kept
+     */
+    public static int removeAsciiAlphaOrSpaces(ByteBuffer buffer) {
+        return compact(buffer, ASCII_ALPHA_OR_SPACES, false);
+    }
+
+    /**
+     * Removes the ASCII alphabetic characters (a-z, A-Z) or whitespaces from a range of UTF-8 bytes, moving the remaining bytes to the start of the range.
+     *
+     * @param bytes  the UTF-8 bytes to filter in place
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the new length of the range
+     */
+    public static int removeAsciiAlphaOrWhitespaces(byte[] bytes, int offset, int length) {
+        return compact(bytes, offset, length, ASCII_ALPHA_OR_WHITESPACES, false);
+    }
+
+    /**
+     * Removes the ASCII alphabetic characters (a-z, A-Z) or whitespaces from the remaining UTF-8 bytes of a buffer, moving the other bytes to its position
+     * and setting its limit after the last one.
+     *
+     * @param buffer the UTF-8 bytes to filter in place
+     * @return the number of bytes kept
+     */
+    public static int removeAsciiAlphaOrWhitespaces(ByteBuffer buffer) {
+        return compact(buffer, ASCII_ALPHA_OR_WHITESPACES, false);
+    }
+
+    /**
+     * Removes the ASCII alphanumeric characters (a-z, A-Z, 0-9) from a range of UTF-8 bytes, moving the remaining bytes to the start of the range.
+     *
+     * @param bytes  the UTF-8 bytes to filter in place
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the new length of the range
+     */
+    public static int removeAsciiAlphanumeric(byte[] bytes, int offset, int length) {
+        return compact(bytes, offset, length, ASCII_ALPHANUMERIC, false);
+    }
+
+    /**
+     * Removes the ASCII alphanumeric characters (a-z, A-Z, 0-9) from the remaining UTF-8 bytes of a buffer, moving the other bytes to its position
+     * and setting its limit after the last one.
+     *
+     * @param buffer the UTF-8 bytes to filter in place
+     * @return the number of bytes kept
+     */
+    public static int removeAsciiAlphanumeric(ByteBuffer buffer) {
+        return compact(buffer, ASCII_ALPHANUMERIC, false);
+    }
+
+    /**
+     * Removes the ASCII alphanumeric characters (a-z, A-Z, 0-9) or spaces (\u0020) from a range of UTF-8 bytes, moving the remaining bytes to the start of the range.
+     *
+     * @param bytes  the UTF-8 bytes to filter in place
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the new length of the range
+     */
+    public static int removeAsciiAlphanumericOrSpaces(byte[] bytes, int offset, int length) {
+        return compact(bytes, offset, length, ASCII_ALPHANUMERIC_OR_SPACES, false);
+    }
+
+    /**
+     * Removes the ASCII alphanumeric characters (a-z, A-Z, 0-9) or spaces (\u0020) from the remaining UTF-8 bytes of a buffer, moving the other bytes to its position
+     * and setting its limit after the last one.
+     *
+     * @param buffer the UTF-8 bytes to filter in place
+     * @return the number of bytes kept
+     */
+    public static int removeAsciiAlphanumericOrSpaces(ByteBuffer buffer) {
+        return compact(buffer, ASCII_ALPHANUMERIC_OR_SPACES, false);
+    }
+
+    /**
+     * Removes the ASCII alphanumeric characters (a-z, A-Z, 0-9) or whitespaces from a range of UTF-8 bytes, moving the remaining bytes to the start of the range.
+     *
+     * @param bytes  the UTF-8 bytes to filter in place
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the new length of the range
+     */
+    public static int removeAsciiAlphanumericOrWhitespaces(byte[] bytes, int offset, int length) {
+        return compact(bytes, offset, length, ASCII_ALPHANUMERIC_OR_WHITESPACES, false);
+    }
+
+    /**
+     * Removes the ASCII alphanumeric characters (a-z, A-Z, 0-9) or whitespaces from the remaining UTF-8 bytes of a buffer, moving the other bytes to its position
+     * and setting its limit after the last one.
+     *
+     * @param buffer the UTF-8 bytes to filter in place
+     * @return the number of bytes kept
+     */
+    public static int removeAsciiAlphanumericOrWhitespaces(ByteBuffer buffer) {
+        return compact(buffer, ASCII_ALPHANUMERIC_OR_WHITESPACES, false);
+    }
+
+    /**
+     * Counts the number of ASCII characters in a range of UTF-8 bytes.
+     *
+     * @param bytes  the UTF-8 bytes to analyze
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the count of ASCII characters
+     */
+    public static int countAscii(byte[] bytes, int offset, int length) {
+        return count(bytes, offset, length, ASCII_CHARS);
+    }
+
+    /**
+     * Counts the number of ASCII characters in the remaining UTF-8 bytes of a buffer, without changing its position.
+     *
+     * @param buffer the UTF-8 bytes to analyze
+     * @return the count of ASCII characters
+     */
+    public static int countAscii(ByteBuffer buffer) {
+        return count(buffer, ASCII_CHARS);
+    }
+
+    /**
+     * Counts the number of ASCII spaces (\u0020) in a range of UTF-8 bytes.
+     *
+     * @param bytes  the UTF-8 bytes to analyze
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the count of ASCII spaces (\u0020)
+     */
+    public static int countAsciiSpace(byte[] bytes, int offset, int length) {
+        return count(bytes, offset, length, ASCII_SPACES);
+    }
+
+    /**
+     * Counts the number of ASCII spaces (\u0020) in the remaining UTF-8 bytes of a buffer, without changing its position.
+     *
+     * @param buffer the UTF-8 bytes to analyze
+     * @return the count of ASCII spaces (\u0020)
+     */
+    public static int countAsciiSpace(ByteBuffer buffer) {
+        return count(buffer, ASCII_SPACES);
+    }
+
+    /**
+     * Counts the number of ASCII whitespaces in a range of UTF-8 bytes.
+     *
+     * @param bytes  the UTF-8 bytes to analyze
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the count of ASCII whitespaces
+     */
+    public static int countAsciiWhitespace(byte[] bytes, int offset, int length) {
+        return count(bytes, offset, length, ASCII_WHITESPACES);
+    }
+
+    /**
+     * Counts the number of ASCII whitespaces in the remaining UTF-8 bytes of a buffer, without changing its position.
+     *
+     * @param buffer the UTF-8 bytes to analyze
+     * @return the count of ASCII whitespaces
+     */
+    public static int countAsciiWhitespace(ByteBuffer buffer) {
+        return count(buffer, ASCII_WHITESPACES);
+    }
+
+    /**
+     * Counts the number of ASCII alphabetic characters (a-z, A-Z) in a range of UTF-8 bytes.
+     *
+     * @param bytes  the UTF-8 bytes to analyze
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the count of ASCII alphabetic characters (a-z, A-Z)
+     */
+    public static int countAsciiAlpha(byte[] bytes, int offset, int length) {
+        return count(bytes, offset, length, ASCII_ALPHA);
+    }
+
+    /**
+     * Counts the number of ASCII alphabetic characters (a-z, A-Z) in the remaining UTF-8 bytes of a buffer, without changing its position.
+     *
+     * @param buffer the UTF-8 bytes to analyze
+     * @return the count of ASCII alphabetic characters (a-z, A-Z)
+     */
+    public static int countAsciiAlpha(ByteBuffer buffer) {
+        return count(buffer, ASCII_ALPHA);
+    }
+
+    /**
+     * Counts the number of ASCII lowercase alphabetic characters (a-z) in a range of UTF-8 bytes.
+     *
+     * @param bytes  the UTF-8 bytes to analyze
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the count of ASCII lowercase alphabetic characters (a-z)
+     */
+    public static int countAsciiAlphaLower(byte[] bytes, int offset, int length) {
+        return count(bytes, offset, length, ASCII_ALPHA_LOWER);
+    }
+
+    /**
+     * Counts the number of ASCII lowercase alphabetic characters (a-z) in the remaining UTF-8 bytes of a buffer, without changing its position.
+     *
+     * @param buffer the UTF-8 bytes to analyze
+     * @return the count of ASCII lowercase alphabetic characters (a-z)
+     */
+    public static int countAsciiAlphaLower(ByteBuffer buffer) {
+        return count(buffer, ASCII_ALPHA_LOWER);
+    }
+
+    /**
+     * Counts the number of ASCII uppercase alphabetic characters (A-Z) in a range of UTF-8 bytes.
+     *
+     * @param bytes  the UTF-8 bytes to analyze
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the count of ASCII uppercase alphabetic characters (A-Z)
+     */
+    public static int countAsciiAlphaUpper(byte[] bytes, int offset, int length) {
+        return count(bytes, offset, length, ASCII_ALPHA_UPPER);
+    }
+
+    /**
+     * Counts the number of ASCII uppercase alphabetic characters (A-Z) in the remaining UTF-8 bytes of a buffer, without changing its position.
+     *
+     * @param buffer the UTF-8 bytes to analyze
+     * @return the count of ASCII uppercase alphabetic characters (A-Z)
+     */
+    public static int countAsciiAlphaUpper(ByteBuffer buffer) {
+        return count(buffer, ASCII_ALPHA_UPPER);
+    }
+
+    /**
+     * Counts the number of ASCII numeric characters (0-9) in a range of UTF-8 bytes.
+     *
+     * @param bytes  the UTF-8 bytes to analyze
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the count of ASCII numeric characters (0-9)
+     */
+    public static int countAsciiNumeric(byte[] bytes, int offset, int length) {
+        return count(bytes, offset, length, ASCII_NUMERIC);
+    }
+
+    /**
+     * Counts the number of ASCII numeric characters (0-9) in the remaining UTF-8 bytes of a buffer, without changing its position.
+     *
+     * @param buffer the UTF-8 bytes to analyze
+     * @return the count of ASCII numeric characters (0-9)
+     */
+    public static int countAsciiNumeric(ByteBuffer buffer) {
+        return count(buffer, ASCII_NUMERIC);
+    }
+
+    /**
+     * Counts the number of ASCII alphabetic characters (a-z, A-Z) or spaces (\u0020) in a range of UTF-8 bytes.
+     *
+     * @param bytes  the UTF-8 bytes to analyze
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the count of ASCII alphabetic characters (a-z, A-Z) or spaces (\u0020)
+     */
+    public static int countAsciiAlphaOrSpaces(byte[] bytes, int offset, int length) {
+        return count(bytes, offset, length, ASCII_ALPHA_OR_SPACES);
+    }
+
+    /**
+     * Counts the number of ASCII alphabetic characters (a-z, A-Z) or spaces (\u0020) in the remaining UTF-8 bytes of a buffer, without changing its position.
+     *
+     * @param buffer the UTF-8 bytes to analyze
+     * @return the count of ASCII alphabetic characters (a-z, A-Z) or spaces (\u0020)
+     */
+    public static int countAsciiAlphaOrSpaces(ByteBuffer buffer) {
+        return count(buffer, ASCII_ALPHA_OR_SPACES);
+    }
+
+    /**
+     * Counts the number of ASCII alphabetic characters (a-z, A-Z) or whitespaces in a range of UTF-8 bytes.
+     *
+     * @param bytes  the UTF-8 bytes to analyze
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the count of ASCII alphabetic characters (a-z, A-Z) or whitespaces
+     */
+    public static int countAsciiAlphaOrWhitespaces(byte[] bytes, int offset, int length) {
+        return count(bytes, offset, length, ASCII_ALPHA_OR_WHITESPACES);
+    }
+
+    /**
+     * Counts the number of ASCII alphabetic characters (a-z, A-Z) or whitespaces in the remaining UTF-8 bytes of a buffer, without changing its position.
+     *
+     * @param buffer the UTF-8 bytes to analyze
+     * @return the count of ASCII alphabetic characters (a-z, A-Z) or whitespaces
+     */
+    public static int countAsciiAlphaOrWhitespaces(ByteBuffer buffer) {
+        return count(buffer, ASCII_ALPHA_OR_WHITESPACES);
+    }
+
+    /**
+     * Counts the number of ASCII alphanumeric characters (a-z, A-Z, 0-9) in a range of UTF-8 bytes.
+     *
+     * @param bytes  the UTF-8 bytes to analyze
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the count of ASCII alphanumeric characters (a-z, A-Z, 0-9)
+     */
+    public static int countAsciiAlphanumeric(byte[] bytes, int offset, int length) {
+        return count(bytes, offset, length, ASCII_ALPHANUMERIC);
+    }
+
+    /**
+     * Counts the number of ASCII alphanumeric characters (a-z, A-Z, 0-9) in the remaining UTF-8 bytes of a buffer, without changing its position.
+     *
+     * @param buffer the UTF-8 bytes to analyze
+     * @return the count of ASCII alphanumeric characters (a-z, A-Z, 0-9)
+     */
+    public static int countAsciiAlphanumeric(ByteBuffer buffer) {
+        return count(buffer, ASCII_ALPHANUMERIC);
+    }
+
+    /**
+     * Counts the number of ASCII alphanumeric characters (a-z, A-Z, 0-9) or spaces (\u0020) in a range of UTF-8 bytes.
+     *
+     * @param bytes  the UTF-8 bytes to analyze
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the count of ASCII alphanumeric characters (a-z, A-Z, 0-9) or spaces (\u0020)
+     */
+    public static int countAsciiAlphanumericOrSpaces(byte[] bytes, int offset, int length) {
+        return count(bytes, offset, length, ASCII_ALPHANUMERIC_OR_SPACES);
+    }
+
+    /**
+     * Counts the number of ASCII alphanumeric characters (a-z, A-Z, 0-9) or spaces (\u0020) in the remaining UTF-8 bytes of a buffer, without changing its position.
+     *
+     * @param buffer the UTF-8 bytes to analyze
+     * @return the count of ASCII alphanumeric characters (a-z, A-Z, 0-9) or spaces (\u0020)
+     */
+    public static int countAsciiAlphanumericOrSpaces(ByteBuffer buffer) {
+        return count(buffer, ASCII_ALPHANUMERIC_OR_SPACES);
+    }
+
+    /**
+     * Counts the number of ASCII alphanumeric characters (a-z, A-Z, 0-9) or whitespaces in a range of UTF-8 bytes.
+     *
+     * @param bytes  the UTF-8 bytes to analyze
+     * @param offset the start of the range
+     * @param length the length of the range
+     * @return the count of ASCII alphanumeric characters (a-z, A-Z, 0-9) or whitespaces
+     */
+    public static int countAsciiAlphanumericOrWhitespaces(byte[] bytes, int offset, int length) {
+        return count(bytes, offset, length, ASCII_ALPHANUMERIC_OR_WHITESPACES);
+    }
+
+    /**
+     * Counts the number of ASCII alphanumeric characters (a-z, A-Z, 0-9) or whitespaces in the remaining UTF-8 bytes of a buffer, without changing its position.
+     *
+     * @param buffer the UTF-8 bytes to analyze
+     * @return the count of ASCII alphanumeric characters (a-z, A-Z, 0-9) or whitespaces
+     */
+    public static int countAsciiAlphanumericOrWhitespaces(ByteBuffer buffer) {
+        return count(buffer, ASCII_ALPHANUMERIC_OR_WHITESPACES);
+    }
+}
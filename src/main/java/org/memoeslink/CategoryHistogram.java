@@ -0,0 +1,165 @@
+package org.memoeslink;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The number of characters of every Unicode general category, filled in a single pass over the code points of
+ * the input. Every ASCII char is also counted on its own, so the totals of the POSIX classes of
+ * {@link UnicodeCharCategory}, such as {@link UnicodeCharCategory#ALNUM} or {@link UnicodeCharCategory#PUNCT},
+ * can be derived as well. A histogram can be reset and reused, and histograms of separate chunks can be merged.
+ * As in the count methods of {@link RegexFilter}, a supplementary character counts as two chars.
+ */
+public final class CategoryHistogram {
+    private static final int ASCII_END = 0x80;
+    private static final int TYPES = 32;
+    private static final int UNUSED_TYPE = 17; // The only value between 0 and 30 that Character.getType never returns
+    private final long[] asciiCounts = new long[ASCII_END];
+    private final long[] typeCounts = new long[TYPES]; // Counts of the non-ASCII chars by general category
+    private long length;
+
+    /**
+     * Creates an empty histogram.
+     */
+    public CategoryHistogram() {
+    }
+
+    /**
+     * Computes the histogram of the given sequence.
+     *
+     * @param s the sequence to analyze
+     * @return the histogram of {@code s}, which is empty if {@code s} is {@code null}
+     */
+    public static CategoryHistogram of(CharSequence s) {
+        return new CategoryHistogram().accumulate(s);
+    }
+
+    /**
+     * Adds the characters of the given sequence to this histogram.
+     *
+     * @param s the sequence to analyze
+     * @return this histogram
+     */
+    public CategoryHistogram accumulate(CharSequence s) {
+        return s == null ? this : accumulate(s, 0, s.length());
+    }
+
+    /**
+     * Adds the characters of a range of the given sequence to this histogram. A surrogate pair split by a bound
+     * of the range is counted as two lone surrogates, so chunks meant to be merged should be split between
+     * code points.
+     *
+     * @param s     the sequence to analyze
+     * @param start the index of the first char of the range
+     * @param end   the index after the last char of the range
+     * @return this histogram
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the sequence
+     */
+    public CategoryHistogram accumulate(CharSequence s, int start, int end) {
+        Objects.checkFromToIndex(start, end, s.length());
+
+        for (int i = start; i < end; ) {
+            char c = s.charAt(i);
+
+            if (c < ASCII_END) {
+                asciiCounts[c]++;
+                i++;
+                continue;
+            }
+            int codePoint = c;
+
+            if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(s.charAt(i + 1))) {
+                codePoint = Character.toCodePoint(c, s.charAt(i + 1));
+            }
+            int charCount = Character.charCount(codePoint);
+            typeCounts[CategoryMatcher.getType(codePoint)] += charCount;
+            i += charCount;
+        }
+        length += end - start;
+        return this;
+    }
+
+    /**
+     * Adds the counts of another histogram to this one, such as the histogram of another chunk of the same text.
+     *
+     * @param other the histogram to add
+     * @return this histogram
+     */
+    public CategoryHistogram merge(CategoryHistogram other) {
+        for (int i = 0; i < ASCII_END; i++) {
+            asciiCounts[i] += other.asciiCounts[i];
+        }
+
+        for (int i = 0; i < TYPES; i++) {
+            typeCounts[i] += other.typeCounts[i];
+        }
+        length += other.length;
+        return this;
+    }
+
+    /**
+     * Sets every count of this histogram back to zero, so that it can be reused.
+     *
+     * @return this histogram
+     */
+    public CategoryHistogram reset() {
+        Arrays.fill(asciiCounts, 0);
+        Arrays.fill(typeCounts, 0);
+        length = 0;
+        return this;
+    }
+
+    /**
+     * Returns the number of chars counted.
+     *
+     * @return the total number of chars
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * Returns the number of chars of the given general category.
+     *
+     * @param type the general category, as a {@link Character} constant such as {@link Character#UPPERCASE_LETTER}
+     * @return the count of chars of the general category
+     * @throws IllegalArgumentException if {@code type} is not a general category
+     */
+    public long getCount(int type) {
+        if (type < 0 || type > Character.FINAL_QUOTE_PUNCTUATION || type == UNUSED_TYPE) {
+            throw new IllegalArgumentException("Not a general category: " + type);
+        }
+        long count = typeCounts[type];
+
+        for (int c = 0; c < ASCII_END; c++) {
+            if (Character.getType(c) == type) count += asciiCounts[c];
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of chars of the given category, as counted by {@link RegexFilter#count(String, java.util.EnumSet)}.
+     * This covers the general categories and their groups, such as {@link UnicodeCharCategory#LETTER}, and the POSIX
+     * classes, such as {@link UnicodeCharCategory#ALNUM}, {@link UnicodeCharCategory#PUNCT} or
+     * {@link UnicodeCharCategory#GRAPH}.
+     *
+     * @param category the category to count
+     * @return the count of chars of the category
+     * @throws IllegalArgumentException if the category is defined by code point ranges rather than general
+     *                                  categories, as {@link UnicodeCharCategory#ZERO_WIDTH_CHAR} and
+     *                                  {@link UnicodeCharCategory#DIACRITIC} are
+     */
+    public long getCount(UnicodeCharCategory category) {
+        CategoryMatcher matcher = category.matcher();
+        if (matcher.hasRanges()) throw new IllegalArgumentException("Not derived from general categories: " + category);
+        return matcher.sumCounts(asciiCounts, typeCounts);
+    }
+
+    @Override
+    public String toString() {
+        return "CategoryHistogram{length=" + length + ", letters=" + getCount(UnicodeCharCategory.LETTER) +
+                ", marks=" + getCount(UnicodeCharCategory.MARK) + ", numbers=" + getCount(UnicodeCharCategory.NUMBER) +
+                ", punctuation=" + getCount(UnicodeCharCategory.PUNCTUATION) + ", symbols=" + getCount(UnicodeCharCategory.SYMBOL) +
+                ", separators=" + getCount(UnicodeCharCategory.SEPARATOR) + ", others=" + getCount(UnicodeCharCategory.OTHER) + "}";
+    }
+}
@@ -0,0 +1,327 @@
+package org.memoeslink;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * A matcher of code points that behaves like a single-character class of {@link java.util.regex.Pattern},
+ * such as {@code \p{Lu}}, {@code \p{Punct}} or {@code [\p{L}\p{Digit}]}, without going through a regex engine.
+ * ASCII code points are looked up in a 128-bit set, and any other code point is matched by its general
+ * category, read from a table of the Basic Multilingual Plane, against a bitmask of the accepted categories,
+ * or by a few extra ranges. Like a {@link java.util.regex.Matcher}, the filters walk the input by code
+ * points, so a valid surrogate pair is tested and kept or dropped as a whole.
+ */
+final class CategoryMatcher implements IntPredicate {
+    static final int LETTERS = mask(Character.UPPERCASE_LETTER, Character.LOWERCASE_LETTER, Character.TITLECASE_LETTER,
+            Character.MODIFIER_LETTER, Character.OTHER_LETTER);
+    static final int MARKS = mask(Character.NON_SPACING_MARK, Character.COMBINING_SPACING_MARK, Character.ENCLOSING_MARK);
+    static final int SEPARATORS = mask(Character.SPACE_SEPARATOR, Character.LINE_SEPARATOR, Character.PARAGRAPH_SEPARATOR);
+    static final int SYMBOLS = mask(Character.MATH_SYMBOL, Character.CURRENCY_SYMBOL, Character.MODIFIER_SYMBOL,
+            Character.OTHER_SYMBOL);
+    static final int NUMBERS = mask(Character.DECIMAL_DIGIT_NUMBER, Character.LETTER_NUMBER, Character.OTHER_NUMBER);
+    static final int PUNCTUATION = mask(Character.DASH_PUNCTUATION, Character.START_PUNCTUATION, Character.END_PUNCTUATION,
+            Character.CONNECTOR_PUNCTUATION, Character.OTHER_PUNCTUATION, Character.INITIAL_QUOTE_PUNCTUATION,
+            Character.FINAL_QUOTE_PUNCTUATION);
+    static final int OTHERS = mask(Character.CONTROL, Character.FORMAT, Character.PRIVATE_USE, Character.SURROGATE,
+            Character.UNASSIGNED);
+    private static final int ASCII_END = 0x80;
+    private static final int[] NO_RANGES = new int[0];
+    private final long asciiLow;
+    private final long asciiHigh;
+    private final int categories;
+    private final int[] ranges;
+    private final boolean negated;
+
+    private CategoryMatcher(long asciiLow, long asciiHigh, int categories, int[] ranges, boolean negated) {
+        this.asciiLow = asciiLow;
+        this.asciiHigh = asciiHigh;
+        this.categories = categories;
+        this.ranges = ranges;
+        this.negated = negated;
+    }
+
+    /**
+     * Builds a bitmask of general categories.
+     *
+     * @param types the general categories, as {@link Character#getType(int)} values
+     * @return the bitmask with the bit of each category set
+     */
+    static int mask(int... types) {
+        int mask = 0;
+
+        for (int type : types) {
+            mask |= 1 << type;
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the general category of a code point, which is the same as {@link Character#getType(int)},
+     * the property used by {@link java.util.regex.Pattern}.
+     *
+     * @param codePoint the code point to look up
+     * @return the general category, as a {@link Character} constant
+     */
+    static int getType(int codePoint) {
+        return codePoint <= Character.MAX_VALUE ? TypeTable.TYPES[codePoint] : Character.getType(codePoint);
+    }
+
+    /**
+     * Creates a matcher for the code points of the given general categories.
+     *
+     * @param categories a bitmask of general categories, as built by {@link #mask(int...)}
+     * @return a matcher for the categories
+     */
+    static CategoryMatcher ofCategories(int categories) {
+        long[] ascii = new long[2];
+
+        for (int c = 0; c < ASCII_END; c++) {
+            if (((categories >>> Character.getType(c)) & 1) != 0) ascii[c >>> 6] |= 1L << c;
+        }
+        return new CategoryMatcher(ascii[0], ascii[1], categories, NO_RANGES, false);
+    }
+
+    /**
+     * Creates a matcher for the ASCII characters in the given ranges, like the POSIX classes of
+     * {@link java.util.regex.Pattern}, which only match ASCII characters. The bounds are taken as plain
+     * values rather than a predicate, so building the matchers does not need to link any lambda.
+     *
+     * @param bounds pairs of inclusive bounds of the ranges, which must be ASCII characters
+     * @return a matcher for the ASCII characters in the ranges
+     */
+    static CategoryMatcher ofAsciiRanges(int... bounds) {
+        long[] ascii = new long[2];
+
+        for (int i = 0; i < bounds.length; i += 2) {
+            for (int c = bounds[i]; c <= bounds[i + 1]; c++) {
+                ascii[c >>> 6] |= 1L << c;
+            }
+        }
+        return new CategoryMatcher(ascii[0], ascii[1], 0, NO_RANGES, false);
+    }
+
+    /**
+     * Creates a matcher for the code points in the given ranges.
+     *
+     * @param bounds pairs of inclusive bounds of the ranges
+     * @return a matcher for the ranges
+     */
+    static CategoryMatcher ofRanges(int... bounds) {
+        long[] ascii = new long[2];
+
+        for (int c = 0; c < ASCII_END; c++) {
+            if (inRanges(bounds, c)) ascii[c >>> 6] |= 1L << c;
+        }
+        return new CategoryMatcher(ascii[0], ascii[1], 0, bounds.clone(), false);
+    }
+
+    private static boolean inRanges(int[] ranges, int codePoint) {
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (codePoint >= ranges[i] && codePoint <= ranges[i + 1]) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns a matcher for the code points matched by either this matcher or the given one.
+     * Neither matcher may be negated.
+     *
+     * @param other the matcher to combine with
+     * @return the union of both matchers
+     * @throws IllegalStateException if any of the matchers is negated
+     */
+    CategoryMatcher or(CategoryMatcher other) {
+        if (negated || other.negated) throw new IllegalStateException("Negated matchers cannot be combined");
+        int[] combined = Arrays.copyOf(ranges, ranges.length + other.ranges.length);
+        System.arraycopy(other.ranges, 0, combined, ranges.length, other.ranges.length);
+        return new CategoryMatcher(asciiLow | other.asciiLow, asciiHigh | other.asciiHigh, categories | other.categories,
+                combined, false);
+    }
+
+    /**
+     * Returns a matcher for the code points of this matcher that are not ASCII characters.
+     *
+     * @return the matcher without its ASCII characters
+     */
+    CategoryMatcher withoutAscii() {
+        return new CategoryMatcher(negated ? -1L : 0, negated ? -1L : 0, categories, ranges, negated);
+    }
+
+    /**
+     * Returns a matcher for the code points not matched by this matcher, like a class negated with {@code ^}.
+     *
+     * @return the complement of this matcher
+     */
+    @Override
+    public CategoryMatcher negate() {
+        return new CategoryMatcher(~asciiLow, ~asciiHigh, categories, ranges, !negated);
+    }
+
+    /**
+     * Checks if the given code point is matched by this matcher.
+     *
+     * @param codePoint the code point to check
+     * @return {@code true} if {@code codePoint} matches, otherwise {@code false}
+     */
+    boolean matches(int codePoint) {
+        if (codePoint < ASCII_END) return ((codePoint < 64 ? asciiLow : asciiHigh) & (1L << codePoint)) != 0;
+        boolean matches = ((categories >>> getType(codePoint)) & 1) != 0 || ranges.length != 0 && inRanges(ranges, codePoint);
+        return matches != negated;
+    }
+
+    @Override
+    public boolean test(int codePoint) {
+        return matches(codePoint);
+    }
+
+    /**
+     * Returns a string containing only the matching code points of the given string.
+     *
+     * @param s the string to filter
+     * @return the string with only the matching code points, or {@code s} itself if every code point matches
+     */
+    String retainFrom(String s) {
+        return filter(s, true);
+    }
+
+    /**
+     * Returns a string with all the matching code points of the given string removed.
+     *
+     * @param s the string to filter
+     * @return the string without the matching code points, or {@code s} itself if no code point matches
+     */
+    String removeFrom(String s) {
+        return filter(s, false);
+    }
+
+    /**
+     * Appends the matching code points of the given sequence to a buffer.
+     *
+     * @param s   the sequence to filter, which appends nothing if {@code null}
+     * @param out the buffer that receives the matching code points
+     * @return {@code out}
+     */
+    StringBuilder retainFrom(CharSequence s, StringBuilder out) {
+        return s == null ? out : appendFiltered(s, 0, true, out);
+    }
+
+    /**
+     * Appends the code points of the given sequence that do not match to a buffer.
+     *
+     * @param s   the sequence to filter, which appends nothing if {@code null}
+     * @param out the buffer that receives the remaining code points
+     * @return {@code out}
+     */
+    StringBuilder removeFrom(CharSequence s, StringBuilder out) {
+        return s == null ? out : appendFiltered(s, 0, false, out);
+    }
+
+    /**
+     * Counts the chars of the matching code points in a range of the given sequence, which is the length
+     * that {@link #retainFrom(String)} would return for that range, without building a string. A surrogate pair
+     * split by a bound of the range is tested as two lone surrogates.
+     *
+     * @param s     the sequence to analyze
+     * @param start the index of the first char of the range
+     * @param end   the index after the last char of the range
+     * @return the number of chars of the matching code points
+     */
+    int countIn(CharSequence s, int start, int end) {
+        int count = 0;
+
+        for (int i = start; i < end; ) {
+            char c = s.charAt(i);
+            int codePoint = c;
+
+            if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(s.charAt(i + 1))) {
+                codePoint = Character.toCodePoint(c, s.charAt(i + 1));
+            }
+            int charCount = Character.charCount(codePoint);
+
+            if (matches(codePoint)) count += charCount;
+            i += charCount;
+        }
+        return count;
+    }
+
+    /**
+     * Checks if this matcher accepts code points by extra ranges, besides ASCII characters and general categories.
+     *
+     * @return {@code true} if this matcher has extra ranges, otherwise {@code false}
+     */
+    boolean hasRanges() {
+        return ranges.length != 0;
+    }
+
+    /**
+     * Sums the counts of the chars matched by this matcher, out of the counts of every ASCII char and of the
+     * general categories of the other code points. Extra ranges are ignored, since the general categories
+     * cannot tell them apart.
+     *
+     * @param asciiCounts the counts of each ASCII char, indexed by the char
+     * @param typeCounts  the counts of the chars of non-ASCII code points, indexed by general category
+     * @return the sum of the counts of the matching chars
+     */
+    long sumCounts(long[] asciiCounts, long[] typeCounts) {
+        long sum = 0;
+
+        for (int c = 0; c < ASCII_END; c++) {
+            if (((c < 64 ? asciiLow : asciiHigh) & (1L << c)) != 0) sum += asciiCounts[c];
+        }
+
+        for (int type = 0; type < typeCounts.length; type++) {
+            if ((((categories >>> type) & 1) != 0) != negated) sum += typeCounts[type];
+        }
+        return sum;
+    }
+
+    private String filter(String s, boolean retain) {
+        if (StringHelper.isNullOrEmpty(s)) return s;
+        int i = 0;
+
+        while (i < s.length()) {
+            int codePoint = s.codePointAt(i);
+
+            if (matches(codePoint) != retain) break;
+            i += Character.charCount(codePoint);
+        }
+
+        if (i == s.length()) return s;
+        StringBuilder sb = new StringBuilder(s.length() - 1).append(s, 0, i);
+        return appendFiltered(s, i, retain, sb).toString();
+    }
+
+    /**
+     * Appends the code points of a sequence, from the given index, whose match result is {@code retain},
+     * copying contiguous runs at once.
+     */
+    private StringBuilder appendFiltered(CharSequence s, int from, boolean retain, StringBuilder out) {
+        int length = s.length();
+        int start = -1; // Start of the current run of retained chars
+
+        for (int i = from; i < length; ) {
+            int codePoint = Character.codePointAt(s, i);
+
+            if (matches(codePoint) == retain) {
+                if (start < 0) start = i;
+            } else if (start >= 0) {
+                out.append(s, start, i);
+                start = -1;
+            }
+            i += Character.charCount(codePoint);
+        }
+
+        if (start >= 0) out.append(s, start, length);
+        return out;
+    }
+
+    private static final class TypeTable {
+        private static final byte[] TYPES = new byte[Character.MAX_VALUE + 1];
+
+        static {
+            for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+                TYPES[c] = (byte) Character.getType(c);
+            }
+        }
+    }
+}
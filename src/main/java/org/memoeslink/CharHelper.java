@@ -1,9 +1,5 @@
 package org.memoeslink;
 
-import java.util.Arrays;
-import java.util.Set;
-import java.util.stream.Collectors;
-
 public class CharHelper {
     public static final char NULL_CHAR = '\0'; //\u0000
     public static final String CONSONANTS = "bcdfghjklmnpqrstvwxyzBCDFGHJKLMNPQRSTVWXYZ";
@@ -12,16 +8,10 @@ public class CharHelper {
     public static final String VOWELS = "aeiouAEIOU";
     public static final String GLOBAL_VOWELS = "AEIOUYaeiouyÀÁÂÃÄÅÆÈÉÊËÌÍÎÏÒÓÔÕÖØÙÚÛÜÝàáâãäåæèéêëìíîïòóôõöøùúûüýÿĀāĂăĄąĒēĔĕĖėĘęĚěĨĩĪīĬĭĮįİıĲĳŌōŎŏŐőŒœŨũŪūŬŭŮůŰűŲųŶŷŸƠơƯưǍǎǏǐǑǒǓǔǕǖǗǘǙǚǛǜǺǻǼǽǾǿȀȁȂȃȄȅȆȇȈȉȊȋȌȍȎȏȔȕȖȗḀḁḔḕḖḗḘḙḚḛḜḝḬḭḮḯṌṍṎṏṐṑṒṓṲṳṴṵṶṷṸṹṺṻẎẏẙẠạẢảẤấẦầẨẩẪẫẬậẮắẰằẲẳẴẵẶặẸẹẺẻẼẽẾếỀềỂểỄễỆệỈỉỊịỌọỎỏỐốỒồỔổỖỗỘộỚớỜờỞởỠỡỢợỤụỦủỨứỪừỬửỮữỰựỲỳỴỵỶỷỸỹỿ";
     public static final String GLOBAL_LETTERS = GLOBAL_CONSONANTS + GLOBAL_VOWELS;
-    private static final Set<Integer> GLOBAL_VOWELS_REGISTRY;
-    private static final Set<Integer> GLOBAL_CONSONANTS_REGISTRY;
-    private static final Set<Integer> GLOBAL_LETTERS_REGISTRY;
-    private static final int[] ZERO_WIDTH_CHARS = {0x200B, 0x200C, 0x200D, 0x2060, 0xFEFF};
-
-    static {
-        GLOBAL_VOWELS_REGISTRY = GLOBAL_VOWELS.chars().boxed().collect(Collectors.toSet());
-        GLOBAL_CONSONANTS_REGISTRY = GLOBAL_CONSONANTS.chars().boxed().collect(Collectors.toSet());
-        GLOBAL_LETTERS_REGISTRY = GLOBAL_LETTERS.chars().boxed().collect(Collectors.toSet());
-    }
+    public static final CodePointSet GLOBAL_VOWELS_SET = CodePointSet.of(GLOBAL_VOWELS);
+    public static final CodePointSet GLOBAL_CONSONANTS_SET = CodePointSet.of(GLOBAL_CONSONANTS);
+    public static final CodePointSet GLOBAL_LETTERS_SET = GLOBAL_CONSONANTS_SET.union(GLOBAL_VOWELS_SET);
+    public static final String UNICODE_VERSION = UnicodeCharacter.VERSION; // Unicode version of the character properties
 
     private CharHelper() {
     }
@@ -92,7 +82,7 @@ public class CharHelper {
      * @return {@code true} if {@code c} is a space, otherwise {@code false}
      */
     public static boolean isSpace(int c) {
-        return c == ' ' || Character.isSpaceChar(c);
+        return CharProperties.is(c, CharProperties.SPACE);
     }
 
     /**
@@ -112,7 +102,7 @@ public class CharHelper {
      * @return {@code true} if {@code c} is whitespace, otherwise {@code false}
      */
     public static boolean isWhitespace(int c) {
-        return Character.isWhitespace(c);
+        return CharProperties.is(c, CharProperties.WHITESPACE);
     }
 
     /**
@@ -150,7 +140,7 @@ public class CharHelper {
      * @return {@code true} if {@code c} is a zero-width character, otherwise {@code false}
      */
     public static boolean isZeroWidthChar(int c) {
-        return Arrays.binarySearch(ZERO_WIDTH_CHARS, c) >= 0;
+        return CharProperties.is(c, CharProperties.ZERO_WIDTH);
     }
 
     /**
@@ -170,7 +160,7 @@ public class CharHelper {
      * @return {@code true} if {@code c} is a letter, otherwise {@code false}
      */
     public static boolean isLetter(int c) {
-        return Character.isLetter(c);
+        return CharProperties.is(c, CharProperties.LETTER);
     }
 
     /**
@@ -190,7 +180,7 @@ public class CharHelper {
      * @return {@code true} if {@code c} is a lowercase letter, otherwise {@code false}
      */
     public static boolean isLowercase(int c) {
-        return Character.isLowerCase(c);
+        return CharProperties.is(c, CharProperties.LOWERCASE);
     }
 
     /**
@@ -210,7 +200,7 @@ public class CharHelper {
      * @return {@code true} if {@code c} is an uppercase letter, otherwise {@code false}
      */
     public static boolean isUppercase(int c) {
-        return Character.isUpperCase(c);
+        return CharProperties.is(c, CharProperties.UPPERCASE);
     }
 
     /**
@@ -230,7 +220,7 @@ public class CharHelper {
      * @return {@code true} if {@code c} is a digit, otherwise {@code false}
      */
     public static boolean isDigit(int c) {
-        return Character.isDigit(c);
+        return CharProperties.is(c, CharProperties.DIGIT);
     }
 
     /**
@@ -250,7 +240,7 @@ public class CharHelper {
      * @return {@code true} if {@code c} is either a letter or whitespace, otherwise {@code false}
      */
     public static boolean isLetterOrWhitespace(int c) {
-        return Character.isLetter(c) || Character.isWhitespace(c);
+        return CharProperties.is(c, CharProperties.LETTER | CharProperties.WHITESPACE);
     }
 
     /**
@@ -270,7 +260,7 @@ public class CharHelper {
      * @return {@code true} if {@code c} is either a letter or a digit, otherwise {@code false}
      */
     public static boolean isLetterOrDigit(int c) {
-        return Character.isLetterOrDigit(c);
+        return CharProperties.is(c, CharProperties.LETTER | CharProperties.DIGIT);
     }
 
     /**
@@ -290,7 +280,7 @@ public class CharHelper {
      * @return {@code true} if {@code c} is a letter, a digit, or whitespace, otherwise {@code false}
      */
     public static boolean isLetterDigitOrWhitespace(int c) {
-        return Character.isLetterOrDigit(c) || Character.isWhitespace(c);
+        return CharProperties.is(c, CharProperties.LETTER | CharProperties.DIGIT | CharProperties.WHITESPACE);
     }
 
     /**
@@ -310,7 +300,7 @@ public class CharHelper {
      * @return {@code true} if {@code c} is alphabetic, otherwise {@code false}
      */
     public static boolean isAlphabetic(int c) {
-        return Character.isAlphabetic(c);
+        return CharProperties.is(c, CharProperties.ALPHABETIC);
     }
 
     /**
@@ -330,7 +320,7 @@ public class CharHelper {
      * @return {@code true} if {@code c} is either alphabetic or whitespace, otherwise {@code false}
      */
     public static boolean isAlphabeticOrWhitespace(int c) {
-        return Character.isAlphabetic(c) || Character.isWhitespace(c);
+        return CharProperties.is(c, CharProperties.ALPHABETIC | CharProperties.WHITESPACE);
     }
 
     /**
@@ -350,7 +340,7 @@ public class CharHelper {
      * @return {@code true} if {@code c} is either alphabetic or a digit, otherwise {@code false}
      */
     public static boolean isAlphabeticOrDigit(int c) {
-        return Character.isAlphabetic(c) || Character.isDigit(c);
+        return CharProperties.is(c, CharProperties.ALPHABETIC | CharProperties.DIGIT);
     }
 
     /**
@@ -370,7 +360,7 @@ public class CharHelper {
      * @return {@code true} if {@code c} is alphanumeric or a whitespace character, otherwise {@code false}
      */
     public static boolean isAlphanumericOrWhitespace(int c) {
-        return isAlphabeticOrDigit(c) || Character.isWhitespace(c);
+        return CharProperties.is(c, CharProperties.ALPHABETIC | CharProperties.DIGIT | CharProperties.WHITESPACE);
     }
 
     /**
@@ -392,7 +382,7 @@ public class CharHelper {
      * @return {@code true} if {@code c} is a special character, otherwise {@code false}
      */
     public static boolean isSpecialChar(int c) {
-        return !Character.isLetterOrDigit(c) && !Character.isWhitespace(c);
+        return !CharProperties.is(c, CharProperties.LETTER | CharProperties.DIGIT | CharProperties.WHITESPACE);
     }
 
     /**
@@ -412,9 +402,7 @@ public class CharHelper {
      * @return {@code true} if {@code c} is a diacritic character, otherwise {@code false}
      */
     public static boolean isDiacritic(int c) {
-        if (isNull(c)) return false;
-        int type = Character.getType(c);
-        return type == Character.MODIFIER_SYMBOL || type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK || type == Character.ENCLOSING_MARK;
+        return CharProperties.is(c, CharProperties.DIACRITIC);
     }
 
     /**
@@ -434,9 +422,10 @@ public class CharHelper {
      * @return {@code true} if {@code c} is a consonant, otherwise {@code false}
      */
     public static boolean isConsonant(int c) {
-        if (isNull(c)) return false;
-        String s = StringHelper.stripAccents(Character.toString((char) c));
-        return CONSONANTS.contains(s);
+        if (isNull(c) || !Character.isValidCodePoint(c)) return false;
+
+        if (AccentFolding.isCovered(c)) return isUnaccentedConsonant(AccentFolding.fold(c));
+        return CONSONANTS.contains(stripAccents(c));
     }
 
     /**
@@ -456,9 +445,10 @@ public class CharHelper {
      * @return {@code true} if {@code c} is a vowel, otherwise {@code false}
      */
     public static boolean isVowel(int c) {
-        if (isNull(c)) return false;
-        String s = StringHelper.stripAccents(Character.toString((char) c));
-        return VOWELS.contains(s);
+        if (isNull(c) || !Character.isValidCodePoint(c)) return false;
+
+        if (AccentFolding.isCovered(c)) return isUnaccentedVowel(AccentFolding.fold(c));
+        return VOWELS.contains(stripAccents(c));
     }
 
     /**
@@ -480,7 +470,7 @@ public class CharHelper {
      * @return {@code true} if {@code c} is a letter from {@link #GLOBAL_LETTERS}, otherwise {@code false}
      */
     public static boolean isGlobalLetter(int c) {
-        return GLOBAL_LETTERS_REGISTRY.contains(c);
+        return GLOBAL_LETTERS_SET.contains(c);
     }
 
     /**
@@ -502,7 +492,7 @@ public class CharHelper {
      * @return {@code true} if {@code c} is a consonant from {@link #GLOBAL_CONSONANTS}, otherwise {@code false}
      */
     public static boolean isGlobalConsonant(int c) {
-        return GLOBAL_CONSONANTS_REGISTRY.contains(c);
+        return GLOBAL_CONSONANTS_SET.contains(c);
     }
 
     /**
@@ -524,7 +514,73 @@ public class CharHelper {
      * @return {@code true} if {@code c} is a vowel from {@link #GLOBAL_VOWELS}, otherwise {@code false}
      */
     public static boolean isGlobalVowel(int c) {
-        return GLOBAL_VOWELS_REGISTRY.contains(c);
+        return GLOBAL_VOWELS_SET.contains(c);
+    }
+
+    /**
+     * Checks if the given character is a letter of the specified alphabet.
+     *
+     * @param c        the character to check
+     * @param alphabet the alphabet to check against
+     * @return {@code true} if {@code c} is a letter of {@code alphabet}, otherwise {@code false}
+     */
+    public static boolean isLetter(char c, Alphabet alphabet) {
+        return isLetter((int) c, alphabet);
+    }
+
+    /**
+     * Checks if the given character is a letter of the specified alphabet.
+     *
+     * @param c        the character to check
+     * @param alphabet the alphabet to check against
+     * @return {@code true} if {@code c} is a letter of {@code alphabet}, otherwise {@code false}
+     */
+    public static boolean isLetter(int c, Alphabet alphabet) {
+        return alphabet != null && alphabet.isLetter(c);
+    }
+
+    /**
+     * Checks if the given character is a consonant of the specified alphabet.
+     *
+     * @param c        the character to check
+     * @param alphabet the alphabet to check against
+     * @return {@code true} if {@code c} is a consonant of {@code alphabet}, otherwise {@code false}
+     */
+    public static boolean isConsonant(char c, Alphabet alphabet) {
+        return isConsonant((int) c, alphabet);
+    }
+
+    /**
+     * Checks if the given character is a consonant of the specified alphabet.
+     *
+     * @param c        the character to check
+     * @param alphabet the alphabet to check against
+     * @return {@code true} if {@code c} is a consonant of {@code alphabet}, otherwise {@code false}
+     */
+    public static boolean isConsonant(int c, Alphabet alphabet) {
+        return alphabet != null && alphabet.isConsonant(c);
+    }
+
+    /**
+     * Checks if the given character is a vowel of the specified alphabet.
+     *
+     * @param c        the character to check
+     * @param alphabet the alphabet to check against
+     * @return {@code true} if {@code c} is a vowel of {@code alphabet}, otherwise {@code false}
+     */
+    public static boolean isVowel(char c, Alphabet alphabet) {
+        return isVowel((int) c, alphabet);
+    }
+
+    /**
+     * Checks if the given character is a vowel of the specified alphabet.
+     *
+     * @param c        the character to check
+     * @param alphabet the alphabet to check against
+     * @return {@code true} if {@code c} is a vowel of {@code alphabet}, otherwise {@code false}
+     */
+    public static boolean isVowel(int c, Alphabet alphabet) {
+        return alphabet != null && alphabet.isVowel(c);
     }
 
     /**
@@ -547,7 +603,7 @@ public class CharHelper {
      * @return {@code true} if {@code c} is a non-cluster consonant, otherwise {@code false}
      */
     public static boolean isNonClusterConsonant(int c) {
-        return NON_CLUSTER_CONSONANTS.indexOf(c) != -1;
+        return CharProperties.is(c, CharProperties.NON_CLUSTER_CONSONANT);
     }
 
     /**
@@ -569,10 +625,10 @@ public class CharHelper {
      * @return {@code true} if {@code c} is an accented letter, otherwise {@code false}
      */
     public static boolean isAccentedLetter(int c) {
-        if (isNull(c)) return false;
-        String originalChar = Character.toString((char) c);
-        String modifiedChar = StringHelper.stripAccents(originalChar);
-        return Character.isLetter(c) && !originalChar.equals(modifiedChar);
+        if (isNull(c) || !Character.isValidCodePoint(c)) return false;
+
+        if (AccentFolding.isCovered(c)) return isLetter(c) && AccentFolding.fold(c) != c;
+        return isLetter(c) && !Character.toString(c).equals(stripAccents(c));
     }
 
     /**
@@ -592,10 +648,10 @@ public class CharHelper {
      * @return {@code true} if {@code c} is an unaccented letter, otherwise {@code false}
      */
     public static boolean isUnaccentedLetter(int c) {
-        if (isNull(c)) return false;
-        String originalChar = Character.toString((char) c);
-        String modifiedChar = StringHelper.stripAccents(originalChar);
-        return Character.isLetter(c) && originalChar.equals(modifiedChar);
+        if (isNull(c) || !Character.isValidCodePoint(c)) return false;
+
+        if (AccentFolding.isCovered(c)) return isLetter(c) && AccentFolding.fold(c) == c;
+        return isLetter(c) && Character.toString(c).equals(stripAccents(c));
     }
 
     /**
@@ -615,10 +671,11 @@ public class CharHelper {
      * @return {@code true} if {@code c} is an accented consonant, otherwise {@code false}
      */
     public static boolean isAccentedConsonant(int c) {
-        if (isNull(c)) return false;
-        String originalChar = Character.toString((char) c);
-        String modifiedChar = StringHelper.stripAccents(originalChar);
-        return CONSONANTS.contains(modifiedChar) && !originalChar.equals(modifiedChar);
+        if (isNull(c) || !Character.isValidCodePoint(c)) return false;
+
+        if (AccentFolding.isCovered(c)) return AccentFolding.fold(c) != c && isUnaccentedConsonant(AccentFolding.fold(c));
+        String modifiedChar = stripAccents(c);
+        return CONSONANTS.contains(modifiedChar) && !Character.toString(c).equals(modifiedChar);
     }
 
     /**
@@ -638,7 +695,7 @@ public class CharHelper {
      * @return {@code true} if {@code c} is an unaccented consonant, otherwise {@code false}
      */
     public static boolean isUnaccentedConsonant(int c) {
-        return CONSONANTS.indexOf(c) != -1;
+        return CharProperties.is(c, CharProperties.UNACCENTED_CONSONANT);
     }
 
     /**
@@ -658,10 +715,11 @@ public class CharHelper {
      * @return {@code true} if {@code c} is an accented vowel, otherwise {@code false}
      */
     public static boolean isAccentedVowel(int c) {
-        if (isNull(c)) return false;
-        String originalChar = Character.toString((char) c);
-        String modifiedChar = StringHelper.stripAccents(originalChar);
-        return VOWELS.contains(modifiedChar) && !originalChar.equals(modifiedChar);
+        if (isNull(c) || !Character.isValidCodePoint(c)) return false;
+
+        if (AccentFolding.isCovered(c)) return AccentFolding.fold(c) != c && isUnaccentedVowel(AccentFolding.fold(c));
+        String modifiedChar = stripAccents(c);
+        return VOWELS.contains(modifiedChar) && !Character.toString(c).equals(modifiedChar);
     }
 
     /**
@@ -681,7 +739,7 @@ public class CharHelper {
      * @return {@code true} if {@code c} is an unaccented vowel, otherwise {@code false}
      */
     public static boolean isUnaccentedVowel(int c) {
-        return VOWELS.indexOf(c) != -1;
+        return CharProperties.is(c, CharProperties.UNACCENTED_VOWEL);
     }
 
     /**
@@ -725,7 +783,7 @@ public class CharHelper {
      * @return {@code true} if {@code c} is a delimiter, otherwise {@code false}
      */
     public static boolean isDelimiter(int c) {
-        return Character.isWhitespace(c) || c == '_' || c == '-';
+        return CharProperties.is(c, CharProperties.DELIMITER);
     }
 
     /**
@@ -747,7 +805,7 @@ public class CharHelper {
      * @return {@code true} if {@code c} is an ASCII character, {@code false} otherwise
      */
     public static boolean isAscii(int c) {
-        return c <= 127;
+        return CharProperties.is(c, CharProperties.ASCII);
     }
 
     /**
@@ -767,7 +825,7 @@ public class CharHelper {
      * @return {@code true} if {@code c} represents an ASCII space character, {@code false} otherwise
      */
     public static boolean isAsciiSpace(int c) {
-        return c == 32; //0x20
+        return CharProperties.is(c, CharProperties.ASCII_SPACE);
     }
 
     /**
@@ -791,7 +849,7 @@ public class CharHelper {
      * @return {@code true} if {@code c} represents an ASCII whitespace character, {@code false} otherwise
      */
     public static boolean isAsciiWhitespace(int c) {
-        return isAsciiSpace(c) || (c >= 9 && c <= 13);
+        return CharProperties.is(c, CharProperties.ASCII_WHITESPACE);
     }
 
     /**
@@ -813,7 +871,7 @@ public class CharHelper {
      * @return {@code true} if the character is an ASCII alphabetic character, {@code false} otherwise
      */
     public static boolean isAsciiAlpha(int c) {
-        return isAsciiAlphaLower(c) || isAsciiAlphaUpper(c);
+        return CharProperties.is(c, CharProperties.ASCII_ALPHA);
     }
 
     /**
@@ -835,7 +893,7 @@ public class CharHelper {
      * @return {@code true} if the character is an ASCII lowercase alphabetic character, {@code false} otherwise
      */
     public static boolean isAsciiAlphaLower(int c) {
-        return c >= 'a' && c <= 'z';
+        return CharProperties.is(c, CharProperties.ASCII_ALPHA_LOWER);
     }
 
     /**
@@ -857,7 +915,7 @@ public class CharHelper {
      * @return {@code true} if the character is an ASCII uppercase alphabetic character, {@code false} otherwise
      */
     public static boolean isAsciiAlphaUpper(int c) {
-        return c >= 'A' && c <= 'Z';
+        return CharProperties.is(c, CharProperties.ASCII_ALPHA_UPPER);
     }
 
     /**
@@ -879,7 +937,7 @@ public class CharHelper {
      * @return {@code true} if the character is an ASCII numeric character, {@code false} otherwise
      */
     public static boolean isAsciiNumeric(int c) {
-        return c >= '0' && c <= '9';
+        return CharProperties.is(c, CharProperties.ASCII_NUMERIC);
     }
 
     /**
@@ -901,7 +959,7 @@ public class CharHelper {
      * @return {@code true} if the character is an ASCII alphabetic character or a space, {@code false} otherwise
      */
     public static boolean isAsciiAlphaOrSpace(int c) {
-        return isAsciiAlpha(c) || isAsciiSpace(c);
+        return CharProperties.is(c, CharProperties.ASCII_ALPHA | CharProperties.ASCII_SPACE);
     }
 
     /**
@@ -923,7 +981,7 @@ public class CharHelper {
      * @return {@code true} if the character is an ASCII alphabetic character or whitespace, {@code false} otherwise
      */
     public static boolean isAsciiAlphaOrWhitespace(int c) {
-        return isAsciiAlpha(c) || isAsciiWhitespace(c);
+        return CharProperties.is(c, CharProperties.ASCII_ALPHA | CharProperties.ASCII_WHITESPACE);
     }
 
     /**
@@ -945,7 +1003,7 @@ public class CharHelper {
      * @return {@code true} if the character is an ASCII alphanumeric character, {@code false} otherwise
      */
     public static boolean isAsciiAlphanumeric(int c) {
-        return isAsciiAlpha(c) || isAsciiNumeric(c);
+        return CharProperties.is(c, CharProperties.ASCII_ALPHANUMERIC);
     }
 
     /**
@@ -969,7 +1027,7 @@ public class CharHelper {
      * @return {@code true} if the character is an ASCII alphanumeric character or a space, {@code false} otherwise
      */
     public static boolean isAsciiAlphanumericOrSpace(int c) {
-        return isAsciiAlphanumeric(c) || isAsciiSpace(c);
+        return CharProperties.is(c, CharProperties.ASCII_ALPHANUMERIC | CharProperties.ASCII_SPACE);
     }
 
     /**
@@ -991,7 +1049,7 @@ public class CharHelper {
      * @return {@code true} if the character is an ASCII alphanumeric character or whitespace, {@code false} otherwise
      */
     public static boolean isAsciiAlphanumericOrWhitespace(int c) {
-        return isAsciiAlphanumeric(c) || isAsciiWhitespace(c);
+        return CharProperties.is(c, CharProperties.ASCII_ALPHANUMERIC | CharProperties.ASCII_WHITESPACE);
     }
 
     /**
@@ -1005,4 +1063,15 @@ public class CharHelper {
         value = IntegerHelper.defaultByMin(value, 0);
         return Integer.toHexString(value % 16).charAt(0);
     }
+
+    /**
+     * Strips the accents from a character outside the Latin blocks covered by {@link AccentFolding}.
+     * Unlike the folding table, the result may be empty (for standalone combining marks) or longer than one character.
+     *
+     * @param c the code point from which to strip accents, which must be valid
+     * @return the unaccented form of {@code c}
+     */
+    private static String stripAccents(int c) {
+        return StringHelper.stripAccents(Character.toString(c));
+    }
 }
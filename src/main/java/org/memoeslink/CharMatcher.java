@@ -0,0 +1,244 @@
+package org.memoeslink;
+
+import java.util.function.IntPredicate;
+
+/**
+ * An immutable matcher of characters in the Basic Multilingual Plane, precompiled into a bitset
+ * of 65536 bits. Combining matchers produces a new bitset, so a matcher built from several
+ * predicates still answers with a single table lookup.
+ */
+public final class CharMatcher implements CharPredicate {
+    private static final int WORDS = (Character.MAX_VALUE + 1) >>> 6;
+    public static final CharMatcher NONE = new CharMatcher(new long[WORDS]);
+    public static final CharMatcher ANY = NONE.negate();
+    public static final CharMatcher CONSONANTS = anyOf(CharHelper.CONSONANTS);
+    public static final CharMatcher VOWELS = anyOf(CharHelper.VOWELS);
+    public static final CharMatcher GLOBAL_LETTERS = anyOf(CharHelper.GLOBAL_LETTERS);
+    public static final CharMatcher NON_CLUSTER_CONSONANTS = anyOf(CharHelper.NON_CLUSTER_CONSONANTS);
+    private final long[] bits;
+
+    private CharMatcher(long[] bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * Creates a matcher for a single character.
+     *
+     * @param c the character to match
+     * @return a matcher that only matches {@code c}
+     */
+    public static CharMatcher is(char c) {
+        long[] bits = new long[WORDS];
+        bits[c >>> 6] |= 1L << c;
+        return new CharMatcher(bits);
+    }
+
+    /**
+     * Creates a matcher for any of the given characters.
+     *
+     * @param chars the characters to match
+     * @return a matcher for the characters of {@code chars}, or {@link #NONE} if {@code chars} is {@code null} or empty
+     */
+    public static CharMatcher anyOf(CharSequence chars) {
+        if (chars == null || chars.length() == 0) return NONE;
+        long[] bits = new long[WORDS];
+
+        for (int i = 0; i < chars.length(); i++) {
+            char c = chars.charAt(i);
+            bits[c >>> 6] |= 1L << c;
+        }
+        return new CharMatcher(bits);
+    }
+
+    /**
+     * Creates a matcher for every character in the given inclusive range.
+     *
+     * @param start the first character of the range
+     * @param end   the last character of the range
+     * @return a matcher for the characters from {@code start} to {@code end}, or {@link #NONE} if {@code start > end}
+     */
+    public static CharMatcher inRange(char start, char end) {
+        if (start > end) return NONE;
+        long[] bits = new long[WORDS];
+
+        for (int c = start; c <= end; c++) {
+            bits[c >>> 6] |= 1L << c;
+        }
+        return new CharMatcher(bits);
+    }
+
+    /**
+     * Creates a matcher by evaluating the given predicate, such as {@code CharHelper::isLetter},
+     * once for every character of the Basic Multilingual Plane.
+     *
+     * @param predicate the predicate to precompute
+     * @return a matcher for the characters accepted by {@code predicate}
+     */
+    public static CharMatcher forPredicate(IntPredicate predicate) {
+        long[] bits = new long[WORDS];
+
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            if (predicate.test(c)) bits[c >>> 6] |= 1L << c;
+        }
+        return new CharMatcher(bits);
+    }
+
+    /**
+     * Returns a matcher for the characters matched by both this matcher and the given one.
+     *
+     * @param other the matcher to combine with
+     * @return the intersection of both matchers
+     */
+    public CharMatcher and(CharMatcher other) {
+        long[] combined = new long[WORDS];
+
+        for (int i = 0; i < WORDS; i++) {
+            combined[i] = bits[i] & other.bits[i];
+        }
+        return new CharMatcher(combined);
+    }
+
+    /**
+     * Returns a matcher for the characters matched by either this matcher or the given one.
+     *
+     * @param other the matcher to combine with
+     * @return the union of both matchers
+     */
+    public CharMatcher or(CharMatcher other) {
+        long[] combined = new long[WORDS];
+
+        for (int i = 0; i < WORDS; i++) {
+            combined[i] = bits[i] | other.bits[i];
+        }
+        return new CharMatcher(combined);
+    }
+
+    /**
+     * Returns a matcher for the characters not matched by this matcher.
+     *
+     * @return the complement of this matcher
+     */
+    @Override
+    public CharMatcher negate() {
+        long[] combined = new long[WORDS];
+
+        for (int i = 0; i < WORDS; i++) {
+            combined[i] = ~bits[i];
+        }
+        return new CharMatcher(combined);
+    }
+
+    /**
+     * Checks if the given character is matched by this matcher.
+     *
+     * @param c the character to check
+     * @return {@code true} if {@code c} matches, otherwise {@code false}
+     */
+    public boolean matches(char c) {
+        return (bits[c >>> 6] & (1L << c)) != 0;
+    }
+
+    @Override
+    public boolean test(char c) {
+        return matches(c);
+    }
+
+    /**
+     * Returns the index of the first matching character in the given sequence.
+     *
+     * @param s the sequence to search
+     * @return the index of the first matching character, or -1 if there is none
+     */
+    public int indexIn(CharSequence s) {
+        return indexIn(s, 0);
+    }
+
+    /**
+     * Returns the index of the first matching character in the given sequence, starting at the specified index.
+     *
+     * @param s     the sequence to search
+     * @param start the index to start the search from
+     * @return the index of the first matching character at or after {@code start}, or -1 if there is none
+     */
+    public int indexIn(CharSequence s, int start) {
+        if (s == null) return -1;
+
+        for (int i = Math.max(start, 0); i < s.length(); i++) {
+            if (matches(s.charAt(i))) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Counts the matching characters in the given sequence.
+     *
+     * @param s the sequence to analyze
+     * @return the number of matching characters, or 0 if {@code s} is {@code null}
+     */
+    public int countIn(CharSequence s) {
+        if (s == null) return 0;
+        int count = 0;
+
+        for (int i = 0; i < s.length(); i++) {
+            if (matches(s.charAt(i))) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns a string containing only the matching characters of the given string.
+     *
+     * @param s the string to filter
+     * @return the string with only the matching characters, or {@code s} itself if every character matches
+     */
+    public String retainFrom(String s) {
+        return filter(s, true);
+    }
+
+    /**
+     * Returns a string with all the matching characters of the given string removed.
+     *
+     * @param s the string to filter
+     * @return the string without the matching characters, or {@code s} itself if no character matches
+     */
+    public String removeFrom(String s) {
+        return filter(s, false);
+    }
+
+    /**
+     * Returns a string with the matching characters removed from both ends of the given string.
+     *
+     * @param s the string to trim
+     * @return the trimmed string, or {@code s} itself if neither end matches
+     */
+    public String trimFrom(String s) {
+        if (StringHelper.isNullOrEmpty(s)) return s;
+        int start = 0;
+        int end = s.length();
+
+        while (start < end && matches(s.charAt(start))) {
+            start++;
+        }
+
+        while (end > start && matches(s.charAt(end - 1))) {
+            end--;
+        }
+        return s.substring(start, end);
+    }
+
+    private String filter(String s, boolean retain) {
+        if (StringHelper.isNullOrEmpty(s)) return s;
+        int count = countIn(s);
+        int length = retain ? count : s.length() - count;
+
+        if (length == s.length()) return s;
+        StringBuilder sb = new StringBuilder(length);
+
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+
+            if (matches(c) == retain) sb.append(c);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,46 @@
+package org.memoeslink;
+
+/**
+ * A predicate of a single {@code char}, the primitive counterpart of {@code Predicate<Character>},
+ * so that characters are tested without being boxed.
+ */
+@FunctionalInterface
+public interface CharPredicate {
+
+    /**
+     * Evaluates this predicate on the given character.
+     *
+     * @param c the character to test
+     * @return {@code true} if {@code c} matches the predicate, otherwise {@code false}
+     */
+    boolean test(char c);
+
+    /**
+     * Returns a predicate that represents the logical negation of this predicate.
+     *
+     * @return a predicate that matches the characters this predicate does not match
+     */
+    default CharPredicate negate() {
+        return c -> !test(c);
+    }
+
+    /**
+     * Returns a predicate that represents the short-circuiting logical AND of this predicate and another.
+     *
+     * @param other the predicate to combine with
+     * @return a predicate that matches the characters matched by both predicates
+     */
+    default CharPredicate and(CharPredicate other) {
+        return c -> test(c) && other.test(c);
+    }
+
+    /**
+     * Returns a predicate that represents the short-circuiting logical OR of this predicate and another.
+     *
+     * @param other the predicate to combine with
+     * @return a predicate that matches the characters matched by either predicate
+     */
+    default CharPredicate or(CharPredicate other) {
+        return c -> test(c) || other.test(c);
+    }
+}
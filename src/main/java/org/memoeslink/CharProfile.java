@@ -0,0 +1,405 @@
+package org.memoeslink;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * The number of characters of every category counted by {@link StringFilter}, filled in a single pass.
+ * Each char is looked up once in the property table and runs of chars with the same properties are
+ * added to the counters together. A profile can be reset and reused, and profiles of separate chunks
+ * can be merged. As in {@link StringFilter}, each UTF-16 char is counted on its own.
+ */
+public final class CharProfile {
+    private static final int WHITESPACES = 0;
+    private static final int ZERO_WIDTH_CHARS = 1;
+    private static final int LETTERS = 2;
+    private static final int LOWERCASE = 3;
+    private static final int UPPERCASE = 4;
+    private static final int DIGITS = 5;
+    private static final int LETTERS_OR_WHITESPACES = 6;
+    private static final int LETTERS_OR_DIGITS = 7;
+    private static final int LETTERS_DIGITS_OR_WHITESPACES = 8;
+    private static final int ALPHABETIC = 9;
+    private static final int ALPHABETIC_OR_WHITESPACES = 10;
+    private static final int ALPHABETIC_OR_DIGITS = 11;
+    private static final int ALPHANUMERIC_OR_WHITESPACES = 12;
+    private static final int ASCII = 13;
+    private static final int ASCII_SPACE = 14;
+    private static final int ASCII_WHITESPACE = 15;
+    private static final int ASCII_ALPHA = 16;
+    private static final int ASCII_ALPHA_LOWER = 17;
+    private static final int ASCII_ALPHA_UPPER = 18;
+    private static final int ASCII_NUMERIC = 19;
+    private static final int ASCII_ALPHANUMERIC = 20;
+    private static final int ASCII_ALPHANUMERIC_OR_SPACES = 21;
+    private static final int ASCII_ALPHANUMERIC_OR_WHITESPACES = 22;
+    private static final int ASCII_ALPHA_OR_SPACES = 23;
+    private static final int ASCII_ALPHA_OR_WHITESPACES = 24;
+    private static final int[] MASKS = {
+            CharProperties.WHITESPACE,
+            CharProperties.ZERO_WIDTH,
+            CharProperties.LETTER,
+            CharProperties.LOWERCASE,
+            CharProperties.UPPERCASE,
+            CharProperties.DIGIT,
+            CharProperties.LETTER | CharProperties.WHITESPACE,
+            CharProperties.LETTER | CharProperties.DIGIT,
+            CharProperties.LETTER | CharProperties.DIGIT | CharProperties.WHITESPACE,
+            CharProperties.ALPHABETIC,
+            CharProperties.ALPHABETIC | CharProperties.WHITESPACE,
+            CharProperties.ALPHABETIC | CharProperties.DIGIT,
+            CharProperties.ALPHABETIC | CharProperties.DIGIT | CharProperties.WHITESPACE,
+            CharProperties.ASCII,
+            CharProperties.ASCII_SPACE,
+            CharProperties.ASCII_WHITESPACE,
+            CharProperties.ASCII_ALPHA,
+            CharProperties.ASCII_ALPHA_LOWER,
+            CharProperties.ASCII_ALPHA_UPPER,
+            CharProperties.ASCII_NUMERIC,
+            CharProperties.ASCII_ALPHANUMERIC,
+            CharProperties.ASCII_ALPHANUMERIC | CharProperties.ASCII_SPACE,
+            CharProperties.ASCII_ALPHANUMERIC | CharProperties.ASCII_WHITESPACE,
+            CharProperties.ASCII_ALPHA | CharProperties.ASCII_SPACE,
+            CharProperties.ASCII_ALPHA | CharProperties.ASCII_WHITESPACE
+    };
+    private final long[] counts = new long[MASKS.length];
+    private long length;
+
+    /**
+     * Creates an empty profile.
+     */
+    public CharProfile() {
+    }
+
+    /**
+     * Computes the profile of the given sequence.
+     *
+     * @param s the sequence to analyze
+     * @return the profile of {@code s}, which is empty if {@code s} is {@code null}
+     */
+    public static CharProfile of(CharSequence s) {
+        return new CharProfile().accumulate(s);
+    }
+
+    /**
+     * Adds the characters of the given sequence to this profile.
+     *
+     * @param s the sequence to analyze
+     * @return this profile
+     */
+    public CharProfile accumulate(CharSequence s) {
+        return s == null ? this : accumulate(s, 0, s.length());
+    }
+
+    /**
+     * Adds the characters of a range of the given sequence to this profile.
+     *
+     * @param s     the sequence to analyze
+     * @param start the index of the first char of the range
+     * @param end   the index after the last char of the range
+     * @return this profile
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the sequence
+     */
+    public CharProfile accumulate(CharSequence s, int start, int end) {
+        Objects.checkFromToIndex(start, end, s.length());
+        int runFlags = 0;
+        int run = 0;
+
+        for (int i = start; i < end; i++) {
+            int flags = CharProperties.of(s.charAt(i));
+
+            if (flags != runFlags) {
+                add(runFlags, run);
+                runFlags = flags;
+                run = 0;
+            }
+            run++;
+        }
+        add(runFlags, run);
+        length += end - start;
+        return this;
+    }
+
+    /**
+     * Adds the counts of another profile to this one, such as the profile of another chunk of the same text.
+     *
+     * @param other the profile to add
+     * @return this profile
+     */
+    public CharProfile merge(CharProfile other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        length += other.length;
+        return this;
+    }
+
+    /**
+     * Sets every count of this profile back to zero, so that it can be reused.
+     *
+     * @return this profile
+     */
+    public CharProfile reset() {
+        Arrays.fill(counts, 0);
+        length = 0;
+        return this;
+    }
+
+    private void add(int flags, int run) {
+        if (run == 0) return;
+
+        for (int i = 0; i < MASKS.length; i++) {
+            if ((flags & MASKS[i]) != 0) counts[i] += run;
+        }
+    }
+
+    /**
+     * Returns the number of chars profiled.
+     *
+     * @return the total number of chars
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * Returns the number of whitespace characters, as counted by {@link StringFilter#countWhitespaces(String)}.
+     *
+     * @return the count of whitespace characters
+     */
+    public long getWhitespaces() {
+        return counts[WHITESPACES];
+    }
+
+    /**
+     * Returns the number of zero-width characters, as counted by {@link StringFilter#countZeroWidthChars(String)}.
+     *
+     * @return the count of zero-width characters
+     */
+    public long getZeroWidthChars() {
+        return counts[ZERO_WIDTH_CHARS];
+    }
+
+    /**
+     * Returns the number of letters, as counted by {@link StringFilter#countLetters(String)}.
+     *
+     * @return the count of letters
+     */
+    public long getLetters() {
+        return counts[LETTERS];
+    }
+
+    /**
+     * Returns the number of lowercase characters, as counted by {@link StringFilter#countLowercase(String)}.
+     *
+     * @return the count of lowercase characters
+     */
+    public long getLowercase() {
+        return counts[LOWERCASE];
+    }
+
+    /**
+     * Returns the number of uppercase characters, as counted by {@link StringFilter#countUppercase(String)}.
+     *
+     * @return the count of uppercase characters
+     */
+    public long getUppercase() {
+        return counts[UPPERCASE];
+    }
+
+    /**
+     * Returns the number of digits, as counted by {@link StringFilter#countDigits(String)}.
+     *
+     * @return the count of digits
+     */
+    public long getDigits() {
+        return counts[DIGITS];
+    }
+
+    /**
+     * Returns the number of letters or whitespace characters, as counted by {@link StringFilter#countLettersOrWhitespaces(String)}.
+     *
+     * @return the count of letters or whitespace characters
+     */
+    public long getLettersOrWhitespaces() {
+        return counts[LETTERS_OR_WHITESPACES];
+    }
+
+    /**
+     * Returns the number of letters or digits, as counted by {@link StringFilter#countLettersOrDigits(String)}.
+     *
+     * @return the count of letters or digits
+     */
+    public long getLettersOrDigits() {
+        return counts[LETTERS_OR_DIGITS];
+    }
+
+    /**
+     * Returns the number of letters, digits or whitespace characters, as counted by {@link StringFilter#countLettersDigitsOrWhitespaces(String)}.
+     *
+     * @return the count of letters, digits or whitespace characters
+     */
+    public long getLettersDigitsOrWhitespaces() {
+        return counts[LETTERS_DIGITS_OR_WHITESPACES];
+    }
+
+    /**
+     * Returns the number of alphabetic characters, as counted by {@link StringFilter#countAlphabetic(String)}.
+     *
+     * @return the count of alphabetic characters
+     */
+    public long getAlphabetic() {
+        return counts[ALPHABETIC];
+    }
+
+    /**
+     * Returns the number of alphabetic or whitespace characters, as counted by {@link StringFilter#countAlphabeticOrWhitespaces(String)}.
+     *
+     * @return the count of alphabetic or whitespace characters
+     */
+    public long getAlphabeticOrWhitespaces() {
+        return counts[ALPHABETIC_OR_WHITESPACES];
+    }
+
+    /**
+     * Returns the number of alphabetic characters or digits, as counted by {@link StringFilter#countAlphabeticOrDigits(String)}.
+     *
+     * @return the count of alphabetic characters or digits
+     */
+    public long getAlphabeticOrDigits() {
+        return counts[ALPHABETIC_OR_DIGITS];
+    }
+
+    /**
+     * Returns the number of alphanumeric or whitespace characters, as counted by {@link StringFilter#countAlphanumericOrWhitespaces(String)}.
+     *
+     * @return the count of alphanumeric or whitespace characters
+     */
+    public long getAlphanumericOrWhitespaces() {
+        return counts[ALPHANUMERIC_OR_WHITESPACES];
+    }
+
+    /**
+     * Returns the number of special characters, that is, characters that are not letters, digits or whitespace,
+     * as counted by {@link StringFilter#countSpecialChars(String)}.
+     *
+     * @return the count of special characters
+     */
+    public long getSpecialChars() {
+        return length - counts[LETTERS_DIGITS_OR_WHITESPACES];
+    }
+
+    /**
+     * Returns the number of ASCII characters, as counted by {@link StringFilter#countAscii(String)}.
+     *
+     * @return the count of ASCII characters
+     */
+    public long getAscii() {
+        return counts[ASCII];
+    }
+
+    /**
+     * Returns the number of ASCII spaces (\u0020), as counted by {@link StringFilter#countAsciiSpace(String)}.
+     *
+     * @return the count of ASCII spaces (\u0020)
+     */
+    public long getAsciiSpace() {
+        return counts[ASCII_SPACE];
+    }
+
+    /**
+     * Returns the number of ASCII whitespaces, as counted by {@link StringFilter#countAsciiWhitespace(String)}.
+     *
+     * @return the count of ASCII whitespaces
+     */
+    public long getAsciiWhitespace() {
+        return counts[ASCII_WHITESPACE];
+    }
+
+    /**
+     * Returns the number of ASCII alphabetic characters (a-z, A-Z), as counted by {@link StringFilter#countAsciiAlpha(String)}.
+     *
+     * @return the count of ASCII alphabetic characters (a-z, A-Z)
+     */
+    public long getAsciiAlpha() {
+        return counts[ASCII_ALPHA];
+    }
+
+    /**
+     * Returns the number of ASCII lowercase alphabetic characters (a-z), as counted by {@link StringFilter#countAsciiAlphaLower(String)}.
+     *
+     * @return the count of ASCII lowercase alphabetic characters (a-z)
+     */
+    public long getAsciiAlphaLower() {
+        return counts[ASCII_ALPHA_LOWER];
+    }
+
+    /**
+     * Returns the number of ASCII uppercase alphabetic characters (A-Z), as counted by {@link StringFilter#countAsciiAlphaUpper(String)}.
+     *
+     * @return the count of ASCII uppercase alphabetic characters (A-Z)
+     */
+    public long getAsciiAlphaUpper() {
+        return counts[ASCII_ALPHA_UPPER];
+    }
+
+    /**
+     * Returns the number of ASCII numeric characters (0-9), as counted by {@link StringFilter#countAsciiNumeric(String)}.
+     *
+     * @return the count of ASCII numeric characters (0-9)
+     */
+    public long getAsciiNumeric() {
+        return counts[ASCII_NUMERIC];
+    }
+
+    /**
+     * Returns the number of ASCII alphanumeric characters (a-z, A-Z, 0-9), as counted by {@link StringFilter#countAsciiAlphanumeric(String)}.
+     *
+     * @return the count of ASCII alphanumeric characters (a-z, A-Z, 0-9)
+     */
+    public long getAsciiAlphanumeric() {
+        return counts[ASCII_ALPHANUMERIC];
+    }
+
+    /**
+     * Returns the number of ASCII alphanumeric characters (a-z, A-Z, 0-9) or spaces (\u0020), as counted by {@link StringFilter#countAsciiAlphanumericOrSpaces(String)}.
+     *
+     * @return the count of ASCII alphanumeric characters (a-z, A-Z, 0-9) or spaces (\u0020)
+     */
+    public long getAsciiAlphanumericOrSpaces() {
+        return counts[ASCII_ALPHANUMERIC_OR_SPACES];
+    }
+
+    /**
+     * Returns the number of ASCII alphanumeric characters (a-z, A-Z, 0-9) or whitespace characters, as counted by {@link StringFilter#countAsciiAlphanumericOrWhitespaces(String)}.
+     *
+     * @return the count of ASCII alphanumeric characters (a-z, A-Z, 0-9) or whitespace characters
+     */
+    public long getAsciiAlphanumericOrWhitespaces() {
+        return counts[ASCII_ALPHANUMERIC_OR_WHITESPACES];
+    }
+
+    /**
+     * Returns the number of ASCII alphabetic characters (a-z, A-Z) or spaces (\u0020), as counted by {@link StringFilter#countAsciiAlphaOrSpaces(String)}.
+     *
+     * @return the count of ASCII alphabetic characters (a-z, A-Z) or spaces (\u0020)
+     */
+    public long getAsciiAlphaOrSpaces() {
+        return counts[ASCII_ALPHA_OR_SPACES];
+    }
+
+    /**
+     * Returns the number of ASCII alphabetic characters (a-z, A-Z) or whitespace characters, as counted by {@link StringFilter#countAsciiAlphaOrWhitespaces(String)}.
+     *
+     * @return the count of ASCII alphabetic characters (a-z, A-Z) or whitespace characters
+     */
+    public long getAsciiAlphaOrWhitespaces() {
+        return counts[ASCII_ALPHA_OR_WHITESPACES];
+    }
+
+    @Override
+    public String toString() {
+        return "CharProfile{length=" + length + ", letters=" + getLetters() + ", digits=" + getDigits() +
+                ", whitespaces=" + getWhitespaces() + ", specialChars=" + getSpecialChars() + ", ascii=" + getAscii() + "}";
+    }
+}
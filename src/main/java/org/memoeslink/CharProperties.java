@@ -0,0 +1,156 @@
+package org.memoeslink;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class CharProperties {
+    static final int SPACE = 1;
+    static final int WHITESPACE = 1 << 1;
+    static final int ZERO_WIDTH = 1 << 2;
+    static final int LETTER = 1 << 3;
+    static final int LOWERCASE = 1 << 4;
+    static final int UPPERCASE = 1 << 5;
+    static final int DIGIT = 1 << 6;
+    static final int ALPHABETIC = 1 << 7;
+    static final int DIACRITIC = 1 << 8;
+    static final int DELIMITER = 1 << 9;
+    static final int UNACCENTED_CONSONANT = 1 << 10;
+    static final int UNACCENTED_VOWEL = 1 << 11;
+    static final int NON_CLUSTER_CONSONANT = 1 << 12;
+    static final int ASCII = 1 << 13;
+    static final int ASCII_SPACE = 1 << 14;
+    static final int ASCII_WHITESPACE = 1 << 15;
+    static final int ASCII_ALPHA_LOWER = 1 << 16;
+    static final int ASCII_ALPHA_UPPER = 1 << 17;
+    static final int ASCII_NUMERIC = 1 << 18;
+    static final int ASCII_ALPHA = ASCII_ALPHA_LOWER | ASCII_ALPHA_UPPER;
+    static final int ASCII_ALPHANUMERIC = ASCII_ALPHA | ASCII_NUMERIC;
+    private static final int[] ZERO_WIDTH_CHARS = {0x200B, 0x200C, 0x200D, 0x2060, 0xFEFF};
+    private static final int BLOCK_SHIFT = 8;
+    private static final int BLOCK_MASK = (1 << BLOCK_SHIFT) - 1;
+    private static final Block[] BLOCKS = new Block[(Character.MAX_CODE_POINT >>> BLOCK_SHIFT) + 1];
+    private static final Map<IntBuffer, Block> UNIQUE_BLOCKS = new ConcurrentHashMap<>();
+
+    private CharProperties() {
+    }
+
+    /**
+     * Returns the property flags of the given character.
+     * Valid code points are resolved through a two-stage table: a block index over the whole
+     * Unicode range that points to shared blocks of 256 flags, each one computed the first time
+     * any of its code points is looked up. Any other value is computed on demand.
+     *
+     * @param c the character to look up
+     * @return the property flags of {@code c}
+     */
+    static int of(int c) {
+        int index = c >>> BLOCK_SHIFT;
+
+        if (index >= BLOCKS.length) return compute(c);
+        Block block = BLOCKS[index];
+
+        if (block == null) block = load(index);
+        return block.flags[c & BLOCK_MASK];
+    }
+
+    /**
+     * Checks if the given character has any of the properties in the specified mask.
+     *
+     * @param c    the character to check
+     * @param mask the property flags to test
+     * @return {@code true} if {@code c} has at least one of the properties in {@code mask}, otherwise {@code false}
+     */
+    static boolean is(int c, int mask) {
+        return (of(c) & mask) != 0;
+    }
+
+    /**
+     * Computes the flags of a block and publishes it in the block index, sharing the data
+     * of any identical block computed before.
+     *
+     * @param index the position of the block in the block index
+     * @return the block at {@code index}
+     */
+    private static Block load(int index) {
+        int[] flags = new int[BLOCK_MASK + 1];
+        int start = index << BLOCK_SHIFT;
+
+        for (int i = 0; i < flags.length; i++) {
+            flags[i] = compute(start + i);
+        }
+        Block block = new Block(flags);
+        Block shared = UNIQUE_BLOCKS.putIfAbsent(IntBuffer.wrap(flags), block);
+
+        if (shared != null) block = shared;
+        BLOCKS[index] = block;
+        return block;
+    }
+
+    /**
+     * Computes the property flags of the given character from the pinned Unicode data.
+     *
+     * @param c the character to compute the flags for
+     * @return the property flags of {@code c}
+     */
+    private static int compute(int c) {
+        int flags = 0;
+
+        if (c == ' ' || UnicodeCharacter.isSpaceChar(c)) flags |= SPACE;
+
+        if (UnicodeCharacter.isWhitespace(c)) flags |= WHITESPACE | DELIMITER;
+
+        if (Arrays.binarySearch(ZERO_WIDTH_CHARS, c) >= 0) flags |= ZERO_WIDTH;
+
+        if (UnicodeCharacter.isLetter(c)) flags |= LETTER;
+
+        if (UnicodeCharacter.isLowerCase(c)) flags |= LOWERCASE;
+
+        if (UnicodeCharacter.isUpperCase(c)) flags |= UPPERCASE;
+
+        if (UnicodeCharacter.isDigit(c)) flags |= DIGIT;
+
+        if (UnicodeCharacter.isAlphabetic(c)) flags |= ALPHABETIC;
+
+        if (c != CharHelper.NULL_CHAR) {
+            int type = UnicodeCharacter.getType(c);
+
+            if (type == Character.MODIFIER_SYMBOL || type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK || type == Character.ENCLOSING_MARK)
+                flags |= DIACRITIC;
+        }
+
+        if (c == '_' || c == '-') flags |= DELIMITER;
+
+        if (CharHelper.CONSONANTS.indexOf(c) != -1) flags |= UNACCENTED_CONSONANT;
+
+        if (CharHelper.VOWELS.indexOf(c) != -1) flags |= UNACCENTED_VOWEL;
+
+        if (CharHelper.NON_CLUSTER_CONSONANTS.indexOf(c) != -1) flags |= NON_CLUSTER_CONSONANT;
+
+        if (c <= 127) flags |= ASCII;
+
+        if (c == 32) flags |= ASCII_SPACE | ASCII_WHITESPACE;
+
+        if (c >= 9 && c <= 13) flags |= ASCII_WHITESPACE;
+
+        if (c >= 'a' && c <= 'z') flags |= ASCII_ALPHA_LOWER;
+
+        if (c >= 'A' && c <= 'Z') flags |= ASCII_ALPHA_UPPER;
+
+        if (c >= '0' && c <= '9') flags |= ASCII_NUMERIC;
+        return flags;
+    }
+
+    /**
+     * An immutable block of property flags. The flags are held in a final field so that a block
+     * published without synchronization is always seen fully initialized.
+     */
+    private static final class Block {
+        private final int[] flags;
+
+        private Block(int[] flags) {
+            this.flags = flags;
+        }
+    }
+}
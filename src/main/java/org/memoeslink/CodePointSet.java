@@ -0,0 +1,185 @@
+package org.memoeslink;
+
+import java.util.Arrays;
+
+/**
+ * An immutable set of Unicode code points backed by a bitset that spans from its lowest
+ * to its highest code point, so that membership checks neither allocate nor box.
+ */
+public final class CodePointSet {
+    public static final CodePointSet EMPTY = new CodePointSet(0, -1, new long[0]);
+    private final int min;
+    private final int max;
+    private final long[] bits;
+
+    private CodePointSet(int min, int max, long[] bits) {
+        this.min = min;
+        this.max = max;
+        this.bits = bits;
+    }
+
+    /**
+     * Creates a set containing every code point of the given characters.
+     *
+     * @param chars the characters to include, which may contain supplementary code points
+     * @return a set with the code points of {@code chars}, or {@link #EMPTY} if {@code chars} is {@code null} or empty
+     */
+    public static CodePointSet of(CharSequence chars) {
+        if (chars == null || chars.length() == 0) return EMPTY;
+        int[] codePoints = new int[chars.length()];
+        int count = 0;
+
+        for (int i = 0; i < chars.length(); ) {
+            int codePoint = Character.codePointAt(chars, i);
+            codePoints[count++] = codePoint;
+            i += Character.charCount(codePoint);
+        }
+        return of(Arrays.copyOf(codePoints, count));
+    }
+
+    /**
+     * Creates a set containing the given code points.
+     *
+     * @param codePoints the code points to include
+     * @return a set with the given code points, or {@link #EMPTY} if no code points were given
+     * @throws IllegalArgumentException if any of the values is not a valid code point
+     */
+    public static CodePointSet of(int... codePoints) {
+        if (codePoints == null || codePoints.length == 0) return EMPTY;
+        int min = Character.MAX_CODE_POINT;
+        int max = Character.MIN_CODE_POINT;
+
+        for (int codePoint : codePoints) {
+            if (!Character.isValidCodePoint(codePoint))
+                throw new IllegalArgumentException("Invalid code point: " + codePoint);
+            min = Math.min(min, codePoint);
+            max = Math.max(max, codePoint);
+        }
+        long[] bits = new long[((max - min) >>> 6) + 1];
+
+        for (int codePoint : codePoints) {
+            int index = codePoint - min;
+            bits[index >>> 6] |= 1L << index;
+        }
+        return new CodePointSet(min, max, bits);
+    }
+
+    /**
+     * Creates a set containing every code point in the given inclusive range.
+     *
+     * @param start the first code point of the range
+     * @param end   the last code point of the range
+     * @return a set with the code points from {@code start} to {@code end}, or {@link #EMPTY} if {@code start > end}
+     * @throws IllegalArgumentException if any of the bounds is not a valid code point
+     */
+    public static CodePointSet ofRange(int start, int end) {
+        if (!Character.isValidCodePoint(start) || !Character.isValidCodePoint(end))
+            throw new IllegalArgumentException("Invalid code point range: " + start + "-" + end);
+
+        if (start > end) return EMPTY;
+        long[] bits = new long[((end - start) >>> 6) + 1];
+        Arrays.fill(bits, -1L);
+        int remainder = (end - start + 1) & 63;
+
+        if (remainder != 0) bits[bits.length - 1] = (1L << remainder) - 1;
+        return new CodePointSet(start, end, bits);
+    }
+
+    /**
+     * Checks if the given code point belongs to this set.
+     *
+     * @param codePoint the code point to check
+     * @return {@code true} if {@code codePoint} is in this set, otherwise {@code false}
+     */
+    public boolean contains(int codePoint) {
+        if (codePoint < min || codePoint > max) return false;
+        int index = codePoint - min;
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns a set containing the code points of both this set and the given one.
+     *
+     * @param other the set to combine with
+     * @return the union of both sets
+     */
+    public CodePointSet union(CodePointSet other) {
+        if (other == null || other.isEmpty()) return this;
+
+        if (isEmpty()) return other;
+        int unionMin = Math.min(min, other.min);
+        int unionMax = Math.max(max, other.max);
+        long[] unionBits = new long[((unionMax - unionMin) >>> 6) + 1];
+        copyInto(unionBits, unionMin);
+        other.copyInto(unionBits, unionMin);
+        return new CodePointSet(unionMin, unionMax, unionBits);
+    }
+
+    /**
+     * Returns the number of code points in this set.
+     *
+     * @return the size of this set
+     */
+    public int size() {
+        int size = 0;
+
+        for (long word : bits) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    /**
+     * Checks if this set has no code points.
+     *
+     * @return {@code true} if this set is empty, otherwise {@code false}
+     */
+    public boolean isEmpty() {
+        return max < min;
+    }
+
+    /**
+     * Returns the code points of this set in ascending order.
+     *
+     * @return an array with the code points of this set
+     */
+    public int[] toArray() {
+        int[] codePoints = new int[size()];
+        int count = 0;
+
+        for (int i = 0; i < bits.length; i++) {
+            long word = bits[i];
+
+            while (word != 0) {
+                codePoints[count++] = min + (i << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return codePoints;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (!(o instanceof CodePointSet)) return false;
+        return Arrays.equals(toArray(), ((CodePointSet) o).toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return new String(toArray(), 0, size());
+    }
+
+    private void copyInto(long[] target, int targetMin) {
+        for (int codePoint : toArray()) {
+            int index = codePoint - targetMin;
+            target[index >>> 6] |= 1L << index;
+        }
+    }
+}
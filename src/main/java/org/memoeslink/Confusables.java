@@ -0,0 +1,135 @@
+package org.memoeslink;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A table of confusable characters and their prototypes, in the spirit of the UTS #39 skeleton mapping.
+ * It covers the homoglyphs most used in spoofing: Cyrillic, Greek and Armenian letters that look like
+ * Latin ones, digits and symbols that look like letters, dashes, and the fullwidth and mathematical
+ * alphanumeric forms, whose prototypes are derived from their compatibility decomposition.
+ */
+final class Confusables {
+    private static final String[] ASCII_PROTOTYPES = new String[0x80];
+    private static final int[] KEYS;
+    private static final String[] PROTOTYPES;
+
+    static {
+        Map<Integer, String> table = new TreeMap<>();
+        put(table, "1I|", "l");
+        put(table, "0", "O");
+        put(table, "m", "rn");
+        // Cyrillic
+        put(table, "а", "a");
+        put(table, "е", "e");
+        put(table, "о", "o");
+        put(table, "р", "p");
+        put(table, "с", "c");
+        put(table, "у", "y");
+        put(table, "х", "x");
+        put(table, "ѕ", "s");
+        put(table, "і", "i");
+        put(table, "ј", "j");
+        put(table, "һ", "h");
+        put(table, "ԁ", "d");
+        put(table, "ԛ", "q");
+        put(table, "ԝ", "w");
+        put(table, "ӏІӀ", "l");
+        put(table, "А", "A");
+        put(table, "В", "B");
+        put(table, "Е", "E");
+        put(table, "К", "K");
+        put(table, "М", "M");
+        put(table, "Н", "H");
+        put(table, "ОՕ", "O");
+        put(table, "Р", "P");
+        put(table, "С", "C");
+        put(table, "Т", "T");
+        put(table, "У", "Y");
+        put(table, "Х", "X");
+        put(table, "Ѕ", "S");
+        put(table, "Ј", "J");
+        // Greek
+        put(table, "Α", "A");
+        put(table, "Β", "B");
+        put(table, "Ε", "E");
+        put(table, "Ζ", "Z");
+        put(table, "Η", "H");
+        put(table, "Ι", "l");
+        put(table, "Κ", "K");
+        put(table, "Μ", "M");
+        put(table, "Ν", "N");
+        put(table, "Ο", "O");
+        put(table, "Ρ", "P");
+        put(table, "Τ", "T");
+        put(table, "Υ", "Y");
+        put(table, "Χ", "X");
+        put(table, "αɑ", "a");
+        put(table, "ιı", "i");
+        put(table, "νѵ", "v");
+        put(table, "οσօ", "o");
+        put(table, "ρ", "p");
+        put(table, "υս", "u");
+        // Armenian and Latin letters
+        put(table, "հ", "h");
+        put(table, "ո", "n");
+        put(table, "ɡ", "g");
+        // Dashes and minus signs
+        put(table, "‐‑‒–—―−", "-");
+
+        // Fullwidth forms and mathematical alphanumeric symbols
+        putCompatibilityForms(table, 0xFF01, 0xFF5E);
+        putCompatibilityForms(table, 0x1D400, 0x1D7FF);
+        KEYS = new int[table.size()];
+        PROTOTYPES = new String[table.size()];
+        int i = 0;
+
+        for (Map.Entry<Integer, String> entry : table.entrySet()) {
+            KEYS[i] = entry.getKey();
+            PROTOTYPES[i] = entry.getValue();
+
+            if (KEYS[i] < ASCII_PROTOTYPES.length) ASCII_PROTOTYPES[KEYS[i]] = PROTOTYPES[i];
+            i++;
+        }
+    }
+
+    private Confusables() {
+    }
+
+    /**
+     * Returns the prototype of the given character, that is, the string its confusables are folded to.
+     *
+     * @param c the character to look up
+     * @return the prototype of {@code c}, or {@code null} if {@code c} is its own prototype
+     */
+    static String prototype(int c) {
+        if (c < 0) return null;
+
+        if (c < ASCII_PROTOTYPES.length) return ASCII_PROTOTYPES[c];
+        int index = Arrays.binarySearch(KEYS, c);
+        return index >= 0 ? PROTOTYPES[index] : null;
+    }
+
+    private static void put(Map<Integer, String> table, String confusables, String prototype) {
+        confusables.codePoints().forEach(c -> table.put(c, prototype));
+    }
+
+    /**
+     * Adds the characters of a range whose compatibility decomposition is a single letter or digit,
+     * mapping them to the prototype of that letter or digit.
+     */
+    private static void putCompatibilityForms(Map<Integer, String> table, int start, int end) {
+        for (int c = start; c <= end; c++) {
+            if (!Character.isLetterOrDigit(c)) continue;
+            String decomposed = Normalizer.normalize(Character.toString(c), Normalizer.Form.NFKC);
+
+            if (decomposed.codePointCount(0, decomposed.length()) != 1) continue;
+            int base = decomposed.codePointAt(0);
+
+            if (base == c) continue;
+            table.put(c, table.getOrDefault(base, decomposed));
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package org.memoeslink;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * Counts and finds code points in UTF-8 files without decoding them into strings. The file is
+ * memory-mapped and decoded incrementally, testing each code point against every predicate in a
+ * single pass, such as {@code CharHelper::isZeroWidthChar} or {@code CharHelper::isAscii}. Malformed
+ * byte sequences are tested as {@link #REPLACEMENT_CHAR}, one per invalid lead byte or truncated sequence.
+ */
+public final class FileScanner {
+    public static final int REPLACEMENT_CHAR = 0xFFFD;
+    private static final int MAX_CHUNK_SIZE = 1 << 30;
+    private static final int MIN_PARALLEL_CHUNK_SIZE = 1 << 20;
+
+    private FileScanner() {
+    }
+
+    /**
+     * Counts the code points of a UTF-8 file that match the given predicate.
+     *
+     * @param path      the file to scan
+     * @param predicate a predicate to test each code point
+     * @return the number of matching code points
+     * @throws IOException if the file cannot be read
+     */
+    public static long count(Path path, IntPredicate predicate) throws IOException {
+        return count(path, new IntPredicate[]{predicate})[0];
+    }
+
+    /**
+     * Counts the code points of a UTF-8 file that match each of the given predicates, in a single pass.
+     *
+     * @param path       the file to scan
+     * @param predicates the predicates to test each code point
+     * @return the number of code points matching each predicate, in the same order
+     * @throws IOException if the file cannot be read
+     */
+    public static long[] count(Path path, IntPredicate... predicates) throws IOException {
+        return count(path, MAX_CHUNK_SIZE, false, predicates);
+    }
+
+    /**
+     * Counts the code points of a UTF-8 file that match each of the given predicates, scanning chunks
+     * of the file in parallel. Chunks start at code point boundaries, so the counts are the same as
+     * those of {@link #count(Path, IntPredicate...)}. The predicates must be safe to call from several threads.
+     *
+     * @param path       the file to scan
+     * @param predicates the predicates to test each code point
+     * @return the number of code points matching each predicate, in the same order
+     * @throws IOException if the file cannot be read
+     */
+    public static long[] countParallel(Path path, IntPredicate... predicates) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long chunkSize = Math.ceilDiv(channel.size(), Runtime.getRuntime().availableProcessors());
+            chunkSize = Math.min(MAX_CHUNK_SIZE, Math.max(MIN_PARALLEL_CHUNK_SIZE, chunkSize));
+            return count(channel, (int) chunkSize, true, predicates);
+        }
+    }
+
+    /**
+     * Checks if a UTF-8 file has at least one code point that matches the given predicate,
+     * stopping at the first match.
+     *
+     * @param path      the file to scan
+     * @param predicate a predicate to test each code point
+     * @return {@code true} if a code point matches, otherwise {@code false}
+     * @throws IOException if the file cannot be read
+     */
+    public static boolean has(Path path, IntPredicate predicate) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            for (ByteBuffer chunk : map(channel, MAX_CHUNK_SIZE)) {
+                if (walk(chunk, predicate)) return true;
+            }
+        }
+        return false;
+    }
+
+    static long[] count(Path path, int chunkSize, boolean parallel, IntPredicate... predicates) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return count(channel, chunkSize, parallel, predicates);
+        }
+    }
+
+    private static long[] count(FileChannel channel, int chunkSize, boolean parallel, IntPredicate[] predicates) throws IOException {
+        List<ByteBuffer> chunks = map(channel, chunkSize);
+
+        if (!parallel || chunks.size() < 2) {
+            long[] counts = new long[predicates.length];
+
+            for (ByteBuffer chunk : chunks) {
+                count(chunk, predicates, counts);
+            }
+            return counts;
+        }
+        return chunks.parallelStream()
+                .map(chunk -> count(chunk, predicates, new long[predicates.length]))
+                .reduce(new long[predicates.length], FileScanner::sum);
+    }
+
+    /**
+     * Maps a file into read-only chunks of at most the given size, moving each boundary forward
+     * past UTF-8 continuation bytes so that no chunk starts in the middle of a code point.
+     */
+    private static List<ByteBuffer> map(FileChannel channel, int chunkSize) throws IOException {
+        List<ByteBuffer> chunks = new ArrayList<>();
+        long size = channel.size();
+        long start = 0;
+
+        while (start < size) {
+            long end = Math.min(size, start + chunkSize - 3);
+
+            if (end < size) end = alignToCodePoint(channel, end);
+            chunks.add(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start));
+            start = end;
+        }
+        return chunks;
+    }
+
+    private static long alignToCodePoint(FileChannel channel, long position) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(3);
+        channel.read(bytes, position);
+
+        for (int i = 0; i < bytes.position() && isContinuation(bytes.get(i)); i++) {
+            position++;
+        }
+        return position;
+    }
+
+    private static long[] count(ByteBuffer chunk, IntPredicate[] predicates, long[] counts) {
+        walk(chunk, codePoint -> {
+            for (int p = 0; p < predicates.length; p++) {
+                if (predicates[p].test(codePoint)) counts[p]++;
+            }
+            return false;
+        });
+        return counts;
+    }
+
+    /**
+     * Decodes the code points of a chunk in order and passes each one to a visitor, which can stop the walk.
+     * This is the only place where the chunks are decoded, so every scan treats malformed sequences the same way.
+     *
+     * @param chunk   the bytes to decode
+     * @param visitor the visitor of each code point, which returns {@code true} to stop the walk
+     * @return {@code true} if the visitor stopped the walk, otherwise {@code false}
+     */
+    private static boolean walk(ByteBuffer chunk, IntPredicate visitor) {
+        int limit = chunk.limit();
+
+        for (int i = 0; i < limit; ) {
+            int b = chunk.get(i);
+            int codePoint;
+
+            if (b >= 0) {
+                codePoint = b;
+                i++;
+            } else {
+                long decoded = decode(chunk, i, limit);
+                codePoint = (int) decoded;
+                i += (int) (decoded >>> 32);
+            }
+
+            if (visitor.test(codePoint)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Decodes the multibyte sequence that starts at the given index.
+     *
+     * @param chunk the bytes to decode
+     * @param index the index of the lead byte
+     * @param limit the end of the bytes
+     * @return the code point in the low 32 bits, which is {@link #REPLACEMENT_CHAR} for a malformed sequence,
+     * and the number of bytes consumed in the high 32 bits
+     */
+    private static long decode(ByteBuffer chunk, int index, int limit) {
+        int lead = chunk.get(index) & 0xFF;
+        int continuations;
+        int codePoint;
+        int min;
+
+        if (lead >= 0xC2 && lead <= 0xDF) {
+            continuations = 1;
+            codePoint = lead & 0x1F;
+            min = 0x80;
+        } else if (lead >= 0xE0 && lead <= 0xEF) {
+            continuations = 2;
+            codePoint = lead & 0x0F;
+            min = 0x800;
+        } else if (lead >= 0xF0 && lead <= 0xF4) {
+            continuations = 3;
+            codePoint = lead & 0x07;
+            min = 0x10000;
+        } else {
+            return 1L << 32 | REPLACEMENT_CHAR;
+        }
+
+        for (int i = 1; i <= continuations; i++) {
+            if (index + i >= limit || !isContinuation(chunk.get(index + i))) return (long) i << 32 | REPLACEMENT_CHAR;
+            codePoint = codePoint << 6 | chunk.get(index + i) & 0x3F;
+        }
+
+        if (codePoint < min || codePoint > Character.MAX_CODE_POINT || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE))
+            codePoint = REPLACEMENT_CHAR;
+        return (long) (continuations + 1) << 32 | codePoint;
+    }
+
+    private static boolean isContinuation(byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+    private static long[] sum(long[] a, long[] b) {
+        long[] sum = new long[a.length];
+
+        for (int i = 0; i < a.length; i++) {
+            sum[i] = a[i] + b[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,130 @@
+package org.memoeslink;
+
+/**
+ * Segments text into extended grapheme clusters following the rules of UAX #29 for the Unicode version
+ * pinned in {@link CharHelper#UNICODE_VERSION}, so that emoji sequences joined by
+ * {@link ZeroWidthChar#ZERO_WIDTH_JOINER}, flags, Hangul syllables and characters with combining marks
+ * are kept together. Boundaries are found through lookup tables without allocating per cluster.
+ */
+public final class GraphemeSegmenter {
+    private static final int FAST_PATH_LIMIT = 0x0300; // Code points below always form clusters on their own, except CR LF
+    private static final int[] NO_BREAK = new int[UnicodeCharacter.GRAPHEME_EXTENDED_PICTOGRAPHIC + 1];
+
+    static {
+        for (int previous = 0; previous < NO_BREAK.length; previous++) {
+            for (int next = 0; next < NO_BREAK.length; next++) {
+                if (!isPairBoundary(previous, next)) NO_BREAK[previous] |= 1 << next;
+            }
+        }
+    }
+
+    private GraphemeSegmenter() {
+    }
+
+    /**
+     * Returns the end of the grapheme cluster that starts at the given index, which is treated as a boundary.
+     *
+     * @param s     the sequence to segment
+     * @param index the start of the cluster
+     * @return the index after the last char of the cluster, or the length of {@code s} if {@code index} is at or beyond the end
+     */
+    public static int next(CharSequence s, int index) {
+        int length = s.length();
+
+        if (index >= length) return length;
+        int c = Character.codePointAt(s, index);
+        int end = index + Character.charCount(c);
+
+        if (end == length) return end;
+        char following = s.charAt(end);
+
+        if (c < FAST_PATH_LIMIT && following < FAST_PATH_LIMIT)
+            return c == '\r' && following == '\n' ? end + 1 : end;
+        int previous = UnicodeCharacter.getGraphemeBreak(c);
+        boolean pictographic = previous == UnicodeCharacter.GRAPHEME_EXTENDED_PICTOGRAPHIC; // Extended_Pictographic Extend*
+        boolean pictographicJoiner = false; // Extended_Pictographic Extend* ZWJ
+        int regionalIndicators = previous == UnicodeCharacter.GRAPHEME_REGIONAL_INDICATOR ? 1 : 0;
+
+        while (end < length) {
+            int nextChar = Character.codePointAt(s, end);
+            int next = UnicodeCharacter.getGraphemeBreak(nextChar);
+
+            if (isBoundary(previous, next, pictographicJoiner, regionalIndicators)) break;
+            pictographicJoiner = pictographic && next == UnicodeCharacter.GRAPHEME_ZWJ;
+            pictographic = next == UnicodeCharacter.GRAPHEME_EXTENDED_PICTOGRAPHIC || (pictographic && next == UnicodeCharacter.GRAPHEME_EXTEND);
+            regionalIndicators = next == UnicodeCharacter.GRAPHEME_REGIONAL_INDICATOR ? regionalIndicators + 1 : 0;
+            previous = next;
+            end += Character.charCount(nextChar);
+        }
+        return end;
+    }
+
+    /**
+     * Counts the grapheme clusters of the given sequence.
+     *
+     * @param s the sequence to analyze
+     * @return the number of grapheme clusters, or 0 if {@code s} is {@code null}
+     */
+    public static int count(CharSequence s) {
+        if (s == null) return 0;
+        int count = 0;
+
+        for (int index = 0; index < s.length(); index = next(s, index)) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the index reached by advancing the given number of grapheme clusters from an index.
+     *
+     * @param s         the sequence to segment
+     * @param index     the index to start from, which is treated as a boundary
+     * @param graphemes the number of grapheme clusters to advance
+     * @return the index after the advanced clusters, or the length of {@code s} if it has fewer clusters
+     */
+    public static int offsetByGraphemes(CharSequence s, int index, int graphemes) {
+        for (int i = 0; i < graphemes && index < s.length(); i++) {
+            index = next(s, index);
+        }
+        return Math.min(index, s.length());
+    }
+
+    private static boolean isBoundary(int previous, int next, boolean pictographicJoiner, int regionalIndicators) {
+        if ((NO_BREAK[previous] & (1 << next)) != 0) return false;
+
+        if (previous == UnicodeCharacter.GRAPHEME_ZWJ && next == UnicodeCharacter.GRAPHEME_EXTENDED_PICTOGRAPHIC) return !pictographicJoiner; // GB11
+
+        if (previous == UnicodeCharacter.GRAPHEME_REGIONAL_INDICATOR && next == UnicodeCharacter.GRAPHEME_REGIONAL_INDICATOR)
+            return regionalIndicators % 2 == 0; // GB12, GB13
+        return true; // GB999
+    }
+
+    /**
+     * Applies the rules of UAX #29 that only depend on the pair of adjacent values.
+     *
+     * @param previous the grapheme break value before the position
+     * @param next     the grapheme break value after the position
+     * @return {@code true} if there is a boundary between both values, otherwise {@code false}
+     */
+    private static boolean isPairBoundary(int previous, int next) {
+        if (previous == UnicodeCharacter.GRAPHEME_CR && next == UnicodeCharacter.GRAPHEME_LF) return false; // GB3
+
+        if (previous == UnicodeCharacter.GRAPHEME_CONTROL || previous == UnicodeCharacter.GRAPHEME_CR || previous == UnicodeCharacter.GRAPHEME_LF) return true; // GB4
+
+        if (next == UnicodeCharacter.GRAPHEME_CONTROL || next == UnicodeCharacter.GRAPHEME_CR || next == UnicodeCharacter.GRAPHEME_LF) return true; // GB5
+
+        if (previous == UnicodeCharacter.GRAPHEME_L && (next == UnicodeCharacter.GRAPHEME_L || next == UnicodeCharacter.GRAPHEME_V || next == UnicodeCharacter.GRAPHEME_LV || next == UnicodeCharacter.GRAPHEME_LVT))
+            return false; // GB6
+
+        if ((previous == UnicodeCharacter.GRAPHEME_LV || previous == UnicodeCharacter.GRAPHEME_V) && (next == UnicodeCharacter.GRAPHEME_V || next == UnicodeCharacter.GRAPHEME_T))
+            return false; // GB7
+
+        if ((previous == UnicodeCharacter.GRAPHEME_LVT || previous == UnicodeCharacter.GRAPHEME_T) && next == UnicodeCharacter.GRAPHEME_T) return false; // GB8
+
+        if (next == UnicodeCharacter.GRAPHEME_EXTEND || next == UnicodeCharacter.GRAPHEME_ZWJ) return false; // GB9
+
+        if (next == UnicodeCharacter.GRAPHEME_SPACING_MARK) return false; // GB9a
+        return previous != UnicodeCharacter.GRAPHEME_PREPEND; // GB9b
+    }
+}
@@ -1,143 +1,127 @@
 package org.memoeslink;
 
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-public class RegexFilter {
-    public static final Pattern ALNUM_PATTERN = Pattern.compile(UnicodeCharCategory.ALNUM_REGEX);
-    public static final Pattern ALPHA_PATTERN = Pattern.compile(UnicodeCharCategory.ALPHA_REGEX);
-    public static final Pattern ASCII_PATTERN = Pattern.compile(UnicodeCharCategory.ASCII_REGEX);
-    public static final Pattern BLANK_PATTERN = Pattern.compile(UnicodeCharCategory.BLANK_REGEX);
-    public static final Pattern CNTRL_PATTERN = Pattern.compile(UnicodeCharCategory.CNTRL_REGEX);
-    public static final Pattern DIGIT_PATTERN = Pattern.compile(UnicodeCharCategory.DIGIT_REGEX);
-    public static final Pattern LOWER_PATTERN = Pattern.compile(UnicodeCharCategory.LOWER_REGEX);
-    public static final Pattern UPPER_PATTERN = Pattern.compile(UnicodeCharCategory.UPPER_REGEX);
-    public static final Pattern PUNCT_PATTERN = Pattern.compile(UnicodeCharCategory.PUNCT_REGEX);
-    public static final Pattern GRAPH_PATTERN = Pattern.compile(UnicodeCharCategory.GRAPH_REGEX);
-    public static final Pattern PRINT_PATTERN = Pattern.compile(UnicodeCharCategory.PRINT_REGEX);
-    public static final Pattern SPACE_PATTERN = Pattern.compile(UnicodeCharCategory.SPACE_REGEX);
-    public static final Pattern XDIGIT_PATTERN = Pattern.compile(UnicodeCharCategory.XDIGIT_REGEX);
-    public static final Pattern LETTER_PATTERN = Pattern.compile(UnicodeCharCategory.LETTER_REGEX);
-    public static final Pattern LOWERCASE_LETTER_PATTERN = Pattern.compile(UnicodeCharCategory.LOWERCASE_LETTER_REGEX);
-    public static final Pattern UPPERCASE_LETTER_PATTERN = Pattern.compile(UnicodeCharCategory.UPPERCASE_LETTER_REGEX);
-    public static final Pattern TITLECASE_LETTER_PATTERN = Pattern.compile(UnicodeCharCategory.TITLECASE_LETTER_REGEX);
-    public static final Pattern CASED_LETTER_PATTERN = Pattern.compile(UnicodeCharCategory.CASED_LETTER_REGEX);
-    public static final Pattern MODIFIER_LETTER_PATTERN = Pattern.compile(UnicodeCharCategory.MODIFIER_LETTER_REGEX);
-    public static final Pattern OTHER_LETTER_PATTERN = Pattern.compile(UnicodeCharCategory.OTHER_LETTER_REGEX);
-    public static final Pattern MARK_PATTERN = Pattern.compile(UnicodeCharCategory.MARK_REGEX);
-    public static final Pattern NON_SPACING_MARK_PATTERN = Pattern.compile(UnicodeCharCategory.NON_SPACING_MARK_REGEX);
-    public static final Pattern SPACING_COMBINING_MARK_PATTERN = Pattern.compile(UnicodeCharCategory.SPACING_COMBINING_MARK_REGEX);
-    public static final Pattern ENCLOSING_MARK_PATTERN = Pattern.compile(UnicodeCharCategory.ENCLOSING_MARK_REGEX);
-    public static final Pattern SEPARATOR_PATTERN = Pattern.compile(UnicodeCharCategory.SEPARATOR_REGEX);
-    public static final Pattern SPACE_SEPARATOR_PATTERN = Pattern.compile(UnicodeCharCategory.SPACE_SEPARATOR_REGEX);
-    public static final Pattern LINE_SEPARATOR_PATTERN = Pattern.compile(UnicodeCharCategory.LINE_SEPARATOR_REGEX);
-    public static final Pattern PARAGRAPH_SEPARATOR_PATTERN = Pattern.compile(UnicodeCharCategory.PARAGRAPH_SEPARATOR_REGEX);
-    public static final Pattern SYMBOL_PATTERN = Pattern.compile(UnicodeCharCategory.SYMBOL_REGEX);
-    public static final Pattern MATH_SYMBOL_PATTERN = Pattern.compile(UnicodeCharCategory.MATH_SYMBOL_REGEX);
-    public static final Pattern CURRENCY_SYMBOL_PATTERN = Pattern.compile(UnicodeCharCategory.CURRENCY_SYMBOL_REGEX);
-    public static final Pattern MODIFIER_SYMBOL_PATTERN = Pattern.compile(UnicodeCharCategory.MODIFIER_SYMBOL_REGEX);
-    public static final Pattern OTHER_SYMBOL_PATTERN = Pattern.compile(UnicodeCharCategory.OTHER_SYMBOL_REGEX);
-    public static final Pattern NUMBER_PATTERN = Pattern.compile(UnicodeCharCategory.NUMBER_REGEX);
-    public static final Pattern DECIMAL_DIGIT_NUMBER_PATTERN = Pattern.compile(UnicodeCharCategory.DECIMAL_DIGIT_NUMBER_REGEX);
-    public static final Pattern LETTER_NUMBER_PATTERN = Pattern.compile(UnicodeCharCategory.LETTER_NUMBER_REGEX);
-    public static final Pattern OTHER_NUMBER_PATTERN = Pattern.compile(UnicodeCharCategory.OTHER_NUMBER_REGEX);
-    public static final Pattern PUNCTUATION_PATTERN = Pattern.compile(UnicodeCharCategory.PUNCTUATION_REGEX);
-    public static final Pattern DASH_PUNCTUATION_PATTERN = Pattern.compile(UnicodeCharCategory.DASH_PUNCTUATION_REGEX);
-    public static final Pattern OPEN_PUNCTUATION_PATTERN = Pattern.compile(UnicodeCharCategory.OPEN_PUNCTUATION_REGEX);
-    public static final Pattern CLOSE_PUNCTUATION_PATTERN = Pattern.compile(UnicodeCharCategory.CLOSE_PUNCTUATION_REGEX);
-    public static final Pattern INITIAL_PUNCTUATION_PATTERN = Pattern.compile(UnicodeCharCategory.INITIAL_PUNCTUATION_REGEX);
-    public static final Pattern FINAL_PUNCTUATION_PATTERN = Pattern.compile(UnicodeCharCategory.FINAL_PUNCTUATION_REGEX);
-    public static final Pattern CONNECTOR_PUNCTUATION_PATTERN = Pattern.compile(UnicodeCharCategory.CONNECTOR_PUNCTUATION_REGEX);
-    public static final Pattern OTHER_PUNCTUATION_PATTERN = Pattern.compile(UnicodeCharCategory.OTHER_PUNCTUATION_REGEX);
-    public static final Pattern OTHER_PATTERN = Pattern.compile(UnicodeCharCategory.OTHER_REGEX);
-    public static final Pattern CONTROL_PATTERN = Pattern.compile(UnicodeCharCategory.CONTROL_REGEX);
-    public static final Pattern FORMAT_PATTERN = Pattern.compile(UnicodeCharCategory.FORMAT_REGEX);
-    public static final Pattern PRIVATE_USE_PATTERN = Pattern.compile(UnicodeCharCategory.PRIVATE_USE_REGEX);
-    public static final Pattern SURROGATE_PATTERN = Pattern.compile(UnicodeCharCategory.SURROGATE_REGEX);
-    public static final Pattern UNASSIGNED_PATTERN = Pattern.compile(UnicodeCharCategory.UNASSIGNED_REGEX);
-    public static final Pattern ZW_CHAR_PATTERN = Pattern.compile(UnicodeCharCategory.ZERO_WIDTH_CHAR_REGEX);
-    public static final Pattern DIACRITICAL_LETTER_PATTERN = Pattern.compile(UnicodeCharCategory.DIACRITICAL_LETTER_REGEX);
-    public static final Pattern DIACRITIC_PATTERN = Pattern.compile(UnicodeCharCategory.DIACRITIC_REGEX);
-    public static final Pattern ALNUM_SPACE_PATTERN = Pattern.compile("[" + UnicodeCharCategory.ALNUM_REGEX + UnicodeCharCategory.SPACE_REGEX + "]");
-    public static final Pattern ALPHANUMERIC_PATTERN = Pattern.compile("[" + UnicodeCharCategory.LETTER_REGEX + UnicodeCharCategory.DIGIT_REGEX + "]");
-    public static final Pattern ALPHANUMERIC_SPACE_PATTERN = Pattern.compile("[" + UnicodeCharCategory.LETTER_REGEX + UnicodeCharCategory.DIGIT_REGEX + UnicodeCharCategory.SPACE_REGEX + "]");
-    public static final Pattern EXCEPT_ALNUM_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_ALNUM_REGEX);
-    public static final Pattern EXCEPT_ALPHA_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_ALPHA_REGEX);
-    public static final Pattern EXCEPT_ASCII_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_ASCII_REGEX);
-    public static final Pattern EXCEPT_BLANK_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_BLANK_REGEX);
-    public static final Pattern EXCEPT_CNTRL_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_CNTRL_REGEX);
-    public static final Pattern EXCEPT_DIGIT_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_DIGIT_REGEX);
-    public static final Pattern EXCEPT_LOWER_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_LOWER_REGEX);
-    public static final Pattern EXCEPT_UPPER_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_UPPER_REGEX);
-    public static final Pattern EXCEPT_PUNCT_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_PUNCT_REGEX);
-    public static final Pattern EXCEPT_GRAPH_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_GRAPH_REGEX);
-    public static final Pattern EXCEPT_PRINT_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_PRINT_REGEX);
-    public static final Pattern EXCEPT_SPACE_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_SPACE_REGEX);
-    public static final Pattern EXCEPT_XDIGIT_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_XDIGIT_REGEX);
-    public static final Pattern EXCEPT_LETTER_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_LETTER_REGEX);
-    public static final Pattern EXCEPT_LOWERCASE_LETTER_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_LOWERCASE_LETTER_REGEX);
-    public static final Pattern EXCEPT_UPPERCASE_LETTER_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_UPPERCASE_LETTER_REGEX);
-    public static final Pattern EXCEPT_TITLECASE_LETTER_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_TITLECASE_LETTER_REGEX);
-    public static final Pattern EXCEPT_CASED_LETTER_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_CASED_LETTER_REGEX);
-    public static final Pattern EXCEPT_MODIFIER_LETTER_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_MODIFIER_LETTER_REGEX);
-    public static final Pattern EXCEPT_OTHER_LETTER_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_OTHER_LETTER_REGEX);
-    public static final Pattern EXCEPT_MARK_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_MARK_REGEX);
-    public static final Pattern EXCEPT_NON_SPACING_MARK_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_NON_SPACING_MARK_REGEX);
-    public static final Pattern EXCEPT_SPACING_COMBINING_MARK_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_SPACING_COMBINING_MARK_REGEX);
-    public static final Pattern EXCEPT_ENCLOSING_MARK_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_ENCLOSING_MARK_REGEX);
-    public static final Pattern EXCEPT_SEPARATOR_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_SEPARATOR_REGEX);
-    public static final Pattern EXCEPT_SPACE_SEPARATOR_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_SPACE_SEPARATOR_REGEX);
-    public static final Pattern EXCEPT_LINE_SEPARATOR_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_LINE_SEPARATOR_REGEX);
-    public static final Pattern EXCEPT_PARAGRAPH_SEPARATOR_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_PARAGRAPH_SEPARATOR_REGEX);
-    public static final Pattern EXCEPT_SYMBOL_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_SYMBOL_REGEX);
-    public static final Pattern EXCEPT_MATH_SYMBOL_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_MATH_SYMBOL_REGEX);
-    public static final Pattern EXCEPT_CURRENCY_SYMBOL_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_CURRENCY_SYMBOL_REGEX);
-    public static final Pattern EXCEPT_MODIFIER_SYMBOL_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_MODIFIER_SYMBOL_REGEX);
-    public static final Pattern EXCEPT_OTHER_SYMBOL_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_OTHER_SYMBOL_REGEX);
-    public static final Pattern EXCEPT_NUMBER_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_NUMBER_REGEX);
-    public static final Pattern EXCEPT_DECIMAL_DIGIT_NUMBER_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_DECIMAL_DIGIT_NUMBER_REGEX);
-    public static final Pattern EXCEPT_LETTER_NUMBER_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_LETTER_NUMBER_REGEX);
-    public static final Pattern EXCEPT_OTHER_NUMBER_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_OTHER_NUMBER_REGEX);
-    public static final Pattern EXCEPT_PUNCTUATION_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_PUNCTUATION_REGEX);
-    public static final Pattern EXCEPT_DASH_PUNCTUATION_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_DASH_PUNCTUATION_REGEX);
-    public static final Pattern EXCEPT_OPEN_PUNCTUATION_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_OPEN_PUNCTUATION_REGEX);
-    public static final Pattern EXCEPT_CLOSE_PUNCTUATION_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_CLOSE_PUNCTUATION_REGEX);
-    public static final Pattern EXCEPT_INITIAL_PUNCTUATION_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_INITIAL_PUNCTUATION_REGEX);
-    public static final Pattern EXCEPT_FINAL_PUNCTUATION_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_FINAL_PUNCTUATION_REGEX);
-    public static final Pattern EXCEPT_CONNECTOR_PUNCTUATION_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_CONNECTOR_PUNCTUATION_REGEX);
-    public static final Pattern EXCEPT_OTHER_PUNCTUATION_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_OTHER_PUNCTUATION_REGEX);
-    public static final Pattern EXCEPT_OTHER_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_OTHER_REGEX);
-    public static final Pattern EXCEPT_CONTROL_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_CONTROL_REGEX);
-    public static final Pattern EXCEPT_FORMAT_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_FORMAT_REGEX);
-    public static final Pattern EXCEPT_PRIVATE_USE_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_PRIVATE_USE_REGEX);
-    public static final Pattern EXCEPT_SURROGATE_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_SURROGATE_REGEX);
-    public static final Pattern EXCEPT_UNASSIGNED_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_UNASSIGNED_REGEX);
-    public static final Pattern EXCEPT_ZW_CHAR_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_ZERO_WIDTH_CHAR_REGEX);
-    public static final Pattern EXCEPT_DIACRITICAL_LETTER_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_DIACRITICAL_LETTER_REGEX);
-    public static final Pattern EXCEPT_ALNUM_SPACE_PATTERN = Pattern.compile("[^" + UnicodeCharCategory.ALNUM_REGEX + UnicodeCharCategory.SPACE_REGEX + "]");
-    public static final Pattern EXCEPT_ALPHANUMERIC_PATTERN = Pattern.compile("[^" + UnicodeCharCategory.LETTER_REGEX + UnicodeCharCategory.DIGIT_REGEX + "]");
-    public static final Pattern EXCEPT_ALPHANUMERIC_SPACE_PATTERN = Pattern.compile("[^" + UnicodeCharCategory.LETTER_REGEX + UnicodeCharCategory.DIGIT_REGEX + UnicodeCharCategory.SPACE_REGEX + "]");
-    public static final Pattern EXCEPT_DIACRITIC_PATTERN = Pattern.compile(UnicodeCharCategory.EXCEPT_DIACRITIC_REGEX);
+/**
+ * Filters and counts the characters of a string by category, such as {@link #keepLetter(String)} or
+ * {@link #countDigit(String)}. The methods test each character against a table of general categories and never
+ * compile a regular expression. The pattern constants of this class, such as {@code LETTER_PATTERN}, are deprecated:
+ * reading any one of them compiles all 114 patterns at once, which takes a noticeable time at startup. Use
+ * {@link UnicodeCharCategory#getPattern()} and {@link UnicodeCharCategory#getExceptPattern()} instead, which
+ * compile a single pattern on first use.
+ * <p>
+ * The methods that take an {@link EnumSet} of categories build the union of the set on its first use and cache it
+ * for up to 64 distinct sets. Past that number, each new set evicts the oldest one, and an evicted set is built
+ * again on its next use, which allocates.
+ */
+public class RegexFilter implements RegexFilterPatterns {
+    private static final CategoryMatcher ALNUM_MATCHER = UnicodeCharCategory.ALNUM.matcher();
+    private static final CategoryMatcher ALPHA_MATCHER = UnicodeCharCategory.ALPHA.matcher();
+    private static final CategoryMatcher ASCII_MATCHER = UnicodeCharCategory.ASCII.matcher();
+    private static final CategoryMatcher BLANK_MATCHER = UnicodeCharCategory.BLANK.matcher();
+    private static final CategoryMatcher CNTRL_MATCHER = UnicodeCharCategory.CNTRL.matcher();
+    private static final CategoryMatcher DIGIT_MATCHER = UnicodeCharCategory.DIGIT.matcher();
+    private static final CategoryMatcher LOWER_MATCHER = UnicodeCharCategory.LOWER.matcher();
+    private static final CategoryMatcher UPPER_MATCHER = UnicodeCharCategory.UPPER.matcher();
+    private static final CategoryMatcher PUNCT_MATCHER = UnicodeCharCategory.PUNCT.matcher();
+    private static final CategoryMatcher GRAPH_MATCHER = UnicodeCharCategory.GRAPH.matcher();
+    private static final CategoryMatcher PRINT_MATCHER = UnicodeCharCategory.PRINT.matcher();
+    private static final CategoryMatcher SPACE_MATCHER = UnicodeCharCategory.SPACE.matcher();
+    private static final CategoryMatcher XDIGIT_MATCHER = UnicodeCharCategory.XDIGIT.matcher();
+    private static final CategoryMatcher LETTER_MATCHER = UnicodeCharCategory.LETTER.matcher();
+    private static final CategoryMatcher LOWERCASE_LETTER_MATCHER = UnicodeCharCategory.LOWERCASE_LETTER.matcher();
+    private static final CategoryMatcher UPPERCASE_LETTER_MATCHER = UnicodeCharCategory.UPPERCASE_LETTER.matcher();
+    private static final CategoryMatcher TITLECASE_LETTER_MATCHER = UnicodeCharCategory.TITLECASE_LETTER.matcher();
+    private static final CategoryMatcher CASED_LETTER_MATCHER = UnicodeCharCategory.CASED_LETTER.matcher();
+    private static final CategoryMatcher MODIFIER_LETTER_MATCHER = UnicodeCharCategory.MODIFIER_LETTER.matcher();
+    private static final CategoryMatcher OTHER_LETTER_MATCHER = UnicodeCharCategory.OTHER_LETTER.matcher();
+    private static final CategoryMatcher MARK_MATCHER = UnicodeCharCategory.MARK.matcher();
+    private static final CategoryMatcher NON_SPACING_MARK_MATCHER = UnicodeCharCategory.NON_SPACING_MARK.matcher();
+    private static final CategoryMatcher SPACING_COMBINING_MARK_MATCHER = UnicodeCharCategory.SPACING_COMBINING_MARK.matcher();
+    private static final CategoryMatcher ENCLOSING_MARK_MATCHER = UnicodeCharCategory.ENCLOSING_MARK.matcher();
+    private static final CategoryMatcher SEPARATOR_MATCHER = UnicodeCharCategory.SEPARATOR.matcher();
+    private static final CategoryMatcher SPACE_SEPARATOR_MATCHER = UnicodeCharCategory.SPACE_SEPARATOR.matcher();
+    private static final CategoryMatcher LINE_SEPARATOR_MATCHER = UnicodeCharCategory.LINE_SEPARATOR.matcher();
+    private static final CategoryMatcher PARAGRAPH_SEPARATOR_MATCHER = UnicodeCharCategory.PARAGRAPH_SEPARATOR.matcher();
+    private static final CategoryMatcher SYMBOL_MATCHER = UnicodeCharCategory.SYMBOL.matcher();
+    private static final CategoryMatcher MATH_SYMBOL_MATCHER = UnicodeCharCategory.MATH_SYMBOL.matcher();
+    private static final CategoryMatcher CURRENCY_SYMBOL_MATCHER = UnicodeCharCategory.CURRENCY_SYMBOL.matcher();
+    private static final CategoryMatcher MODIFIER_SYMBOL_MATCHER = UnicodeCharCategory.MODIFIER_SYMBOL.matcher();
+    private static final CategoryMatcher OTHER_SYMBOL_MATCHER = UnicodeCharCategory.OTHER_SYMBOL.matcher();
+    private static final CategoryMatcher NUMBER_MATCHER = UnicodeCharCategory.NUMBER.matcher();
+    private static final CategoryMatcher DECIMAL_DIGIT_NUMBER_MATCHER = UnicodeCharCategory.DECIMAL_DIGIT_NUMBER.matcher();
+    private static final CategoryMatcher LETTER_NUMBER_MATCHER = UnicodeCharCategory.LETTER_NUMBER.matcher();
+    private static final CategoryMatcher OTHER_NUMBER_MATCHER = UnicodeCharCategory.OTHER_NUMBER.matcher();
+    private static final CategoryMatcher PUNCTUATION_MATCHER = UnicodeCharCategory.PUNCTUATION.matcher();
+    private static final CategoryMatcher DASH_PUNCTUATION_MATCHER = UnicodeCharCategory.DASH_PUNCTUATION.matcher();
+    private static final CategoryMatcher OPEN_PUNCTUATION_MATCHER = UnicodeCharCategory.OPEN_PUNCTUATION.matcher();
+    private static final CategoryMatcher CLOSE_PUNCTUATION_MATCHER = UnicodeCharCategory.CLOSE_PUNCTUATION.matcher();
+    private static final CategoryMatcher INITIAL_PUNCTUATION_MATCHER = UnicodeCharCategory.INITIAL_PUNCTUATION.matcher();
+    private static final CategoryMatcher FINAL_PUNCTUATION_MATCHER = UnicodeCharCategory.FINAL_PUNCTUATION.matcher();
+    private static final CategoryMatcher CONNECTOR_PUNCTUATION_MATCHER = UnicodeCharCategory.CONNECTOR_PUNCTUATION.matcher();
+    private static final CategoryMatcher OTHER_PUNCTUATION_MATCHER = UnicodeCharCategory.OTHER_PUNCTUATION.matcher();
+    private static final CategoryMatcher OTHER_MATCHER = UnicodeCharCategory.OTHER.matcher();
+    private static final CategoryMatcher CONTROL_MATCHER = UnicodeCharCategory.CONTROL.matcher();
+    private static final CategoryMatcher FORMAT_MATCHER = UnicodeCharCategory.FORMAT.matcher();
+    private static final CategoryMatcher PRIVATE_USE_MATCHER = UnicodeCharCategory.PRIVATE_USE.matcher();
+    private static final CategoryMatcher SURROGATE_MATCHER = UnicodeCharCategory.SURROGATE.matcher();
+    private static final CategoryMatcher UNASSIGNED_MATCHER = UnicodeCharCategory.UNASSIGNED.matcher();
+    private static final CategoryMatcher ZW_CHAR_MATCHER = UnicodeCharCategory.ZERO_WIDTH_CHAR.matcher();
+    private static final CategoryMatcher DIACRITICAL_LETTER_MATCHER = UnicodeCharCategory.DIACRITICAL_LETTER.matcher();
+    private static final CategoryMatcher ALNUM_SPACE_MATCHER = ALNUM_MATCHER.or(SPACE_MATCHER);
+    private static final CategoryMatcher ALPHANUMERIC_MATCHER = LETTER_MATCHER.or(DIGIT_MATCHER);
+    private static final CategoryMatcher ALPHANUMERIC_SPACE_MATCHER = ALPHANUMERIC_MATCHER.or(SPACE_MATCHER);
+    private static final int MAX_CACHED_UNIONS = 64;
+    private static volatile Union[] unions = new Union[0];
+    private static int nextEvicted; // Guarded by Union.class
 
     private RegexFilter() {
     }
 
     /**
-     * Filters the given string, keeping only characters that match the specified pattern.
-     *
-     * @param s       the string to be filtered
-     * @param pattern the regex pattern to match characters
-     * @return a string containing only characters that match the pattern
+     * Returns a matcher for the union of the given categories, building it on the first use of the set.
+     * Matchers are cached along with a copy of the set, up to a fixed number of distinct sets, after which
+     * each new set replaces the oldest one, so that a program that goes through many sets still finds the
+     * ones it keeps using. The cache is searched with {@link EnumSet#equals(Object)}, which compares two enum
+     * sets without allocating, unlike the hash code a map lookup would need.
      */
-    private static String filter(String s, Pattern pattern) {
-        if (StringHelper.isNullOrEmpty(s)) return s;
-        Matcher matcher = pattern.matcher(s);
-        StringBuilder sb = new StringBuilder();
+    private static CategoryMatcher union(EnumSet<UnicodeCharCategory> categories) {
+        if (categories.size() == 1) return categories.iterator().next().matcher();
 
-        while (matcher.find()) {
-            sb.append(matcher.group());
+        for (Union union : unions) {
+            if (union.categories.equals(categories)) return union.matcher;
+        }
+        CategoryMatcher matcher = CategoryMatcher.ofRanges();
+
+        for (UnicodeCharCategory category : categories) {
+            matcher = matcher.or(category.matcher());
         }
-        return sb.toString();
+
+        synchronized (Union.class) {
+            Union[] cached = unions;
+
+            for (Union union : cached) {
+                if (union.categories.equals(categories)) return union.matcher;
+            }
+
+            Union union = new Union(EnumSet.copyOf(categories), matcher);
+
+            if (cached.length < MAX_CACHED_UNIONS) {
+                Union[] extended = Arrays.copyOf(cached, cached.length + 1);
+                extended[cached.length] = union;
+                unions = extended;
+            } else {
+                Union[] replaced = cached.clone();
+                replaced[nextEvicted] = union;
+                nextEvicted = (nextEvicted + 1) % MAX_CACHED_UNIONS;
+                unions = replaced;
+            }
+        }
+        return matcher;
     }
 
     /**
@@ -147,7 +131,7 @@ public class RegexFilter {
      * @return a string containing only alphanumeric characters
      */
     public static String keepAlnum(String s) {
-        return filter(s, ALNUM_PATTERN);
+        return ALNUM_MATCHER.retainFrom(s);
     }
 
     /**
@@ -157,7 +141,7 @@ public class RegexFilter {
      * @return a string containing only alphabetic characters
      */
     public static String keepAlpha(String s) {
-        return filter(s, ALPHA_PATTERN);
+        return ALPHA_MATCHER.retainFrom(s);
     }
 
     /**
@@ -167,7 +151,7 @@ public class RegexFilter {
      * @return a string containing only ASCII characters
      */
     public static String keepAscii(String s) {
-        return filter(s, ASCII_PATTERN);
+        return ASCII_MATCHER.retainFrom(s);
     }
 
     /**
@@ -177,7 +161,7 @@ public class RegexFilter {
      * @return a string containing only space and tab characters
      */
     public static String keepBlank(String s) {
-        return filter(s, BLANK_PATTERN);
+        return BLANK_MATCHER.retainFrom(s);
     }
 
     /**
@@ -187,7 +171,7 @@ public class RegexFilter {
      * @return a string containing only control characters
      */
     public static String keepCntrl(String s) {
-        return filter(s, CNTRL_PATTERN);
+        return CNTRL_MATCHER.retainFrom(s);
     }
 
     /**
@@ -197,7 +181,7 @@ public class RegexFilter {
      * @return a string containing only digit characters
      */
     public static String keepDigit(String s) {
-        return filter(s, DIGIT_PATTERN);
+        return DIGIT_MATCHER.retainFrom(s);
     }
 
     /**
@@ -207,7 +191,7 @@ public class RegexFilter {
      * @return a string containing only lowercase alphabetic characters
      */
     public static String keepLower(String s) {
-        return filter(s, LOWER_PATTERN);
+        return LOWER_MATCHER.retainFrom(s);
     }
 
     /**
@@ -217,7 +201,7 @@ public class RegexFilter {
      * @return a string containing only uppercase alphabetic characters
      */
     public static String keepUpper(String s) {
-        return filter(s, UPPER_PATTERN);
+        return UPPER_MATCHER.retainFrom(s);
     }
 
     /**
@@ -227,7 +211,7 @@ public class RegexFilter {
      * @return a string containing only punctuation characters
      */
     public static String keepPunct(String s) {
-        return filter(s, PUNCT_PATTERN);
+        return PUNCT_MATCHER.retainFrom(s);
     }
 
     /**
@@ -237,7 +221,7 @@ public class RegexFilter {
      * @return a string containing only visible characters
      */
     public static String keepGraph(String s) {
-        return filter(s, GRAPH_PATTERN);
+        return GRAPH_MATCHER.retainFrom(s);
     }
 
     /**
@@ -247,7 +231,7 @@ public class RegexFilter {
      * @return a string containing only printable characters
      */
     public static String keepPrint(String s) {
-        return filter(s, PRINT_PATTERN);
+        return PRINT_MATCHER.retainFrom(s);
     }
 
     /**
@@ -257,7 +241,7 @@ public class RegexFilter {
      * @return a string containing only whitespaces
      */
     public static String keepSpace(String s) {
-        return filter(s, SPACE_PATTERN);
+        return SPACE_MATCHER.retainFrom(s);
     }
 
     /**
@@ -267,7 +251,7 @@ public class RegexFilter {
      * @return a string containing only hexadecimal digit characters
      */
     public static String keepXDigit(String s) {
-        return filter(s, XDIGIT_PATTERN);
+        return XDIGIT_MATCHER.retainFrom(s);
     }
 
     /**
@@ -277,7 +261,7 @@ public class RegexFilter {
      * @return a string containing only letter characters
      */
     public static String keepLetter(String s) {
-        return filter(s, LETTER_PATTERN);
+        return LETTER_MATCHER.retainFrom(s);
     }
 
     /**
@@ -287,7 +271,7 @@ public class RegexFilter {
      * @return a string containing only lowercase letter characters
      */
     public static String keepLowercaseLetter(String s) {
-        return filter(s, LOWERCASE_LETTER_PATTERN);
+        return LOWERCASE_LETTER_MATCHER.retainFrom(s);
     }
 
     /**
@@ -297,7 +281,7 @@ public class RegexFilter {
      * @return a string containing only uppercase letter characters
      */
     public static String keepUppercaseLetter(String s) {
-        return filter(s, UPPERCASE_LETTER_PATTERN);
+        return UPPERCASE_LETTER_MATCHER.retainFrom(s);
     }
 
     /**
@@ -307,7 +291,7 @@ public class RegexFilter {
      * @return a string containing only titlecase letter characters
      */
     public static String keepTitlecaseLetter(String s) {
-        return filter(s, TITLECASE_LETTER_PATTERN);
+        return TITLECASE_LETTER_MATCHER.retainFrom(s);
     }
 
     /**
@@ -317,7 +301,7 @@ public class RegexFilter {
      * @return a string containing only cased letter characters
      */
     public static String keepCasedLetter(String s) {
-        return filter(s, CASED_LETTER_PATTERN);
+        return CASED_LETTER_MATCHER.retainFrom(s);
     }
 
     /**
@@ -327,7 +311,7 @@ public class RegexFilter {
      * @return a string containing only modifier letter characters
      */
     public static String keepModifierLetter(String s) {
-        return filter(s, MODIFIER_LETTER_PATTERN);
+        return MODIFIER_LETTER_MATCHER.retainFrom(s);
     }
 
     /**
@@ -337,7 +321,7 @@ public class RegexFilter {
      * @return a string containing only other letter characters
      */
     public static String keepOtherLetter(String s) {
-        return filter(s, OTHER_LETTER_PATTERN);
+        return OTHER_LETTER_MATCHER.retainFrom(s);
     }
 
     /**
@@ -347,7 +331,7 @@ public class RegexFilter {
      * @return a string containing only mark characters
      */
     public static String keepMark(String s) {
-        return filter(s, MARK_PATTERN);
+        return MARK_MATCHER.retainFrom(s);
     }
 
     /**
@@ -357,7 +341,7 @@ public class RegexFilter {
      * @return a string containing only non-spacing mark characters
      */
     public static String keepNonSpacingMark(String s) {
-        return filter(s, NON_SPACING_MARK_PATTERN);
+        return NON_SPACING_MARK_MATCHER.retainFrom(s);
     }
 
     /**
@@ -367,7 +351,7 @@ public class RegexFilter {
      * @return a string containing only spacing combining mark characters
      */
     public static String keepSpacingCombiningMark(String s) {
-        return filter(s, SPACING_COMBINING_MARK_PATTERN);
+        return SPACING_COMBINING_MARK_MATCHER.retainFrom(s);
     }
 
     /**
@@ -377,7 +361,7 @@ public class RegexFilter {
      * @return a string containing only enclosing mark characters
      */
     public static String keepEnclosingMark(String s) {
-        return filter(s, ENCLOSING_MARK_PATTERN);
+        return ENCLOSING_MARK_MATCHER.retainFrom(s);
     }
 
     /**
@@ -387,7 +371,7 @@ public class RegexFilter {
      * @return a string containing only separator characters
      */
     public static String keepSeparator(String s) {
-        return filter(s, SEPARATOR_PATTERN);
+        return SEPARATOR_MATCHER.retainFrom(s);
     }
 
     /**
@@ -397,7 +381,7 @@ public class RegexFilter {
      * @return a string containing only space separator characters
      */
     public static String keepSpaceSeparator(String s) {
-        return filter(s, SPACE_SEPARATOR_PATTERN);
+        return SPACE_SEPARATOR_MATCHER.retainFrom(s);
     }
 
     /**
@@ -407,7 +391,7 @@ public class RegexFilter {
      * @return a string containing only line separator characters
      */
     public static String keepLineSeparator(String s) {
-        return filter(s, LINE_SEPARATOR_PATTERN);
+        return LINE_SEPARATOR_MATCHER.retainFrom(s);
     }
 
     /**
@@ -417,7 +401,7 @@ public class RegexFilter {
      * @return a string containing only paragraph separator characters
      */
     public static String keepParagraphSeparator(String s) {
-        return filter(s, PARAGRAPH_SEPARATOR_PATTERN);
+        return PARAGRAPH_SEPARATOR_MATCHER.retainFrom(s);
     }
 
     /**
@@ -427,7 +411,7 @@ public class RegexFilter {
      * @return a string containing only symbol characters
      */
     public static String keepSymbol(String s) {
-        return filter(s, SYMBOL_PATTERN);
+        return SYMBOL_MATCHER.retainFrom(s);
     }
 
     /**
@@ -437,7 +421,7 @@ public class RegexFilter {
      * @return a string containing only mathematical symbol characters
      */
     public static String keepMathSymbol(String s) {
-        return filter(s, MATH_SYMBOL_PATTERN);
+        return MATH_SYMBOL_MATCHER.retainFrom(s);
     }
 
     /**
@@ -447,7 +431,7 @@ public class RegexFilter {
      * @return a string containing only currency symbol characters
      */
     public static String keepCurrencySymbol(String s) {
-        return filter(s, CURRENCY_SYMBOL_PATTERN);
+        return CURRENCY_SYMBOL_MATCHER.retainFrom(s);
     }
 
     /**
@@ -457,7 +441,7 @@ public class RegexFilter {
      * @return a string containing only modifier symbol characters
      */
     public static String keepModifierSymbol(String s) {
-        return filter(s, MODIFIER_SYMBOL_PATTERN);
+        return MODIFIER_SYMBOL_MATCHER.retainFrom(s);
     }
 
     /**
@@ -467,7 +451,7 @@ public class RegexFilter {
      * @return a string containing only other symbol characters
      */
     public static String keepOtherSymbol(String s) {
-        return filter(s, OTHER_SYMBOL_PATTERN);
+        return OTHER_SYMBOL_MATCHER.retainFrom(s);
     }
 
     /**
@@ -477,7 +461,7 @@ public class RegexFilter {
      * @return a string containing only numeric characters
      */
     public static String keepNumber(String s) {
-        return filter(s, NUMBER_PATTERN);
+        return NUMBER_MATCHER.retainFrom(s);
     }
 
     /**
@@ -487,7 +471,7 @@ public class RegexFilter {
      * @return a string containing only decimal digit number characters
      */
     public static String keepDecimalDigitNumber(String s) {
-        return filter(s, DECIMAL_DIGIT_NUMBER_PATTERN);
+        return DECIMAL_DIGIT_NUMBER_MATCHER.retainFrom(s);
     }
 
     /**
@@ -497,7 +481,7 @@ public class RegexFilter {
      * @return a string containing only letter number characters
      */
     public static String keepLetterNumber(String s) {
-        return filter(s, LETTER_NUMBER_PATTERN);
+        return LETTER_NUMBER_MATCHER.retainFrom(s);
     }
 
     /**
@@ -507,7 +491,7 @@ public class RegexFilter {
      * @return a string containing only other number characters
      */
     public static String keepOtherNumber(String s) {
-        return filter(s, OTHER_NUMBER_PATTERN);
+        return OTHER_NUMBER_MATCHER.retainFrom(s);
     }
 
     /**
@@ -517,7 +501,7 @@ public class RegexFilter {
      * @return a string containing only punctuation characters
      */
     public static String keepPunctuation(String s) {
-        return filter(s, PUNCTUATION_PATTERN);
+        return PUNCTUATION_MATCHER.retainFrom(s);
     }
 
     /**
@@ -527,7 +511,7 @@ public class RegexFilter {
      * @return a string containing only dash punctuation characters
      */
     public static String keepDashPunctuation(String s) {
-        return filter(s, DASH_PUNCTUATION_PATTERN);
+        return DASH_PUNCTUATION_MATCHER.retainFrom(s);
     }
 
     /**
@@ -537,7 +521,7 @@ public class RegexFilter {
      * @return a string containing only opening punctuation characters
      */
     public static String keepOpenPunctuation(String s) {
-        return filter(s, OPEN_PUNCTUATION_PATTERN);
+        return OPEN_PUNCTUATION_MATCHER.retainFrom(s);
     }
 
     /**
@@ -547,7 +531,7 @@ public class RegexFilter {
      * @return a string containing only closing punctuation characters
      */
     public static String keepClosePunctuation(String s) {
-        return filter(s, CLOSE_PUNCTUATION_PATTERN);
+        return CLOSE_PUNCTUATION_MATCHER.retainFrom(s);
     }
 
     /**
@@ -557,7 +541,7 @@ public class RegexFilter {
      * @return a string containing only initial punctuation characters
      */
     public static String keepInitialPunctuation(String s) {
-        return filter(s, INITIAL_PUNCTUATION_PATTERN);
+        return INITIAL_PUNCTUATION_MATCHER.retainFrom(s);
     }
 
     /**
@@ -567,7 +551,7 @@ public class RegexFilter {
      * @return a string containing only final punctuation characters
      */
     public static String keepFinalPunctuation(String s) {
-        return filter(s, FINAL_PUNCTUATION_PATTERN);
+        return FINAL_PUNCTUATION_MATCHER.retainFrom(s);
     }
 
     /**
@@ -577,7 +561,7 @@ public class RegexFilter {
      * @return a string containing only connector punctuation characters
      */
     public static String keepConnectorPunctuation(String s) {
-        return filter(s, CONNECTOR_PUNCTUATION_PATTERN);
+        return CONNECTOR_PUNCTUATION_MATCHER.retainFrom(s);
     }
 
     /**
@@ -587,7 +571,7 @@ public class RegexFilter {
      * @return a string containing only other punctuation characters
      */
     public static String keepOtherPunctuation(String s) {
-        return filter(s, OTHER_PUNCTUATION_PATTERN);
+        return OTHER_PUNCTUATION_MATCHER.retainFrom(s);
     }
 
     /**
@@ -597,7 +581,7 @@ public class RegexFilter {
      * @return a string containing only characters classified as 'other'
      */
     public static String keepOther(String s) {
-        return filter(s, OTHER_PATTERN);
+        return OTHER_MATCHER.retainFrom(s);
     }
 
     /**
@@ -607,7 +591,7 @@ public class RegexFilter {
      * @return a string containing only control characters
      */
     public static String keepControl(String s) {
-        return filter(s, CONTROL_PATTERN);
+        return CONTROL_MATCHER.retainFrom(s);
     }
 
     /**
@@ -617,7 +601,7 @@ public class RegexFilter {
      * @return a string containing only format characters
      */
     public static String keepFormat(String s) {
-        return filter(s, FORMAT_PATTERN);
+        return FORMAT_MATCHER.retainFrom(s);
     }
 
     /**
@@ -627,7 +611,7 @@ public class RegexFilter {
      * @return a string containing only private use characters
      */
     public static String keepPrivateUse(String s) {
-        return filter(s, PRIVATE_USE_PATTERN);
+        return PRIVATE_USE_MATCHER.retainFrom(s);
     }
 
     /**
@@ -637,7 +621,7 @@ public class RegexFilter {
      * @return a string containing only surrogate pair characters
      */
     public static String keepSurrogate(String s) {
-        return filter(s, SURROGATE_PATTERN);
+        return SURROGATE_MATCHER.retainFrom(s);
     }
 
     /**
@@ -647,7 +631,7 @@ public class RegexFilter {
      * @return a string containing only unassigned characters
      */
     public static String keepUnassigned(String s) {
-        return filter(s, UNASSIGNED_PATTERN);
+        return UNASSIGNED_MATCHER.retainFrom(s);
     }
 
     /**
@@ -666,7 +650,7 @@ public class RegexFilter {
      * @return a string containing only zero-width characters
      */
     public static String keepZWChar(String s) {
-        return filter(s, ZW_CHAR_PATTERN);
+        return ZW_CHAR_MATCHER.retainFrom(s);
     }
 
     /**
@@ -676,7 +660,7 @@ public class RegexFilter {
      * @return a string containing only diacritical letters
      */
     public static String keepDiacriticalLetter(String s) {
-        return filter(s, DIACRITICAL_LETTER_PATTERN);
+        return DIACRITICAL_LETTER_MATCHER.retainFrom(s);
     }
 
     /**
@@ -686,7 +670,7 @@ public class RegexFilter {
      * @return a string containing only alphanumeric and space characters
      */
     public static String keepAlnumSpace(String s) {
-        return filter(s, ALNUM_SPACE_PATTERN);
+        return ALNUM_SPACE_MATCHER.retainFrom(s);
     }
 
     /**
@@ -696,7 +680,7 @@ public class RegexFilter {
      * @return a string containing only alphanumeric characters
      */
     public static String keepAlphanumeric(String s) {
-        return filter(s, ALPHANUMERIC_PATTERN);
+        return ALPHANUMERIC_MATCHER.retainFrom(s);
     }
 
     /**
@@ -706,7 +690,54 @@ public class RegexFilter {
      * @return a string containing only alphanumeric characters and spaces
      */
     public static String keepAlphanumericSpace(String s) {
-        return filter(s, ALPHANUMERIC_SPACE_PATTERN);
+        return ALPHANUMERIC_SPACE_MATCHER.retainFrom(s);
+    }
+
+    /**
+     * Retains only the characters of the given string that belong to any of the specified categories.
+     * The union of the categories is matched by code points, like a character class that joins their
+     * regular expressions, without compiling any pattern.
+     *
+     * @param s          the string to be filtered
+     * @param categories the categories of the characters to retain
+     * @return a string containing only the characters of the categories
+     */
+    public static String keep(String s, EnumSet<UnicodeCharCategory> categories) {
+        return union(categories).retainFrom(s);
+    }
+
+    /**
+     * Appends the characters of the sequence that match the given pattern to a buffer,
+     * so that a buffer reused across calls produces no intermediate strings.
+     *
+     * @param s       the sequence to be filtered, which appends nothing if {@code null}
+     * @param pattern the regex pattern to match characters
+     * @param out     the buffer that receives the matching characters
+     * @return {@code out}
+     */
+    public static StringBuilder keep(CharSequence s, Pattern pattern, StringBuilder out) {
+        if (s == null) return out;
+        return keep(s, pattern.matcher(s), out);
+    }
+
+    /**
+     * Appends the characters of the sequence that match the pattern of the given matcher to a buffer.
+     * The matcher is reset to the sequence, so a single matcher can be reused across calls
+     * to produce no garbage at all.
+     *
+     * @param s       the sequence to be filtered, which appends nothing if {@code null}
+     * @param matcher the matcher to reset and search with
+     * @param out     the buffer that receives the matching characters
+     * @return {@code out}
+     */
+    public static StringBuilder keep(CharSequence s, Matcher matcher, StringBuilder out) {
+        if (s == null) return out;
+        matcher.reset(s);
+
+        while (matcher.find()) {
+            out.append(s, matcher.start(), matcher.end());
+        }
+        return out;
     }
 
     /**
@@ -716,7 +747,7 @@ public class RegexFilter {
      * @return a string with all alphanumeric characters removed
      */
     public static String removeAlnum(String s) {
-        return filter(s, EXCEPT_ALNUM_PATTERN);
+        return ALNUM_MATCHER.removeFrom(s);
     }
 
     /**
@@ -726,7 +757,7 @@ public class RegexFilter {
      * @return a string with all alphabetic characters removed
      */
     public static String removeAlpha(String s) {
-        return filter(s, EXCEPT_ALPHA_PATTERN);
+        return ALPHA_MATCHER.removeFrom(s);
     }
 
     /**
@@ -736,7 +767,7 @@ public class RegexFilter {
      * @return a string with all ASCII characters removed
      */
     public static String removeAscii(String s) {
-        return filter(s, EXCEPT_ASCII_PATTERN);
+        return ASCII_MATCHER.removeFrom(s);
     }
 
     /**
@@ -746,7 +777,7 @@ public class RegexFilter {
      * @return a string with all space and tab characters removed
      */
     public static String removeBlank(String s) {
-        return filter(s, EXCEPT_BLANK_PATTERN);
+        return BLANK_MATCHER.removeFrom(s);
     }
 
     /**
@@ -756,7 +787,7 @@ public class RegexFilter {
      * @return a string with all control characters removed
      */
     public static String removeCntrl(String s) {
-        return filter(s, EXCEPT_CNTRL_PATTERN);
+        return CNTRL_MATCHER.removeFrom(s);
     }
 
     /**
@@ -766,7 +797,7 @@ public class RegexFilter {
      * @return a string with all digit characters removed
      */
     public static String removeDigit(String s) {
-        return filter(s, EXCEPT_DIGIT_PATTERN);
+        return DIGIT_MATCHER.removeFrom(s);
     }
 
     /**
@@ -776,7 +807,7 @@ public class RegexFilter {
      * @return a string with all lowercase alphabetic characters removed
      */
     public static String removeLower(String s) {
-        return filter(s, EXCEPT_LOWER_PATTERN);
+        return LOWER_MATCHER.removeFrom(s);
     }
 
     /**
@@ -786,7 +817,7 @@ public class RegexFilter {
      * @return a string with all uppercase alphabetic characters removed
      */
     public static String removeUpper(String s) {
-        return filter(s, EXCEPT_UPPER_PATTERN);
+        return UPPER_MATCHER.removeFrom(s);
     }
 
     /**
@@ -796,7 +827,7 @@ public class RegexFilter {
      * @return a string with all punctuation characters removed
      */
     public static String removePunct(String s) {
-        return filter(s, EXCEPT_PUNCT_PATTERN);
+        return PUNCT_MATCHER.removeFrom(s);
     }
 
     /**
@@ -806,7 +837,7 @@ public class RegexFilter {
      * @return a string with all visible characters removed
      */
     public static String removeGraph(String s) {
-        return filter(s, EXCEPT_GRAPH_PATTERN);
+        return GRAPH_MATCHER.removeFrom(s);
     }
 
     /**
@@ -816,7 +847,7 @@ public class RegexFilter {
      * @return a string with all printable characters removed
      */
     public static String removePrint(String s) {
-        return filter(s, EXCEPT_PRINT_PATTERN);
+        return PRINT_MATCHER.removeFrom(s);
     }
 
     /**
@@ -826,7 +857,7 @@ public class RegexFilter {
      * @return a string with all whitespaces removed
      */
     public static String removeSpace(String s) {
-        return filter(s, EXCEPT_SPACE_PATTERN);
+        return SPACE_MATCHER.removeFrom(s);
     }
 
     /**
@@ -836,7 +867,7 @@ public class RegexFilter {
      * @return a string with all hexadecimal digit characters removed
      */
     public static String removeXDigit(String s) {
-        return filter(s, EXCEPT_XDIGIT_PATTERN);
+        return XDIGIT_MATCHER.removeFrom(s);
     }
 
     /**
@@ -846,7 +877,7 @@ public class RegexFilter {
      * @return a string with all letter characters removed
      */
     public static String removeLetter(String s) {
-        return filter(s, EXCEPT_LETTER_PATTERN);
+        return LETTER_MATCHER.removeFrom(s);
     }
 
     /**
@@ -856,7 +887,7 @@ public class RegexFilter {
      * @return a string with all lowercase letter characters removed
      */
     public static String removeLowercaseLetter(String s) {
-        return filter(s, EXCEPT_LOWERCASE_LETTER_PATTERN);
+        return LOWERCASE_LETTER_MATCHER.removeFrom(s);
     }
 
     /**
@@ -866,7 +897,7 @@ public class RegexFilter {
      * @return a string with all uppercase letter characters removed
      */
     public static String removeUppercaseLetter(String s) {
-        return filter(s, EXCEPT_UPPERCASE_LETTER_PATTERN);
+        return UPPERCASE_LETTER_MATCHER.removeFrom(s);
     }
 
     /**
@@ -876,7 +907,7 @@ public class RegexFilter {
      * @return a string with all titlecase letter characters removed
      */
     public static String removeTitlecaseLetter(String s) {
-        return filter(s, EXCEPT_TITLECASE_LETTER_PATTERN);
+        return TITLECASE_LETTER_MATCHER.removeFrom(s);
     }
 
     /**
@@ -886,7 +917,7 @@ public class RegexFilter {
      * @return a string with all cased letter characters removed
      */
     public static String removeCasedLetter(String s) {
-        return filter(s, EXCEPT_CASED_LETTER_PATTERN);
+        return CASED_LETTER_MATCHER.removeFrom(s);
     }
 
     /**
@@ -896,7 +927,7 @@ public class RegexFilter {
      * @return a string with all modifier letter characters removed
      */
     public static String removeModifierLetter(String s) {
-        return filter(s, EXCEPT_MODIFIER_LETTER_PATTERN);
+        return MODIFIER_LETTER_MATCHER.removeFrom(s);
     }
 
     /**
@@ -906,7 +937,7 @@ public class RegexFilter {
      * @return a string with all other letter characters removed
      */
     public static String removeOtherLetter(String s) {
-        return filter(s, EXCEPT_OTHER_LETTER_PATTERN);
+        return OTHER_LETTER_MATCHER.removeFrom(s);
     }
 
     /**
@@ -916,7 +947,7 @@ public class RegexFilter {
      * @return a string with all mark characters removed
      */
     public static String removeMark(String s) {
-        return filter(s, EXCEPT_MARK_PATTERN);
+        return MARK_MATCHER.removeFrom(s);
     }
 
     /**
@@ -926,7 +957,7 @@ public class RegexFilter {
      * @return a string with all non-spacing mark characters removed
      */
     public static String removeNonSpacingMark(String s) {
-        return filter(s, EXCEPT_NON_SPACING_MARK_PATTERN);
+        return NON_SPACING_MARK_MATCHER.removeFrom(s);
     }
 
     /**
@@ -936,7 +967,7 @@ public class RegexFilter {
      * @return a string with all spacing combining mark characters removed
      */
     public static String removeSpacingCombiningMark(String s) {
-        return filter(s, EXCEPT_SPACING_COMBINING_MARK_PATTERN);
+        return SPACING_COMBINING_MARK_MATCHER.removeFrom(s);
     }
 
     /**
@@ -946,7 +977,7 @@ public class RegexFilter {
      * @return a string with all enclosing mark characters removed
      */
     public static String removeEnclosingMark(String s) {
-        return filter(s, EXCEPT_ENCLOSING_MARK_PATTERN);
+        return ENCLOSING_MARK_MATCHER.removeFrom(s);
     }
 
     /**
@@ -956,7 +987,7 @@ public class RegexFilter {
      * @return a string with all separator characters removed
      */
     public static String removeSeparator(String s) {
-        return filter(s, EXCEPT_SEPARATOR_PATTERN);
+        return SEPARATOR_MATCHER.removeFrom(s);
     }
 
     /**
@@ -966,7 +997,7 @@ public class RegexFilter {
      * @return a string with all space separator characters removed
      */
     public static String removeSpaceSeparator(String s) {
-        return filter(s, EXCEPT_SPACE_SEPARATOR_PATTERN);
+        return SPACE_SEPARATOR_MATCHER.removeFrom(s);
     }
 
     /**
@@ -976,7 +1007,7 @@ public class RegexFilter {
      * @return a string with all line separator characters removed
      */
     public static String removeLineSeparator(String s) {
-        return filter(s, EXCEPT_LINE_SEPARATOR_PATTERN);
+        return LINE_SEPARATOR_MATCHER.removeFrom(s);
     }
 
     /**
@@ -986,7 +1017,7 @@ public class RegexFilter {
      * @return a string with all paragraph separator characters removed
      */
     public static String removeParagraphSeparator(String s) {
-        return filter(s, EXCEPT_PARAGRAPH_SEPARATOR_PATTERN);
+        return PARAGRAPH_SEPARATOR_MATCHER.removeFrom(s);
     }
 
     /**
@@ -996,7 +1027,7 @@ public class RegexFilter {
      * @return a string with all symbol characters removed
      */
     public static String removeSymbol(String s) {
-        return filter(s, EXCEPT_SYMBOL_PATTERN);
+        return SYMBOL_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1006,7 +1037,7 @@ public class RegexFilter {
      * @return a string with all mathematical symbol characters removed
      */
     public static String removeMathSymbol(String s) {
-        return filter(s, EXCEPT_MATH_SYMBOL_PATTERN);
+        return MATH_SYMBOL_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1016,7 +1047,7 @@ public class RegexFilter {
      * @return a string with all currency symbol characters removed
      */
     public static String removeCurrencySymbol(String s) {
-        return filter(s, EXCEPT_CURRENCY_SYMBOL_PATTERN);
+        return CURRENCY_SYMBOL_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1026,7 +1057,7 @@ public class RegexFilter {
      * @return a string with all modifier symbol characters removed
      */
     public static String removeModifierSymbol(String s) {
-        return filter(s, EXCEPT_MODIFIER_SYMBOL_PATTERN);
+        return MODIFIER_SYMBOL_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1036,7 +1067,7 @@ public class RegexFilter {
      * @return a string with all other symbol characters removed
      */
     public static String removeOtherSymbol(String s) {
-        return filter(s, EXCEPT_OTHER_SYMBOL_PATTERN);
+        return OTHER_SYMBOL_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1046,7 +1077,7 @@ public class RegexFilter {
      * @return a string with all number characters removed
      */
     public static String removeNumber(String s) {
-        return filter(s, EXCEPT_NUMBER_PATTERN);
+        return NUMBER_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1056,7 +1087,7 @@ public class RegexFilter {
      * @return a string with all decimal digit number characters removed
      */
     public static String removeDecimalDigitNumber(String s) {
-        return filter(s, EXCEPT_DECIMAL_DIGIT_NUMBER_PATTERN);
+        return DECIMAL_DIGIT_NUMBER_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1066,7 +1097,7 @@ public class RegexFilter {
      * @return a string with all letter number characters removed
      */
     public static String removeLetterNumber(String s) {
-        return filter(s, EXCEPT_LETTER_NUMBER_PATTERN);
+        return LETTER_NUMBER_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1076,7 +1107,7 @@ public class RegexFilter {
      * @return a string with all other number characters removed
      */
     public static String removeOtherNumber(String s) {
-        return filter(s, EXCEPT_OTHER_NUMBER_PATTERN);
+        return OTHER_NUMBER_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1086,7 +1117,7 @@ public class RegexFilter {
      * @return a string with all punctuation characters removed
      */
     public static String removePunctuation(String s) {
-        return filter(s, EXCEPT_PUNCTUATION_PATTERN);
+        return PUNCTUATION_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1096,7 +1127,7 @@ public class RegexFilter {
      * @return a string with all dash punctuation characters removed
      */
     public static String removeDashPunctuation(String s) {
-        return filter(s, EXCEPT_DASH_PUNCTUATION_PATTERN);
+        return DASH_PUNCTUATION_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1106,7 +1137,7 @@ public class RegexFilter {
      * @return a string with all open punctuation characters removed
      */
     public static String removeOpenPunctuation(String s) {
-        return filter(s, EXCEPT_OPEN_PUNCTUATION_PATTERN);
+        return OPEN_PUNCTUATION_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1116,7 +1147,7 @@ public class RegexFilter {
      * @return a string with all close punctuation characters removed
      */
     public static String removeClosePunctuation(String s) {
-        return filter(s, EXCEPT_CLOSE_PUNCTUATION_PATTERN);
+        return CLOSE_PUNCTUATION_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1126,7 +1157,7 @@ public class RegexFilter {
      * @return a string with all initial punctuation characters removed
      */
     public static String removeInitialPunctuation(String s) {
-        return filter(s, EXCEPT_INITIAL_PUNCTUATION_PATTERN);
+        return INITIAL_PUNCTUATION_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1136,7 +1167,7 @@ public class RegexFilter {
      * @return a string with all final punctuation characters removed
      */
     public static String removeFinalPunctuation(String s) {
-        return filter(s, EXCEPT_FINAL_PUNCTUATION_PATTERN);
+        return FINAL_PUNCTUATION_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1146,7 +1177,7 @@ public class RegexFilter {
      * @return a string with all connector punctuation characters removed
      */
     public static String removeConnectorPunctuation(String s) {
-        return filter(s, EXCEPT_CONNECTOR_PUNCTUATION_PATTERN);
+        return CONNECTOR_PUNCTUATION_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1156,7 +1187,7 @@ public class RegexFilter {
      * @return a string with all other punctuation characters removed
      */
     public static String removeOtherPunctuation(String s) {
-        return filter(s, EXCEPT_OTHER_PUNCTUATION_PATTERN);
+        return OTHER_PUNCTUATION_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1166,7 +1197,7 @@ public class RegexFilter {
      * @return a string with all characters classified as 'other' removed
      */
     public static String removeOther(String s) {
-        return filter(s, EXCEPT_OTHER_PATTERN);
+        return OTHER_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1176,7 +1207,7 @@ public class RegexFilter {
      * @return a string with all control characters removed
      */
     public static String removeControl(String s) {
-        return filter(s, EXCEPT_CONTROL_PATTERN);
+        return CONTROL_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1186,7 +1217,7 @@ public class RegexFilter {
      * @return a string with all format characters removed
      */
     public static String removeFormat(String s) {
-        return filter(s, EXCEPT_FORMAT_PATTERN);
+        return FORMAT_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1196,7 +1227,7 @@ public class RegexFilter {
      * @return a string with all private use characters removed
      */
     public static String removePrivateUse(String s) {
-        return filter(s, EXCEPT_PRIVATE_USE_PATTERN);
+        return PRIVATE_USE_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1206,7 +1237,7 @@ public class RegexFilter {
      * @return a string with all surrogate pair characters removed
      */
     public static String removeSurrogate(String s) {
-        return filter(s, EXCEPT_SURROGATE_PATTERN);
+        return SURROGATE_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1216,7 +1247,7 @@ public class RegexFilter {
      * @return a string with all unassigned characters removed
      */
     public static String removeUnassigned(String s) {
-        return filter(s, EXCEPT_UNASSIGNED_PATTERN);
+        return UNASSIGNED_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1237,7 +1268,7 @@ public class RegexFilter {
      * @return a string with all zero-width characters removed
      */
     public static String removeZWChar(String s) {
-        return filter(s, EXCEPT_ZW_CHAR_PATTERN);
+        return ZW_CHAR_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1247,7 +1278,7 @@ public class RegexFilter {
      * @return a string with all diacritical letters
      */
     public static String removeDiacriticalLetter(String s) {
-        return filter(s, EXCEPT_DIACRITICAL_LETTER_PATTERN);
+        return DIACRITICAL_LETTER_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1257,7 +1288,7 @@ public class RegexFilter {
      * @return a string with all alphanumeric and space characters removed
      */
     public static String removeAlnumSpace(String s) {
-        return filter(s, EXCEPT_ALNUM_SPACE_PATTERN);
+        return ALNUM_SPACE_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1267,7 +1298,7 @@ public class RegexFilter {
      * @return a string with all alphanumeric characters removed
      */
     public static String removeAlphanumeric(String s) {
-        return filter(s, EXCEPT_ALPHANUMERIC_PATTERN);
+        return ALPHANUMERIC_MATCHER.removeFrom(s);
     }
 
     /**
@@ -1277,18 +1308,131 @@ public class RegexFilter {
      * @return a string with all alphanumeric characters and spaces removed
      */
     public static String removeAlphanumericSpace(String s) {
-        return filter(s, EXCEPT_ALPHANUMERIC_SPACE_PATTERN);
+        return ALPHANUMERIC_SPACE_MATCHER.removeFrom(s);
+    }
+
+    /**
+     * Removes all the characters of the given string that belong to any of the specified categories.
+     * The union of the categories is matched by code points, without compiling any pattern.
+     *
+     * @param s          the string to be filtered
+     * @param categories the categories of the characters to remove
+     * @return a string without the characters of the categories
+     */
+    public static String remove(String s, EnumSet<UnicodeCharCategory> categories) {
+        return union(categories).removeFrom(s);
+    }
+
+    /**
+     * Appends the characters of the sequence that do not match the given pattern to a buffer,
+     * so that a buffer reused across calls produces no intermediate strings.
+     *
+     * @param s       the sequence to be filtered, which appends nothing if {@code null}
+     * @param pattern the regex pattern to match the characters to remove
+     * @param out     the buffer that receives the remaining characters
+     * @return {@code out}
+     */
+    public static StringBuilder remove(CharSequence s, Pattern pattern, StringBuilder out) {
+        if (s == null) return out;
+        return remove(s, pattern.matcher(s), out);
+    }
+
+    /**
+     * Appends the characters of the sequence that do not match the pattern of the given matcher to a buffer.
+     * The matcher is reset to the sequence, so a single matcher can be reused across calls
+     * to produce no garbage at all.
+     *
+     * @param s       the sequence to be filtered, which appends nothing if {@code null}
+     * @param matcher the matcher to reset and search with
+     * @param out     the buffer that receives the remaining characters
+     * @return {@code out}
+     */
+    public static StringBuilder remove(CharSequence s, Matcher matcher, StringBuilder out) {
+        if (s == null) return out;
+        matcher.reset(s);
+        int end = 0;
+
+        while (matcher.find()) {
+            out.append(s, end, matcher.start());
+            end = matcher.end();
+        }
+        return out.append(s, end, s.length());
     }
 
     /**
-     * Counts the number of characters in the given string that match the specified pattern.
+     * Counts the number of characters in the given string that belong to the code points matched by a matcher.
      *
      * @param s       the string whose matching characters are to be counted
+     * @param matcher the matcher to test each code point with
+     * @return the number of characters that match
+     */
+    private static int count(String s, CategoryMatcher matcher) {
+        return s == null ? 0 : matcher.countIn(s, 0, s.length());
+    }
+
+    /**
+     * Counts the number of characters in the given string that belong to any of the specified categories,
+     * without building a filtered string or compiling any pattern. Supplementary characters count as two.
+     *
+     * @param s          the string whose matching characters are to be counted
+     * @param categories the categories of the characters to count
+     * @return the number of characters of the categories, or 0 if {@code s} is {@code null}
+     */
+    public static int count(String s, EnumSet<UnicodeCharCategory> categories) {
+        return count(s, union(categories));
+    }
+
+    /**
+     * Counts the number of characters in the given sequence that match the specified pattern, without building
+     * a filtered string. The result is the total length of the matches, which for the patterns of this class
+     * is the number of chars of the matching code points.
+     *
+     * @param s       the sequence whose matching characters are to be counted
      * @param pattern the pattern to match characters against
-     * @return the number of characters that match the pattern
+     * @return the number of characters that match the pattern, or 0 if {@code s} is {@code null}
      */
-    private static int count(String s, Pattern pattern) {
-        return s == null ? 0 : filter(s, pattern).length();
+    public static int count(CharSequence s, Pattern pattern) {
+        return s == null ? 0 : countInRange(s, 0, s.length(), pattern);
+    }
+
+    /**
+     * Counts the number of characters in a range of the given sequence that match the specified pattern,
+     * without copying the range or building a filtered string. The range is searched as the region of a
+     * {@link Matcher}, so characters outside of it are not seen.
+     *
+     * @param s       the sequence whose matching characters are to be counted
+     * @param start   the index of the first character of the range
+     * @param end     the index after the last character of the range
+     * @param pattern the pattern to match characters against
+     * @return the number of characters in the range that match the pattern
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code s}
+     */
+    public static int countInRange(CharSequence s, int start, int end, Pattern pattern) {
+        Objects.checkFromToIndex(start, end, s.length());
+        Matcher matcher = pattern.matcher(s).region(start, end);
+        int count = 0;
+
+        while (matcher.find()) {
+            count += matcher.end() - matcher.start();
+        }
+        return count;
+    }
+
+    /**
+     * Counts the number of characters in a range of the given sequence that belong to any of the specified
+     * categories, without copying the range, building a filtered string or compiling any pattern. Supplementary
+     * characters count as two, and a surrogate pair split by a bound of the range is tested as two lone surrogates.
+     *
+     * @param s          the sequence whose matching characters are to be counted
+     * @param start      the index of the first character of the range
+     * @param end        the index after the last character of the range
+     * @param categories the categories of the characters to count
+     * @return the number of characters in the range that belong to the categories
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code s}
+     */
+    public static int countInRange(CharSequence s, int start, int end, EnumSet<UnicodeCharCategory> categories) {
+        Objects.checkFromToIndex(start, end, s.length());
+        return union(categories).countIn(s, start, end);
     }
 
     /**
@@ -1298,7 +1442,7 @@ public class RegexFilter {
      * @return the number of alphanumeric characters
      */
     public static int countAlnum(String s) {
-        return count(s, ALNUM_PATTERN);
+        return count(s, ALNUM_MATCHER);
     }
 
     /**
@@ -1308,7 +1452,7 @@ public class RegexFilter {
      * @return the number of alphabetic characters
      */
     public static int countAlpha(String s) {
-        return count(s, ALPHA_PATTERN);
+        return count(s, ALPHA_MATCHER);
     }
 
     /**
@@ -1318,7 +1462,7 @@ public class RegexFilter {
      * @return the number of ASCII characters
      */
     public static int countAscii(String s) {
-        return count(s, ASCII_PATTERN);
+        return count(s, ASCII_MATCHER);
     }
 
     /**
@@ -1328,7 +1472,7 @@ public class RegexFilter {
      * @return the number of blank characters
      */
     public static int countBlank(String s) {
-        return count(s, BLANK_PATTERN);
+        return count(s, BLANK_MATCHER);
     }
 
     /**
@@ -1338,7 +1482,7 @@ public class RegexFilter {
      * @return the number of control characters
      */
     public static int countCntrl(String s) {
-        return count(s, CNTRL_PATTERN);
+        return count(s, CNTRL_MATCHER);
     }
 
     /**
@@ -1348,7 +1492,7 @@ public class RegexFilter {
      * @return the number of digit characters
      */
     public static int countDigit(String s) {
-        return count(s, DIGIT_PATTERN);
+        return count(s, DIGIT_MATCHER);
     }
 
     /**
@@ -1358,7 +1502,7 @@ public class RegexFilter {
      * @return the number of lowercase alphabetic characters
      */
     public static int countLower(String s) {
-        return count(s, LOWER_PATTERN);
+        return count(s, LOWER_MATCHER);
     }
 
     /**
@@ -1368,7 +1512,7 @@ public class RegexFilter {
      * @return the number of uppercase alphabetic characters
      */
     public static int countUpper(String s) {
-        return count(s, UPPER_PATTERN);
+        return count(s, UPPER_MATCHER);
     }
 
     /**
@@ -1378,7 +1522,7 @@ public class RegexFilter {
      * @return the number of punctuation characters
      */
     public static int countPunct(String s) {
-        return count(s, PUNCT_PATTERN);
+        return count(s, PUNCT_MATCHER);
     }
 
     /**
@@ -1388,7 +1532,7 @@ public class RegexFilter {
      * @return the number of visible characters
      */
     public static int countGraph(String s) {
-        return count(s, GRAPH_PATTERN);
+        return count(s, GRAPH_MATCHER);
     }
 
     /**
@@ -1398,7 +1542,7 @@ public class RegexFilter {
      * @return the number of printable characters
      */
     public static int countPrint(String s) {
-        return count(s, PRINT_PATTERN);
+        return count(s, PRINT_MATCHER);
     }
 
     /**
@@ -1408,7 +1552,7 @@ public class RegexFilter {
      * @return the number of whitespaces
      */
     public static int countSpace(String s) {
-        return count(s, SPACE_PATTERN);
+        return count(s, SPACE_MATCHER);
     }
 
     /**
@@ -1418,7 +1562,7 @@ public class RegexFilter {
      * @return the number of hexadecimal digit characters
      */
     public static int countXDigit(String s) {
-        return count(s, XDIGIT_PATTERN);
+        return count(s, XDIGIT_MATCHER);
     }
 
     /**
@@ -1428,7 +1572,7 @@ public class RegexFilter {
      * @return the number of letter characters
      */
     public static int countLetter(String s) {
-        return count(s, LETTER_PATTERN);
+        return count(s, LETTER_MATCHER);
     }
 
     /**
@@ -1438,7 +1582,7 @@ public class RegexFilter {
      * @return the number of lowercase letter characters
      */
     public static int countLowercaseLetter(String s) {
-        return count(s, LOWERCASE_LETTER_PATTERN);
+        return count(s, LOWERCASE_LETTER_MATCHER);
     }
 
     /**
@@ -1448,7 +1592,7 @@ public class RegexFilter {
      * @return the number of uppercase letter characters
      */
     public static int countUppercaseLetter(String s) {
-        return count(s, UPPERCASE_LETTER_PATTERN);
+        return count(s, UPPERCASE_LETTER_MATCHER);
     }
 
     /**
@@ -1458,7 +1602,7 @@ public class RegexFilter {
      * @return the number of titlecase letter characters
      */
     public static int countTitlecaseLetter(String s) {
-        return count(s, TITLECASE_LETTER_PATTERN);
+        return count(s, TITLECASE_LETTER_MATCHER);
     }
 
     /**
@@ -1468,7 +1612,7 @@ public class RegexFilter {
      * @return the number of cased letter characters
      */
     public static int countCasedLetter(String s) {
-        return count(s, CASED_LETTER_PATTERN);
+        return count(s, CASED_LETTER_MATCHER);
     }
 
     /**
@@ -1478,7 +1622,7 @@ public class RegexFilter {
      * @return the number of modifier letter characters
      */
     public static int countModifierLetter(String s) {
-        return count(s, MODIFIER_LETTER_PATTERN);
+        return count(s, MODIFIER_LETTER_MATCHER);
     }
 
     /**
@@ -1488,7 +1632,7 @@ public class RegexFilter {
      * @return the number of other letter characters
      */
     public static int countOtherLetter(String s) {
-        return count(s, OTHER_LETTER_PATTERN);
+        return count(s, OTHER_LETTER_MATCHER);
     }
 
     /**
@@ -1498,7 +1642,7 @@ public class RegexFilter {
      * @return the number of mark characters
      */
     public static int countMark(String s) {
-        return count(s, MARK_PATTERN);
+        return count(s, MARK_MATCHER);
     }
 
     /**
@@ -1508,7 +1652,7 @@ public class RegexFilter {
      * @return the number of non-spacing mark characters
      */
     public static int countNonSpacingMark(String s) {
-        return count(s, NON_SPACING_MARK_PATTERN);
+        return count(s, NON_SPACING_MARK_MATCHER);
     }
 
     /**
@@ -1518,7 +1662,7 @@ public class RegexFilter {
      * @return the number of spacing combining mark characters
      */
     public static int countSpacingCombiningMark(String s) {
-        return count(s, SPACING_COMBINING_MARK_PATTERN);
+        return count(s, SPACING_COMBINING_MARK_MATCHER);
     }
 
     /**
@@ -1528,7 +1672,7 @@ public class RegexFilter {
      * @return the number of enclosing mark characters
      */
     public static int countEnclosingMark(String s) {
-        return count(s, ENCLOSING_MARK_PATTERN);
+        return count(s, ENCLOSING_MARK_MATCHER);
     }
 
     /**
@@ -1538,7 +1682,7 @@ public class RegexFilter {
      * @return the number of separator characters
      */
     public static int countSeparator(String s) {
-        return count(s, SEPARATOR_PATTERN);
+        return count(s, SEPARATOR_MATCHER);
     }
 
     /**
@@ -1548,7 +1692,7 @@ public class RegexFilter {
      * @return the number of space separator characters
      */
     public static int countSpaceSeparator(String s) {
-        return count(s, SPACE_SEPARATOR_PATTERN);
+        return count(s, SPACE_SEPARATOR_MATCHER);
     }
 
     /**
@@ -1558,7 +1702,7 @@ public class RegexFilter {
      * @return the number of line separator characters
      */
     public static int countLineSeparator(String s) {
-        return count(s, LINE_SEPARATOR_PATTERN);
+        return count(s, LINE_SEPARATOR_MATCHER);
     }
 
     /**
@@ -1568,7 +1712,7 @@ public class RegexFilter {
      * @return the number of paragraph separator characters
      */
     public static int countParagraphSeparator(String s) {
-        return count(s, PARAGRAPH_SEPARATOR_PATTERN);
+        return count(s, PARAGRAPH_SEPARATOR_MATCHER);
     }
 
     /**
@@ -1578,7 +1722,7 @@ public class RegexFilter {
      * @return the number of symbol characters
      */
     public static int countSymbol(String s) {
-        return count(s, SYMBOL_PATTERN);
+        return count(s, SYMBOL_MATCHER);
     }
 
     /**
@@ -1588,7 +1732,7 @@ public class RegexFilter {
      * @return the number of mathematical symbol characters
      */
     public static int countMathSymbol(String s) {
-        return count(s, MATH_SYMBOL_PATTERN);
+        return count(s, MATH_SYMBOL_MATCHER);
     }
 
     /**
@@ -1598,7 +1742,7 @@ public class RegexFilter {
      * @return the number of currency symbol characters
      */
     public static int countCurrencySymbol(String s) {
-        return count(s, CURRENCY_SYMBOL_PATTERN);
+        return count(s, CURRENCY_SYMBOL_MATCHER);
     }
 
     /**
@@ -1608,7 +1752,7 @@ public class RegexFilter {
      * @return the number of modifier symbol characters
      */
     public static int countModifierSymbol(String s) {
-        return count(s, MODIFIER_SYMBOL_PATTERN);
+        return count(s, MODIFIER_SYMBOL_MATCHER);
     }
 
     /**
@@ -1618,7 +1762,7 @@ public class RegexFilter {
      * @return the number of other symbol characters
      */
     public static int countOtherSymbol(String s) {
-        return count(s, OTHER_SYMBOL_PATTERN);
+        return count(s, OTHER_SYMBOL_MATCHER);
     }
 
     /**
@@ -1628,7 +1772,7 @@ public class RegexFilter {
      * @return the number of numeric characters
      */
     public static int countNumber(String s) {
-        return count(s, NUMBER_PATTERN);
+        return count(s, NUMBER_MATCHER);
     }
 
     /**
@@ -1638,7 +1782,7 @@ public class RegexFilter {
      * @return the number of decimal digit number characters
      */
     public static int countDecimalDigitNumber(String s) {
-        return count(s, DECIMAL_DIGIT_NUMBER_PATTERN);
+        return count(s, DECIMAL_DIGIT_NUMBER_MATCHER);
     }
 
     /**
@@ -1648,7 +1792,7 @@ public class RegexFilter {
      * @return the number of letter number characters
      */
     public static int countLetterNumber(String s) {
-        return count(s, LETTER_NUMBER_PATTERN);
+        return count(s, LETTER_NUMBER_MATCHER);
     }
 
     /**
@@ -1658,7 +1802,7 @@ public class RegexFilter {
      * @return the number of other number characters
      */
     public static int countOtherNumber(String s) {
-        return count(s, OTHER_NUMBER_PATTERN);
+        return count(s, OTHER_NUMBER_MATCHER);
     }
 
     /**
@@ -1668,7 +1812,7 @@ public class RegexFilter {
      * @return the number of punctuation characters
      */
     public static int countPunctuation(String s) {
-        return count(s, PUNCTUATION_PATTERN);
+        return count(s, PUNCTUATION_MATCHER);
     }
 
     /**
@@ -1678,7 +1822,7 @@ public class RegexFilter {
      * @return the number of dash punctuation characters
      */
     public static int countDashPunctuation(String s) {
-        return count(s, DASH_PUNCTUATION_PATTERN);
+        return count(s, DASH_PUNCTUATION_MATCHER);
     }
 
     /**
@@ -1688,7 +1832,7 @@ public class RegexFilter {
      * @return the number of open punctuation characters
      */
     public static int countOpenPunctuation(String s) {
-        return count(s, OPEN_PUNCTUATION_PATTERN);
+        return count(s, OPEN_PUNCTUATION_MATCHER);
     }
 
     /**
@@ -1698,7 +1842,7 @@ public class RegexFilter {
      * @return the number of close punctuation characters
      */
     public static int countClosePunctuation(String s) {
-        return count(s, CLOSE_PUNCTUATION_PATTERN);
+        return count(s, CLOSE_PUNCTUATION_MATCHER);
     }
 
     /**
@@ -1708,7 +1852,7 @@ public class RegexFilter {
      * @return the number of initial punctuation characters
      */
     public static int countInitialPunctuation(String s) {
-        return count(s, INITIAL_PUNCTUATION_PATTERN);
+        return count(s, INITIAL_PUNCTUATION_MATCHER);
     }
 
     /**
@@ -1718,7 +1862,7 @@ public class RegexFilter {
      * @return the number of final punctuation characters
      */
     public static int countFinalPunctuation(String s) {
-        return count(s, FINAL_PUNCTUATION_PATTERN);
+        return count(s, FINAL_PUNCTUATION_MATCHER);
     }
 
     /**
@@ -1728,7 +1872,7 @@ public class RegexFilter {
      * @return the number of connector punctuation characters
      */
     public static int countConnectorPunctuation(String s) {
-        return count(s, CONNECTOR_PUNCTUATION_PATTERN);
+        return count(s, CONNECTOR_PUNCTUATION_MATCHER);
     }
 
     /**
@@ -1738,7 +1882,7 @@ public class RegexFilter {
      * @return the number of other punctuation characters
      */
     public static int countOtherPunctuation(String s) {
-        return count(s, OTHER_PUNCTUATION_PATTERN);
+        return count(s, OTHER_PUNCTUATION_MATCHER);
     }
 
     /**
@@ -1748,7 +1892,7 @@ public class RegexFilter {
      * @return the number of 'other' characters
      */
     public static int countOther(String s) {
-        return count(s, OTHER_PATTERN);
+        return count(s, OTHER_MATCHER);
     }
 
     /**
@@ -1758,7 +1902,7 @@ public class RegexFilter {
      * @return the number of control characters
      */
     public static int countControl(String s) {
-        return count(s, CONTROL_PATTERN);
+        return count(s, CONTROL_MATCHER);
     }
 
     /**
@@ -1768,7 +1912,7 @@ public class RegexFilter {
      * @return the number of format characters
      */
     public static int countFormat(String s) {
-        return count(s, FORMAT_PATTERN);
+        return count(s, FORMAT_MATCHER);
     }
 
     /**
@@ -1778,7 +1922,7 @@ public class RegexFilter {
      * @return the number of private use characters
      */
     public static int countPrivateUse(String s) {
-        return count(s, PRIVATE_USE_PATTERN);
+        return count(s, PRIVATE_USE_MATCHER);
     }
 
     /**
@@ -1788,7 +1932,7 @@ public class RegexFilter {
      * @return the number of surrogate pair characters
      */
     public static int countSurrogate(String s) {
-        return count(s, SURROGATE_PATTERN);
+        return count(s, SURROGATE_MATCHER);
     }
 
     /**
@@ -1798,7 +1942,7 @@ public class RegexFilter {
      * @return the number of unassigned characters
      */
     public static int countUnassigned(String s) {
-        return count(s, UNASSIGNED_PATTERN);
+        return count(s, UNASSIGNED_MATCHER);
     }
 
     /**
@@ -1817,7 +1961,7 @@ public class RegexFilter {
      * @return the number of zero-width characters
      */
     public static int countZWChar(String s) {
-        return count(s, ZW_CHAR_PATTERN);
+        return count(s, ZW_CHAR_MATCHER);
     }
 
     /**
@@ -1827,7 +1971,7 @@ public class RegexFilter {
      * @return the number of diacritical letters
      */
     public static int countDiacriticalLetter(String s) {
-        return count(s, DIACRITICAL_LETTER_PATTERN);
+        return count(s, DIACRITICAL_LETTER_MATCHER);
     }
 
     /**
@@ -1837,7 +1981,7 @@ public class RegexFilter {
      * @return the number of alphanumeric and space characters
      */
     public static int countAlnumSpace(String s) {
-        return count(s, ALNUM_SPACE_PATTERN);
+        return count(s, ALNUM_SPACE_MATCHER);
     }
 
     /**
@@ -1847,7 +1991,7 @@ public class RegexFilter {
      * @return the number of alphanumeric characters
      */
     public static int countAlphanumeric(String s) {
-        return count(s, ALPHANUMERIC_PATTERN);
+        return count(s, ALPHANUMERIC_MATCHER);
     }
 
     /**
@@ -1857,6 +2001,9 @@ public class RegexFilter {
      * @return the number of alphanumeric characters and spaces
      */
     public static int countAlphanumericSpace(String s) {
-        return count(s, ALPHANUMERIC_SPACE_PATTERN);
+        return count(s, ALPHANUMERIC_SPACE_MATCHER);
+    }
+
+    private record Union(EnumSet<UnicodeCharCategory> categories, CategoryMatcher matcher) {
     }
 }
@@ -0,0 +1,357 @@
+package org.memoeslink;
+
+import java.util.regex.Pattern;
+
+/**
+ * The pattern constants of {@link RegexFilter}, which are meant to be read through that class, as in
+ * {@code RegexFilter.LETTER_PATTERN}. They are declared here rather than in the class itself, since a class does not
+ * initialize the interfaces it implements: the patterns are only compiled when one of the constants is read, not
+ * when a method of {@code RegexFilter} is called. The interface is package-private so that it stays out of the API,
+ * while its fields are still inherited as public constants of {@code RegexFilter}. Reading any one of them still
+ * compiles all of them, so they are deprecated in favor of {@link UnicodeCharCategory#getPattern()} and
+ * {@link UnicodeCharCategory#getExceptPattern()}, which compile a single pattern on first use.
+ */
+interface RegexFilterPatterns {
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#ALNUM}. */
+    @Deprecated
+    Pattern ALNUM_PATTERN = UnicodeCharCategory.ALNUM.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#ALPHA}. */
+    @Deprecated
+    Pattern ALPHA_PATTERN = UnicodeCharCategory.ALPHA.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#ASCII}. */
+    @Deprecated
+    Pattern ASCII_PATTERN = UnicodeCharCategory.ASCII.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#BLANK}. */
+    @Deprecated
+    Pattern BLANK_PATTERN = UnicodeCharCategory.BLANK.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#CNTRL}. */
+    @Deprecated
+    Pattern CNTRL_PATTERN = UnicodeCharCategory.CNTRL.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#DIGIT}. */
+    @Deprecated
+    Pattern DIGIT_PATTERN = UnicodeCharCategory.DIGIT.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#LOWER}. */
+    @Deprecated
+    Pattern LOWER_PATTERN = UnicodeCharCategory.LOWER.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#UPPER}. */
+    @Deprecated
+    Pattern UPPER_PATTERN = UnicodeCharCategory.UPPER.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#PUNCT}. */
+    @Deprecated
+    Pattern PUNCT_PATTERN = UnicodeCharCategory.PUNCT.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#GRAPH}. */
+    @Deprecated
+    Pattern GRAPH_PATTERN = UnicodeCharCategory.GRAPH.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#PRINT}. */
+    @Deprecated
+    Pattern PRINT_PATTERN = UnicodeCharCategory.PRINT.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#SPACE}. */
+    @Deprecated
+    Pattern SPACE_PATTERN = UnicodeCharCategory.SPACE.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#XDIGIT}. */
+    @Deprecated
+    Pattern XDIGIT_PATTERN = UnicodeCharCategory.XDIGIT.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#LETTER}. */
+    @Deprecated
+    Pattern LETTER_PATTERN = UnicodeCharCategory.LETTER.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#LOWERCASE_LETTER}. */
+    @Deprecated
+    Pattern LOWERCASE_LETTER_PATTERN = UnicodeCharCategory.LOWERCASE_LETTER.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#UPPERCASE_LETTER}. */
+    @Deprecated
+    Pattern UPPERCASE_LETTER_PATTERN = UnicodeCharCategory.UPPERCASE_LETTER.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#TITLECASE_LETTER}. */
+    @Deprecated
+    Pattern TITLECASE_LETTER_PATTERN = UnicodeCharCategory.TITLECASE_LETTER.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#CASED_LETTER}. */
+    @Deprecated
+    Pattern CASED_LETTER_PATTERN = UnicodeCharCategory.CASED_LETTER.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#MODIFIER_LETTER}. */
+    @Deprecated
+    Pattern MODIFIER_LETTER_PATTERN = UnicodeCharCategory.MODIFIER_LETTER.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#OTHER_LETTER}. */
+    @Deprecated
+    Pattern OTHER_LETTER_PATTERN = UnicodeCharCategory.OTHER_LETTER.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#MARK}. */
+    @Deprecated
+    Pattern MARK_PATTERN = UnicodeCharCategory.MARK.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#NON_SPACING_MARK}. */
+    @Deprecated
+    Pattern NON_SPACING_MARK_PATTERN = UnicodeCharCategory.NON_SPACING_MARK.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#SPACING_COMBINING_MARK}. */
+    @Deprecated
+    Pattern SPACING_COMBINING_MARK_PATTERN = UnicodeCharCategory.SPACING_COMBINING_MARK.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#ENCLOSING_MARK}. */
+    @Deprecated
+    Pattern ENCLOSING_MARK_PATTERN = UnicodeCharCategory.ENCLOSING_MARK.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#SEPARATOR}. */
+    @Deprecated
+    Pattern SEPARATOR_PATTERN = UnicodeCharCategory.SEPARATOR.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#SPACE_SEPARATOR}. */
+    @Deprecated
+    Pattern SPACE_SEPARATOR_PATTERN = UnicodeCharCategory.SPACE_SEPARATOR.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#LINE_SEPARATOR}. */
+    @Deprecated
+    Pattern LINE_SEPARATOR_PATTERN = UnicodeCharCategory.LINE_SEPARATOR.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#PARAGRAPH_SEPARATOR}. */
+    @Deprecated
+    Pattern PARAGRAPH_SEPARATOR_PATTERN = UnicodeCharCategory.PARAGRAPH_SEPARATOR.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#SYMBOL}. */
+    @Deprecated
+    Pattern SYMBOL_PATTERN = UnicodeCharCategory.SYMBOL.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#MATH_SYMBOL}. */
+    @Deprecated
+    Pattern MATH_SYMBOL_PATTERN = UnicodeCharCategory.MATH_SYMBOL.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#CURRENCY_SYMBOL}. */
+    @Deprecated
+    Pattern CURRENCY_SYMBOL_PATTERN = UnicodeCharCategory.CURRENCY_SYMBOL.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#MODIFIER_SYMBOL}. */
+    @Deprecated
+    Pattern MODIFIER_SYMBOL_PATTERN = UnicodeCharCategory.MODIFIER_SYMBOL.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#OTHER_SYMBOL}. */
+    @Deprecated
+    Pattern OTHER_SYMBOL_PATTERN = UnicodeCharCategory.OTHER_SYMBOL.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#NUMBER}. */
+    @Deprecated
+    Pattern NUMBER_PATTERN = UnicodeCharCategory.NUMBER.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#DECIMAL_DIGIT_NUMBER}. */
+    @Deprecated
+    Pattern DECIMAL_DIGIT_NUMBER_PATTERN = UnicodeCharCategory.DECIMAL_DIGIT_NUMBER.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#LETTER_NUMBER}. */
+    @Deprecated
+    Pattern LETTER_NUMBER_PATTERN = UnicodeCharCategory.LETTER_NUMBER.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#OTHER_NUMBER}. */
+    @Deprecated
+    Pattern OTHER_NUMBER_PATTERN = UnicodeCharCategory.OTHER_NUMBER.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#PUNCTUATION}. */
+    @Deprecated
+    Pattern PUNCTUATION_PATTERN = UnicodeCharCategory.PUNCTUATION.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#DASH_PUNCTUATION}. */
+    @Deprecated
+    Pattern DASH_PUNCTUATION_PATTERN = UnicodeCharCategory.DASH_PUNCTUATION.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#OPEN_PUNCTUATION}. */
+    @Deprecated
+    Pattern OPEN_PUNCTUATION_PATTERN = UnicodeCharCategory.OPEN_PUNCTUATION.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#CLOSE_PUNCTUATION}. */
+    @Deprecated
+    Pattern CLOSE_PUNCTUATION_PATTERN = UnicodeCharCategory.CLOSE_PUNCTUATION.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#INITIAL_PUNCTUATION}. */
+    @Deprecated
+    Pattern INITIAL_PUNCTUATION_PATTERN = UnicodeCharCategory.INITIAL_PUNCTUATION.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#FINAL_PUNCTUATION}. */
+    @Deprecated
+    Pattern FINAL_PUNCTUATION_PATTERN = UnicodeCharCategory.FINAL_PUNCTUATION.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#CONNECTOR_PUNCTUATION}. */
+    @Deprecated
+    Pattern CONNECTOR_PUNCTUATION_PATTERN = UnicodeCharCategory.CONNECTOR_PUNCTUATION.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#OTHER_PUNCTUATION}. */
+    @Deprecated
+    Pattern OTHER_PUNCTUATION_PATTERN = UnicodeCharCategory.OTHER_PUNCTUATION.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#OTHER}. */
+    @Deprecated
+    Pattern OTHER_PATTERN = UnicodeCharCategory.OTHER.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#CONTROL}. */
+    @Deprecated
+    Pattern CONTROL_PATTERN = UnicodeCharCategory.CONTROL.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#FORMAT}. */
+    @Deprecated
+    Pattern FORMAT_PATTERN = UnicodeCharCategory.FORMAT.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#PRIVATE_USE}. */
+    @Deprecated
+    Pattern PRIVATE_USE_PATTERN = UnicodeCharCategory.PRIVATE_USE.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#SURROGATE}. */
+    @Deprecated
+    Pattern SURROGATE_PATTERN = UnicodeCharCategory.SURROGATE.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#UNASSIGNED}. */
+    @Deprecated
+    Pattern UNASSIGNED_PATTERN = UnicodeCharCategory.UNASSIGNED.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#ZERO_WIDTH_CHAR}. */
+    @Deprecated
+    Pattern ZW_CHAR_PATTERN = UnicodeCharCategory.ZERO_WIDTH_CHAR.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#DIACRITICAL_LETTER}. */
+    @Deprecated
+    Pattern DIACRITICAL_LETTER_PATTERN = UnicodeCharCategory.DIACRITICAL_LETTER.getPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getPattern()} of {@link UnicodeCharCategory#DIACRITIC}. */
+    @Deprecated
+    Pattern DIACRITIC_PATTERN = UnicodeCharCategory.DIACRITIC.getPattern();
+    /** @deprecated Use {@link RegexFilter#keep(String, java.util.EnumSet)} with {@link UnicodeCharCategory#ALNUM} and {@link UnicodeCharCategory#SPACE}. */
+    @Deprecated
+    Pattern ALNUM_SPACE_PATTERN = Pattern.compile("[" + UnicodeCharCategory.ALNUM_REGEX + UnicodeCharCategory.SPACE_REGEX + "]");
+    /** @deprecated Use {@link RegexFilter#keep(String, java.util.EnumSet)} with {@link UnicodeCharCategory#LETTER} and {@link UnicodeCharCategory#DIGIT}. */
+    @Deprecated
+    Pattern ALPHANUMERIC_PATTERN = Pattern.compile("[" + UnicodeCharCategory.LETTER_REGEX + UnicodeCharCategory.DIGIT_REGEX + "]");
+    /** @deprecated Use {@link RegexFilter#keep(String, java.util.EnumSet)} with {@link UnicodeCharCategory#LETTER} and {@link UnicodeCharCategory#DIGIT} and {@link UnicodeCharCategory#SPACE}. */
+    @Deprecated
+    Pattern ALPHANUMERIC_SPACE_PATTERN = Pattern.compile("[" + UnicodeCharCategory.LETTER_REGEX + UnicodeCharCategory.DIGIT_REGEX + UnicodeCharCategory.SPACE_REGEX + "]");
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#ALNUM}. */
+    @Deprecated
+    Pattern EXCEPT_ALNUM_PATTERN = UnicodeCharCategory.ALNUM.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#ALPHA}. */
+    @Deprecated
+    Pattern EXCEPT_ALPHA_PATTERN = UnicodeCharCategory.ALPHA.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#ASCII}. */
+    @Deprecated
+    Pattern EXCEPT_ASCII_PATTERN = UnicodeCharCategory.ASCII.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#BLANK}. */
+    @Deprecated
+    Pattern EXCEPT_BLANK_PATTERN = UnicodeCharCategory.BLANK.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#CNTRL}. */
+    @Deprecated
+    Pattern EXCEPT_CNTRL_PATTERN = UnicodeCharCategory.CNTRL.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#DIGIT}. */
+    @Deprecated
+    Pattern EXCEPT_DIGIT_PATTERN = UnicodeCharCategory.DIGIT.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#LOWER}. */
+    @Deprecated
+    Pattern EXCEPT_LOWER_PATTERN = UnicodeCharCategory.LOWER.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#UPPER}. */
+    @Deprecated
+    Pattern EXCEPT_UPPER_PATTERN = UnicodeCharCategory.UPPER.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#PUNCT}. */
+    @Deprecated
+    Pattern EXCEPT_PUNCT_PATTERN = UnicodeCharCategory.PUNCT.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#GRAPH}. */
+    @Deprecated
+    Pattern EXCEPT_GRAPH_PATTERN = UnicodeCharCategory.GRAPH.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#PRINT}. */
+    @Deprecated
+    Pattern EXCEPT_PRINT_PATTERN = UnicodeCharCategory.PRINT.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#SPACE}. */
+    @Deprecated
+    Pattern EXCEPT_SPACE_PATTERN = UnicodeCharCategory.SPACE.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#XDIGIT}. */
+    @Deprecated
+    Pattern EXCEPT_XDIGIT_PATTERN = UnicodeCharCategory.XDIGIT.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#LETTER}. */
+    @Deprecated
+    Pattern EXCEPT_LETTER_PATTERN = UnicodeCharCategory.LETTER.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#LOWERCASE_LETTER}. */
+    @Deprecated
+    Pattern EXCEPT_LOWERCASE_LETTER_PATTERN = UnicodeCharCategory.LOWERCASE_LETTER.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#UPPERCASE_LETTER}. */
+    @Deprecated
+    Pattern EXCEPT_UPPERCASE_LETTER_PATTERN = UnicodeCharCategory.UPPERCASE_LETTER.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#TITLECASE_LETTER}. */
+    @Deprecated
+    Pattern EXCEPT_TITLECASE_LETTER_PATTERN = UnicodeCharCategory.TITLECASE_LETTER.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#CASED_LETTER}. */
+    @Deprecated
+    Pattern EXCEPT_CASED_LETTER_PATTERN = UnicodeCharCategory.CASED_LETTER.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#MODIFIER_LETTER}. */
+    @Deprecated
+    Pattern EXCEPT_MODIFIER_LETTER_PATTERN = UnicodeCharCategory.MODIFIER_LETTER.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#OTHER_LETTER}. */
+    @Deprecated
+    Pattern EXCEPT_OTHER_LETTER_PATTERN = UnicodeCharCategory.OTHER_LETTER.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#MARK}. */
+    @Deprecated
+    Pattern EXCEPT_MARK_PATTERN = UnicodeCharCategory.MARK.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#NON_SPACING_MARK}. */
+    @Deprecated
+    Pattern EXCEPT_NON_SPACING_MARK_PATTERN = UnicodeCharCategory.NON_SPACING_MARK.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#SPACING_COMBINING_MARK}. */
+    @Deprecated
+    Pattern EXCEPT_SPACING_COMBINING_MARK_PATTERN = UnicodeCharCategory.SPACING_COMBINING_MARK.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#ENCLOSING_MARK}. */
+    @Deprecated
+    Pattern EXCEPT_ENCLOSING_MARK_PATTERN = UnicodeCharCategory.ENCLOSING_MARK.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#SEPARATOR}. */
+    @Deprecated
+    Pattern EXCEPT_SEPARATOR_PATTERN = UnicodeCharCategory.SEPARATOR.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#SPACE_SEPARATOR}. */
+    @Deprecated
+    Pattern EXCEPT_SPACE_SEPARATOR_PATTERN = UnicodeCharCategory.SPACE_SEPARATOR.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#LINE_SEPARATOR}. */
+    @Deprecated
+    Pattern EXCEPT_LINE_SEPARATOR_PATTERN = UnicodeCharCategory.LINE_SEPARATOR.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#PARAGRAPH_SEPARATOR}. */
+    @Deprecated
+    Pattern EXCEPT_PARAGRAPH_SEPARATOR_PATTERN = UnicodeCharCategory.PARAGRAPH_SEPARATOR.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#SYMBOL}. */
+    @Deprecated
+    Pattern EXCEPT_SYMBOL_PATTERN = UnicodeCharCategory.SYMBOL.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#MATH_SYMBOL}. */
+    @Deprecated
+    Pattern EXCEPT_MATH_SYMBOL_PATTERN = UnicodeCharCategory.MATH_SYMBOL.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#CURRENCY_SYMBOL}. */
+    @Deprecated
+    Pattern EXCEPT_CURRENCY_SYMBOL_PATTERN = UnicodeCharCategory.CURRENCY_SYMBOL.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#MODIFIER_SYMBOL}. */
+    @Deprecated
+    Pattern EXCEPT_MODIFIER_SYMBOL_PATTERN = UnicodeCharCategory.MODIFIER_SYMBOL.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#OTHER_SYMBOL}. */
+    @Deprecated
+    Pattern EXCEPT_OTHER_SYMBOL_PATTERN = UnicodeCharCategory.OTHER_SYMBOL.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#NUMBER}. */
+    @Deprecated
+    Pattern EXCEPT_NUMBER_PATTERN = UnicodeCharCategory.NUMBER.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#DECIMAL_DIGIT_NUMBER}. */
+    @Deprecated
+    Pattern EXCEPT_DECIMAL_DIGIT_NUMBER_PATTERN = UnicodeCharCategory.DECIMAL_DIGIT_NUMBER.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#LETTER_NUMBER}. */
+    @Deprecated
+    Pattern EXCEPT_LETTER_NUMBER_PATTERN = UnicodeCharCategory.LETTER_NUMBER.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#OTHER_NUMBER}. */
+    @Deprecated
+    Pattern EXCEPT_OTHER_NUMBER_PATTERN = UnicodeCharCategory.OTHER_NUMBER.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#PUNCTUATION}. */
+    @Deprecated
+    Pattern EXCEPT_PUNCTUATION_PATTERN = UnicodeCharCategory.PUNCTUATION.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#DASH_PUNCTUATION}. */
+    @Deprecated
+    Pattern EXCEPT_DASH_PUNCTUATION_PATTERN = UnicodeCharCategory.DASH_PUNCTUATION.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#OPEN_PUNCTUATION}. */
+    @Deprecated
+    Pattern EXCEPT_OPEN_PUNCTUATION_PATTERN = UnicodeCharCategory.OPEN_PUNCTUATION.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#CLOSE_PUNCTUATION}. */
+    @Deprecated
+    Pattern EXCEPT_CLOSE_PUNCTUATION_PATTERN = UnicodeCharCategory.CLOSE_PUNCTUATION.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#INITIAL_PUNCTUATION}. */
+    @Deprecated
+    Pattern EXCEPT_INITIAL_PUNCTUATION_PATTERN = UnicodeCharCategory.INITIAL_PUNCTUATION.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#FINAL_PUNCTUATION}. */
+    @Deprecated
+    Pattern EXCEPT_FINAL_PUNCTUATION_PATTERN = UnicodeCharCategory.FINAL_PUNCTUATION.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#CONNECTOR_PUNCTUATION}. */
+    @Deprecated
+    Pattern EXCEPT_CONNECTOR_PUNCTUATION_PATTERN = UnicodeCharCategory.CONNECTOR_PUNCTUATION.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#OTHER_PUNCTUATION}. */
+    @Deprecated
+    Pattern EXCEPT_OTHER_PUNCTUATION_PATTERN = UnicodeCharCategory.OTHER_PUNCTUATION.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#OTHER}. */
+    @Deprecated
+    Pattern EXCEPT_OTHER_PATTERN = UnicodeCharCategory.OTHER.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#CONTROL}. */
+    @Deprecated
+    Pattern EXCEPT_CONTROL_PATTERN = UnicodeCharCategory.CONTROL.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#FORMAT}. */
+    @Deprecated
+    Pattern EXCEPT_FORMAT_PATTERN = UnicodeCharCategory.FORMAT.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#PRIVATE_USE}. */
+    @Deprecated
+    Pattern EXCEPT_PRIVATE_USE_PATTERN = UnicodeCharCategory.PRIVATE_USE.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#SURROGATE}. */
+    @Deprecated
+    Pattern EXCEPT_SURROGATE_PATTERN = UnicodeCharCategory.SURROGATE.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#UNASSIGNED}. */
+    @Deprecated
+    Pattern EXCEPT_UNASSIGNED_PATTERN = UnicodeCharCategory.UNASSIGNED.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#ZERO_WIDTH_CHAR}. */
+    @Deprecated
+    Pattern EXCEPT_ZW_CHAR_PATTERN = UnicodeCharCategory.ZERO_WIDTH_CHAR.getExceptPattern();
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#DIACRITICAL_LETTER}. */
+    @Deprecated
+    Pattern EXCEPT_DIACRITICAL_LETTER_PATTERN = UnicodeCharCategory.DIACRITICAL_LETTER.getExceptPattern();
+    /** @deprecated Use {@link RegexFilter#remove(String, java.util.EnumSet)} with {@link UnicodeCharCategory#ALNUM} and {@link UnicodeCharCategory#SPACE}. */
+    @Deprecated
+    Pattern EXCEPT_ALNUM_SPACE_PATTERN = Pattern.compile("[^" + UnicodeCharCategory.ALNUM_REGEX + UnicodeCharCategory.SPACE_REGEX + "]");
+    /** @deprecated Use {@link RegexFilter#remove(String, java.util.EnumSet)} with {@link UnicodeCharCategory#LETTER} and {@link UnicodeCharCategory#DIGIT}. */
+    @Deprecated
+    Pattern EXCEPT_ALPHANUMERIC_PATTERN = Pattern.compile("[^" + UnicodeCharCategory.LETTER_REGEX + UnicodeCharCategory.DIGIT_REGEX + "]");
+    /** @deprecated Use {@link RegexFilter#remove(String, java.util.EnumSet)} with {@link UnicodeCharCategory#LETTER} and {@link UnicodeCharCategory#DIGIT} and {@link UnicodeCharCategory#SPACE}. */
+    @Deprecated
+    Pattern EXCEPT_ALPHANUMERIC_SPACE_PATTERN = Pattern.compile("[^" + UnicodeCharCategory.LETTER_REGEX + UnicodeCharCategory.DIGIT_REGEX + UnicodeCharCategory.SPACE_REGEX + "]");
+    /** @deprecated Use {@link UnicodeCharCategory#getExceptPattern()} of {@link UnicodeCharCategory#DIACRITIC}. */
+    @Deprecated
+    Pattern EXCEPT_DIACRITIC_PATTERN = UnicodeCharCategory.DIACRITIC.getExceptPattern();
+}
@@ -0,0 +1,276 @@
+package org.memoeslink;
+
+import java.text.Normalizer;
+import java.util.function.IntPredicate;
+
+/**
+ * A text cleanup pipeline that applies several steps in a single pass, replacing chains such as
+ * {@code StringHelper.trim(collapse(StringHelper.stripAccents(RegexFilter.removeCntrl(StringFilter.removeZeroWidthSpaces(s)))))}
+ * that allocate a string per step. The removal steps of a sanitizer are compiled into one lookup table of
+ * the Basic Multilingual Plane when it is built, so every char is tested once no matter how many steps
+ * are enabled.
+ * <p>
+ * The steps always run in this order, whatever the order in which they were added to the builder:
+ * canonical decomposition (only for {@link Builder#stripAccents()}, and only if a quick check finds
+ * characters that need it), removal of characters, whitespace collapsing and trimming. The removal predicates
+ * therefore see the base letters of accented characters, whether they were decomposed or folded through a table.
+ * A sanitizer is immutable and can be shared between threads.
+ */
+public final class Sanitizer {
+    private static final int DIACRITICS_START = 0x0300;
+    private static final int DIACRITICS_END = 0x036F;
+    private final CharMatcher removed;
+    private final IntPredicate removedSupplementary;
+    private final boolean stripAccents;
+    private final boolean collapseWhitespaces;
+    private final boolean trim;
+
+    private Sanitizer(Builder builder) {
+        IntPredicate removed = builder.removed;
+
+        if (builder.stripAccents) removed = removed.or(c -> c >= DIACRITICS_START && c <= DIACRITICS_END);
+        this.removed = CharMatcher.forPredicate(removed);
+        this.removedSupplementary = removed;
+        this.stripAccents = builder.stripAccents;
+        this.collapseWhitespaces = builder.collapseWhitespaces;
+        this.trim = builder.trim;
+    }
+
+    /**
+     * Creates a builder of a sanitizer with no steps.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Applies the steps of this sanitizer to the given string.
+     *
+     * @param s the string to sanitize
+     * @return the sanitized string, which is {@code s} itself if no step changed it,
+     * or the original string if it is {@code null} or empty
+     */
+    public String sanitize(String s) {
+        if (StringHelper.isNullOrEmpty(s)) return s;
+        String source = stripAccents && needsDecomposition(s) ? Normalizer.normalize(s, Normalizer.Form.NFD) : s;
+        StringBuilder sb = sanitize(source, new StringBuilder(source.length()), source != s);
+
+        if (source == s && s.contentEquals(sb)) return s;
+        return sb.toString();
+    }
+
+    /**
+     * Appends the given sequence with the steps of this sanitizer applied to a buffer,
+     * so that a buffer reused across calls produces no intermediate strings.
+     *
+     * @param s   the sequence to sanitize, which appends nothing if {@code null}
+     * @param out the buffer that receives the sanitized sequence
+     * @return {@code out}
+     */
+    public StringBuilder sanitize(CharSequence s, StringBuilder out) {
+        if (s == null) return out;
+
+        if (stripAccents && needsDecomposition(s)) s = Normalizer.normalize(s, Normalizer.Form.NFD);
+        return sanitize(s, out, false);
+    }
+
+    /**
+     * Runs the fused pass over a sequence that needs no further decomposition.
+     *
+     * @param s          the sequence to sanitize
+     * @param out        the buffer that receives the sanitized sequence
+     * @param decomposed whether {@code s} is already in canonical decomposition
+     * @return {@code out}
+     */
+    private StringBuilder sanitize(CharSequence s, StringBuilder out, boolean decomposed) {
+        int start = out.length();
+        int end = start; // End of the output after the last char that trimming keeps
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < s.length(); ) {
+            char c = s.charAt(i);
+            int codePoint = c;
+            int charCount = 1;
+
+            if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+                codePoint = Character.toCodePoint(c, s.charAt(i + 1));
+                charCount = 2;
+            }
+            i += charCount;
+
+            if (stripAccents && !decomposed && AccentFolding.isCovered(codePoint)) {
+                c = AccentFolding.fold(codePoint); // Removal sees the base letter, as it would after decomposing
+                codePoint = c;
+            }
+
+            if (charCount == 1 ? removed.matches(c) : removedSupplementary.test(codePoint)) continue;
+
+            if (collapseWhitespaces && CharHelper.isWhitespace(codePoint)) {
+                pendingSpace = true;
+                continue;
+            }
+
+            if (pendingSpace) {
+                end = append(out, ' ', start, end);
+                pendingSpace = false;
+            }
+
+            if (charCount == 1) {
+                end = append(out, c, start, end);
+            } else {
+                out.appendCodePoint(codePoint);
+                end = out.length();
+            }
+        }
+
+        if (pendingSpace) end = append(out, ' ', start, end);
+
+        if (trim) out.setLength(end);
+        return out;
+    }
+
+    /**
+     * Appends a char, skipping it if trimming is enabled and it would lead the output.
+     *
+     * @param out   the output buffer
+     * @param c     the char to append
+     * @param start the start of the output in the buffer
+     * @param end   the end of the output after the last char that trimming keeps
+     * @return the new end of the output after the last char that trimming keeps
+     */
+    private int append(StringBuilder out, char c, int start, int end) {
+        boolean trimmed = c <= ' ';
+
+        if (trim && trimmed && out.length() == start) return end;
+        out.append(c);
+        return trimmed ? end : out.length();
+    }
+
+    /**
+     * Checks if a sequence has characters that the accent folding table cannot handle on its own, that is,
+     * characters outside of the table that have a canonical decomposition or combining marks that canonical
+     * ordering could move. Latin letters and the combining diacritical marks, which are removed anyway,
+     * never require a decomposition.
+     *
+     * @param s the sequence to check
+     * @return {@code true} if {@code s} must be decomposed before stripping accents, otherwise {@code false}
+     */
+    private static boolean needsDecomposition(CharSequence s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+
+            if (c < 0xC0 || AccentFolding.isCovered(c) || (c >= DIACRITICS_START && c <= DIACRITICS_END)) continue;
+
+            if (Character.isSurrogate(c) || DecompositionHolder.DECOMPOSABLE.matches(c)) return true;
+        }
+        return false;
+    }
+
+    private static final class DecompositionHolder {
+        private static final CharMatcher DECOMPOSABLE = CharMatcher.forPredicate(c -> {
+            int type = Character.getType(c);
+
+            if (type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK || type == Character.ENCLOSING_MARK)
+                return true;
+            return !Normalizer.isNormalized(String.valueOf((char) c), Normalizer.Form.NFD);
+        });
+    }
+
+    /**
+     * A builder of {@link Sanitizer} instances. Each method enables a step and returns the builder.
+     */
+    public static final class Builder {
+        private IntPredicate removed = c -> false;
+        private boolean stripAccents;
+        private boolean collapseWhitespaces;
+        private boolean trim;
+
+        private Builder() {
+        }
+
+        /**
+         * Removes the zero-width characters, like {@link StringFilter#removeZeroWidthSpaces(String)}.
+         *
+         * @return this builder
+         */
+        public Builder removeZeroWidthChars() {
+            return remove(CharHelper::isZeroWidthChar);
+        }
+
+        /**
+         * Removes the control characters (U+0000 to U+001F and U+007F), like {@link RegexFilter#removeCntrl(String)}.
+         * This includes tabs and line breaks.
+         *
+         * @return this builder
+         */
+        public Builder removeCntrl() {
+            return remove(c -> c < 0x20 || c == 0x7F);
+        }
+
+        /**
+         * Removes the format characters (Cf), like {@link RegexFilter#removeFormat(String)}.
+         *
+         * @return this builder
+         */
+        public Builder removeFormat() {
+            return remove(c -> UnicodeCharacter.getType(c) == Character.FORMAT);
+        }
+
+        /**
+         * Removes the code points that match the given predicate.
+         *
+         * @param predicate a predicate to test each code point
+         * @return this builder
+         */
+        public Builder remove(IntPredicate predicate) {
+            removed = removed.or(predicate);
+            return this;
+        }
+
+        /**
+         * Strips accents, leaving behind the base characters, like {@link StringHelper#stripAccents(String)}.
+         * Latin letters are folded through a precomputed table, and the whole input is only decomposed when it has
+         * other characters with a canonical decomposition or combining marks.
+         *
+         * @return this builder
+         */
+        public Builder stripAccents() {
+            stripAccents = true;
+            return this;
+        }
+
+        /**
+         * Replaces each run of whitespace characters with a single space (U+0020). Whitespace is defined as by
+         * {@link CharHelper#isWhitespace(int)} and {@link Character#isWhitespace(int)}, the same set that the regex
+         * class {@code \p{javaWhitespace}} matches, so it includes the ideographic space (U+3000) and the other
+         * Unicode space separators except the no-break spaces.
+         *
+         * @return this builder
+         */
+        public Builder collapseWhitespaces() {
+            collapseWhitespaces = true;
+            return this;
+        }
+
+        /**
+         * Removes the characters up to U+0020 from both ends, like {@link StringHelper#trim(String)}.
+         *
+         * @return this builder
+         */
+        public Builder trim() {
+            trim = true;
+            return this;
+        }
+
+        /**
+         * Builds a sanitizer with the steps enabled so far.
+         *
+         * @return a new sanitizer
+         */
+        public Sanitizer build() {
+            return new Sanitizer(this);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package org.memoeslink;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The number of code points of each script in a string, computed in a single pass over the script table
+ * of the pinned Unicode data. Characters shared by several scripts (Common), combining marks that take the
+ * script of their base (Inherited) and unassigned code points (Unknown) are counted but never decide
+ * whether a string is mixed.
+ * <p>
+ * As in the augmented script sets of UTS #39, Han, Hiragana, Katakana, Hangul and Bopomofo are not told apart when
+ * they are written together as one CJK writing system: Japanese (Han, Hiragana and Katakana), Korean (Han and Hangul)
+ * or Han with Bopomofo. Such a string counts as a single script, whose dominant script is the one of the system with
+ * the most code points. Kana mixed with Hangul or Bopomofo still makes a string mixed.
+ */
+public final class ScriptProfile {
+    private static final Character.UnicodeScript[] SCRIPTS = new Character.UnicodeScript[UnicodeCharacter.getScriptCount()];
+    private static final int UNKNOWN = indexOf(Character.UnicodeScript.UNKNOWN);
+    private static final int COMMON = indexOf(Character.UnicodeScript.COMMON);
+    private static final int INHERITED = indexOf(Character.UnicodeScript.INHERITED);
+    private static final int LATIN = indexOf(Character.UnicodeScript.LATIN);
+    private static final int HAN = indexOf(Character.UnicodeScript.HAN);
+    private static final int HIRAGANA = indexOf(Character.UnicodeScript.HIRAGANA);
+    private static final int KATAKANA = indexOf(Character.UnicodeScript.KATAKANA);
+    private static final int HANGUL = indexOf(Character.UnicodeScript.HANGUL);
+    private static final int BOPOMOFO = indexOf(Character.UnicodeScript.BOPOMOFO);
+    private static final int HAN_GROUP = 1;
+    private static final int JAPANESE_GROUP = 2; // Hiragana and Katakana
+    private static final int KOREAN_GROUP = 4;
+    private static final int BOPOMOFO_GROUP = 8;
+    private final int[] counts;
+    private final int dominant;
+    private final int distinct;
+
+    static {
+        for (int i = 0; i < SCRIPTS.length; i++) {
+            try {
+                SCRIPTS[i] = Character.UnicodeScript.valueOf(UnicodeCharacter.getScriptName(i));
+            } catch (IllegalArgumentException e) {
+                SCRIPTS[i] = Character.UnicodeScript.UNKNOWN; // Script newer than the running JDK
+            }
+        }
+    }
+
+    private ScriptProfile(int[] counts) {
+        this.counts = counts;
+        int dominant = COMMON;
+        int dominantCount = 0;
+        int distinct = 0;
+        int groups = 0;
+        int cjkCount = 0;
+
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0 || !isSpecific(i)) continue;
+            int group = cjkGroup(i);
+
+            if (group != 0) {
+                groups |= group;
+                cjkCount += counts[i];
+                continue;
+            }
+            distinct++;
+
+            if (counts[i] > dominantCount) {
+                dominant = i;
+                dominantCount = counts[i];
+            }
+        }
+
+        if (isSingleCjkSystem(groups)) {
+            // One writing system, counted as a whole and represented by its most frequent script
+            distinct++;
+
+            if (cjkCount > dominantCount) dominant = largestCjkScript(counts);
+        } else {
+            // Incompatible systems, such as kana with Hangul, are counted script by script
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0 || cjkGroup(i) == 0) continue;
+                distinct++;
+
+                if (counts[i] > dominantCount) {
+                    dominant = i;
+                    dominantCount = counts[i];
+                }
+            }
+        }
+        this.dominant = dominant;
+        this.distinct = distinct;
+    }
+
+    /**
+     * Computes the script profile of the given string.
+     *
+     * @param s the string to analyze
+     * @return the profile of {@code s}, which is empty if {@code s} is {@code null}
+     */
+    public static ScriptProfile of(CharSequence s) {
+        int[] counts = new int[SCRIPTS.length];
+
+        if (s == null) return new ScriptProfile(counts);
+
+        for (int i = 0; i < s.length(); ) {
+            char c = s.charAt(i);
+
+            if (c < 0x80) {
+                counts[CharHelper.isAsciiAlpha(c) ? LATIN : COMMON]++;
+                i++;
+                continue;
+            }
+            int codePoint = Character.codePointAt(s, i);
+            counts[UnicodeCharacter.getScript(codePoint)]++;
+            i += Character.charCount(codePoint);
+        }
+        return new ScriptProfile(counts);
+    }
+
+    /**
+     * Checks if the given string uses at most one script, ignoring Common, Inherited and Unknown characters.
+     * The check stops at the first character of a second script.
+     *
+     * @param s the string to check
+     * @return {@code true} if {@code s} uses a single script or none, otherwise {@code false}
+     */
+    public static boolean isSingleScript(CharSequence s) {
+        if (s == null) return true;
+        int found = -1;
+        int groups = 0;
+
+        for (int i = 0; i < s.length(); ) {
+            char c = s.charAt(i);
+            int script;
+
+            if (c < 0x80) {
+                script = CharHelper.isAsciiAlpha(c) ? LATIN : COMMON;
+                i++;
+            } else {
+                int codePoint = Character.codePointAt(s, i);
+                script = UnicodeCharacter.getScript(codePoint);
+                i += Character.charCount(codePoint);
+            }
+
+            if (!isSpecific(script) || script == found) continue;
+            int group = cjkGroup(script);
+
+            if (group != 0) {
+                groups |= group;
+
+                if (found != -1 || !isSingleCjkSystem(groups)) return false;
+                continue;
+            }
+
+            if (found != -1 || groups != 0) return false;
+            found = script;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of code points of the given script.
+     *
+     * @param script the script to count
+     * @return the number of code points of {@code script}
+     */
+    public int getCount(Character.UnicodeScript script) {
+        int count = 0;
+
+        for (int i = 0; i < counts.length; i++) {
+            if (SCRIPTS[i] == script) count += counts[i];
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of code points of every script found.
+     *
+     * @return an unmodifiable map from each script found to its number of code points
+     */
+    public Map<Character.UnicodeScript, Integer> getCounts() {
+        Map<Character.UnicodeScript, Integer> map = new EnumMap<>(Character.UnicodeScript.class);
+
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) map.merge(SCRIPTS[i], counts[i], Integer::sum);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Returns the script with the most code points, ignoring Common, Inherited and Unknown characters. The scripts
+     * of a single CJK writing system are added up when compared with other scripts, and the system is reported as
+     * its script with the most code points, such as {@link Character.UnicodeScript#KATAKANA} for a Japanese text
+     * written mostly in katakana.
+     *
+     * @return the dominant script, or {@link Character.UnicodeScript#COMMON} if there are no characters of a specific script
+     */
+    public Character.UnicodeScript getDominantScript() {
+        return SCRIPTS[dominant];
+    }
+
+    /**
+     * Returns the number of distinct scripts found, ignoring Common, Inherited and Unknown characters. The scripts
+     * of a single CJK writing system count as one.
+     *
+     * @return the number of distinct scripts
+     */
+    public int getScriptCount() {
+        return distinct;
+    }
+
+    /**
+     * Checks if more than one script was found, ignoring Common, Inherited and Unknown characters.
+     *
+     * @return {@code true} if the profile has characters of several scripts, otherwise {@code false}
+     */
+    public boolean isMixed() {
+        return distinct > 1;
+    }
+
+    @Override
+    public String toString() {
+        return getCounts().toString();
+    }
+
+    private static boolean isSpecific(int script) {
+        return script != COMMON && script != INHERITED && script != UNKNOWN;
+    }
+
+    private static int cjkGroup(int script) {
+        if (script == HAN) return HAN_GROUP;
+        if (script == HIRAGANA || script == KATAKANA) return JAPANESE_GROUP;
+        if (script == HANGUL) return KOREAN_GROUP;
+        return script == BOPOMOFO ? BOPOMOFO_GROUP : 0;
+    }
+
+    private static boolean isSingleCjkSystem(int groups) {
+        int systems = groups & ~HAN_GROUP; // Han belongs to every system
+        return groups != 0 && (systems & (systems - 1)) == 0;
+    }
+
+    private static int largestCjkScript(int[] counts) {
+        int largest = HAN;
+
+        for (int i = 0; i < counts.length; i++) {
+            if (cjkGroup(i) != 0 && counts[i] > counts[largest]) largest = i;
+        }
+        return largest;
+    }
+
+    private static int indexOf(Character.UnicodeScript script) {
+        for (int i = 0; i < UnicodeCharacter.getScriptCount(); i++) {
+            if (UnicodeCharacter.getScriptName(i).equals(script.name())) return i;
+        }
+        throw new IllegalStateException("Missing script: " + script);
+    }
+}
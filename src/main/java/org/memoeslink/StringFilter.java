@@ -1,30 +1,236 @@
 package org.memoeslink;
 
-import java.util.function.Predicate;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Objects;
+import java.util.function.IntPredicate;
 
 public class StringFilter {
+    private static final int STREAM_BUFFER_SIZE = 8192;
 
     private StringFilter() {
     }
 
     /**
      * Processes each character of the string according to the given predicate,
-     * retaining only those that match.
+     * retaining only those that match. The string is scanned up to the first character
+     * to drop, so it is returned as is when every character matches; otherwise, the
+     * matching prefix is copied at once into a buffer that never needs to grow.
      *
      * @param s         the original string
      * @param predicate a predicate to test each character
-     * @return the processed string
+     * @return the processed string, which is {@code s} itself if nothing was dropped
      */
-    private static String filter(String s, Predicate<Character> predicate) {
+    private static String filter(String s, CharPredicate predicate) {
         if (StringHelper.isNullOrEmpty(s)) return s;
-        StringBuilder sb = new StringBuilder();
+        int length = s.length();
+        int i = 0;
+
+        while (i < length && predicate.test(s.charAt(i))) {
+            i++;
+        }
+
+        if (i == length) return s;
+        StringBuilder sb = new StringBuilder(length - 1).append(s, 0, i);
+
+        for (i++; i < length; i++) {
+            char c = s.charAt(i);
 
-        for (char c : s.toCharArray()) {
             if (predicate.test(c)) sb.append(c);
         }
         return sb.toString();
     }
 
+    /**
+     * Processes each code point of the string according to the given predicate,
+     * retaining only those that match. Unlike {@link #filter(String, CharPredicate)}, supplementary
+     * characters are tested as a whole instead of as two separate surrogates.
+     *
+     * @param s         the original string
+     * @param predicate a predicate to test each code point
+     * @return the processed string, which is {@code s} itself if nothing was dropped
+     */
+    private static String filterCodePoints(String s, IntPredicate predicate) {
+        if (StringHelper.isNullOrEmpty(s)) return s;
+        int length = s.length();
+        int i = 0;
+        int codePoint = 0;
+
+        while (i < length && predicate.test(codePoint = s.codePointAt(i))) {
+            i += Character.charCount(codePoint);
+        }
+
+        if (i == length) return s;
+        StringBuilder sb = new StringBuilder(length - Character.charCount(codePoint)).append(s, 0, i);
+
+        for (i += Character.charCount(codePoint); i < length; ) {
+            codePoint = s.codePointAt(i);
+
+            if (predicate.test(codePoint)) sb.appendCodePoint(codePoint);
+            i += Character.charCount(codePoint);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Appends the characters of the sequence for which the predicate returns the expected result to a buffer,
+     * as {@link #appendFiltered(CharSequence, CharPredicate, boolean, Appendable)} does.
+     *
+     * @param s         the source sequence
+     * @param predicate a predicate to test each character
+     * @param expected  the result of the predicate for the characters to append
+     * @param out       the buffer that receives the characters
+     */
+    private static void appendFiltered(CharSequence s, CharPredicate predicate, boolean expected, StringBuilder out) {
+        try {
+            appendFiltered(s, predicate, expected, (Appendable) out);
+        } catch (IOException e) {
+            throw new AssertionError(e); // StringBuilder never throws
+        }
+    }
+
+    /**
+     * Appends the characters of the sequence for which the predicate returns the expected result,
+     * copying each run of such characters at once.
+     *
+     * @param s         the source sequence
+     * @param predicate a predicate to test each character
+     * @param expected  the result of the predicate for the characters to append
+     * @param out       the destination that receives the characters
+     * @throws IOException if the destination fails to append
+     */
+    private static void appendFiltered(CharSequence s, CharPredicate predicate, boolean expected, Appendable out) throws IOException {
+        if (s == null) return;
+        int length = s.length();
+
+        for (int i = 0; i < length; ) {
+            while (i < length && predicate.test(s.charAt(i)) != expected) {
+                i++;
+            }
+            int start = i;
+
+            while (i < length && predicate.test(s.charAt(i)) == expected) {
+                i++;
+            }
+
+            if (i > start) out.append(s, start, i);
+        }
+    }
+
+    /**
+     * Moves the characters of an array range for which the predicate returns the expected result
+     * to the start of the range, keeping their order.
+     *
+     * @param chars     the array to compact
+     * @param offset    the start of the range
+     * @param length    the length of the range
+     * @param predicate a predicate to test each character
+     * @param expected  the result of the predicate for the characters to keep
+     * @return the number of characters kept, which now occupy {@code chars[offset]} to {@code chars[offset + count - 1]}
+     */
+    private static int compact(char[] chars, int offset, int length, CharPredicate predicate, boolean expected) {
+        Objects.checkFromIndexSize(offset, length, chars.length);
+        int end = offset + length;
+        int count = offset;
+
+        for (int i = offset; i < end; i++) {
+            char c = chars[i];
+
+            if (predicate.test(c) == expected) chars[count++] = c;
+        }
+        return count - offset;
+    }
+
+    /**
+     * Moves the code points of an array range for which the predicate returns the expected result
+     * to the start of the range, keeping their order. An unpaired surrogate is tested on its own.
+     *
+     * @param chars     the array to compact
+     * @param offset    the start of the range
+     * @param length    the length of the range
+     * @param predicate a predicate to test each code point
+     * @param expected  the result of the predicate for the code points to keep
+     * @return the number of chars kept, which now occupy {@code chars[offset]} to {@code chars[offset + count - 1]}
+     */
+    private static int compactCodePoints(char[] chars, int offset, int length, IntPredicate predicate, boolean expected) {
+        int end = offset + length;
+        int count = offset;
+
+        for (int i = offset; i < end; ) {
+            int codePoint = Character.codePointAt(chars, i, end);
+            int charCount = Character.charCount(codePoint);
+
+            if (predicate.test(codePoint) == expected) {
+                chars[count++] = chars[i];
+
+                if (charCount == 2) chars[count++] = chars[i + 1];
+            }
+            i += charCount;
+        }
+        return count - offset;
+    }
+
+    /**
+     * Copies the characters read from a reader for which the predicate returns the expected result
+     * to a writer, one fixed-size chunk at a time.
+     *
+     * @param in        the source of characters
+     * @param predicate a predicate to test each character
+     * @param expected  the result of the predicate for the characters to write
+     * @param out       the destination of the characters
+     * @return the number of characters written
+     * @throws IOException if reading or writing fails
+     */
+    private static long stream(Reader in, CharPredicate predicate, boolean expected, Writer out) throws IOException {
+        char[] buffer = new char[STREAM_BUFFER_SIZE];
+        long written = 0;
+        int read;
+
+        while ((read = in.read(buffer, 0, buffer.length)) != -1) {
+            int count = compact(buffer, 0, read, predicate, expected);
+            out.write(buffer, 0, count);
+            written += count;
+        }
+        return written;
+    }
+
+    /**
+     * Copies the code points read from a reader for which the predicate returns the expected result
+     * to a writer, one fixed-size chunk at a time. A high surrogate at the end of a chunk is carried
+     * over to the next one, so that surrogate pairs split by a read are still tested as a whole.
+     *
+     * @param in        the source of characters
+     * @param predicate a predicate to test each code point
+     * @param expected  the result of the predicate for the code points to write
+     * @param out       the destination of the characters
+     * @return the number of chars written
+     * @throws IOException if reading or writing fails
+     */
+    private static long streamCodePoints(Reader in, IntPredicate predicate, boolean expected, Writer out) throws IOException {
+        char[] buffer = new char[STREAM_BUFFER_SIZE];
+        long written = 0;
+        int pending = 0;
+        int read;
+
+        while ((read = in.read(buffer, pending, buffer.length - pending)) != -1) {
+            int end = pending + read;
+            int complete = end > 0 && Character.isHighSurrogate(buffer[end - 1]) ? end - 1 : end;
+            int count = compactCodePoints(buffer, 0, complete, predicate, expected);
+            out.write(buffer, 0, count);
+            written += count;
+            pending = end - complete;
+
+            if (pending > 0) buffer[0] = buffer[complete];
+        }
+
+        if (pending > 0 && predicate.test(buffer[0]) == expected) {
+            out.write(buffer, 0, 1);
+            written++;
+        }
+        return written;
+    }
+
     /**
      * Returns a string containing only the whitespace characters from the input string.
      *
@@ -298,6 +504,117 @@ public class StringFilter {
         return filter(s, CharHelper::isAsciiAlphanumericOrWhitespace);
     }
 
+    /**
+     * Copies only the ASCII alphanumeric and whitespace characters from a reader to a writer,
+     * using a fixed-size buffer regardless of the length of the input.
+     *
+     * @param in  the source of characters, which is not closed
+     * @param out the destination of the characters, which is neither flushed nor closed
+     * @return the number of characters written
+     * @throws IOException if reading or writing fails
+     */
+    public static long keepAsciiAlphanumericOrWhitespaces(Reader in, Writer out) throws IOException {
+        return stream(in, CharHelper::isAsciiAlphanumericOrWhitespace, true, out);
+    }
+
+    /**
+     * Returns a string containing only the code points from the input string that match the given predicate,
+     * such as {@code CharHelper::isLetter}, testing supplementary characters as a whole.
+     *
+     * @param s         the string to filter
+     * @param predicate a predicate to test each code point
+     * @return string with only the matching code points
+     */
+    public static String keepCodePoints(String s, IntPredicate predicate) {
+        return filterCodePoints(s, predicate);
+    }
+
+    /**
+     * Copies only the code points that match the given predicate from a reader to a writer,
+     * using a fixed-size buffer regardless of the length of the input. Surrogate pairs split
+     * between two reads are tested as a whole.
+     *
+     * @param in        the source of characters, which is not closed
+     * @param predicate a predicate to test each code point
+     * @param out       the destination of the characters, which is neither flushed nor closed
+     * @return the number of chars written
+     * @throws IOException if reading or writing fails
+     */
+    public static long keepCodePoints(Reader in, IntPredicate predicate, Writer out) throws IOException {
+        return streamCodePoints(in, predicate, true, out);
+    }
+
+    /**
+     * Returns a string containing only the characters from the input string that match the given predicate,
+     * such as {@code CharHelper::isLetter} or a {@link CharMatcher}, testing each UTF-16 char on its own.
+     *
+     * @param s         the string to filter
+     * @param predicate a predicate to test each character
+     * @return string with only the matching characters
+     */
+    public static String keep(String s, CharPredicate predicate) {
+        return filter(s, predicate);
+    }
+
+    /**
+     * Appends the characters of the sequence that match the given predicate to a buffer,
+     * so that a buffer reused across calls produces no intermediate strings.
+     *
+     * @param s         the sequence to filter, which appends nothing if {@code null}
+     * @param predicate a predicate to test each character
+     * @param out       the buffer that receives the matching characters
+     * @return {@code out}
+     */
+    public static StringBuilder keep(CharSequence s, CharPredicate predicate, StringBuilder out) {
+        appendFiltered(s, predicate, true, out);
+        return out;
+    }
+
+    /**
+     * Appends the characters of the sequence that match the given predicate to a destination,
+     * such as a {@link java.io.Writer}.
+     *
+     * @param s         the sequence to filter, which appends nothing if {@code null}
+     * @param predicate a predicate to test each character
+     * @param out       the destination that receives the matching characters
+     * @param <A>       the type of the destination
+     * @return {@code out}
+     * @throws IOException if the destination fails to append
+     */
+    public static <A extends Appendable> A keep(CharSequence s, CharPredicate predicate, A out) throws IOException {
+        appendFiltered(s, predicate, true, out);
+        return out;
+    }
+
+    /**
+     * Keeps only the characters of an array range that match the given predicate, moving them
+     * to the start of the range in their original order. Characters past the new length are left as they were.
+     *
+     * @param chars     the array to filter in place
+     * @param offset    the start of the range
+     * @param length    the length of the range
+     * @param predicate a predicate to test each character
+     * @return the new length of the range
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the array
+     */
+    public static int keep(char[] chars, int offset, int length, CharPredicate predicate) {
+        return compact(chars, offset, length, predicate, true);
+    }
+
+    /**
+     * Copies only the characters that match the given predicate from a reader to a writer,
+     * using a fixed-size buffer regardless of the length of the input.
+     *
+     * @param in        the source of characters, which is not closed
+     * @param predicate a predicate to test each character
+     * @param out       the destination of the characters, which is neither flushed nor closed
+     * @return the number of characters written
+     * @throws IOException if reading or writing fails
+     */
+    public static long keep(Reader in, CharPredicate predicate, Writer out) throws IOException {
+        return stream(in, predicate, true, out);
+    }
+
     /**
      * Returns a string with all whitespace characters removed.
      *
@@ -329,6 +646,19 @@ public class StringFilter {
         return filter(s, c -> !CharHelper.isZeroWidthChar(c));
     }
 
+    /**
+     * Copies the characters from a reader to a writer without the zero-width characters,
+     * using a fixed-size buffer regardless of the length of the input.
+     *
+     * @param in  the source of characters, which is not closed
+     * @param out the destination of the characters, which is neither flushed nor closed
+     * @return the number of characters written
+     * @throws IOException if reading or writing fails
+     */
+    public static long removeZeroWidthSpaces(Reader in, Writer out) throws IOException {
+        return stream(in, CharHelper::isZeroWidthChar, false, out);
+    }
+
     /**
      * Returns a string with all letter characters removed.
      *
@@ -570,14 +900,101 @@ public class StringFilter {
     }
 
     /**
-     * Counts characters in a string that match a given condition.
+     * Returns a string with all code points that match the given predicate removed,
+     * testing supplementary characters as a whole.
      *
-     * @param s         the string to analyze
-     * @param predicate a condition to test each character
-     * @return count of characters matching the predicate
+     * @param s         the string to filter
+     * @param predicate a predicate to test each code point
+     * @return string without the matching code points
+     */
+    public static String removeCodePoints(String s, IntPredicate predicate) {
+        return filterCodePoints(s, predicate.negate());
+    }
+
+    /**
+     * Copies the code points from a reader to a writer without those that match the given predicate,
+     * using a fixed-size buffer regardless of the length of the input. Surrogate pairs split
+     * between two reads are tested as a whole.
+     *
+     * @param in        the source of characters, which is not closed
+     * @param predicate a predicate to test each code point
+     * @param out       the destination of the characters, which is neither flushed nor closed
+     * @return the number of chars written
+     * @throws IOException if reading or writing fails
+     */
+    public static long removeCodePoints(Reader in, IntPredicate predicate, Writer out) throws IOException {
+        return streamCodePoints(in, predicate, false, out);
+    }
+
+    /**
+     * Returns a string with all characters that match the given predicate removed,
+     * testing each UTF-16 char on its own.
+     *
+     * @param s         the string to filter
+     * @param predicate a predicate to test each character
+     * @return string without the matching characters
+     */
+    public static String remove(String s, CharPredicate predicate) {
+        return filter(s, predicate.negate());
+    }
+
+    /**
+     * Appends the characters of the sequence that do not match the given predicate to a buffer,
+     * so that a buffer reused across calls produces no intermediate strings.
+     *
+     * @param s         the sequence to filter, which appends nothing if {@code null}
+     * @param predicate a predicate to test each character
+     * @param out       the buffer that receives the remaining characters
+     * @return {@code out}
+     */
+    public static StringBuilder remove(CharSequence s, CharPredicate predicate, StringBuilder out) {
+        appendFiltered(s, predicate, false, out);
+        return out;
+    }
+
+    /**
+     * Appends the characters of the sequence that do not match the given predicate to a destination,
+     * such as a {@link java.io.Writer}.
+     *
+     * @param s         the sequence to filter, which appends nothing if {@code null}
+     * @param predicate a predicate to test each character
+     * @param out       the destination that receives the remaining characters
+     * @param <A>       the type of the destination
+     * @return {@code out}
+     * @throws IOException if the destination fails to append
+     */
+    public static <A extends Appendable> A remove(CharSequence s, CharPredicate predicate, A out) throws IOException {
+        appendFiltered(s, predicate, false, out);
+        return out;
+    }
+
+    /**
+     * Removes the characters of an array range that match the given predicate, moving the remaining ones
+     * to the start of the range in their original order. Characters past the new length are left as they were.
+     *
+     * @param chars     the array to filter in place
+     * @param offset    the start of the range
+     * @param length    the length of the range
+     * @param predicate a predicate to test each character
+     * @return the new length of the range
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the array
      */
-    private static int count(String s, Predicate<Character> predicate) {
-        return s == null ? 0 : filter(s, predicate).length();
+    public static int remove(char[] chars, int offset, int length, CharPredicate predicate) {
+        return compact(chars, offset, length, predicate, false);
+    }
+
+    /**
+     * Copies the characters from a reader to a writer without those that match the given predicate,
+     * using a fixed-size buffer regardless of the length of the input.
+     *
+     * @param in        the source of characters, which is not closed
+     * @param predicate a predicate to test each character
+     * @param out       the destination of the characters, which is neither flushed nor closed
+     * @return the number of characters written
+     * @throws IOException if reading or writing fails
+     */
+    public static long remove(Reader in, CharPredicate predicate, Writer out) throws IOException {
+        return stream(in, predicate, false, out);
     }
 
     /**
@@ -736,7 +1153,7 @@ public class StringFilter {
      * @return the count of ASCII characters
      */
     public static int countAscii(String s) {
-        return count(s, CharHelper::isAscii);
+        return AsciiScan.count(s, AsciiScan.Category.ASCII);
     }
 
     /**
@@ -746,7 +1163,7 @@ public class StringFilter {
      * @return the count of ASCII spaces
      */
     public static int countAsciiSpace(String s) {
-        return count(s, CharHelper::isAsciiSpace);
+        return AsciiScan.count(s, AsciiScan.Category.SPACE);
     }
 
     /**
@@ -756,7 +1173,7 @@ public class StringFilter {
      * @return the count of ASCII whitespaces
      */
     public static int countAsciiWhitespace(String s) {
-        return count(s, CharHelper::isAsciiWhitespace);
+        return AsciiScan.count(s, AsciiScan.Category.WHITESPACE);
     }
 
     /**
@@ -766,7 +1183,7 @@ public class StringFilter {
      * @return the count of ASCII alphabetic characters
      */
     public static int countAsciiAlpha(String s) {
-        return count(s, CharHelper::isAsciiAlpha);
+        return AsciiScan.count(s, AsciiScan.Category.ALPHA);
     }
 
     /**
@@ -776,7 +1193,7 @@ public class StringFilter {
      * @return the count of ASCII lowercase alphabetic characters
      */
     public static int countAsciiAlphaLower(String s) {
-        return count(s, CharHelper::isAsciiAlphaLower);
+        return AsciiScan.count(s, AsciiScan.Category.ALPHA_LOWER);
     }
 
     /**
@@ -786,7 +1203,7 @@ public class StringFilter {
      * @return the count of ASCII uppercase alphabetic characters
      */
     public static int countAsciiAlphaUpper(String s) {
-        return count(s, CharHelper::isAsciiAlphaUpper);
+        return AsciiScan.count(s, AsciiScan.Category.ALPHA_UPPER);
     }
 
     /**
@@ -796,7 +1213,7 @@ public class StringFilter {
      * @return the count of ASCII numeric characters
      */
     public static int countAsciiNumeric(String s) {
-        return count(s, CharHelper::isAsciiNumeric);
+        return AsciiScan.count(s, AsciiScan.Category.NUMERIC);
     }
 
     /**
@@ -806,7 +1223,7 @@ public class StringFilter {
      * @return the count of ASCII alphanumeric characters
      */
     public static int countAsciiAlphanumeric(String s) {
-        return count(s, CharHelper::isAsciiAlphanumeric);
+        return AsciiScan.count(s, AsciiScan.Category.ALPHANUMERIC);
     }
 
     /**
@@ -816,7 +1233,7 @@ public class StringFilter {
      * @return the count of ASCII alphanumeric characters or spaces
      */
     public static int countAsciiAlphanumericOrSpaces(String s) {
-        return count(s, CharHelper::isAsciiAlphanumericOrSpace);
+        return AsciiScan.count(s, AsciiScan.Category.ALPHANUMERIC_OR_SPACE);
     }
 
     /**
@@ -826,7 +1243,7 @@ public class StringFilter {
      * @return the count of ASCII alphanumeric characters or whitespace characters
      */
     public static int countAsciiAlphanumericOrWhitespaces(String s) {
-        return count(s, CharHelper::isAsciiAlphanumericOrWhitespace);
+        return AsciiScan.count(s, AsciiScan.Category.ALPHANUMERIC_OR_WHITESPACE);
     }
 
     /**
@@ -836,7 +1253,7 @@ public class StringFilter {
      * @return the count of ASCII alphabetic characters or spaces
      */
     public static int countAsciiAlphaOrSpaces(String s) {
-        return count(s, CharHelper::isAsciiAlphaOrSpace);
+        return AsciiScan.count(s, AsciiScan.Category.ALPHA_OR_SPACE);
     }
 
     /**
@@ -846,6 +1263,81 @@ public class StringFilter {
      * @return the count of ASCII alphabetic characters or whitespace characters
      */
     public static int countAsciiAlphaOrWhitespaces(String s) {
-        return count(s, CharHelper::isAsciiAlphaOrWhitespace);
+        return AsciiScan.count(s, AsciiScan.Category.ALPHA_OR_WHITESPACE);
+    }
+
+    /**
+     * Counts the code points in the string that match the given predicate,
+     * testing supplementary characters as a whole and counting each of them once.
+     *
+     * @param s         the string to analyze
+     * @param predicate a condition to test each code point
+     * @return the count of code points matching the predicate
+     */
+    public static int countCodePoints(String s, IntPredicate predicate) {
+        return s == null ? 0 : countCodePointsInRange(s, 0, s.length(), predicate);
+    }
+
+    /**
+     * Counts the code points in a range of the sequence that match the given predicate, without copying the range,
+     * testing supplementary characters as a whole and counting each of them once. A surrogate pair split by a bound
+     * of the range is tested as two lone surrogates.
+     *
+     * @param s         the sequence to analyze
+     * @param start     the index of the first character of the range
+     * @param end       the index after the last character of the range
+     * @param predicate a condition to test each code point
+     * @return the count of code points in the range matching the predicate
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code s}
+     */
+    public static int countCodePointsInRange(CharSequence s, int start, int end, IntPredicate predicate) {
+        Objects.checkFromToIndex(start, end, s.length());
+        int count = 0;
+
+        for (int i = start; i < end; ) {
+            char c = s.charAt(i);
+            int codePoint = c;
+
+            if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(s.charAt(i + 1))) {
+                codePoint = Character.toCodePoint(c, s.charAt(i + 1));
+            }
+
+            if (predicate.test(codePoint)) count++;
+            i += Character.charCount(codePoint);
+        }
+        return count;
+    }
+
+    /**
+     * Counts the characters in the string that match the given predicate without building a new string,
+     * testing each UTF-16 char on its own.
+     *
+     * @param s         the string to analyze
+     * @param predicate a condition to test each character
+     * @return the count of characters matching the predicate
+     */
+    public static int count(String s, CharPredicate predicate) {
+        return s == null ? 0 : countInRange(s, 0, s.length(), predicate);
+    }
+
+    /**
+     * Counts the characters in a range of the sequence that match the given predicate, without copying the range,
+     * testing each UTF-16 char on its own.
+     *
+     * @param s         the sequence to analyze
+     * @param start     the index of the first character of the range
+     * @param end       the index after the last character of the range
+     * @param predicate a condition to test each character
+     * @return the count of characters in the range matching the predicate
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code s}
+     */
+    public static int countInRange(CharSequence s, int start, int end, CharPredicate predicate) {
+        Objects.checkFromToIndex(start, end, s.length());
+        int count = 0;
+
+        for (int i = start; i < end; i++) {
+            if (predicate.test(s.charAt(i))) count++;
+        }
+        return count;
     }
 }
@@ -1455,7 +1455,7 @@ public class StringHelper {
     public static String normalize(String s) {
         if (isNullOrEmpty(s)) return s;
         String normalized = Normalizer.normalize(s, Normalizer.Form.NFD);
-        return RegexFilter.EXCEPT_ASCII_PATTERN.matcher(normalized).replaceAll(EMPTY);
+        return UnicodeCharCategory.ASCII.getExceptPattern().matcher(normalized).replaceAll(EMPTY);
     }
 
     /**
@@ -1515,7 +1515,104 @@ public class StringHelper {
     public static String stripAccents(String s) {
         if (isNullOrEmpty(s)) return s;
         String normalized = Normalizer.normalize(s, Normalizer.Form.NFD);
-        return RegexFilter.DIACRITIC_PATTERN.matcher(normalized).replaceAll(EMPTY);
+        return UnicodeCharCategory.DIACRITIC.getPattern().matcher(normalized).replaceAll(EMPTY);
+    }
+
+    /**
+     * Returns the confusable skeleton of a string, replacing each character with its prototype so that strings
+     * that look alike, such as "pаypal" with a Cyrillic 'а' and "paypal", share the same skeleton.
+     *
+     * @param s the string to fold
+     * @return the skeleton of the string, or the original string if it is {@code null} or empty
+     * @see #skeleton(CharSequence, StringBuilder)
+     */
+    public static String skeleton(String s) {
+        if (isNullOrEmpty(s)) return s;
+        return skeleton(s, new StringBuilder(s.length())).toString();
+    }
+
+    /**
+     * Appends the confusable skeleton of a sequence to the given buffer, replacing each character with its prototype.
+     * The prototypes follow the UTS #39 mapping for common homoglyphs (Cyrillic, Greek and Armenian look-alikes of
+     * Latin letters, digits and symbols that look like letters, dashes, and fullwidth and mathematical alphanumeric forms).
+     * Unlike UTS #39, the sequence is not decomposed before or after the mapping, so precomposed and decomposed accented
+     * characters produce different skeletons; the sequence should be in NFC when that matters.
+     *
+     * @param s   the sequence to fold
+     * @param out the buffer that receives the skeleton
+     * @return {@code out}
+     */
+    public static StringBuilder skeleton(CharSequence s, StringBuilder out) {
+        if (s == null) return out;
+
+        for (int i = 0; i < s.length(); ) {
+            int c = Character.codePointAt(s, i);
+            String prototype = Confusables.prototype(c);
+
+            if (prototype == null) out.appendCodePoint(c);
+            else out.append(prototype);
+            i += Character.charCount(c);
+        }
+        return out;
+    }
+
+    /**
+     * Checks if two sequences are confusable, that is, if they have the same skeleton, without building either skeleton.
+     *
+     * @param a the first sequence
+     * @param b the second sequence
+     * @return {@code true} if both sequences have the same skeleton or are both {@code null}, otherwise {@code false}
+     * @see #skeleton(CharSequence, StringBuilder)
+     */
+    public static boolean isConfusable(CharSequence a, CharSequence b) {
+        if (a == null || b == null) return a == b;
+        int indexA = 0;
+        int indexB = 0;
+        String prototypeA = EMPTY;
+        String prototypeB = EMPTY;
+        int offsetA = 0;
+        int offsetB = 0;
+
+        while (true) {
+            int charA = -1;
+            int charB = -1;
+
+            if (offsetA < prototypeA.length()) {
+                charA = prototypeA.charAt(offsetA++);
+            } else if (indexA < a.length()) {
+                int c = Character.codePointAt(a, indexA);
+                indexA += Character.charCount(c);
+                prototypeA = Confusables.prototype(c);
+                offsetA = 0;
+
+                if (prototypeA == null) {
+                    prototypeA = EMPTY;
+                    charA = c;
+                } else {
+                    charA = prototypeA.charAt(offsetA++);
+                }
+            }
+
+            if (offsetB < prototypeB.length()) {
+                charB = prototypeB.charAt(offsetB++);
+            } else if (indexB < b.length()) {
+                int c = Character.codePointAt(b, indexB);
+                indexB += Character.charCount(c);
+                prototypeB = Confusables.prototype(c);
+                offsetB = 0;
+
+                if (prototypeB == null) {
+                    prototypeB = EMPTY;
+                    charB = c;
+                } else {
+                    charB = prototypeB.charAt(offsetB++);
+                }
+            }
+
+            if (charA != charB) return false;
+
+            if (charA == -1) return true;
+        }
     }
 
     /**
@@ -1932,6 +2029,26 @@ public class StringHelper {
         return new StringBuilder(s).reverse().toString();
     }
 
+    /**
+     * Reverses the grapheme clusters of the given string, keeping each cluster intact, so that characters with
+     * combining marks, flags and emoji sequences joined by {@link ZeroWidthChar#ZERO_WIDTH_JOINER} are preserved.
+     *
+     * @param s the string to be reversed
+     * @return the reversed string, or the original string if it is {@code null} or empty
+     */
+    public static String reverseGraphemes(String s) {
+        if (isNullOrEmpty(s)) return s;
+        char[] reversed = new char[s.length()];
+        int position = s.length();
+
+        for (int start = 0, end; start < s.length(); start = end) {
+            end = GraphemeSegmenter.next(s, start);
+            position -= end - start;
+            s.getChars(start, end, reversed, position);
+        }
+        return new String(reversed);
+    }
+
     /**
      * Masks all non-space characters in a string with asterisks.
      *
@@ -1952,7 +2069,7 @@ public class StringHelper {
     public static String mask(String s, char replacement) {
         if (isNullOrEmpty(s)) return s;
         replacement = CharHelper.defaultIfNull(replacement, '*');
-        return RegexFilter.EXCEPT_SPACE_PATTERN.matcher(s).replaceAll(String.valueOf(replacement));
+        return UnicodeCharCategory.SPACE.getExceptPattern().matcher(s).replaceAll(String.valueOf(replacement));
     }
 
     /**
@@ -1973,6 +2090,38 @@ public class StringHelper {
         return s.substring(0, start) + String.valueOf(replacement).repeat(end - start + 1) + s.substring(end + 1);
     }
 
+    /**
+     * Masks all non-space grapheme clusters in a string with asterisks, using one asterisk per cluster.
+     *
+     * @param s the string to be masked
+     * @return the masked string, or the original string if it is {@code null} or empty
+     */
+    public static String maskGraphemes(String s) {
+        return maskGraphemes(s, '*');
+    }
+
+    /**
+     * Masks all non-space grapheme clusters in a string with a specified replacement character, using one
+     * replacement character per cluster.
+     *
+     * @param s           the string to be masked
+     * @param replacement the character used for masking, which, by default, is '*'
+     * @return the masked string, or the original string if it is {@code null} or empty
+     */
+    public static String maskGraphemes(String s, char replacement) {
+        if (isNullOrEmpty(s)) return s;
+        replacement = CharHelper.defaultIfNull(replacement, '*');
+        StringBuilder sb = new StringBuilder(s.length());
+
+        for (int start = 0, end; start < s.length(); start = end) {
+            end = GraphemeSegmenter.next(s, start);
+
+            if (CharHelper.isAsciiWhitespace(s.charAt(start))) sb.append(s, start, end);
+            else sb.append(replacement);
+        }
+        return sb.toString();
+    }
+
     /**
      * Masks the beginning of a string with asterisks, leaving the last four characters visible.
      *
@@ -2016,6 +2165,27 @@ public class StringHelper {
         return String.valueOf(replacement).repeat(s.length() - unmaskedChars) + s.substring(s.length() - unmaskedChars);
     }
 
+    /**
+     * Masks the beginning of a string, leaving a specified number of grapheme clusters at the end unmasked
+     * and using one replacement character per masked cluster.
+     *
+     * @param s                 the string to be masked
+     * @param replacement       the character used for masking, which, by default, is '*'
+     * @param unmaskedGraphemes the number of grapheme clusters at the end of the string to leave unmasked
+     * @return a masked string with the specified end clusters unmasked;
+     * or the original string if it is {@code null} or empty, or if {@code unmaskedGraphemes} is equal or less than 0;
+     * but if the string has {@code unmaskedGraphemes} clusters or fewer, the entire string is masked
+     */
+    public static String maskStartGraphemes(String s, char replacement, int unmaskedGraphemes) {
+        if (isNullOrEmpty(s) || unmaskedGraphemes <= 0) return s;
+        replacement = CharHelper.defaultIfNull(replacement, '*');
+        int count = GraphemeSegmenter.count(s);
+
+        if (count <= unmaskedGraphemes) return String.valueOf(replacement).repeat(count);
+        int maskedGraphemes = count - unmaskedGraphemes;
+        return String.valueOf(replacement).repeat(maskedGraphemes) + s.substring(GraphemeSegmenter.offsetByGraphemes(s, 0, maskedGraphemes));
+    }
+
     /**
      * Masks the middle characters of a given string with asterisks, depending on the string's length.
      * Uses different masking rules based on the string length:
@@ -2122,6 +2292,26 @@ public class StringHelper {
         return s.substring(0, unmaskedChars) + String.valueOf(replacement).repeat(s.length() - unmaskedChars);
     }
 
+    /**
+     * Masks the end of a string, leaving a specified number of grapheme clusters at the beginning unmasked
+     * and using one replacement character per masked cluster.
+     *
+     * @param s                 the string to be masked
+     * @param replacement       the character used for masking, which, by default, is '*'
+     * @param unmaskedGraphemes the number of grapheme clusters at the beginning of the string to leave unmasked
+     * @return a masked string with the specified beginning clusters unmasked;
+     * or the original string if it is {@code null} or empty, or if {@code unmaskedGraphemes} is equal or less than 0;
+     * but if the string has {@code unmaskedGraphemes} clusters or fewer, the entire string is masked
+     */
+    public static String maskEndGraphemes(String s, char replacement, int unmaskedGraphemes) {
+        if (isNullOrEmpty(s) || unmaskedGraphemes <= 0) return s;
+        replacement = CharHelper.defaultIfNull(replacement, '*');
+        int count = GraphemeSegmenter.count(s);
+
+        if (count <= unmaskedGraphemes) return String.valueOf(replacement).repeat(count);
+        return s.substring(0, GraphemeSegmenter.offsetByGraphemes(s, 0, unmaskedGraphemes)) + String.valueOf(replacement).repeat(count - unmaskedGraphemes);
+    }
+
     /**
      * Shuffles the characters of a string.
      * Uses the Fisher-Yates algorithm for efficient, in-place shuffling.
@@ -2179,6 +2369,21 @@ public class StringHelper {
         return s.substring(startIndex, endIndex);
     }
 
+    /**
+     * Truncates a string to a maximum number of grapheme clusters, so that no cluster is split.
+     *
+     * @param s            the original string
+     * @param maxGraphemes the maximum number of grapheme clusters to keep
+     * @return the truncated string, the original string if it is {@code null} or has no more clusters than
+     * {@code maxGraphemes}, or an empty string if {@code maxGraphemes} is equal or less than 0
+     */
+    public static String truncateGraphemes(String s, int maxGraphemes) {
+        if (isNullOrEmpty(s)) return s;
+
+        if (maxGraphemes <= 0) return EMPTY;
+        return s.substring(0, GraphemeSegmenter.offsetByGraphemes(s, 0, maxGraphemes));
+    }
+
     /**
      * Extracts the portion of a string before the first occurrence of a specified separator.
      *
@@ -1,6 +1,7 @@
 package org.memoeslink;
 
 import java.text.Normalizer;
+import java.util.function.IntPredicate;
 
 public class StringValidation {
 
@@ -182,6 +183,17 @@ public class StringValidation {
         return StringHelper.isNotNullOrEmpty(s) && s.chars().anyMatch(CharHelper::isConsonant);
     }
 
+    /**
+     * Checks if the string contains at least one consonant of the specified alphabet.
+     *
+     * @param s        the string to check
+     * @param alphabet the alphabet that defines the consonants
+     * @return {@code true} if the string contains at least one consonant of {@code alphabet}; otherwise, {@code false}
+     */
+    public static boolean hasConsonant(String s, Alphabet alphabet) {
+        return StringHelper.isNotNullOrEmpty(s) && alphabet != null && s.codePoints().anyMatch(alphabet::isConsonant);
+    }
+
     /**
      * Verifies if the string contains at least one vowel.
      * Vowels are defined according to the standard English alphabet (a, e, i, o, u).
@@ -193,6 +205,17 @@ public class StringValidation {
         return StringHelper.isNotNullOrEmpty(s) && s.chars().anyMatch(CharHelper::isVowel);
     }
 
+    /**
+     * Checks if the string contains at least one vowel of the specified alphabet.
+     *
+     * @param s        the string to check
+     * @param alphabet the alphabet that defines the vowels
+     * @return {@code true} if the string contains at least one vowel of {@code alphabet}; otherwise, {@code false}
+     */
+    public static boolean hasVowel(String s, Alphabet alphabet) {
+        return StringHelper.isNotNullOrEmpty(s) && alphabet != null && s.codePoints().anyMatch(alphabet::isVowel);
+    }
+
     /**
      * Determines if the string contains at least one letter from {@link CharHelper#GLOBAL_LETTERS}.
      * This includes letters from alphabets beyond the standard English alphabet.
@@ -327,7 +350,7 @@ public class StringValidation {
      * @return {@code true} if the string contains at least one ASCII character; otherwise, {@code false}
      */
     public static boolean hasAscii(String s) {
-        return StringHelper.isNotNullOrEmpty(s) && s.chars().anyMatch(CharHelper::isAscii);
+        return StringHelper.isNotNullOrEmpty(s) && AsciiScan.any(s, AsciiScan.Category.ASCII);
     }
 
     /**
@@ -337,7 +360,7 @@ public class StringValidation {
      * @return {@code true} if the string contains at least one ASCII space; otherwise, {@code false}
      */
     public static boolean hasAsciiSpace(String s) {
-        return StringHelper.isNotNullOrEmpty(s) && s.chars().anyMatch(CharHelper::isAsciiSpace);
+        return StringHelper.isNotNullOrEmpty(s) && AsciiScan.any(s, AsciiScan.Category.SPACE);
     }
 
     /**
@@ -347,7 +370,7 @@ public class StringValidation {
      * @return {@code true} if the string contains at least one ASCII whitespace; otherwise, {@code false}
      */
     public static boolean hasAsciiWhitespace(String s) {
-        return StringHelper.isNotNullOrEmpty(s) && s.chars().anyMatch(CharHelper::isAsciiWhitespace);
+        return StringHelper.isNotNullOrEmpty(s) && AsciiScan.any(s, AsciiScan.Category.WHITESPACE);
     }
 
     /**
@@ -358,7 +381,7 @@ public class StringValidation {
      * @return {@code true} if the string contains at least one ASCII alphabetic character; otherwise, {@code false}
      */
     public static boolean hasAsciiAlpha(String s) {
-        return StringHelper.isNotNullOrEmpty(s) && s.chars().anyMatch(CharHelper::isAsciiAlpha);
+        return StringHelper.isNotNullOrEmpty(s) && AsciiScan.any(s, AsciiScan.Category.ALPHA);
     }
 
     /**
@@ -369,7 +392,7 @@ public class StringValidation {
      * @return {@code true} if the string contains at least one lowercase ASCII alphabetic character; otherwise, {@code false}
      */
     public static boolean hasAsciiAlphaLower(String s) {
-        return StringHelper.isNotNullOrEmpty(s) && s.chars().anyMatch(CharHelper::isAsciiAlphaLower);
+        return StringHelper.isNotNullOrEmpty(s) && AsciiScan.any(s, AsciiScan.Category.ALPHA_LOWER);
     }
 
     /**
@@ -380,7 +403,7 @@ public class StringValidation {
      * @return {@code true} if the string contains at least one uppercase ASCII alphabetic character; otherwise, {@code false}
      */
     public static boolean hasAsciiAlphaUpper(String s) {
-        return StringHelper.isNotNullOrEmpty(s) && s.chars().anyMatch(CharHelper::isAsciiAlphaUpper);
+        return StringHelper.isNotNullOrEmpty(s) && AsciiScan.any(s, AsciiScan.Category.ALPHA_UPPER);
     }
 
     /**
@@ -391,7 +414,7 @@ public class StringValidation {
      * @return {@code true} if the string contains at least one ASCII numeric character; otherwise, {@code false}
      */
     public static boolean hasAsciiNumeric(String s) {
-        return StringHelper.isNotNullOrEmpty(s) && s.chars().anyMatch(CharHelper::isAsciiNumeric);
+        return StringHelper.isNotNullOrEmpty(s) && AsciiScan.any(s, AsciiScan.Category.NUMERIC);
     }
 
     /**
@@ -402,7 +425,7 @@ public class StringValidation {
      * @return {@code true} if the string contains at least one ASCII alphabetic character or space; otherwise, {@code false}
      */
     public static boolean hasAsciiAlphaOrSpace(String s) {
-        return StringHelper.isNotNullOrEmpty(s) && s.chars().anyMatch(CharHelper::isAsciiAlphaOrSpace);
+        return StringHelper.isNotNullOrEmpty(s) && AsciiScan.any(s, AsciiScan.Category.ALPHA_OR_SPACE);
     }
 
     /**
@@ -412,7 +435,7 @@ public class StringValidation {
      * @return {@code true} if the string contains at least one ASCII alphabetic character or whitespace; otherwise, {@code false}
      */
     public static boolean hasAsciiAlphaOrWhitespace(String s) {
-        return StringHelper.isNotNullOrEmpty(s) && s.chars().anyMatch(CharHelper::isAsciiAlphaOrWhitespace);
+        return StringHelper.isNotNullOrEmpty(s) && AsciiScan.any(s, AsciiScan.Category.ALPHA_OR_WHITESPACE);
     }
 
     /**
@@ -423,7 +446,7 @@ public class StringValidation {
      * @return {@code true} if the string contains at least one ASCII alphanumeric character; otherwise, {@code false}
      */
     public static boolean hasAsciiAlphanumeric(String s) {
-        return StringHelper.isNotNullOrEmpty(s) && s.chars().anyMatch(CharHelper::isAsciiAlphanumeric);
+        return StringHelper.isNotNullOrEmpty(s) && AsciiScan.any(s, AsciiScan.Category.ALPHANUMERIC);
     }
 
     /**
@@ -434,7 +457,7 @@ public class StringValidation {
      * @return {@code true} if the string contains at least one ASCII alphanumeric character or space; otherwise, {@code false}
      */
     public static boolean hasAsciiAlphanumericOrSpace(String s) {
-        return StringHelper.isNotNullOrEmpty(s) && s.chars().anyMatch(CharHelper::isAsciiAlphanumericOrSpace);
+        return StringHelper.isNotNullOrEmpty(s) && AsciiScan.any(s, AsciiScan.Category.ALPHANUMERIC_OR_SPACE);
     }
 
     /**
@@ -444,7 +467,7 @@ public class StringValidation {
      * @return {@code true} if the string contains at least one ASCII alphanumeric character or whitespace; otherwise, {@code false}
      */
     public static boolean hasAsciiAlphanumericOrWhitespace(String s) {
-        return StringHelper.isNotNullOrEmpty(s) && s.chars().anyMatch(CharHelper::isAsciiAlphanumericOrWhitespace);
+        return StringHelper.isNotNullOrEmpty(s) && AsciiScan.any(s, AsciiScan.Category.ALPHANUMERIC_OR_WHITESPACE);
     }
 
     /**
@@ -456,7 +479,19 @@ public class StringValidation {
     public static boolean hasDiacritic(String s) {
         if (StringHelper.isNullOrEmpty(s)) return false;
         String normalized = Normalizer.normalize(s, Normalizer.Form.NFD);
-        return RegexFilter.DIACRITIC_PATTERN.matcher(normalized).find();
+        return UnicodeCharCategory.DIACRITIC.getPattern().matcher(normalized).find();
+    }
+
+    /**
+     * Checks if the string contains at least one code point that matches the given predicate,
+     * testing supplementary characters as a whole.
+     *
+     * @param s         the string to check
+     * @param predicate a predicate to test each code point
+     * @return {@code true} if the string contains at least one matching code point; otherwise, {@code false}
+     */
+    public static boolean hasCodePoint(String s, IntPredicate predicate) {
+        return StringHelper.isNotNullOrEmpty(s) && s.codePoints().anyMatch(predicate);
     }
 
     /**
@@ -631,6 +666,17 @@ public class StringValidation {
         return StringHelper.isNullOrEmpty(s) || s.chars().noneMatch(CharHelper::isConsonant);
     }
 
+    /**
+     * Checks if the string does not contain any consonant of the specified alphabet.
+     *
+     * @param s        the string to check
+     * @param alphabet the alphabet that defines the consonants
+     * @return {@code true} if the string does not contain any consonant of {@code alphabet}; otherwise, {@code false}
+     */
+    public static boolean hasNoConsonant(String s, Alphabet alphabet) {
+        return StringHelper.isNullOrEmpty(s) || alphabet == null || s.codePoints().noneMatch(alphabet::isConsonant);
+    }
+
     /**
      * Verifies if the string does not contain any vowel.
      * Vowels are defined according to the standard English alphabet (a, e, i, o, u).
@@ -642,6 +688,17 @@ public class StringValidation {
         return StringHelper.isNullOrEmpty(s) || s.chars().noneMatch(CharHelper::isVowel);
     }
 
+    /**
+     * Checks if the string does not contain any vowel of the specified alphabet.
+     *
+     * @param s        the string to check
+     * @param alphabet the alphabet that defines the vowels
+     * @return {@code true} if the string does not contain any vowel of {@code alphabet}; otherwise, {@code false}
+     */
+    public static boolean hasNoVowel(String s, Alphabet alphabet) {
+        return StringHelper.isNullOrEmpty(s) || alphabet == null || s.codePoints().noneMatch(alphabet::isVowel);
+    }
+
     /**
      * Determines if the string does not contain any letter from {@link CharHelper#GLOBAL_LETTERS}.
      * This includes letters from alphabets beyond the standard English alphabet.
@@ -772,7 +829,7 @@ public class StringValidation {
      * @return {@code true} if the string does not contain any ASCII character; otherwise, {@code false}
      */
     public static boolean hasNoAscii(String s) {
-        return StringHelper.isNullOrEmpty(s) || s.chars().noneMatch(CharHelper::isAscii);
+        return StringHelper.isNullOrEmpty(s) || !AsciiScan.any(s, AsciiScan.Category.ASCII);
     }
 
     /**
@@ -782,7 +839,7 @@ public class StringValidation {
      * @return {@code true} if the string does not contain any ASCII space; otherwise, {@code false}
      */
     public static boolean hasNoAsciiSpace(String s) {
-        return StringHelper.isNullOrEmpty(s) || s.chars().noneMatch(CharHelper::isAsciiSpace);
+        return StringHelper.isNullOrEmpty(s) || !AsciiScan.any(s, AsciiScan.Category.SPACE);
     }
 
     /**
@@ -792,7 +849,7 @@ public class StringValidation {
      * @return {@code true} if the string does not contain any ASCII whitespace; otherwise, {@code false}
      */
     public static boolean hasNoAsciiWhitespace(String s) {
-        return StringHelper.isNullOrEmpty(s) || s.chars().noneMatch(CharHelper::isAsciiWhitespace);
+        return StringHelper.isNullOrEmpty(s) || !AsciiScan.any(s, AsciiScan.Category.WHITESPACE);
     }
 
     /**
@@ -803,7 +860,7 @@ public class StringValidation {
      * @return {@code true} if the string does not contain any ASCII alphabetic character; otherwise, {@code false}
      */
     public static boolean hasNoAsciiAlpha(String s) {
-        return StringHelper.isNullOrEmpty(s) || s.chars().noneMatch(CharHelper::isAsciiAlpha);
+        return StringHelper.isNullOrEmpty(s) || !AsciiScan.any(s, AsciiScan.Category.ALPHA);
     }
 
     /**
@@ -814,7 +871,7 @@ public class StringValidation {
      * @return {@code true} if the string does not contain any lowercase ASCII alphabetic character; otherwise, {@code false}
      */
     public static boolean hasNoAsciiAlphaLower(String s) {
-        return StringHelper.isNullOrEmpty(s) || s.chars().noneMatch(CharHelper::isAsciiAlphaLower);
+        return StringHelper.isNullOrEmpty(s) || !AsciiScan.any(s, AsciiScan.Category.ALPHA_LOWER);
     }
 
     /**
@@ -825,7 +882,7 @@ public class StringValidation {
      * @return {@code true} if the string does not contain any uppercase ASCII alphabetic character; otherwise, {@code false}
      */
     public static boolean hasNoAsciiAlphaUpper(String s) {
-        return StringHelper.isNullOrEmpty(s) || s.chars().noneMatch(CharHelper::isAsciiAlphaUpper);
+        return StringHelper.isNullOrEmpty(s) || !AsciiScan.any(s, AsciiScan.Category.ALPHA_UPPER);
     }
 
     /**
@@ -836,7 +893,7 @@ public class StringValidation {
      * @return {@code true} if the string does not contain any ASCII numeric character; otherwise, {@code false}
      */
     public static boolean hasNoAsciiNumeric(String s) {
-        return StringHelper.isNullOrEmpty(s) || s.chars().noneMatch(CharHelper::isAsciiNumeric);
+        return StringHelper.isNullOrEmpty(s) || !AsciiScan.any(s, AsciiScan.Category.NUMERIC);
     }
 
     /**
@@ -847,7 +904,7 @@ public class StringValidation {
      * @return {@code true} if the string does not contain any ASCII alphabetic character or space; otherwise, {@code false}
      */
     public static boolean hasNoAsciiAlphaOrSpace(String s) {
-        return StringHelper.isNullOrEmpty(s) || s.chars().noneMatch(CharHelper::isAsciiAlphaOrSpace);
+        return StringHelper.isNullOrEmpty(s) || !AsciiScan.any(s, AsciiScan.Category.ALPHA_OR_SPACE);
     }
 
     /**
@@ -857,7 +914,7 @@ public class StringValidation {
      * @return {@code true} if the string does not contain any ASCII alphabetic character or whitespace; otherwise, {@code false}
      */
     public static boolean hasNoAsciiAlphaOrWhitespace(String s) {
-        return StringHelper.isNullOrEmpty(s) || s.chars().noneMatch(CharHelper::isAsciiAlphaOrWhitespace);
+        return StringHelper.isNullOrEmpty(s) || !AsciiScan.any(s, AsciiScan.Category.ALPHA_OR_WHITESPACE);
     }
 
     /**
@@ -868,7 +925,7 @@ public class StringValidation {
      * @return {@code true} if the string does not contain any ASCII alphanumeric character; otherwise, {@code false}
      */
     public static boolean hasNoAsciiAlphanumeric(String s) {
-        return StringHelper.isNullOrEmpty(s) || s.chars().noneMatch(CharHelper::isAsciiAlphanumeric);
+        return StringHelper.isNullOrEmpty(s) || !AsciiScan.any(s, AsciiScan.Category.ALPHANUMERIC);
     }
 
     /**
@@ -879,7 +936,7 @@ public class StringValidation {
      * @return {@code true} if the string does not contain any ASCII alphanumeric character or space; otherwise, {@code false}
      */
     public static boolean hasNoAsciiAlphanumericOrSpace(String s) {
-        return StringHelper.isNullOrEmpty(s) || s.chars().noneMatch(CharHelper::isAsciiAlphanumericOrSpace);
+        return StringHelper.isNullOrEmpty(s) || !AsciiScan.any(s, AsciiScan.Category.ALPHANUMERIC_OR_SPACE);
     }
 
     /**
@@ -889,7 +946,7 @@ public class StringValidation {
      * @return {@code true} if the string does not contain any ASCII alphanumeric character or whitespace; otherwise, {@code false}
      */
     public static boolean hasNoAsciiAlphanumericOrWhitespace(String s) {
-        return StringHelper.isNullOrEmpty(s) || s.chars().noneMatch(CharHelper::isAsciiAlphanumericOrWhitespace);
+        return StringHelper.isNullOrEmpty(s) || !AsciiScan.any(s, AsciiScan.Category.ALPHANUMERIC_OR_WHITESPACE);
     }
 
     /**
@@ -902,6 +959,18 @@ public class StringValidation {
         return !hasDiacritic(s);
     }
 
+    /**
+     * Determines if the string does not contain any code point that matches the given predicate,
+     * testing supplementary characters as a whole.
+     *
+     * @param s         the string to check
+     * @param predicate a predicate to test each code point
+     * @return {@code true} if the string does not contain any matching code point; otherwise, {@code false}
+     */
+    public static boolean hasNoCodePoint(String s, IntPredicate predicate) {
+        return StringHelper.isNullOrEmpty(s) || s.codePoints().noneMatch(predicate);
+    }
+
     /**
      * Determines if all characters in the provided string are space characters.
      *
@@ -1074,6 +1143,17 @@ public class StringValidation {
         return StringHelper.isNotNullOrEmpty(s) && s.chars().allMatch(CharHelper::isConsonant);
     }
 
+    /**
+     * Checks if all characters in the string are consonants of the specified alphabet.
+     *
+     * @param s        the string to check
+     * @param alphabet the alphabet that defines the consonants
+     * @return {@code true} if all characters in the string are consonants of {@code alphabet}; otherwise, {@code false}
+     */
+    public static boolean isOnlyConsonant(String s, Alphabet alphabet) {
+        return StringHelper.isNotNullOrEmpty(s) && alphabet != null && s.codePoints().allMatch(alphabet::isConsonant);
+    }
+
     /**
      * Verifies if all characters in the string are vowels.
      * Vowels are defined according to the standard English alphabet (a, e, i, o, u).
@@ -1085,6 +1165,17 @@ public class StringValidation {
         return StringHelper.isNotNullOrEmpty(s) && s.chars().allMatch(CharHelper::isVowel);
     }
 
+    /**
+     * Checks if all characters in the string are vowels of the specified alphabet.
+     *
+     * @param s        the string to check
+     * @param alphabet the alphabet that defines the vowels
+     * @return {@code true} if all characters in the string are vowels of {@code alphabet}; otherwise, {@code false}
+     */
+    public static boolean isOnlyVowel(String s, Alphabet alphabet) {
+        return StringHelper.isNotNullOrEmpty(s) && alphabet != null && s.codePoints().allMatch(alphabet::isVowel);
+    }
+
     /**
      * Determines if all characters in the string are letters from {@link CharHelper#GLOBAL_LETTERS}.
      * This includes letters from alphabets beyond the standard English alphabet.
@@ -1216,7 +1307,7 @@ public class StringValidation {
      * @return {@code true} if all characters in the string are ASCII characters; otherwise, {@code false}
      */
     public static boolean isOnlyAscii(String s) {
-        return StringHelper.isNotNullOrEmpty(s) && s.chars().allMatch(CharHelper::isAscii);
+        return StringHelper.isNotNullOrEmpty(s) && AsciiScan.all(s, AsciiScan.Category.ASCII);
     }
 
     /**
@@ -1226,7 +1317,7 @@ public class StringValidation {
      * @return {@code true} if all characters in the string are ASCII spaces; otherwise, {@code false}
      */
     public static boolean isOnlyAsciiSpace(String s) {
-        return StringHelper.isNotNullOrEmpty(s) && s.chars().allMatch(CharHelper::isAsciiSpace);
+        return StringHelper.isNotNullOrEmpty(s) && AsciiScan.all(s, AsciiScan.Category.SPACE);
     }
 
     /**
@@ -1236,7 +1327,7 @@ public class StringValidation {
      * @return {@code true} if all characters in the string are ASCII whitespace; otherwise, {@code false}
      */
     public static boolean isOnlyAsciiWhitespace(String s) {
-        return StringHelper.isNotNullOrEmpty(s) && s.chars().allMatch(CharHelper::isAsciiWhitespace);
+        return StringHelper.isNotNullOrEmpty(s) && AsciiScan.all(s, AsciiScan.Category.WHITESPACE);
     }
 
     /**
@@ -1247,7 +1338,7 @@ public class StringValidation {
      * @return {@code true} if all characters in the string are ASCII alphabetic characters; otherwise, {@code false}
      */
     public static boolean isOnlyAsciiAlpha(String s) {
-        return StringHelper.isNotNullOrEmpty(s) && s.chars().allMatch(CharHelper::isAsciiAlpha);
+        return StringHelper.isNotNullOrEmpty(s) && AsciiScan.all(s, AsciiScan.Category.ALPHA);
     }
 
     /**
@@ -1258,7 +1349,7 @@ public class StringValidation {
      * @return {@code true} if all characters in the string are lowercase ASCII alphabetic characters; otherwise, {@code false}
      */
     public static boolean isOnlyAsciiAlphaLower(String s) {
-        return StringHelper.isNotNullOrEmpty(s) && s.chars().allMatch(CharHelper::isAsciiAlphaLower);
+        return StringHelper.isNotNullOrEmpty(s) && AsciiScan.all(s, AsciiScan.Category.ALPHA_LOWER);
     }
 
     /**
@@ -1269,7 +1360,7 @@ public class StringValidation {
      * @return {@code true} if all characters in the string are uppercase ASCII alphabetic characters; otherwise, {@code false}
      */
     public static boolean isOnlyAsciiAlphaUpper(String s) {
-        return StringHelper.isNotNullOrEmpty(s) && s.chars().allMatch(CharHelper::isAsciiAlphaUpper);
+        return StringHelper.isNotNullOrEmpty(s) && AsciiScan.all(s, AsciiScan.Category.ALPHA_UPPER);
     }
 
     /**
@@ -1280,7 +1371,7 @@ public class StringValidation {
      * @return {@code true} if all characters in the string are ASCII numeric characters; otherwise, {@code false}
      */
     public static boolean isOnlyAsciiNumeric(String s) {
-        return StringHelper.isNotNullOrEmpty(s) && s.chars().allMatch(CharHelper::isAsciiNumeric);
+        return StringHelper.isNotNullOrEmpty(s) && AsciiScan.all(s, AsciiScan.Category.NUMERIC);
     }
 
     /**
@@ -1291,7 +1382,7 @@ public class StringValidation {
      * @return {@code true} if all characters in the string are ASCII alphabetic characters or spaces; otherwise, {@code false}
      */
     public static boolean isOnlyAsciiAlphaOrSpace(String s) {
-        return StringHelper.isNotNullOrEmpty(s) && s.chars().allMatch(CharHelper::isAsciiAlphaOrSpace);
+        return StringHelper.isNotNullOrEmpty(s) && AsciiScan.all(s, AsciiScan.Category.ALPHA_OR_SPACE);
     }
 
     /**
@@ -1301,7 +1392,7 @@ public class StringValidation {
      * @return {@code true} if all characters in the string are ASCII alphabetic characters or whitespace; otherwise, {@code false}
      */
     public static boolean isOnlyAsciiAlphaOrWhitespace(String s) {
-        return StringHelper.isNotNullOrEmpty(s) && s.chars().allMatch(CharHelper::isAsciiAlphaOrWhitespace);
+        return StringHelper.isNotNullOrEmpty(s) && AsciiScan.all(s, AsciiScan.Category.ALPHA_OR_WHITESPACE);
     }
 
     /**
@@ -1312,7 +1403,7 @@ public class StringValidation {
      * @return {@code true} if all characters in the string are ASCII alphanumeric characters; otherwise, {@code false}
      */
     public static boolean isOnlyAsciiAlphanumeric(String s) {
-        return StringHelper.isNotNullOrEmpty(s) && s.chars().allMatch(CharHelper::isAsciiAlphanumeric);
+        return StringHelper.isNotNullOrEmpty(s) && AsciiScan.all(s, AsciiScan.Category.ALPHANUMERIC);
     }
 
     /**
@@ -1323,7 +1414,7 @@ public class StringValidation {
      * @return {@code true} if all characters in the string are ASCII alphanumeric characters or spaces; otherwise, {@code false}
      */
     public static boolean isOnlyAsciiAlphanumericOrSpace(String s) {
-        return StringHelper.isNotNullOrEmpty(s) && s.chars().allMatch(CharHelper::isAsciiAlphanumericOrSpace);
+        return StringHelper.isNotNullOrEmpty(s) && AsciiScan.all(s, AsciiScan.Category.ALPHANUMERIC_OR_SPACE);
     }
 
     /**
@@ -1333,6 +1424,18 @@ public class StringValidation {
      * @return {@code true} if all characters in the string are ASCII alphanumeric characters or whitespace; otherwise, {@code false}
      */
     public static boolean isOnlyAsciiAlphanumericOrWhitespace(String s) {
-        return StringHelper.isNotNullOrEmpty(s) && s.chars().allMatch(CharHelper::isAsciiAlphanumericOrWhitespace);
+        return StringHelper.isNotNullOrEmpty(s) && AsciiScan.all(s, AsciiScan.Category.ALPHANUMERIC_OR_WHITESPACE);
+    }
+
+    /**
+     * Checks if the string consists only of code points that match the given predicate,
+     * testing supplementary characters as a whole.
+     *
+     * @param s         the string to check
+     * @param predicate a predicate to test each code point
+     * @return {@code true} if the string consists only of matching code points; otherwise, {@code false}
+     */
+    public static boolean isOnlyCodePoint(String s, IntPredicate predicate) {
+        return StringHelper.isNotNullOrEmpty(s) && s.codePoints().allMatch(predicate);
     }
 }
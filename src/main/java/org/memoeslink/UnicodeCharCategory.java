@@ -1,6 +1,70 @@
 package org.memoeslink;
 
-public class UnicodeCharCategory {
+import java.util.regex.Pattern;
+
+/**
+ * Character categories, each carrying its regular expression and a matcher built from bitmasks of general categories
+ * and ASCII characters. A set of categories can be used as a single filter, as in
+ * {@link RegexFilter#keep(String, java.util.EnumSet)}, without building or compiling any regular expression.
+ * The regular expressions of the categories, and of their complements, are also available as constants, and
+ * their compiled patterns are compiled on first use through {@link #getPattern()} and {@link #getExceptPattern()}.
+ */
+public enum UnicodeCharCategory {
+    ALNUM(UnicodeCharCategory.ALNUM_REGEX, UnicodeCharCategory.EXCEPT_ALNUM_REGEX, CategoryMatcher.ofAsciiRanges('0', '9', 'A', 'Z', 'a', 'z')),
+    ALPHA(UnicodeCharCategory.ALPHA_REGEX, UnicodeCharCategory.EXCEPT_ALPHA_REGEX, CategoryMatcher.ofAsciiRanges('A', 'Z', 'a', 'z')),
+    ASCII(UnicodeCharCategory.ASCII_REGEX, UnicodeCharCategory.EXCEPT_ASCII_REGEX, CategoryMatcher.ofAsciiRanges(0x00, 0x7F)),
+    BLANK(UnicodeCharCategory.BLANK_REGEX, UnicodeCharCategory.EXCEPT_BLANK_REGEX, CategoryMatcher.ofAsciiRanges('\t', '\t', ' ', ' ')),
+    CNTRL(UnicodeCharCategory.CNTRL_REGEX, UnicodeCharCategory.EXCEPT_CNTRL_REGEX, CategoryMatcher.ofAsciiRanges(0x00, 0x1F, 0x7F, 0x7F)),
+    DIGIT(UnicodeCharCategory.DIGIT_REGEX, UnicodeCharCategory.EXCEPT_DIGIT_REGEX, CategoryMatcher.ofAsciiRanges('0', '9')),
+    LOWER(UnicodeCharCategory.LOWER_REGEX, UnicodeCharCategory.EXCEPT_LOWER_REGEX, CategoryMatcher.ofAsciiRanges('a', 'z')),
+    UPPER(UnicodeCharCategory.UPPER_REGEX, UnicodeCharCategory.EXCEPT_UPPER_REGEX, CategoryMatcher.ofAsciiRanges('A', 'Z')),
+    PUNCT(UnicodeCharCategory.PUNCT_REGEX, UnicodeCharCategory.EXCEPT_PUNCT_REGEX, CategoryMatcher.ofAsciiRanges('!', '/', ':', '@', '[', '`', '{', '~')),
+    GRAPH(UnicodeCharCategory.GRAPH_REGEX, UnicodeCharCategory.EXCEPT_GRAPH_REGEX, CategoryMatcher.ofAsciiRanges('!', '~')),
+    PRINT(UnicodeCharCategory.PRINT_REGEX, UnicodeCharCategory.EXCEPT_PRINT_REGEX, CategoryMatcher.ofAsciiRanges(' ', '~')),
+    SPACE(UnicodeCharCategory.SPACE_REGEX, UnicodeCharCategory.EXCEPT_SPACE_REGEX, CategoryMatcher.ofAsciiRanges('\t', '\r', ' ', ' ')),
+    XDIGIT(UnicodeCharCategory.XDIGIT_REGEX, UnicodeCharCategory.EXCEPT_XDIGIT_REGEX, CategoryMatcher.ofAsciiRanges('0', '9', 'A', 'F', 'a', 'f')),
+    LETTER(UnicodeCharCategory.LETTER_REGEX, UnicodeCharCategory.EXCEPT_LETTER_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.LETTERS)),
+    LOWERCASE_LETTER(UnicodeCharCategory.LOWERCASE_LETTER_REGEX, UnicodeCharCategory.EXCEPT_LOWERCASE_LETTER_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.LOWERCASE_LETTER))),
+    UPPERCASE_LETTER(UnicodeCharCategory.UPPERCASE_LETTER_REGEX, UnicodeCharCategory.EXCEPT_UPPERCASE_LETTER_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.UPPERCASE_LETTER))),
+    TITLECASE_LETTER(UnicodeCharCategory.TITLECASE_LETTER_REGEX, UnicodeCharCategory.EXCEPT_TITLECASE_LETTER_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.TITLECASE_LETTER))),
+    CASED_LETTER(UnicodeCharCategory.CASED_LETTER_REGEX, UnicodeCharCategory.EXCEPT_CASED_LETTER_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.UPPERCASE_LETTER, Character.LOWERCASE_LETTER, Character.TITLECASE_LETTER))),
+    MODIFIER_LETTER(UnicodeCharCategory.MODIFIER_LETTER_REGEX, UnicodeCharCategory.EXCEPT_MODIFIER_LETTER_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.MODIFIER_LETTER))),
+    OTHER_LETTER(UnicodeCharCategory.OTHER_LETTER_REGEX, UnicodeCharCategory.EXCEPT_OTHER_LETTER_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.OTHER_LETTER))),
+    MARK(UnicodeCharCategory.MARK_REGEX, UnicodeCharCategory.EXCEPT_MARK_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.MARKS)),
+    NON_SPACING_MARK(UnicodeCharCategory.NON_SPACING_MARK_REGEX, UnicodeCharCategory.EXCEPT_NON_SPACING_MARK_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.NON_SPACING_MARK))),
+    SPACING_COMBINING_MARK(UnicodeCharCategory.SPACING_COMBINING_MARK_REGEX, UnicodeCharCategory.EXCEPT_SPACING_COMBINING_MARK_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.COMBINING_SPACING_MARK))),
+    ENCLOSING_MARK(UnicodeCharCategory.ENCLOSING_MARK_REGEX, UnicodeCharCategory.EXCEPT_ENCLOSING_MARK_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.ENCLOSING_MARK))),
+    SEPARATOR(UnicodeCharCategory.SEPARATOR_REGEX, UnicodeCharCategory.EXCEPT_SEPARATOR_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.SEPARATORS)),
+    SPACE_SEPARATOR(UnicodeCharCategory.SPACE_SEPARATOR_REGEX, UnicodeCharCategory.EXCEPT_SPACE_SEPARATOR_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.SPACE_SEPARATOR))),
+    LINE_SEPARATOR(UnicodeCharCategory.LINE_SEPARATOR_REGEX, UnicodeCharCategory.EXCEPT_LINE_SEPARATOR_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.LINE_SEPARATOR))),
+    PARAGRAPH_SEPARATOR(UnicodeCharCategory.PARAGRAPH_SEPARATOR_REGEX, UnicodeCharCategory.EXCEPT_PARAGRAPH_SEPARATOR_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.PARAGRAPH_SEPARATOR))),
+    SYMBOL(UnicodeCharCategory.SYMBOL_REGEX, UnicodeCharCategory.EXCEPT_SYMBOL_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.SYMBOLS)),
+    MATH_SYMBOL(UnicodeCharCategory.MATH_SYMBOL_REGEX, UnicodeCharCategory.EXCEPT_MATH_SYMBOL_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.MATH_SYMBOL))),
+    CURRENCY_SYMBOL(UnicodeCharCategory.CURRENCY_SYMBOL_REGEX, UnicodeCharCategory.EXCEPT_CURRENCY_SYMBOL_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.CURRENCY_SYMBOL))),
+    MODIFIER_SYMBOL(UnicodeCharCategory.MODIFIER_SYMBOL_REGEX, UnicodeCharCategory.EXCEPT_MODIFIER_SYMBOL_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.MODIFIER_SYMBOL))),
+    OTHER_SYMBOL(UnicodeCharCategory.OTHER_SYMBOL_REGEX, UnicodeCharCategory.EXCEPT_OTHER_SYMBOL_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.OTHER_SYMBOL))),
+    NUMBER(UnicodeCharCategory.NUMBER_REGEX, UnicodeCharCategory.EXCEPT_NUMBER_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.NUMBERS)),
+    DECIMAL_DIGIT_NUMBER(UnicodeCharCategory.DECIMAL_DIGIT_NUMBER_REGEX, UnicodeCharCategory.EXCEPT_DECIMAL_DIGIT_NUMBER_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.DECIMAL_DIGIT_NUMBER))),
+    LETTER_NUMBER(UnicodeCharCategory.LETTER_NUMBER_REGEX, UnicodeCharCategory.EXCEPT_LETTER_NUMBER_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.LETTER_NUMBER))),
+    OTHER_NUMBER(UnicodeCharCategory.OTHER_NUMBER_REGEX, UnicodeCharCategory.EXCEPT_OTHER_NUMBER_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.OTHER_NUMBER))),
+    PUNCTUATION(UnicodeCharCategory.PUNCTUATION_REGEX, UnicodeCharCategory.EXCEPT_PUNCTUATION_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.PUNCTUATION)),
+    DASH_PUNCTUATION(UnicodeCharCategory.DASH_PUNCTUATION_REGEX, UnicodeCharCategory.EXCEPT_DASH_PUNCTUATION_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.DASH_PUNCTUATION))),
+    OPEN_PUNCTUATION(UnicodeCharCategory.OPEN_PUNCTUATION_REGEX, UnicodeCharCategory.EXCEPT_OPEN_PUNCTUATION_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.START_PUNCTUATION))),
+    CLOSE_PUNCTUATION(UnicodeCharCategory.CLOSE_PUNCTUATION_REGEX, UnicodeCharCategory.EXCEPT_CLOSE_PUNCTUATION_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.END_PUNCTUATION))),
+    INITIAL_PUNCTUATION(UnicodeCharCategory.INITIAL_PUNCTUATION_REGEX, UnicodeCharCategory.EXCEPT_INITIAL_PUNCTUATION_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.INITIAL_QUOTE_PUNCTUATION))),
+    FINAL_PUNCTUATION(UnicodeCharCategory.FINAL_PUNCTUATION_REGEX, UnicodeCharCategory.EXCEPT_FINAL_PUNCTUATION_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.FINAL_QUOTE_PUNCTUATION))),
+    CONNECTOR_PUNCTUATION(UnicodeCharCategory.CONNECTOR_PUNCTUATION_REGEX, UnicodeCharCategory.EXCEPT_CONNECTOR_PUNCTUATION_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.CONNECTOR_PUNCTUATION))),
+    OTHER_PUNCTUATION(UnicodeCharCategory.OTHER_PUNCTUATION_REGEX, UnicodeCharCategory.EXCEPT_OTHER_PUNCTUATION_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.OTHER_PUNCTUATION))),
+    OTHER(UnicodeCharCategory.OTHER_REGEX, UnicodeCharCategory.EXCEPT_OTHER_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.OTHERS)),
+    CONTROL(UnicodeCharCategory.CONTROL_REGEX, UnicodeCharCategory.EXCEPT_CONTROL_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.CONTROL))),
+    FORMAT(UnicodeCharCategory.FORMAT_REGEX, UnicodeCharCategory.EXCEPT_FORMAT_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.FORMAT))),
+    PRIVATE_USE(UnicodeCharCategory.PRIVATE_USE_REGEX, UnicodeCharCategory.EXCEPT_PRIVATE_USE_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.PRIVATE_USE))),
+    SURROGATE(UnicodeCharCategory.SURROGATE_REGEX, UnicodeCharCategory.EXCEPT_SURROGATE_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.SURROGATE))),
+    UNASSIGNED(UnicodeCharCategory.UNASSIGNED_REGEX, UnicodeCharCategory.EXCEPT_UNASSIGNED_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.mask(Character.UNASSIGNED))),
+    ZERO_WIDTH_CHAR(UnicodeCharCategory.ZERO_WIDTH_CHAR_REGEX, UnicodeCharCategory.EXCEPT_ZERO_WIDTH_CHAR_REGEX, CategoryMatcher.ofRanges(0x200B, 0x200D, 0x2060, 0x2060, 0xFEFF, 0xFEFF)),
+    DIACRITICAL_LETTER(UnicodeCharCategory.DIACRITICAL_LETTER_REGEX, UnicodeCharCategory.EXCEPT_DIACRITICAL_LETTER_REGEX, CategoryMatcher.ofCategories(CategoryMatcher.LETTERS | CategoryMatcher.MARKS).withoutAscii()),
+    DIACRITIC(UnicodeCharCategory.DIACRITIC_REGEX, UnicodeCharCategory.EXCEPT_DIACRITIC_REGEX, CategoryMatcher.ofRanges(0x0300, 0x036F));
+
     public static final String ALNUM_REGEX = "\\p{Alnum}"; // Matches an alphanumeric character: [\p{Alpha}\p{Digit}]
     public static final String ALPHA_REGEX = "\\p{Alpha}"; // Matches an alphabetic character: [\p{Lower}\p{Upper}]
     public static final String ASCII_REGEX = "\\p{ASCII}"; // Matches ASCII characters: [\x00-\x7F]
@@ -109,7 +173,93 @@ public class UnicodeCharCategory {
     public static final String EXCEPT_ZERO_WIDTH_CHAR_REGEX = "[^\u200B\u200C\u200D\u2060\uFEFF]"; // Matches any non-zero-width character.
     public static final String EXCEPT_DIACRITICAL_LETTER_REGEX = "[^\\p{L}\\p{M}&&[^\\p{ASCII}]]"; // Matches any non-diacritical letter.
     public static final String EXCEPT_DIACRITIC_REGEX = "\\P{InCombiningDiacriticalMarks}"; // Matches any non-diacritic character.
+    private final String regex;
+    private final String exceptRegex;
+    private final CategoryMatcher matcher;
+    private volatile Pattern pattern;
+    private volatile Pattern exceptPattern;
+
+    UnicodeCharCategory(String regex, String exceptRegex, CategoryMatcher matcher) {
+        this.regex = regex;
+        this.exceptRegex = exceptRegex;
+        this.matcher = matcher;
+    }
+
+    /**
+     * Returns the regular expression that matches a character of this category.
+     *
+     * @return the regular expression
+     */
+    public String getRegex() {
+        return regex;
+    }
+
+    /**
+     * Returns the regular expression that matches a character outside of this category.
+     *
+     * @return the regular expression of the complement
+     */
+    public String getExceptRegex() {
+        return exceptRegex;
+    }
+
+    /**
+     * Returns the compiled pattern of this category, compiling it on the first call. Compiling every pattern takes
+     * a noticeable time at startup, so only the patterns that are actually used are compiled.
+     *
+     * @return the compiled pattern, which is the same instance on every call
+     */
+    public Pattern getPattern() {
+        Pattern result = pattern;
+
+        if (result == null) {
+            synchronized (this) {
+                result = pattern;
+
+                if (result == null) pattern = result = Pattern.compile(regex);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the compiled pattern of the complement of this category, compiling it on the first call.
+     *
+     * @return the compiled pattern of the complement, which is the same instance on every call
+     */
+    public Pattern getExceptPattern() {
+        Pattern result = exceptPattern;
+
+        if (result == null) {
+            synchronized (this) {
+                result = exceptPattern;
+
+                if (result == null) exceptPattern = result = Pattern.compile(exceptRegex);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the given code point belongs to this category, as the regular expression of the category would.
+     *
+     * @param codePoint the code point to check
+     * @return {@code true} if {@code codePoint} belongs to this category, otherwise {@code false}
+     */
+    public boolean matches(int codePoint) {
+        return matcher.matches(codePoint);
+    }
+
+    CategoryMatcher matcher() {
+        return matcher;
+    }
 
-    private UnicodeCharCategory() {
+    /**
+     * Checks if the pattern of this category or of its complement has already been compiled.
+     *
+     * @return {@code true} if {@link #getPattern()} or {@link #getExceptPattern()} has been called, otherwise {@code false}
+     */
+    boolean isCompiled() {
+        return pattern != null || exceptPattern != null;
     }
 }
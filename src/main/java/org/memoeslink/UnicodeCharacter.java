@@ -0,0 +1,166 @@
+package org.memoeslink;
+
+/**
+ * Character properties taken from the Unicode version pinned in {@link UnicodeData}, so that the results
+ * do not change with the Unicode version implemented by the running JDK. The general categories use the
+ * type constants of {@link Character}.
+ */
+final class UnicodeCharacter {
+    static final String VERSION = UnicodeData.VERSION;
+    static final int GRAPHEME_OTHER = 0;
+    static final int GRAPHEME_CR = 1;
+    static final int GRAPHEME_LF = 2;
+    static final int GRAPHEME_CONTROL = 3;
+    static final int GRAPHEME_EXTEND = 4;
+    static final int GRAPHEME_ZWJ = 5;
+    static final int GRAPHEME_REGIONAL_INDICATOR = 6;
+    static final int GRAPHEME_PREPEND = 7;
+    static final int GRAPHEME_SPACING_MARK = 8;
+    static final int GRAPHEME_L = 9;
+    static final int GRAPHEME_V = 10;
+    static final int GRAPHEME_T = 11;
+    static final int GRAPHEME_LV = 12;
+    static final int GRAPHEME_LVT = 13;
+    static final int GRAPHEME_EXTENDED_PICTOGRAPHIC = 14;
+    private static final int TYPE_MASK = 0x1F;
+    private static final int ALPHABETIC = 1 << 5;
+    private static final int LOWERCASE = 1 << 6;
+    private static final int UPPERCASE = 1 << 7;
+    private static final UnicodeTable PROPERTIES = UnicodeTable.of(UnicodeData.Properties.INDEX, UnicodeData.Properties.DATA);
+
+    private UnicodeCharacter() {
+    }
+
+    /**
+     * Returns the general category of the given character.
+     *
+     * @param c the character to check
+     * @return the general category of {@code c} as a {@link Character} type constant, or {@link Character#UNASSIGNED} for invalid code points
+     */
+    static int getType(int c) {
+        return PROPERTIES.get(c) & TYPE_MASK;
+    }
+
+    /**
+     * Checks if the given character is a letter, that is, if its general category is Lu, Ll, Lt, Lm or Lo.
+     *
+     * @param c the character to check
+     * @return {@code true} if {@code c} is a letter, otherwise {@code false}
+     */
+    static boolean isLetter(int c) {
+        int type = getType(c);
+        return type >= Character.UPPERCASE_LETTER && type <= Character.OTHER_LETTER;
+    }
+
+    /**
+     * Checks if the given character is a decimal digit (Nd).
+     *
+     * @param c the character to check
+     * @return {@code true} if {@code c} is a digit, otherwise {@code false}
+     */
+    static boolean isDigit(int c) {
+        return getType(c) == Character.DECIMAL_DIGIT_NUMBER;
+    }
+
+    /**
+     * Checks if the given character has the Alphabetic derived property.
+     *
+     * @param c the character to check
+     * @return {@code true} if {@code c} is alphabetic, otherwise {@code false}
+     */
+    static boolean isAlphabetic(int c) {
+        return (PROPERTIES.get(c) & ALPHABETIC) != 0;
+    }
+
+    /**
+     * Checks if the given character has the Lowercase derived property.
+     *
+     * @param c the character to check
+     * @return {@code true} if {@code c} is lowercase, otherwise {@code false}
+     */
+    static boolean isLowerCase(int c) {
+        return (PROPERTIES.get(c) & LOWERCASE) != 0;
+    }
+
+    /**
+     * Checks if the given character has the Uppercase derived property.
+     *
+     * @param c the character to check
+     * @return {@code true} if {@code c} is uppercase, otherwise {@code false}
+     */
+    static boolean isUpperCase(int c) {
+        return (PROPERTIES.get(c) & UPPERCASE) != 0;
+    }
+
+    /**
+     * Checks if the given character is a space separator (Zs), a line separator (Zl) or a paragraph separator (Zp).
+     *
+     * @param c the character to check
+     * @return {@code true} if {@code c} is a space character, otherwise {@code false}
+     */
+    static boolean isSpaceChar(int c) {
+        int type = getType(c);
+        return type == Character.SPACE_SEPARATOR || type == Character.LINE_SEPARATOR || type == Character.PARAGRAPH_SEPARATOR;
+    }
+
+    /**
+     * Checks if the given character is whitespace with the same definition as {@link Character#isWhitespace(int)}:
+     * a space character other than a non-breaking space, or one of the controls from U+0009 to U+000D and
+     * from U+001C to U+001F.
+     *
+     * @param c the character to check
+     * @return {@code true} if {@code c} is whitespace, otherwise {@code false}
+     */
+    static boolean isWhitespace(int c) {
+        if ((c >= 0x0009 && c <= 0x000D) || (c >= 0x001C && c <= 0x001F)) return true;
+        return isSpaceChar(c) && c != 0x00A0 && c != 0x2007 && c != 0x202F;
+    }
+
+    /**
+     * Returns the script of the given character.
+     *
+     * @param c the character to check
+     * @return the index of the script of {@code c} in {@link #getScriptName(int)}, which is 0 (Unknown) for invalid code points
+     */
+    static int getScript(int c) {
+        return ScriptHolder.SCRIPTS.get(c);
+    }
+
+    /**
+     * Returns the name of a script, in the same form as the constants of {@link Character.UnicodeScript}.
+     *
+     * @param script the index of the script
+     * @return the name of the script
+     */
+    static String getScriptName(int script) {
+        return UnicodeData.SCRIPT_NAMES[script];
+    }
+
+    /**
+     * Returns the number of scripts in the pinned Unicode data.
+     *
+     * @return the number of scripts, including Unknown
+     */
+    static int getScriptCount() {
+        return UnicodeData.SCRIPT_NAMES.length;
+    }
+
+    /**
+     * Returns the Grapheme_Cluster_Break value of the given character, using {@link #GRAPHEME_EXTENDED_PICTOGRAPHIC}
+     * for the Extended_Pictographic characters whose value is Other.
+     *
+     * @param c the character to check
+     * @return one of the {@code GRAPHEME_*} constants, which is {@link #GRAPHEME_OTHER} for invalid code points
+     */
+    static int getGraphemeBreak(int c) {
+        return GraphemeBreakHolder.GRAPHEME_BREAKS.get(c);
+    }
+
+    private static final class GraphemeBreakHolder {
+        private static final UnicodeTable GRAPHEME_BREAKS = UnicodeTable.of(UnicodeData.GraphemeBreaks.INDEX, UnicodeData.GraphemeBreaks.DATA);
+    }
+
+    private static final class ScriptHolder {
+        private static final UnicodeTable SCRIPTS = UnicodeTable.of(UnicodeData.Scripts.INDEX, UnicodeData.Scripts.DATA);
+    }
+}
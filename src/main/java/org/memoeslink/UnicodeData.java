@@ -0,0 +1,5077 @@
+package org.memoeslink;
+
+// Generated with: java tools/UnicodeDataGenerator.java --jdk 15.0.0 src/main/java/org/memoeslink/UnicodeData.java
+// Source: the java.lang.Character tables of JDK 21.0.1+12-LTS (Unicode 15.0.0) and the grapheme break lists of UAX #29.
+// Do not edit.
+final class UnicodeData {
+    static final String VERSION = "15.0.0";
+    static final String[] SCRIPT_NAMES = {
+            "UNKNOWN", "COMMON", "LATIN", "BOPOMOFO", "INHERITED", "GREEK", "COPTIC", "CYRILLIC",
+            "ARMENIAN", "HEBREW", "ARABIC", "SYRIAC", "THAANA", "NKO", "SAMARITAN", "MANDAIC",
+            "DEVANAGARI", "BENGALI", "GURMUKHI", "GUJARATI", "ORIYA", "TAMIL", "TELUGU", "KANNADA",
+            "MALAYALAM", "SINHALA", "THAI", "LAO", "TIBETAN", "MYANMAR", "GEORGIAN", "HANGUL",
+            "ETHIOPIC", "CHEROKEE", "CANADIAN_ABORIGINAL", "OGHAM", "RUNIC", "TAGALOG", "HANUNOO", "BUHID",
+            "TAGBANWA", "KHMER", "MONGOLIAN", "LIMBU", "TAI_LE", "NEW_TAI_LUE", "BUGINESE", "TAI_THAM",
+            "BALINESE", "SUNDANESE", "BATAK", "LEPCHA", "OL_CHIKI", "BRAILLE", "GLAGOLITIC", "TIFINAGH",
+            "HAN", "HIRAGANA", "KATAKANA", "YI", "LISU", "VAI", "BAMUM", "SYLOTI_NAGRI",
+            "PHAGS_PA", "SAURASHTRA", "KAYAH_LI", "REJANG", "JAVANESE", "CHAM", "TAI_VIET", "MEETEI_MAYEK",
+            "LINEAR_B", "LYCIAN", "CARIAN", "OLD_ITALIC", "GOTHIC", "OLD_PERMIC", "UGARITIC", "OLD_PERSIAN",
+            "DESERET", "SHAVIAN", "OSMANYA", "OSAGE", "ELBASAN", "CAUCASIAN_ALBANIAN", "VITHKUQI", "LINEAR_A",
+            "CYPRIOT", "IMPERIAL_ARAMAIC", "PALMYRENE", "NABATAEAN", "HATRAN", "PHOENICIAN", "LYDIAN", "MEROITIC_HIEROGLYPHS",
+            "MEROITIC_CURSIVE", "KHAROSHTHI", "OLD_SOUTH_ARABIAN", "OLD_NORTH_ARABIAN", "MANICHAEAN", "AVESTAN", "INSCRIPTIONAL_PARTHIAN", "INSCRIPTIONAL_PAHLAVI",
+            "PSALTER_PAHLAVI", "OLD_TURKIC", "OLD_HUNGARIAN", "HANIFI_ROHINGYA", "YEZIDI", "OLD_SOGDIAN", "SOGDIAN", "OLD_UYGHUR",
+            "CHORASMIAN", "ELYMAIC", "BRAHMI", "KAITHI", "SORA_SOMPENG", "CHAKMA", "MAHAJANI", "SHARADA",
+            "KHOJKI", "MULTANI", "KHUDAWADI", "GRANTHA", "NEWA", "TIRHUTA", "SIDDHAM", "MODI",
+            "TAKRI", "AHOM", "DOGRA", "WARANG_CITI", "DIVES_AKURU", "NANDINAGARI", "ZANABAZAR_SQUARE", "SOYOMBO",
+            "PAU_CIN_HAU", "BHAIKSUKI", "MARCHEN", "MASARAM_GONDI", "GUNJALA_GONDI", "MAKASAR", "KAWI", "CUNEIFORM",
+            "CYPRO_MINOAN", "EGYPTIAN_HIEROGLYPHS", "ANATOLIAN_HIEROGLYPHS", "MRO", "TANGSA", "BASSA_VAH", "PAHAWH_HMONG", "MEDEFAIDRIN",
+            "MIAO", "TANGUT", "NUSHU", "KHITAN_SMALL_SCRIPT", "DUPLOYAN", "SIGNWRITING", "NYIAKENG_PUACHUE_HMONG", "TOTO",
+            "WANCHO", "NAG_MUNDARI", "MENDE_KIKAKUI", "ADLAM"
+    };
+
+    private UnicodeData() {
+    }
+
+    static final class Properties {
+        static final String[] INDEX = {
+                "\000\001\002\003\004\005\006\007\010\011\012\013\014\015\016\017\020\021\022\023\024\021\025\026"
+                        + "\027\030\031\032\033\034\035\036\037 !\"#$%&'(!)*+,-"
+                        + "./0'\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021"
+                        + "\021\021\021\021\0211\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021"
+                        + "\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021"
+                        + "\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021"
+                        + "\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\0212\021\021\0213\02145"
+                        + "6789\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021"
+                        + "\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021:"
+                        + ";;;;;;;;<<<<<<<<<<<<<<<<"
+                        + "<<<<<<<<<\021=>\021?@ABCDEFG\021H"
+                        + "IJKLMNOPQRSTUVWXYZ[\\]^_`"
+                        + "\021\021\021abcddddddddde\021\021\021\021fddd"
+                        + "dddddddddddd\021\021gddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "\021\021hiddjk\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021"
+                        + "\021\021\021\021\021\021\021l\021\021\021\021mndddddddddd"
+                        + "dddddddddddddddddddddddo"
+                        + "\021pqdddddddddrddddddddddd"
+                        + "dddddddstuvwxyz{''|dddd}"
+                        + "~\177\200d\201dd\202\203\204dd\205\206\207d\210\211\212\213''\214\215"
+                        + "\216'\217\220dddd\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021"
+                        + "\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021"
+                        + "\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021"
+                        + "\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021"
+                        + "\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021"
+                        + "\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021"
+                        + "\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021"
+                        + "\021\021\021\021\021\021\221\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\222"
+                        + "\223\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\224\021"
+                        + "\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021"
+                        + "\021\021\021\225dddddddddddd\021\021\226ddddd"
+                        + "\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\227\021\021\021\021"
+                        + "\021\021\021\021\021\021\021\021\021\021\021\230dddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddd\231\232dddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "<<<<<<<<<<<<<<<<<<<<<<<<"
+                        + "<<<<<<<<<<<<<<<<<<<<<<<<"
+                        + "<<<<<<<<<<<<<<<<<<<<<<<<"
+                        + "<<<<<<<<<<<<<<<<<<<<<<<<"
+                        + "<<<<<<<<<<<<<<<<<<<<<<<<"
+                        + "<<<<<<<<<<<<<<<<<<<<<<<<"
+                        + "<<<<<<<<<<<<<<<<<<<<<<<<"
+                        + "<<<<<<<<<<<<<<<<<<<<<<<<"
+                        + "<<<<<<<<<<<<<<<<<<<<<<<<"
+                        + "<<<<<<<<<<<<<<<<<<<<<<<<"
+                        + "<<<<<<<<<<<<<<<\233",
+                "<<<<<<<<<<<<<<<<<<<<<<<<"
+                        + "<<<<<<<<<<<<<<<<<<<<<<<<"
+                        + "<<<<<<<<<<<<<<<<<<<<<<<<"
+                        + "<<<<<<<<<<<<<<<<<<<<<<<<"
+                        + "<<<<<<<<<<<<<<<<<<<<<<<<"
+                        + "<<<<<<<<<<<<<<<<<<<<<<<<"
+                        + "<<<<<<<<<<<<<<<<<<<<<<<<"
+                        + "<<<<<<<<<<<<<<<<<<<<<<<<"
+                        + "<<<<<<<<<<<<<<<<<<<<<<<<"
+                        + "<<<<<<<<<<<<<<<<<<<<<<<<"
+                        + "<<<<<<<<<<<<<<<\233"
+        };
+        static final String[] DATA = {
+                "\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017"
+                        + "\017\017\017\017\017\017\017\017\014\030\030\030\032\030\030\030\025\026\030\031\030\024\030\030"
+                        + "\011\011\011\011\011\011\011\011\011\011\030\030\031\031\031\030\030\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\025\030\026\033\027"
+                        + "\033bbbbbbbbbbbbbbbbbbbbbbb"
+                        + "bbb\025\031\026\031\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017"
+                        + "\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\014\030\032\032\032\032\034\030"
+                        + "\033\034e\035\031\020\034\033\034\031\013\013\033b\030\030\033\013e\036\013\013\013\030"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\031"
+                        + "\241\241\241\241\241\241\241bbbbbbbbbbbbbbbbb"
+                        + "bbbbbbb\031bbbbbbbb\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "b\241b\241b\241b\241b\241b\241b\241b\241bb\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241\241b\241b\241bb"
+                        + "b\241\241b\241b\241\241b\241\241\241bb\241\241\241\241b\241\241b\241\241"
+                        + "\241bbb\241\241b\241\241b\241b\241b\241\241b\241bb\241b\241\241"
+                        + "b\241\241\241b\241b\241\241bb%\241bbb%%%%\241#b\241"
+                        + "#b\241#b\241b\241b\241b\241b\241b\241b\241b\241bb\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241bb\241#b\241b\241\241"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241bbbbbbb\241\241b\241\241b"
+                        + "b\241b\241\241\241\241b\241b\241b\241b\241bbbbbbbbb"
+                        + "bbbbbbbbbbbbbbbbbbbbbbbb"
+                        + "bbbbbbbbbbbbbbbbbbbbbbbb"
+                        + "bbbbbbbbbbbb%bbbbbbbbbbb"
+                        + "bbbbbbbbbbbbbbbbdddddddd"
+                        + "d$$$$$$$dd\033\033\033\033$$$$$$$$$$"
+                        + "$$\033\033\033\033\033\033\033\033\033\033\033\033\033\033ddddd\033\033\033"
+                        + "\033\033\033\033$\033$\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006f\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\241b\241b$\033\241b"
+                        + "\000\000dbbb\030\241\000\000\000\000\033\033\241\030\241\241\241\000\241\000\241\241"
+                        + "b\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\000\241\241\241\241\241"
+                        + "\241\241\241\241bbbbbbbbbbbbbbbbbbbb"
+                        + "bbbbbbbbbbbbbbb\241bb\241\241\241bbb"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "bbbb\241b\031\241b\241\241bb\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241bbbbbbbb"
+                        + "bbbbbbbbbbbbbbbbbbbbbbbb"
+                        + "bbbbbbbbbbbbbbbb\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\034\006\006\006\006\006\007\007\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241\241b\241b\241b\241"
+                        + "b\241b\241b\241bb\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\000\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\000"
+                        + "\000$\030\030\030\030\030\030bbbbbbbbbbbbbbbb"
+                        + "bbbbbbbbbbbbbbbbbbbbbbbb"
+                        + "b\030\024\000\000\034\034\032\000\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006&&&&&&&&"
+                        + "&&&&&&\024&\030&&\030&&\030&\000\000\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%\000\000\000\000%%%%\030\030\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\020\020\020\020\020\020\031\031\031\030\030\032\030\030\034\034&&&&&&&&"
+                        + "&&&\030\020\030\030\030%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%$%%%%%%%"
+                        + "%%%&&&&&&&&&&&&&\006&&&&&&&"
+                        + "\011\011\011\011\011\011\011\011\011\011\030\030\030\030%%&%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%\030%&&"
+                        + "&&&&&\020\034\006\006&&&&$$&&\034\006\006\006&%%"
+                        + "\011\011\011\011\011\011\011\011\011\011%%%\034\034%\030\030\030\030\030\030\030\030"
+                        + "\030\030\030\030\030\030\000\020%&%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%&&&&&&&&"
+                        + "&&&&&&&&\006\006\006\006\006\006\006\006\006\006\006\000\000%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%&&&&&&&&&&"
+                        + "&%\000\000\000\000\000\000\000\000\000\000\000\000\000\000\011\011\011\011\011\011\011\011"
+                        + "\011\011%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%\006\006\006\006\006\006\006\006\006$$\034\030"
+                        + "\030\030$\000\000\006\032\032%%%%%%%%%%%%%%%%"
+                        + "%%%%%%&&\006\006$&&&&&&&&&$&&&"
+                        + "$&&&&\006\000\000\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%\006\006\006\000\000\030\000%%%%%%%%%%%\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "\033%%%%%%\000\020\020\000\000\000\000\000\000\006\006\006\006\006\006\006\006"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%$\006\006\006\006\006\006"
+                        + "\006\006\006\006&&&&&&&&&&&&\006\006\020&&&&&"
+                        + "&&\006\006\006\006\006\006&&&&&&&&&&&&&&&&"
+                        + "&&&(%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%&(\006%(((&&&&&&&"
+                        + "&((((\006((%\006\006\006\006&&&%%%%%%%%"
+                        + "%%&&\030\030\011\011\011\011\011\011\011\011\011\011\030$%%%%%%"
+                        + "%%%%%%%%%&((\000%%%%%%%%\000\000%"
+                        + "%\000\000%%%%%%%%%%%%%%%%%%%%%"
+                        + "%\000%%%%%%%\000%\000\000\000%%%%\000\000\006%(("
+                        + "(&&&&\000\000((\000\000((\006%\000\000\000\000\000\000\000\000("
+                        + "\000\000\000\000%%\000%%%&&\000\000\011\011\011\011\011\011\011\011\011\011"
+                        + "%%\032\032\013\013\013\013\013\013\034\032%\030\006\000\000&&(\000%%%"
+                        + "%%%\000\000\000\000%%\000\000%%%%%%%%%%%%%"
+                        + "%%%%%%%%%\000%%%%%%%\000%%\000%%\000"
+                        + "%%\000\000\006\000(((&&\000\000\000\000&&\000\000&&\006\000\000"
+                        + "\000&\000\000\000\000\000\000\000%%%%\000%\000\000\000\000\000\000\000\011\011"
+                        + "\011\011\011\011\011\011\011\011&&%%%&\030\000\000\000\000\000\000\000\000\000"
+                        + "\000&&(\000%%%%%%%%%\000%%%\000%%%%%"
+                        + "%%%%%%%%%%%%%%%%%\000%%%%%%"
+                        + "%\000%%\000%%%%%\000\000\006%(((&&&&&\000&"
+                        + "&(\000((\006\000\000%\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "%%&&\000\000\011\011\011\011\011\011\011\011\011\011\030\032\000\000\000\000\000\000"
+                        + "\000%&&&\006\006\006\000&((\000%%%%%%%%\000\000%"
+                        + "%\000\000%%%%%%%%%%%%%%%%%%%%%"
+                        + "%\000%%%%%%%\000%%\000%%%%%\000\000\006%(&"
+                        + "(&&&&\000\000((\000\000((\006\000\000\000\000\000\000\000\006&("
+                        + "\000\000\000\000%%\000%%%&&\000\000\011\011\011\011\011\011\011\011\011\011"
+                        + "\034%\013\013\013\013\013\013\000\000\000\000\000\000\000\000\000\000&%\000%%%"
+                        + "%%%\000\000\000%%%\000%%%%\000\000\000%%\000%\000%%"
+                        + "\000\000\000%%\000\000\000%%%\000\000\000%%%%%%%%%%"
+                        + "%%\000\000\000\000((&((\000\000\000(((\000(((\006\000\000"
+                        + "%\000\000\000\000\000\000(\000\000\000\000\000\000\000\000\000\000\000\000\000\000\011\011"
+                        + "\011\011\011\011\011\011\011\011\013\013\013\034\034\034\034\034\034\032\034\000\000\000\000\000"
+                        + "&(((&%%%%%%%%\000%%%\000%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%\000%%%%%%"
+                        + "%%%%%%%%%%\000\000\006%&&&((((\000&&"
+                        + "&\000&&&\006\000\000\000\000\000\000\000&&\000%%%\000\000%\000\000"
+                        + "%%&&\000\000\011\011\011\011\011\011\011\011\011\011\000\000\000\000\000\000\000\030"
+                        + "\013\013\013\013\013\013\013\034%&((\030%%%%%%%%\000%%"
+                        + "%\000%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%\000%%%%%%%%%%\000%%%%%\000\000\006%(&"
+                        + "(((((\000&((\000((&\006\000\000\000\000\000\000\000((\000"
+                        + "\000\000\000\000\000%%\000%%&&\000\000\011\011\011\011\011\011\011\011\011\011"
+                        + "\000%%(\000\000\000\000\000\000\000\000\000\000\000\000&&((%%%%"
+                        + "%%%%%\000%%%\000%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%\006\006%(((&&&&\000(((\000(((\006%\034"
+                        + "\000\000\000\000%%%(\013\013\013\013\013\013\013%%%&&\000\000\011\011"
+                        + "\011\011\011\011\011\011\011\011\013\013\013\013\013\013\013\013\013\034%%%%%%"
+                        + "\000&((\000%%%%%%%%%%%%%%%%%%\000"
+                        + "\000\000%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%\000%%%%%%%%%\000%\000\000%%%%%%%\000"
+                        + "\000\000\006\000\000\000\000(((&&&\000&\000(((((((("
+                        + "\000\000\000\000\000\000\011\011\011\011\011\011\011\011\011\011\000\000((\030\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%&%%&&&&&&&\000\000\000\000\032"
+                        + "%%%%%%$\006\006\006\006\006\006&\006\030\011\011\011\011\011\011\011\011"
+                        + "\011\011\030\030\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000%%\000%\000%%"
+                        + "%%%\000%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%\000%\000%%%%%%%%%%&%%&&&&"
+                        + "&&\006&&%\000\000%%%%%\000$\000\006\006\006\006\006&\006\000"
+                        + "\011\011\011\011\011\011\011\011\011\011\000\000%%%%\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "%\034\034\034\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\034\030\034\034\034"
+                        + "\006\006\034\034\034\034\034\034\011\011\011\011\011\011\011\011\011\011\013\013\013\013\013\013"
+                        + "\013\013\013\013\034\006\034\006\034\006\025\026\025\026\010\010%%%%%%%%"
+                        + "\000%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%\000\000\000\000&&&&&&&"
+                        + "&&&&&&&(&&&&\006\030\006\006%%%%%&&&"
+                        + "&&&&&&&&\000&&&&&&&&&&&&&&&"
+                        + "&&&&&&&&&&&&&&&&&&&&&\000\034\034"
+                        + "\034\034\034\034\034\034\006\034\034\034\034\034\034\000\034\034\030\030\030\030\030\034\034\034"
+                        + "\034\030\030\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000",
+                "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%((&&&"
+                        + "&(&&&&&\006(\006\006((&&%\011\011\011\011\011\011\011\011"
+                        + "\011\011\030\030\030\030\030\030%%%%%%((&&%%%%&&"
+                        + "&%(((%%(((((((%%%&&&&%%%"
+                        + "%%%%%%%%%%&((&&((((((&%("
+                        + "\011\011\011\011\011\011\011\011\011\011(((&\034\034\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\000\241\000\000\000\000\000\241\000\000bbbbbbbb"
+                        + "bbbbbbbbbbbbbbbbbbbbbbbb"
+                        + "bbbbbbbbbbb\030dbbb%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%\000%%%%\000\000%%%%%%%\000"
+                        + "%\000%%%%\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%\000%%%%\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%\000%%%%\000\000"
+                        + "%%%%%%%\000%\000%%%%\000\000%%%%%%%%"
+                        + "%%%%%%%\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%\000%%%%\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%\000\000\006\006\006"
+                        + "\030\030\030\030\030\030\030\030\030\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013"
+                        + "\013\013\013\013\013\000\000\000%%%%%%%%%%%%%%%%"
+                        + "\034\034\034\034\034\034\034\034\034\034\000\000\000\000\000\000\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\000\000bbbbbb\000\000\024%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%\034\030%"
+                        + "%%%%%%%%%%%%%%%%\014%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%\025\026\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%\030\030\030***%%%%%%%%\000\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%&&\006\010\000\000"
+                        + "\000\000\000\000\000\000\000%%%%%%%%%%%%%%%%%"
+                        + "%%&&\010\030\030\000\000\000\000\000\000\000\000\000%%%%%%%%"
+                        + "%%%%%%%%%%&&\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%\000%%%\000&&\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%\006\006(&&&&&&&(("
+                        + "((((((&((\006\006\006\006\006\006\006\006\006\006\006\030\030\030$"
+                        + "\030\030\030\032%\006\000\000\011\011\011\011\011\011\011\011\011\011\000\000\000\000\000\000"
+                        + "\013\013\013\013\013\013\013\013\013\013\000\000\000\000\000\000\030\030\030\030\030\030\024\030"
+                        + "\030\030\030\006\006\006\020\006\011\011\011\011\011\011\011\011\011\011\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%$%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%\000\000\000\000\000\000\000"
+                        + "%%%%%&&%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%&%\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%\000\000"
+                        + "\000\000\000\000\000\000\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%\000&&&((((&"
+                        + "&(((\000\000\000\000((&((((((\006\006\006\000\000\000\000"
+                        + "\034\000\000\000\030\030\011\011\011\011\011\011\011\011\011\011%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%\000\000"
+                        + "%%%%%\000\000\000\000\000\000\000\000\000\000\000%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%\000\000\000\000%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%\000\000\000\000\000\000"
+                        + "\011\011\011\011\011\011\011\011\011\011\013\000\000\000\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%&"
+                        + "&((&\000\000\030\030%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%(&(&&&&&&&\000"
+                        + "\006(&((&&&&&&&&((((((&&\006\006\006"
+                        + "\006\006\006\006\006\000\000\006\011\011\011\011\011\011\011\011\011\011\000\000\000\000\000\000"
+                        + "\011\011\011\011\011\011\011\011\011\011\000\000\000\000\000\000\030\030\030\030\030\030\030$"
+                        + "\030\030\030\030\030\030\000\000\006\006\006\006\006\006\006\006\006\006\006\006\006\006\007&"
+                        + "&\006\006\006\006\006\006\006\006\006\006\006&&&\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000&&&&(%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%\006(&&"
+                        + "&&&(&(((((&(\010%%%%%%%%\000\000\000"
+                        + "\011\011\011\011\011\011\011\011\011\011\030\030\030\030\030\030\030\034\034\034\034\034\034\034"
+                        + "\034\034\034\006\006\006\006\006\006\006\006\006\034\034\034\034\034\034\034\034\034\030\030\000"
+                        + "&&(%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%(&&&&((&&\010\006&&%%"
+                        + "\011\011\011\011\011\011\011\011\011\011%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%\006(&&(((&(&&&\010\010\000\000\000\000"
+                        + "\000\000\000\000\030\030\030\030%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%(((("
+                        + "((((&&&&&&&&((&\006\000\000\000\030\030\030\030\030"
+                        + "\011\011\011\011\011\011\011\011\011\011\000\000\000%%%\011\011\011\011\011\011\011\011"
+                        + "\011\011%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%$$$$$$\030\030bbbbbbbb"
+                        + "b\000\000\000\000\000\000\000\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\000\000\241\241\241\030\030\030\030\030\030\030\030\000\000\000\000\000\000\000\000"
+                        + "\006\006\006\030\006\006\006\006\006\006\006\006\006\006\006\006\006\010\006\006\006\006\006\006"
+                        + "\006%%%%\006%%%%%%\006%%\010\006\006%\000\000\000\000\000"
+                        + "bbbbbbbbbbbbbbbbbbbbbbbb"
+                        + "bbbbbbbbbbbbbbbbbbbbdddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddbbbbbbbbbbbbb"
+                        + "dbbbbbbbbbbbbbbbbbbbbbbb"
+                        + "bbbbbbbbbbbddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006&&&&&&&&&"
+                        + "&&&&&\006\006\006\006\006\006\006\006\006\006\006\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241bbb"
+                        + "bbbbbb\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241bbbbbbbbb\241\241\241\241\241\241\241\241"
+                        + "bbbbbb\000\000\241\241\241\241\241\241\000\000bbbbbbbb"
+                        + "\241\241\241\241\241\241\241\241bbbbbbbb\241\241\241\241\241\241\241\241"
+                        + "bbbbbb\000\000\241\241\241\241\241\241\000\000bbbbbbbb"
+                        + "\000\241\000\241\000\241\000\241bbbbbbbb\241\241\241\241\241\241\241\241"
+                        + "bbbbbbbbbbbbbb\000\000bbbbbbbb"
+                        + "########bbbbbbbb########"
+                        + "bbbbbbbb########bbbbb\000bb"
+                        + "\241\241\241\241#\033b\033\033\033bbb\000bb\241\241\241\241#\033\033\033"
+                        + "bbbb\000\000bb\241\241\241\241\000\033\033\033bbbbbbbb"
+                        + "\241\241\241\241\241\033\033\033\000\000bbb\000bb\241\241\241\241#\033\033\000"
+                        + "\014\014\014\014\014\014\014\014\014\014\014\020\020\020\020\020\024\024\024\024\024\024\030\030"
+                        + "\035\036\025\035\035\036\025\035\030\030\030\030\030\030\030\030\015\016\020\020\020\020\020\014"
+                        + "\030\030\030\030\030\030\030\030\030\035\036\030\030\030\030\027\027\030\030\030\031\025\026\030"
+                        + "\030\030\030\030\030\030\030\030\030\030\031\030\027\030\030\030\030\030\030\030\030\030\030\014"
+                        + "\020\020\020\020\020\000\020\020\020\020\020\020\020\020\020\020\013d\000\000\013\013\013\013"
+                        + "\013\013\031\031\031\025\026d\013\013\013\013\013\013\013\013\013\013\031\031\031\025\026\000"
+                        + "ddddddddddddd\000\000\000\032\032\032\032\032\032\032\032"
+                        + "\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032"
+                        + "\032\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\007\007\007\007\006\007\007\007\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000",
+                "\034\034\241\034\034\034\034\241\034\034b\241\241\241bb\241\241\241b\034\241\034\034"
+                        + "\031\241\241\241\241\241\034\034\034\034\034\034\241\034\241\034\241\034\241\241\241\241\034b"
+                        + "\241\241\241\241b%%%%b\034\034bb\241\241\031\031\031\031\031\241bb"
+                        + "bb\034\031\034\034b\034\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013"
+                        + "\252\252\252\252\252\252\252\252\252\252\252\252\252\252\252\252jjjjjjjj"
+                        + "jjjjjjjj***\241b****\013\034\034\000\000\000\000"
+                        + "\031\031\031\031\031\034\034\034\034\034\031\031\034\034\034\034\031\034\034\031\034\034\031\034"
+                        + "\034\034\034\034\034\034\031\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\031\031\034\034\031\034\031\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031"
+                        + "\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031"
+                        + "\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031"
+                        + "\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031"
+                        + "\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031"
+                        + "\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031"
+                        + "\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031"
+                        + "\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031"
+                        + "\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031"
+                        + "\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031"
+                        + "\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031"
+                        + "\031\031\031\031\031\031\031\031\034\034\034\034\034\034\034\034\025\026\025\026\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\031\031\034\034\034\034\034\034"
+                        + "\034\025\026\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\031\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\031\031\031\031\031"
+                        + "\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\031\031\031\031\031\031\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\274\274\274\274\274\274\274\274\274\274"
+                        + "\274\274\274\274\274\274\274\274\274\274\274\274\274\274\274\274||||||||"
+                        + "||||||||||||||||||\013\013\013\013\013\013"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\031\034\034\034\034\034\034\034\034\034\031\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\031\031\031\031\031\031\031\031\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\031"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\025\026\025\026\025\026\025\026\025\026\025\026\025\026\013\013"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013"
+                        + "\013\013\013\013\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\031\031\031\031\031\025\026\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031"
+                        + "\031\031\031\031\031\031\031\031\031\031\031\031\031\031\025\026\025\026\025\026\025\026\025\026"
+                        + "\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031"
+                        + "\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031"
+                        + "\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031"
+                        + "\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031"
+                        + "\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031"
+                        + "\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\025\026\025\026\025"
+                        + "\026\025\026\025\026\025\026\025\026\025\026\025\026\025\026\025\026\031\031\031\031\031\031\031"
+                        + "\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031"
+                        + "\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031"
+                        + "\031\031\031\031\031\031\031\031\025\026\025\026\031\031\031\031\031\031\031\031\031\031\031\031"
+                        + "\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\025\026\031\031"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\034\034\031"
+                        + "\031\031\031\031\031\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\000\000\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\000\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241bbbbbbbb"
+                        + "bbbbbbbbbbbbbbbbbbbbbbbb"
+                        + "bbbbbbbbbbbbbbbb\241b\241\241\241bb\241"
+                        + "b\241b\241b\241\241\241\241b\241bb\241bbbbbbdd\241\241"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241bb\034\034\034\034\034\034\241b\241b\006\006\006\241b\000\000\000\000"
+                        + "\000\030\030\030\030\013\030\030bbbbbbbbbbbbbbbb"
+                        + "bbbbbbbbbbbbbbbbbbbbbb\000b"
+                        + "\000\000\000\000\000b\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%\000\000\000\000\000\000\000$"
+                        + "\030\000\000\000\000\000\000\000\000\000\000\000\000\000\000\006%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%\000\000\000\000\000\000\000\000\000"
+                        + "%%%%%%%\000%%%%%%%\000%%%%%%%\000"
+                        + "%%%%%%%\000%%%%%%%\000%%%%%%%\000"
+                        + "%%%%%%%\000%%%%%%%\000&&&&&&&&"
+                        + "&&&&&&&&&&&&&&&&&&&&&&&&"
+                        + "\030\030\035\036\035\036\030\030\030\035\036\030\035\036\030\030\030\030\030\030\030\030\030\024"
+                        + "\030\030\024\030\035\036\030\030\035\036\025\026\025\026\025\026\025\026\030\030\030\030\030$"
+                        + "\030\030\030\030\030\030\030\030\030\030\024\024\030\030\030\030\024\030\025\030\030\030\030\030"
+                        + "\030\030\030\030\030\030\030\030\034\034\030\030\030\025\026\025\026\025\026\025\026\024\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\000\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\000\000\000\000\000\000\000\000\000\000\000\000\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\000\000\000\000\014\030\030\030\034$%*\025\026\025\026\025\026\025\026"
+                        + "\025\026\034\034\025\026\025\026\025\026\025\026\024\025\026\026\034*******"
+                        + "**\006\006\006\006\010\010\024$$$$$\034\034***$%\030\034\034"
+                        + "\000%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%\000\000\006\006\033\033$$%"
+                        + "\024%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%\030$$$%"
+                        + "\000\000\000\000\000%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "\000%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%\000"
+                        + "\034\034\013\013\013\013\034\034\034\034\034\034\034\034\034\034%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%",
+                "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\000\013\013\013\013\013\013\013\013\013\013\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\013\013\013\013\013\013\013\013\034\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\013\013\013\013\013\013\013\013\013\013\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034%%%%%%%%%%%%%%%%"
+                        + "%%%%%$%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%\000\000\000"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\000\000\000\000\000\000\000\000\000%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%$$$$$$\030\030%%%%%%%%"
+                        + "%%%%$\030\030\030%%%%%%%%%%%%%%%%"
+                        + "\011\011\011\011\011\011\011\011\011\011%%\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b%\006\007\007\007\030&&&&&&&&\006\006\030$"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241bdd&&%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%**********\006\006\030\030\030\030\030\030"
+                        + "\000\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033"
+                        + "\033\033\033\033\033\033\033$$$$$$$$$\033\033\241b\241b\241b"
+                        + "\241b\241b\241b\241bbb\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b\241b"
+                        + "dbbbbbbbb\241b\241b\241\241b\241b\241b\241b\241b"
+                        + "$\033\033\241b\241b%\241b\241bbb\241b\241b\241b\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241\241\241\241\241b\241\241\241\241\241b\241b"
+                        + "\241b\241b\241b\241b\241b\241b\241\241\241\241b\241b\000\000\000\000\000"
+                        + "\241b\000b\000b\241b\241b\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000ddd\241b%ddb%%%%%"
+                        + "%%&%%%\006%%%%&%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%((&&(\034\034\034\034\006\000\000\000"
+                        + "\013\013\013\013\013\013\034\034\032\034\000\000\000\000\000\000%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%\030\030\030\030"
+                        + "\000\000\000\000\000\000\000\000((%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%(((((((((((("
+                        + "((((\006&\000\000\000\000\000\000\000\000\030\030\011\011\011\011\011\011\011\011"
+                        + "\011\011\000\000\000\000\000\000\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\006%%%%%%\030\030\030%\030%%&\011\011\011\011\011\011\011\011"
+                        + "\011\011%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%&&&&&\006\006\006\030\030%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%&&&&&&&&&"
+                        + "&&(\010\000\000\000\000\000\000\000\000\000\000\000\030%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%\000\000\000"
+                        + "&&&(%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%\006((&&&&((&&((\010\030\030\030\030\030\030\030"
+                        + "\030\030\030\030\030\030\000$\011\011\011\011\011\011\011\011\011\011\000\000\000\000\030\030"
+                        + "%%%%%&$%%%%%%%%%\011\011\011\011\011\011\011\011"
+                        + "\011\011%%%%%\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%&&&&&&((&&((&&\000\000\000\000\000\000\000\000\000"
+                        + "%%%&%%%%%%%%&(\000\000\011\011\011\011\011\011\011\011"
+                        + "\011\011\000\000\030\030\030\030%%%%%%%%%%%%%%%%"
+                        + "$%%%%%%\034\034\034%(&(%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%&%&&&%%&"
+                        + "&%%%%%&\006%\006%\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000%%$\030\030%%%%%%%%"
+                        + "%%%(&&((\030\030%$$(\006\000\000\000\000\000\000\000\000\000"
+                        + "\000%%%%%%\000\000%%%%%%\000\000%%%%%%\000"
+                        + "\000\000\000\000\000\000\000\000%%%%%%%\000%%%%%%%\000"
+                        + "bbbbbbbbbbbbbbbbbbbbbbbb"
+                        + "bbbbbbbbbbbbbbbbbbb\033dddd"
+                        + "bbbbbbbbbd\033\033\000\000\000\000bbbbbbbb"
+                        + "bbbbbbbbbbbbbbbbbbbbbbbb"
+                        + "bbbbbbbbbbbbbbbbbbbbbbbb"
+                        + "bbbbbbbbbbbbbbbbbbbbbbbb"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%((&((&((\030\010\006\000\000"
+                        + "\011\011\011\011\011\011\011\011\011\011\000\000\000\000\000\000%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%\000"
+                        + "\000\000\000%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%\000\000\000\000\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023"
+                        + "\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023"
+                        + "\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023"
+                        + "\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023"
+                        + "\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023"
+                        + "\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023"
+                        + "\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023"
+                        + "\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023"
+                        + "\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023"
+                        + "\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023"
+                        + "\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023"
+                        + "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022"
+                        + "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022"
+                        + "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022"
+                        + "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022"
+                        + "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022"
+                        + "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022"
+                        + "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022"
+                        + "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022"
+                        + "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022"
+                        + "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022"
+                        + "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000bbbbbbb\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000bbbbb\000\000\000\000\000%&%%%%%%%%%"
+                        + "%\031%%%%%%%%%%%%%\000%%%%%\000%\000"
+                        + "%%\000%%\000%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%\033\033\033\033\033\033"
+                        + "\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%\026\025\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "\000\000%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%\000\000\000\000\000\000\000\034\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%\032\034\034\034",
+                "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\030\030\030\030\030\030\030\025"
+                        + "\026\030\000\000\000\000\000\000\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\030\024\024\027\027\025\026\025\026\025\026\025\026\025\026\025\026\025\026\025\026\030\030\025"
+                        + "\026\030\030\030\030\027\027\027\030\030\030\000\030\030\030\030\024\025\026\025\026\025\026\030"
+                        + "\030\030\031\024\031\031\031\000\030\032\030\030\000\000\000\000%%%%%\000%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%\000\000\020\000\030\030\030\032\030\030\030"
+                        + "\025\026\030\031\030\024\030\030\011\011\011\011\011\011\011\011\011\011\030\030\031\031\031\030"
+                        + "\030\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\025\030\026\033\027\033bbbbbbbbbbbbbbb"
+                        + "bbbbbbbbbbb\025\031\026\031\025\026\030\025\026\030\030%%"
+                        + "%%%%%%%%$%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%$$%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%\000\000\000%%%%%%"
+                        + "\000\000%%%%%%\000\000%%%%%%\000\000%%%\000\000\000"
+                        + "\032\032\031\033\034\032\032\000\034\031\031\031\031\034\034\000\000\000\000\000\000\000\000\000"
+                        + "\000\020\020\020\034\034\000\000%%%%%%%%%%%%\000%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%\000"
+                        + "%%%%%%%%%%%%%%%%%%%\000%%\000%"
+                        + "%%%%%%%%%%%%%%\000\000%%%%%%%%"
+                        + "%%%%%%\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%\000\000\000\000\000"
+                        + "\030\030\030\000\000\000\000\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013"
+                        + "\013\013\013\013\000\000\000\034\034\034\034\034\034\034\034\034********"
+                        + "************************"
+                        + "*********************\013\013\013"
+                        + "\013\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\013\013\034\034\034\000"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\000\000\000\034\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\006\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%\000\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\006\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013"
+                        + "\013\013\013\013\000\000\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%\013\013\013\013\000\000\000\000"
+                        + "\000\000\000\000\000%%%%%%%%%%%%%%%%%%%"
+                        + "%*%%%%%%%%*\000\000\000\000\000%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%&&&&&\000\000\000\000\000%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%\000\030"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%\000\000\000\000%%%%%%%%"
+                        + "\030*****\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241bbbbbbbb"
+                        + "bbbbbbbbbbbbbbbbbbbbbbbb"
+                        + "bbbbbbbb%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%\000\000\011\011\011\011\011\011\011\011"
+                        + "\011\011\000\000\000\000\000\000\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\000\000\000\000"
+                        + "bbbbbbbbbbbbbbbbbbbbbbbb"
+                        + "bbbbbbbbbbbb\000\000\000\000%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%\000\000\000\000\000\000\000\000%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\030\241\241\241\241\241\241\241\241\241\241\241\000\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\000\241\241\241\241\241\241\241\000\241\241\000b"
+                        + "bbbbbbbbbb\000bbbbbbbbbbbbb"
+                        + "bb\000bbbbbbb\000bb\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%\000\000\000\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%\000\000"
+                        + "\000\000\000\000\000\000\000\000%%%%%%%%\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000d$$ddd\000d"
+                        + "dddddddddddddddddddddddd"
+                        + "ddddddddddddddddd\000dddddd"
+                        + "ddd\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "%%%%%%\000\000%\000%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%\000%%\000\000\000%\000\000%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%\000\030\013\013\013\013\013\013\013\013"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%\034"
+                        + "\034\013\013\013\013\013\013\013%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%\000\000\000\000\000\000\000\000\013"
+                        + "\013\013\013\013\013\013\013\013\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%\000%%\000\000\000\000\000\013\013\013\013\013%%%%%%%%"
+                        + "%%%%%%%%%%%%%%\013\013\013\013\013\013\000\000\000\030"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%\000\000\000\000\000\030\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%\000\000\000\000\013\013%%\013\013\013\013\013\013\013\013"
+                        + "\013\013\013\013\013\013\013\013\000\000\013\013\013\013\013\013\013\013\013\013\013\013\013\013"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013"
+                        + "\013\013\013\013\013\013\013\013%&&&\000&&\000\000\000\000\000&&&&"
+                        + "%%%%\000%%%\000%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%\000\000\006\006\006\000\000\000\000\006"
+                        + "\013\013\013\013\013\013\013\013\013\000\000\000\000\000\000\000\030\030\030\030\030\030\030\030"
+                        + "\030\000\000\000\000\000\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%\013\013\030%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%\013\013\013"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000%%%%%%%%\034%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%\006\006\000"
+                        + "\000\000\000\013\013\013\013\013\030\030\030\030\030\030\030\000\000\000\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%\000\000\000\030\030\030\030\030\030\030%%%%%%%%"
+                        + "%%%%%%%%%%%%%%\000\000\013\013\013\013\013\013\013\013"
+                        + "%%%%%%%%%%%%%%%%%%%\000\000\000\000\000"
+                        + "\013\013\013\013\013\013\013\013%%%%%%%%%%%%%%%%"
+                        + "%%\000\000\000\000\000\000\000\030\030\030\030\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\013\013\013\013\013\013\013\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\000\000\000\000\000\000\000\000\000\000\000\000\000bbbbbbbb"
+                        + "bbbbbbbbbbbbbbbbbbbbbbbb"
+                        + "bbbbbbbbbbbbbbbbbbb\000\000\000\000\000"
+                        + "\000\000\013\013\013\013\013\013%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%&&&&"
+                        + "\000\000\000\000\000\000\000\000\011\011\011\011\011\011\011\011\011\011\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013"
+                        + "\013\013\013\013\013\013\013\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%\000&&\024\000\000%%\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\006\006\006",
+                "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%\013\013\013\013\013\013\013\013\013\013%\000\000\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\013\013\013\013\030\030\030\030\030\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000%%%%%%%%"
+                        + "%%%%%%%%%%\006\006\006\006\030\030\030\030\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%\013\013\013\013\013\013\013\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%\000\000\000\000\000\000\000\000\000(&(%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "&&&&&&&&&&&&&&\006\030\030\030\030\030\030\030\000\000"
+                        + "\000\000\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\011\011"
+                        + "\011\011\011\011\011\011\011\011\006%%&&%\000\000\000\000\000\000\000\000\000\006"
+                        + "&&(%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "(((&&&&((\006\006\030\030\020\030\030\030\030&\000\000\000\000\000"
+                        + "\000\000\000\000\000\020\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%\000\000\000\000\000\000\000\011\011\011\011\011\011\011\011"
+                        + "\011\011\000\000\000\000\000\000&&&%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%&"
+                        + "&&&&(&&&&&&\006\006\000\011\011\011\011\011\011\011\011\011\011"
+                        + "\030\030\030\030%((%\000\000\000\000\000\000\000\000%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%\006\030\030%\000\000\000\000\000\000\000\000\000&&(%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%(((&&"
+                        + "&&&&&&&(\010%%%%\030\030\030\030\006\006\006\006\030(&"
+                        + "\011\011\011\011\011\011\011\011\011\011%\030%\030\030\030\000\013\013\013\013\013\013\013"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\013\000\000\000\000\000\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%\000%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%(((&"
+                        + "&&((&\010\006&\030\030\030\030\030\030&%%&\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000%%%%%%%\000%\000%%%%\000%"
+                        + "%%%%%%%%%%%%%%\000%%%%%%%%%"
+                        + "%\030\000\000\000\000\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%&(((&&&&&&\006\006\000\000\000\000\000"
+                        + "\011\011\011\011\011\011\011\011\011\011\000\000\000\000\000\000&&((\000%%%"
+                        + "%%%%%\000\000%%\000\000%%%%%%%%%%%%%"
+                        + "%%%%%%%%%\000%%%%%%%\000%%\000%%%"
+                        + "%%\000\006\006%((&((((\000\000((\000\000((\010\000\000"
+                        + "%\000\000\000\000\000\000(\000\000\000\000\000%%%%%((\000\000\006\006"
+                        + "\006\006\006\006\006\000\000\000\006\006\006\006\006\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%(((&&&&&&&&"
+                        + "((\006&&(\006%%%%\030\030\030\030\030\011\011\011\011\011\011\011\011"
+                        + "\011\011\030\030\000\030\006%%%\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%(((&&&&&"
+                        + "&(&((((&&(\006\006%%\030%\000\000\000\000\000\000\000\000"
+                        + "\011\011\011\011\011\011\011\011\011\011\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%(((&&&&\000\000((((&&(\006"
+                        + "\006\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030"
+                        + "%%%%&&\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%(((&&&&&"
+                        + "&&&((&(\006&\030\030\030%\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\011\011\011\011\011\011\011\011\011\011\000\000\000\000\000\000\030\030\030\030\030\030\030\030"
+                        + "\030\030\030\030\030\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%&(&(("
+                        + "&&&&&&\010\006%\030\000\000\000\000\000\000\011\011\011\011\011\011\011\011"
+                        + "\011\011\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%\000\000&&&((&&&&(&"
+                        + "&&&\006\000\000\000\000\011\011\011\011\011\011\011\011\011\011\013\013\030\030\030\034"
+                        + "%%%%%%%\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%(((&"
+                        + "&&&&&&&&(\006\006\030\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "bbbbbbbbbbbbbbbbbbbbbbbb"
+                        + "bbbbbbbb\011\011\011\011\011\011\011\011\011\011\013\013\013\013\013\013"
+                        + "\013\013\013\000\000\000\000\000\000\000\000\000\000\000\000%%%%%%%%\000"
+                        + "\000%\000\000%%%%%%%%\000%%\000%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%((((((\000("
+                        + "(\000\000&&\010\006%(%(\006\030\030\030\000\000\000\000\000\000\000\000\000"
+                        + "\011\011\011\011\011\011\011\011\011\011\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000%%%%%%%%\000\000%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%(((&&&&\000\000&&(((("
+                        + "\006%\030%(\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000%&&&&&&&&&&%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%\006\006&&&&(%&&&&\030"
+                        + "\030\030\030\030\030\030\030\006\000\000\000\000\000\000\000\000%&&&&&&("
+                        + "(&&&%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%&&&&&&&&&&&&&(\006\006\030\030\030%\030\030"
+                        + "\030\030\030\000\000\000\000\000\000\000\000\000\000\000\000\000%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%\000\000\000\000\000\000\000"
+                        + "\030\030\030\030\030\030\030\030\030\030\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000%%%%%%%%"
+                        + "%\000%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%(&&&&&&&\000"
+                        + "&&&&&&(\006%\030\030\030\030\030\000\000\000\000\000\000\000\000\000\000"
+                        + "\011\011\011\011\011\011\011\011\011\011\013\013\013\013\013\013\013\013\013\013\013\013\013\013"
+                        + "\013\013\013\013\013\000\000\000\030\030%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%\000\000&&&&&&"
+                        + "&&&&&&&&&&&&&&&&\000(&&&&&&"
+                        + "&(&&(&&\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000%%%%%%%\000%%\000%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%&&&&&&\000\000\000&\000&&\000&"
+                        + "&&\006&\006\006%&\000\000\000\000\000\000\000\000\011\011\011\011\011\011\011\011"
+                        + "\011\011\000\000\000\000\000\000%%%%%%\000%%\000%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%(((((\000&&\000((&(\006%\000\000\000\000\000\000\000"
+                        + "\011\011\011\011\011\011\011\011\011\011\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%&&((\030\030\000\000\000\000\000\000\000",
+                "&&%(%%%%%%%%%%%%%\000%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%((&&&&&\000\000\000((&\010\006\030\030\030\030\030"
+                        + "\030\030\030\030\030\030\030\030\011\011\011\011\011\011\011\011\011\011\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000%\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\034\034\034"
+                        + "\034\034\034\034\034\032\032\032\032\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\000\000\000\000\000\000\000\000\000\000\000\000\000\030%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000****************"
+                        + "************************"
+                        + "************************"
+                        + "************************"
+                        + "***********************\000"
+                        + "\030\030\030\030\030\000\000\000\000\000\000\000\000\000\000\000%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%\030\030\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\006%%%%%%\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%\000\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%\000\011\011\011\011\011\011\011\011\011\011\000\000\000\000\030\030"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%\000\011\011\011\011\011\011\011\011\011\011\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%\000\000\006\006\006\006\006\030\000\000\000\000\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "\006\006\006\006\006\006\006\030\030\030\030\030\034\034\034\034$$$$\030\034\000\000"
+                        + "\000\000\000\000\000\000\000\000\011\011\011\011\011\011\011\011\011\011\000\013\013\013\013\013"
+                        + "\013\013\000%%%%%%%%%%%%%%%%%%%%%"
+                        + "\000\000\000\000\000%%%%%%%%%%%%%%%%%%%"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241bbbbbbbb"
+                        + "bbbbbbbbbbbbbbbbbbbbbbbb"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\030"
+                        + "\030\030\030\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%\000\000\000\000&%((((((("
+                        + "(((((((((((((((((((((((("
+                        + "(((((((((((((((((((((((("
+                        + "\000\000\000\000\000\000\000&&&&$$$$$$$$$$$$$"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000$$\030$\006\000\000\000"
+                        + "\000\000\000\000\000\000\000\000((\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%\000\000\000\000\000\000\000\000%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000%%%%%%%%%\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "$$$$\000$$$$$$$\000$$\000",
+                "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000%\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000%%%\000\000%\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000%%%%\000\000\000\000\000\000\000\000%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%\000\000\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%\000\000\000%%%%%%%%"
+                        + "%\000\000\000\000\000\000\000%%%%%%%%%%\000\000\034\006&\030"
+                        + "\020\020\020\020\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\000\000"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\000"
+                        + "\000\000\000\000\000\000\000\000\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\000\000"
+                        + "\000\000\000\000\000\000\000\000\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\000"
+                        + "\000\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\010\010\006\006\006\034\034\034\010\010\010"
+                        + "\010\010\010\020\020\020\020\020\020\020\020\006\006\006\006\006\006\006\006\034\034\006\006\006"
+                        + "\006\006\006\006\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\006\006\006\006\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\006\006\006\034\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013"
+                        + "\013\013\013\013\000\000\000\000\000\000\000\000\000\000\000\000\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\000\000\000\000\000\000\000\000\000\013\013\013\013\013\013\013\013"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241bbbbbbbbbbbbbb"
+                        + "bbbbbbbbbbbb\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241bbbbbbb\000bb"
+                        + "bbbbbbbbbbbbbbbb\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241bbbbbb"
+                        + "bbbbbbbbbbbbbbbbbbbb\241\000\241\241"
+                        + "\000\000\241\000\000\241\241\000\000\241\241\241\241\000\241\241\241\241\241\241\241\241bb"
+                        + "bb\000b\000bbbbbbb\000bbbbbbbbbbb"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241bbbbbbbbbbbbbbbbbbbbbb"
+                        + "bbbb\241\241\000\241\241\241\241\000\000\241\241\241\241\241\241\241\241\000\241\241"
+                        + "\241\241\241\241\241\000bbbbbbbbbbbbbbbbbb"
+                        + "bbbbbbbb\241\241\000\241\241\241\241\000\241\241\241\241\241\000\241\000"
+                        + "\000\000\241\241\241\241\241\241\241\000bbbbbbbbbbbbbb"
+                        + "bbbbbbbbbbbb\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241bbbbbbbbbb"
+                        + "bbbbbbbbbbbbbbbb\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241bbbbbb"
+                        + "bbbbbbbbbbbbbbbbbbbb\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241bb"
+                        + "bbbbbbbbbbbbbbbbbbbbbbbb"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241bbbbbbbbbbbbbbbbbbbbbb"
+                        + "bbbb\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241bbbbbbbbbbbbbbbbbb"
+                        + "bbbbbbbb\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241bbbbbbbbbbbbbb"
+                        + "bbbbbbbbbbbbbb\000\000\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\031bbbbbb"
+                        + "bbbbbbbbbbbbbbbbbbb\031bbbb"
+                        + "bb\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\031bbbbbbbbbbbbbbbbbbbb"
+                        + "bbbbb\031bbbbbb\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\031bbbbbbbbbb"
+                        + "bbbbbbbbbbbbbbb\031bbbbbb\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\031"
+                        + "bbbbbbbbbbbbbbbbbbbbbbbb"
+                        + "b\031bbbbbb\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\031bbbbbbbbbbbbbb"
+                        + "bbbbbbbbbbb\031bbbbbb\241b\000\000\011\011"
+                        + "\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011"
+                        + "\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\034\034\034\034\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\034\034\034\034\034\034\034\034\006\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\006\034\034\030\030\030\030\030\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\006\006\006\006\006\000\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\006\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000bbbbbbbb"
+                        + "bb%bbbbbbbbbbbbbbbbbbbb\000"
+                        + "\000\000\000\000\000bbbbbb\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000&&&&&&&\000&&&&&&&&"
+                        + "&&&&&&&&&\000\000&&&&&&&\000&&\000&&"
+                        + "&&&\000\000\000\000\000dddddddddddddddd"
+                        + "dddddddddddddddddddddddd"
+                        + "dddddddddddddddddddddd\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000&\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%\000\000\000"
+                        + "\006\006\006\006\006\006\006$$$$$$$\000\000\011\011\011\011\011\011\011\011"
+                        + "\011\011\000\000\000\000%\034\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000",
+                "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%\006\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%\006\006\006\006"
+                        + "\011\011\011\011\011\011\011\011\011\011\000\000\000\000\000\032\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%$\006\006\006\006\011\011\011\011\011\011\011\011"
+                        + "\011\011\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000%%%%%%%\000"
+                        + "%%%%\000%%\000%%%%%%%%%%%%%%%\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%\000\000\013\013\013\013\013\013\013\013\013\006\006\006\006\006\006\006\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241bbbbbbbbbbbbbbbbbbbbbb"
+                        + "bbbbbbbbbbbb\006\006\006&\006\006\006$\000\000\000\000"
+                        + "\011\011\011\011\011\011\011\011\011\011\000\000\000\000\030\030\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\034\013\013\013\032\013\013\013\013\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\034\013"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000%%%%\000%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "\000%%\000%\000\000%\000%%%%%%%%%%\000%%%%"
+                        + "\000%\000%\000\000\000\000\000\000%\000\000\000\000%\000%\000%\000%%%"
+                        + "\000%%\000%\000\000%\000%\000%\000%\000%\000%%\000%\000\000%"
+                        + "%%%\000%%%%%%%\000%%%%\000%%%%\000%\000"
+                        + "%%%%%%%%%%\000%%%%%%%%%%%%%"
+                        + "%%%%\000\000\000\000\000%%%\000%%%%%\000%%%%%"
+                        + "%%%%%%%%%%%%\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\031\031\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\000\000\000\000\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\000\000\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\000\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\000\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\000\000\000\000\000\000\000\000\000\000"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\013\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\274\274\274\274\274\274\274\274\274\274\274\274\274\274\274\274\274\274\274\274\274\274\274\274"
+                        + "\274\274\034\034\034\034\034\034\274\274\274\274\274\274\274\274\274\274\274\274\274\274\274\274"
+                        + "\274\274\274\274\274\274\274\274\274\274\034\034\034\034\034\034\274\274\274\274\274\274\274\274"
+                        + "\274\274\274\274\274\274\274\274\274\274\274\274\274\274\274\274\274\274\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\000\000\000\000\034\034\034\034\034\034\034\034\034\000\000\000\000\000\000\000"
+                        + "\034\034\000\000\000\000\000\000\000\000\000\000\000\000\000\000\034\034\034\034\034\034\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\033\033\033\033\033"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\000\000\000\000\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\000\000\000"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\000\000\000\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\000\000\000\000\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\000\000\000\000\000\000"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\000\000\000\000\034\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\034\034\034\034\034\034\034\034\034\034\034\034\000\000\000\000"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\000\000\000\000\000\000\000\000\034\034\034\034\034\034\034\034"
+                        + "\034\034\000\000\000\000\000\000\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\000\000\000\000\000\000\000\000\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\000\000\034\034\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\000\000\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\000\000\000\034\034\034\034\034\034\034\034\034\000\000\000\000\000\000\000"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\000\034"
+                        + "\034\034\034\034\034\034\000\000\000\000\000\000\000\000\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\000\000\000\000\034\034\034\034\034\034\034\034\034\000\000\000\000\000\000\000"
+                        + "\034\034\034\034\034\034\034\034\034\000\000\000\000\000\000\000",
+                "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\000\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\011\011\011\011\011\011\011\011\011\011\000\000\000\000\000\000%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%\000\000%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%%%%%%%%%"
+                        + "%%%%%%%%%%%%%%%%\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\020\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020"
+                        + "\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020"
+                        + "\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020"
+                        + "\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020"
+                        + "\020\020\020\020\020\020\020\020\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022"
+                        + "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022"
+                        + "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022"
+                        + "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022"
+                        + "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022"
+                        + "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022"
+                        + "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022"
+                        + "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022"
+                        + "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022"
+                        + "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022"
+                        + "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\000\000"
+        };
+
+        private Properties() {
+        }
+    }
+
+    static final class Scripts {
+        static final String[] INDEX = {
+                "\000\001\002\003\004\005\006\007\010\011\012\013\014\015\016\017\020\021\022\023\024\024\025\026"
+                        + "\027\030\031\032\033\034\001\035\036\037  !   \"  #$%&'"
+                        + "()*+,,,,,,,,,,,,,,,,,,,,"
+                        + ",,,,,-,,,,,,,,,,,,,,,,,,"
+                        + ",,,,,,,,,,,,,,,,,,,,,,,,"
+                        + ",,,,,,,,,,,,,,,,,,,,,,,,"
+                        + ",,,,,,,,,,,,,,,,..../012"
+                        + "3456\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021"
+                        + "\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\0217"
+                        + "888888888888888888888888"
+                        + "888888888,9:;<=>?@ABCDEF"
+                        + "GHIJKLMNOPQRSTUVWXYZ[\\]^"
+                        + "___`ab888888888cdddde888"
+                        + "888888888888ffg888888888"
+                        + "888888888888888888888888"
+                        + "hhij88klmmmmmmmmmmmmmmmm"
+                        + "mmmmmmmnmmmopq8888888888"
+                        + "88888888888888888888888r"
+                        + "stu888888888v88888888888"
+                        + "8888888wxyz{|}~\177\200\200\2018888\202"
+                        + "\203\204\2058\20688\207\210\21188\212\213\2148\215\216\217   \220\221"
+                        + "\222 \223\2248888,,,,,,,,,,,,,,,,"
+                        + ",,,,,,,,,,,,,,,,,,,,,,,,"
+                        + ",,,,,,,,,,,,,,,,,,,,,,,,"
+                        + ",,,,,,,,,,,,,,,,,,,,,,,,"
+                        + ",,,,,,,,,,,,,,,,,,,,,,,,"
+                        + ",,,,,,,,,,,,,,,,,,,,,,,,"
+                        + ",,,,,,,,,,,,,,,,,,,,,,,,"
+                        + ",,,,,,\225,,,,,,,,,,,,,,,,\226"
+                        + "\227,,,,,,,,,,,,,,,,,,,,,\230,"
+                        + ",,,,,,,,,,,,,,,,,,,,,,,,"
+                        + ",,,\231888888888888,,\23288888"
+                        + ",,,,,,,,,,,,,,,,,,,\233,,,,"
+                        + ",,,,,,,,,,,\234888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "88888888\235\23688888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "8888888888888888",
+                "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "8888888888888888"
+        };
+        static final String[] DATA = {
+                "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\001\001\001\001\001"
+                        + "\001\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\002\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\002\001\001\001\001\001"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\001"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\001\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\002\002\002\002\002\001\001\001"
+                        + "\001\001\003\003\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\005\005\005\005\001\005\005\005"
+                        + "\000\000\005\005\005\005\001\005\000\000\000\000\005\001\005\001\005\005\005\000\005\000\005\005"
+                        + "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\005\005\005\005\005"
+                        + "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005"
+                        + "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005"
+                        + "\005\005\005\005\005\005\005\005\005\005\006\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\007\007\007\007\007\007\007\007"
+                        + "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007"
+                        + "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007"
+                        + "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007"
+                        + "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007"
+                        + "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007"
+                        + "\007\007\007\007\007\004\004\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007"
+                        + "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007"
+                        + "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007"
+                        + "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007"
+                        + "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007"
+                        + "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007"
+                        + "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007"
+                        + "\007\007\007\007\007\007\007\007\000\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010"
+                        + "\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\000"
+                        + "\000\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010"
+                        + "\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010"
+                        + "\010\010\010\000\000\010\010\010\000\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011"
+                        + "\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011"
+                        + "\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\000\000\000\000\000\000\000\000"
+                        + "\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011"
+                        + "\011\011\011\000\000\000\000\011\011\011\011\011\011\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\012\012\012\012\012\001\012\012\012\012\012\012\001\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\001\012\012\012\001\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\001\012\012\012\012\012\012\012"
+                        + "\012\012\012\004\004\004\004\004\004\004\004\004\004\004\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\004\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\001\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\013\013\013\013\013\013\013\013"
+                        + "\013\013\013\013\013\013\000\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\000\000\013\013\013"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014"
+                        + "\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014\014"
+                        + "\014\014\000\000\000\000\000\000\000\000\000\000\000\000\000\000\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\000\000\015\015\015\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\000\000\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\000"
+                        + "\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017\017"
+                        + "\017\017\017\017\000\000\017\000\013\013\013\013\013\013\013\013\013\013\013\000\000\000\000\000"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\000\012\012\000\000\000\000\000\000\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\001\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020"
+                        + "\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020"
+                        + "\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020"
+                        + "\020\020\020\020\020\020\020\020\020\004\004\004\004\020\020\020\020\020\020\020\020\020\020\020"
+                        + "\020\020\020\020\001\001\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020"
+                        + "\020\020\020\020\020\020\020\020\021\021\021\021\000\021\021\021\021\021\021\021\021\000\000\021"
+                        + "\021\000\000\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021"
+                        + "\021\000\021\021\021\021\021\021\021\000\021\000\000\000\021\021\021\021\000\000\021\021\021\021"
+                        + "\021\021\021\021\021\000\000\021\021\000\000\021\021\021\021\000\000\000\000\000\000\000\000\021"
+                        + "\000\000\000\000\021\021\000\021\021\021\021\021\000\000\021\021\021\021\021\021\021\021\021\021"
+                        + "\021\021\021\021\021\021\021\021\021\021\021\021\021\021\021\000\000\022\022\022\000\022\022\022"
+                        + "\022\022\022\000\000\000\000\022\022\000\000\022\022\022\022\022\022\022\022\022\022\022\022\022"
+                        + "\022\022\022\022\022\022\022\022\022\000\022\022\022\022\022\022\022\000\022\022\000\022\022\000"
+                        + "\022\022\000\000\022\000\022\022\022\022\022\000\000\000\000\022\022\000\000\022\022\022\000\000"
+                        + "\000\022\000\000\000\000\000\000\000\022\022\022\022\000\022\000\000\000\000\000\000\000\022\022"
+                        + "\022\022\022\022\022\022\022\022\022\022\022\022\022\022\022\000\000\000\000\000\000\000\000\000"
+                        + "\000\023\023\023\000\023\023\023\023\023\023\023\023\023\000\023\023\023\000\023\023\023\023\023"
+                        + "\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\023\000\023\023\023\023\023\023"
+                        + "\023\000\023\023\000\023\023\023\023\023\000\000\023\023\023\023\023\023\023\023\023\023\000\023"
+                        + "\023\023\000\023\023\023\000\000\023\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\023\023\023\023\000\000\023\023\023\023\023\023\023\023\023\023\023\023\000\000\000\000\000\000"
+                        + "\000\023\023\023\023\023\023\023\000\024\024\024\000\024\024\024\024\024\024\024\024\000\000\024"
+                        + "\024\000\000\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024\024"
+                        + "\024\000\024\024\024\024\024\024\024\000\024\024\000\024\024\024\024\024\000\000\024\024\024\024"
+                        + "\024\024\024\024\024\000\000\024\024\000\000\024\024\024\000\000\000\000\000\000\000\024\024\024"
+                        + "\000\000\000\000\024\024\000\024\024\024\024\024\000\000\024\024\024\024\024\024\024\024\024\024"
+                        + "\024\024\024\024\024\024\024\024\000\000\000\000\000\000\000\000\000\000\025\025\000\025\025\025"
+                        + "\025\025\025\000\000\000\025\025\025\000\025\025\025\025\000\000\000\025\025\000\025\000\025\025"
+                        + "\000\000\000\025\025\000\000\000\025\025\025\000\000\000\025\025\025\025\025\025\025\025\025\025"
+                        + "\025\025\000\000\000\000\025\025\025\025\025\000\000\000\025\025\025\000\025\025\025\025\000\000"
+                        + "\025\000\000\000\000\000\000\025\000\000\000\000\000\000\000\000\000\000\000\000\000\000\025\025"
+                        + "\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\000\000\000\000\000"
+                        + "\026\026\026\026\026\026\026\026\026\026\026\026\026\000\026\026\026\000\026\026\026\026\026\026"
+                        + "\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\026\000\026\026\026\026\026\026"
+                        + "\026\026\026\026\026\026\026\026\026\026\000\000\026\026\026\026\026\026\026\026\026\000\026\026"
+                        + "\026\000\026\026\026\026\000\000\000\000\000\000\000\026\026\000\026\026\026\000\000\026\000\000"
+                        + "\026\026\026\026\000\000\026\026\026\026\026\026\026\026\026\026\000\000\000\000\000\000\000\026"
+                        + "\026\026\026\026\026\026\026\026\027\027\027\027\027\027\027\027\027\027\027\027\027\000\027\027"
+                        + "\027\000\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027\027"
+                        + "\027\000\027\027\027\027\027\027\027\027\027\027\000\027\027\027\027\027\000\000\027\027\027\027"
+                        + "\027\027\027\027\027\000\027\027\027\000\027\027\027\027\000\000\000\000\000\000\000\027\027\000"
+                        + "\000\000\000\000\000\027\027\000\027\027\027\027\000\000\027\027\027\027\027\027\027\027\027\027"
+                        + "\000\027\027\027\000\000\000\000\000\000\000\000\000\000\000\000\030\030\030\030\030\030\030\030"
+                        + "\030\030\030\030\030\000\030\030\030\000\030\030\030\030\030\030\030\030\030\030\030\030\030\030"
+                        + "\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030"
+                        + "\030\030\030\030\030\030\030\030\030\030\030\030\030\000\030\030\030\000\030\030\030\030\030\030"
+                        + "\000\000\000\000\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\000\000\030\030"
+                        + "\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030\030"
+                        + "\000\031\031\031\000\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\000"
+                        + "\000\000\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031"
+                        + "\031\031\000\031\031\031\031\031\031\031\031\031\000\031\000\000\031\031\031\031\031\031\031\000"
+                        + "\000\000\031\000\000\000\000\031\031\031\031\031\031\000\031\000\031\031\031\031\031\031\031\031"
+                        + "\000\000\000\000\000\000\031\031\031\031\031\031\031\031\031\031\000\000\031\031\031\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032"
+                        + "\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032"
+                        + "\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\000\000\000\000\001"
+                        + "\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032\032"
+                        + "\032\032\032\032\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\033\000\033\033"
+                        + "\033\033\033\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033"
+                        + "\033\033\033\033\000\033\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033"
+                        + "\033\033\033\033\033\033\000\000\033\033\033\033\033\000\033\000\033\033\033\033\033\033\033\000"
+                        + "\033\033\033\033\033\033\033\033\033\033\000\000\033\033\033\033\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\000\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\000\000\000\000\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\000\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\034\000\034\034"
+                        + "\034\034\034\034\034\034\034\034\034\034\034\034\034\000\034\034\034\034\034\034\034\001\001\001"
+                        + "\001\034\034\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000",
+                "\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035"
+                        + "\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035"
+                        + "\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035"
+                        + "\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035"
+                        + "\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035"
+                        + "\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035"
+                        + "\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\036\036\036\036\036\036\036\036"
+                        + "\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036"
+                        + "\036\036\036\036\036\036\000\036\000\000\000\000\000\036\000\000\036\036\036\036\036\036\036\036"
+                        + "\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036"
+                        + "\036\036\036\036\036\036\036\036\036\036\036\001\036\036\036\036\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\037                "
+                        + "                        "
+                        + "                        "
+                        + "         \000    \000\000       \000"
+                        + " \000    \000\000                "
+                        + "                        "
+                        + " \000    \000\000                "
+                        + "                 \000    \000\000"
+                        + "       \000 \000    \000\000        "
+                        + "       \000                "
+                        + "                        "
+                        + "                 \000    \000\000"
+                        + "                        "
+                        + "                        "
+                        + "                   \000\000   "
+                        + "                        "
+                        + "     \000\000\000                "
+                        + "          \000\000\000\000\000\000!!!!!!!!"
+                        + "!!!!!!!!!!!!!!!!!!!!!!!!"
+                        + "!!!!!!!!!!!!!!!!!!!!!!!!"
+                        + "!!!!!!!!!!!!!!!!!!!!!!!!"
+                        + "!!!!!!\000\000!!!!!!\000\000\"\"\"\"\"\"\"\""
+                        + "\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\""
+                        + "\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\""
+                        + "\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\""
+                        + "\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\""
+                        + "\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\""
+                        + "\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\""
+                        + "\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\""
+                        + "\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\""
+                        + "\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\""
+                        + "\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\""
+                        + "\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\""
+                        + "\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\""
+                        + "\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\""
+                        + "\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\""
+                        + "\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\""
+                        + "\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"########"
+                        + "#####################\000\000\000"
+                        + "$$$$$$$$$$$$$$$$$$$$$$$$"
+                        + "$$$$$$$$$$$$$$$$$$$$$$$$"
+                        + "$$$$$$$$$$$$$$$$$$$$$$$$"
+                        + "$$$\001\001\001$$$$$$$$$$$\000\000\000\000\000\000\000"
+                        + "%%%%%%%%%%%%%%%%%%%%%%\000\000"
+                        + "\000\000\000\000\000\000\000%&&&&&&&&&&&&&&&&"
+                        + "&&&&&\001\001\000\000\000\000\000\000\000\000\000''''''''"
+                        + "''''''''''''\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "(((((((((((((\000(((\000((\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000))))))))))))))))"
+                        + "))))))))))))))))))))))))"
+                        + "))))))))))))))))))))))))"
+                        + "))))))))))))))))))))))))"
+                        + "))))))\000\000))))))))))\000\000\000\000\000\000"
+                        + "))))))))))\000\000\000\000\000\000**\001\001*\001**"
+                        + "******************\000\000\000\000\000\000"
+                        + "************************"
+                        + "************************"
+                        + "************************"
+                        + "*****************\000\000\000\000\000\000\000"
+                        + "************************"
+                        + "*******************\000\000\000\000\000"
+                        + "\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\""
+                        + "\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\""
+                        + "\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\000\000"
+                        + "\000\000\000\000\000\000\000\000++++++++++++++++"
+                        + "+++++++++++++++\000++++++++"
+                        + "++++\000\000\000\000++++++++++++\000\000\000\000"
+                        + "+\000\000\000++++++++++++,,,,,,,,"
+                        + ",,,,,,,,,,,,,,,,,,,,,,\000\000"
+                        + ",,,,,\000\000\000\000\000\000\000\000\000\000\000--------"
+                        + "------------------------"
+                        + "------------\000\000\000\000--------"
+                        + "------------------\000\000\000\000\000\000"
+                        + "-----------\000\000\000--))))))))"
+                        + "))))))))))))))))))))))))"
+                        + "........................"
+                        + "....\000\000..////////////////"
+                        + "////////////////////////"
+                        + "///////////////////////\000"
+                        + "////////////////////////"
+                        + "/////\000\000///////////\000\000\000\000\000\000"
+                        + "//////////\000\000\000\000\000\000////////"
+                        + "//////\000\000\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\00000000000"
+                        + "000000000000000000000000"
+                        + "000000000000000000000000"
+                        + "000000000000000000000\000\000\000"
+                        + "000000000000000000000000"
+                        + "00000000000000000000000\000"
+                        + "111111111111111111111111"
+                        + "111111111111111111111111"
+                        + "111111111111111122222222"
+                        + "222222222222222222222222"
+                        + "22222222222222222222\000\000\000\000"
+                        + "\000\000\000\00022223333333333333333"
+                        + "333333333333333333333333"
+                        + "3333333333333333\000\000\00033333"
+                        + "3333333333\000\000\00033344444444"
+                        + "444444444444444444444444"
+                        + "4444444444444444\007\007\007\007\007\007\007\007"
+                        + "\007\000\000\000\000\000\000\000\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036"
+                        + "\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036"
+                        + "\036\036\036\000\000\036\036\03611111111\000\000\000\000\000\000\000\000"
+                        + "\004\004\004\001\004\004\004\004\004\004\004\004\004\004\004\004\004\001\004\004\004\004\004\004"
+                        + "\004\001\001\001\001\004\001\001\001\001\001\001\004\001\001\001\004\004\001\000\000\000\000\000"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\005\005\005\005\005\007\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\005\005\005"
+                        + "\005\005\002\002\002\002\005\005\005\005\005\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\007\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\005"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\005\005\005\005\005\005\005\005"
+                        + "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\005\005\005\005\005\005\000\000"
+                        + "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005"
+                        + "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\005\005\005\005\005\005\000\000"
+                        + "\005\005\005\005\005\005\005\005\000\005\000\005\000\005\000\005\005\005\005\005\005\005\005\005"
+                        + "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000"
+                        + "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005"
+                        + "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005"
+                        + "\005\005\005\005\005\000\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\005\005"
+                        + "\005\005\005\005\005\005\005\005\005\005\005\005\000\000\005\005\005\005\005\005\000\005\005\005"
+                        + "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\005\005\005\000\005\005"
+                        + "\005\005\005\005\005\005\005\000\001\001\001\001\001\001\001\001\001\001\001\001\004\004\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\000\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\002\000\000\001\001\001\001\001\001\001\001\001\001\001\002\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\000\002\002\002\002\002\002\002\002\002\002\002\002\002\000\000\000"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\005\001\001\001\002\002\001\001\001\001"
+                        + "\001\001\002\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\002\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\001\001\001\000\000\000\000"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001",
+                "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\0015555555555555555"
+                        + "555555555555555555555555"
+                        + "555555555555555555555555"
+                        + "555555555555555555555555"
+                        + "555555555555555555555555"
+                        + "555555555555555555555555"
+                        + "555555555555555555555555"
+                        + "555555555555555555555555"
+                        + "555555555555555555555555"
+                        + "555555555555555555555555"
+                        + "555555555555555555555555"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\00166666666"
+                        + "666666666666666666666666"
+                        + "666666666666666666666666"
+                        + "666666666666666666666666"
+                        + "6666666666666666\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\000\000\000\000"
+                        + "\000\006\006\006\006\006\006\006\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036"
+                        + "\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\036\000\036"
+                        + "\000\000\000\000\000\036\000\0007777777777777777"
+                        + "777777777777777777777777"
+                        + "7777777777777777\000\000\000\000\000\000\0007"
+                        + "7\000\000\000\000\000\000\000\000\000\000\000\000\000\0007        "
+                        + "               \000\000\000\000\000\000\000\000\000"
+                        + "       \000       \000       \000"
+                        + "       \000       \000       \000"
+                        + "       \000       \000\007\007\007\007\007\007\007\007"
+                        + "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\0008888888888888888"
+                        + "8888888888\0008888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "8888\000\000\000\000\000\000\000\000\000\000\000\00088888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "88888888888888\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\000\000\000\000\001\001\001\001\0018\0018\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\0018888888"
+                        + "88\004\004\004\004\037\037\001\001\001\001\001\001\001\0018888\001\001\001\001"
+                        + "\00099999999999999999999999"
+                        + "999999999999999999999999"
+                        + "999999999999999999999999"
+                        + "999999999999999\000\000\004\004\001\001999"
+                        + "\001:::::::::::::::::::::::"
+                        + "::::::::::::::::::::::::"
+                        + "::::::::::::::::::::::::"
+                        + ":::::::::::::::::::\001\001:::"
+                        + "\000\000\000\000\000\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003"
+                        + "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003"
+                        + "\000\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\000"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\003\003\003\003\003\003\003\003"
+                        + "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "::::::::::::::::\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\000"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001::::::::::::::::"
+                        + "::::::::::::::::::::::::"
+                        + ":::::::\001::::::::::::::::"
+                        + "::::::::::::::::::::::::"
+                        + "::::::::::::::::::::::::"
+                        + "::::::::::::::::::::::::"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "8888888888888888\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001;;;;;;;;;;;;;;;;"
+                        + ";;;;;;;;;;;;;;;;;;;;;;;;"
+                        + ";;;;;;;;;;;;;;;;;;;;;;;;"
+                        + ";;;;;;;;;;;;;;;;;;;;;;;;"
+                        + ";;;;;;;;;;;;;;;;;;;;;;;;"
+                        + ";;;;;;;;;;;;;;;;;;;;;;;;"
+                        + ";;;;;;;;;;;;;;;;;;;;;;;;"
+                        + ";;;;;;;;;;;;;;;;;;;;;;;;"
+                        + ";;;;;;;;;;;;;;;;;;;;;;;;"
+                        + ";;;;;;;;;;;;;;;;;;;;;;;;"
+                        + ";;;;;;;;;;;;;;;;;;;;;;;;"
+                        + ";;;;;;;;;;;;;;;;;;;;;;;;"
+                        + ";;;;;;;;;;;;;;;;;;;;;;;;"
+                        + ";;;;;;;;;;;;;;;;;;;;;;;;"
+                        + ";;;;;;;;;;;;;;;;;;;;;;;;"
+                        + ";;;;;;;;;;;;;;;;;;;;;;;;"
+                        + ";;;;;;;;;;;;;;;;;;;;;\000\000\000"
+                        + ";;;;;;;;;;;;;;;;;;;;;;;;"
+                        + ";;;;;;;;;;;;;;;;;;;;;;;;"
+                        + ";;;;;;;\000\000\000\000\000\000\000\000\000<<<<<<<<"
+                        + "<<<<<<<<<<<<<<<<<<<<<<<<"
+                        + "<<<<<<<<<<<<<<<<",
+                "========================"
+                        + "========================"
+                        + "========================"
+                        + "========================"
+                        + "========================"
+                        + "========================"
+                        + "========================"
+                        + "========================"
+                        + "========================"
+                        + "========================"
+                        + "========================"
+                        + "========================"
+                        + "============\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007"
+                        + "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007"
+                        + "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007"
+                        + "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007"
+                        + "\007\007\007\007\007\007\007\007>>>>>>>>>>>>>>>>"
+                        + ">>>>>>>>>>>>>>>>>>>>>>>>"
+                        + ">>>>>>>>>>>>>>>>>>>>>>>>"
+                        + ">>>>>>>>>>>>>>>>>>>>>>>>"
+                        + "\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\001\001\001\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\000\000\000\000\000"
+                        + "\002\002\000\002\000\002\002\002\002\002\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "????????????????????????"
+                        + "?????????????????????\000\000\000"
+                        + "\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000@@@@@@@@"
+                        + "@@@@@@@@@@@@@@@@@@@@@@@@"
+                        + "@@@@@@@@@@@@@@@@@@@@@@@@"
+                        + "\000\000\000\000\000\000\000\000AAAAAAAAAAAAAAAA"
+                        + "AAAAAAAAAAAAAAAAAAAAAAAA"
+                        + "AAAAAAAAAAAAAAAAAAAAAAAA"
+                        + "AAAAAA\000\000\000\000\000\000\000\000AAAAAAAAAA"
+                        + "AA\000\000\000\000\000\000\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020"
+                        + "\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020\020BBBBBBBB"
+                        + "BBBBBBBBBBBBBBBBBBBBBBBB"
+                        + "BBBBBBBBBBBBBB\001BCCCCCCCC"
+                        + "CCCCCCCCCCCCCCCCCCCCCCCC"
+                        + "CCCC\000\000\000\000\000\000\000\000\000\000\000C\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\000\000\000"
+                        + "DDDDDDDDDDDDDDDDDDDDDDDD"
+                        + "DDDDDDDDDDDDDDDDDDDDDDDD"
+                        + "DDDDDDDDDDDDDDDDDDDDDDDD"
+                        + "DDDDDD\000\001DDDDDDDDDD\000\000\000\000DD"
+                        + "\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035"
+                        + "\035\035\035\035\035\035\035\000EEEEEEEEEEEEEEEE"
+                        + "EEEEEEEEEEEEEEEEEEEEEEEE"
+                        + "EEEEEEEEEEEEEEE\000\000\000\000\000\000\000\000\000"
+                        + "EEEEEEEEEEEEEE\000\000EEEEEEEE"
+                        + "EE\000\000EEEE\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035"
+                        + "\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035\035FFFFFFFF"
+                        + "FFFFFFFFFFFFFFFFFFFFFFFF"
+                        + "FFFFFFFFFFFFFFFFFFFFFFFF"
+                        + "FFFFFFFFFFF\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000FFFFFGGGGGGGG"
+                        + "GGGGGGGGGGGGGGG\000\000\000\000\000\000\000\000\000"
+                        + "\000      \000\000      \000\000      \000"
+                        + "\000\000\000\000\000\000\000\000       \000       \000"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\001\002\002\002\002"
+                        + "\002\002\002\002\002\005\002\002\002\002\001\001\000\000\000\000!!!!!!!!"
+                        + "!!!!!!!!!!!!!!!!!!!!!!!!"
+                        + "!!!!!!!!!!!!!!!!!!!!!!!!"
+                        + "!!!!!!!!!!!!!!!!!!!!!!!!"
+                        + "GGGGGGGGGGGGGGGGGGGGGGGG"
+                        + "GGGGGGGGGGGGGGGGGGGGGG\000\000"
+                        + "GGGGGGGGGG\000\000\000\000\000\000\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\000"
+                        + "\000\000\000\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "88888888888888\000\00088888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "88\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\002\002\002\002\002\002\002\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\010\010\010\010\010\000\000\000\000\000\011\011\011"
+                        + "\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\000"
+                        + "\011\011\011\011\011\000\011\000\011\011\000\011\011\000\011\011\011\011\011\011\011\011\011\011"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\001\001\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\000\000\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\000\000\000\000\000\000\000\012\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\007\007\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000"
+                        + "\001\001\001\001\000\000\000\000\012\012\012\012\012\000\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\000\000\001\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\001\001\001\001\001"
+                        + "\001\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\001\001\001\001\001\001\001\001\001\001\001::::::::::"
+                        + "\001:::::::::::::::::::::::"
+                        + "::::::::::::::::::::::\001\001"
+                        + "\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037\037"
+                        + "\037\037\037\037\037\037\037\000\000\000\037\037\037\037\037\037\000\000\037\037\037\037\037\037"
+                        + "\000\000\037\037\037\037\037\037\000\000\037\037\037\000\000\000\001\001\001\001\001\001\001\000"
+                        + "\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\000\000"
+                        + "HHHHHHHHHHHH\000HHHHHHHHHHH"
+                        + "HHHHHHHHHHHHHHH\000HHHHHHHH"
+                        + "HHHHHHHHHHH\000HH\000HHHHHHHHH"
+                        + "HHHHHH\000\000HHHHHHHHHHHHHH\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000HHHHHHHHHHHHHHHH"
+                        + "HHHHHHHHHHHHHHHHHHHHHHHH"
+                        + "HHHHHHHHHHHHHHHHHHHHHHHH"
+                        + "HHHHHHHHHHHHHHHHHHHHHHHH"
+                        + "HHHHHHHHHHHHHHHHHHHHHHHH"
+                        + "HHHHHHHHHHH\000\000\000\000\000",
+                "\001\001\001\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\000\000\000\001\001\001\001\001\001\001\001\001\005\005\005\005\005\005\005\005"
+                        + "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005"
+                        + "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005"
+                        + "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\005\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\004\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "IIIIIIIIIIIIIIIIIIIIIIII"
+                        + "IIIII\000\000\000JJJJJJJJJJJJJJJJ"
+                        + "JJJJJJJJJJJJJJJJJJJJJJJJ"
+                        + "JJJJJJJJJ\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\004\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\000\000\000\000KKKKKKKKKKKKKKKK"
+                        + "KKKKKKKKKKKKKKKKKKKK\000\000\000\000"
+                        + "\000\000\000\000\000KKKLLLLLLLLLLLLLLLL"
+                        + "LLLLLLLLLLL\000\000\000\000\000MMMMMMMM"
+                        + "MMMMMMMMMMMMMMMMMMMMMMMM"
+                        + "MMMMMMMMMMM\000\000\000\000\000NNNNNNNN"
+                        + "NNNNNNNNNNNNNNNNNNNNNN\000N"
+                        + "OOOOOOOOOOOOOOOOOOOOOOOO"
+                        + "OOOOOOOOOOOO\000\000\000\000OOOOOOOO"
+                        + "OOOOOO\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "PPPPPPPPPPPPPPPPPPPPPPPP"
+                        + "PPPPPPPPPPPPPPPPPPPPPPPP"
+                        + "PPPPPPPPPPPPPPPPPPPPPPPP"
+                        + "PPPPPPPPQQQQQQQQQQQQQQQQ"
+                        + "QQQQQQQQQQQQQQQQQQQQQQQQ"
+                        + "QQQQQQQQRRRRRRRRRRRRRRRR"
+                        + "RRRRRRRRRRRRRR\000\000RRRRRRRR"
+                        + "RR\000\000\000\000\000\000SSSSSSSSSSSSSSSS"
+                        + "SSSSSSSSSSSSSSSSSSSS\000\000\000\000"
+                        + "SSSSSSSSSSSSSSSSSSSSSSSS"
+                        + "SSSSSSSSSSSS\000\000\000\000TTTTTTTT"
+                        + "TTTTTTTTTTTTTTTTTTTTTTTT"
+                        + "TTTTTTTT\000\000\000\000\000\000\000\000UUUUUUUU"
+                        + "UUUUUUUUUUUUUUUUUUUUUUUU"
+                        + "UUUUUUUUUUUUUUUUUUUU\000\000\000\000"
+                        + "\000\000\000\000\000\000\000UVVVVVVVVVVV\000VVVV"
+                        + "VVVVVVVVVVV\000VVVVVVV\000VV\000V"
+                        + "VVVVVVVVVV\000VVVVVVVVVVVVV"
+                        + "VV\000VVVVVVV\000VV\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000WWWWWWWWWWWWWWWW"
+                        + "WWWWWWWWWWWWWWWWWWWWWWWW"
+                        + "WWWWWWWWWWWWWWWWWWWWWWWW"
+                        + "WWWWWWWWWWWWWWWWWWWWWWWW"
+                        + "WWWWWWWWWWWWWWWWWWWWWWWW"
+                        + "WWWWWWWWWWWWWWWWWWWWWWWW"
+                        + "WWWWWWWWWWWWWWWWWWWWWWWW"
+                        + "WWWWWWWWWWWWWWWWWWWWWWWW"
+                        + "WWWWWWWWWWWWWWWWWWWWWWWW"
+                        + "WWWWWWWWWWWWWWWWWWWWWWWW"
+                        + "WWWWWWWWWWWWWWWWWWWWWWWW"
+                        + "WWWWWWWWWWWWWWWWWWWWWWWW"
+                        + "WWWWWWWWWWWWWWWWWWWWWWWW"
+                        + "WWWWWWW\000\000\000\000\000\000\000\000\000WWWWWWWW"
+                        + "WWWWWWWWWWWWWW\000\000\000\000\000\000\000\000\000\000"
+                        + "WWWWWWWW\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\002\002\002\002\002\002\000\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\000\002\002\002\002\002\002\002\002\002\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000XXXXXX\000\000"
+                        + "X\000XXXXXXXXXXXXXXXXXXXXXX"
+                        + "XXXXXXXXXXXXXXXXXXXXXX\000X"
+                        + "X\000\000\000X\000\000XYYYYYYYYYYYYYYYY"
+                        + "YYYYYY\000YYYYYYYYYZZZZZZZZ"
+                        + "ZZZZZZZZZZZZZZZZZZZZZZZZ"
+                        + "[[[[[[[[[[[[[[[[[[[[[[[["
+                        + "[[[[[[[\000\000\000\000\000\000\000\000[[[[[[[[["
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\\\\\\\\\\\\\\\\\\\\\\\\\\\\\\\\\\\\\\\000\\\\\000\000"
+                        + "\000\000\000\\\\\\\\\\]]]]]]]]]]]]]]]]"
+                        + "]]]]]]]]]]]]\000\000\000]^^^^^^^^"
+                        + "^^^^^^^^^^^^^^^^^^\000\000\000\000\000^"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000________"
+                        + "________________________"
+                        + "````````````````````````"
+                        + "\000\000\000\000````````````````````"
+                        + "\000\000``````````````````````"
+                        + "````````````````````````"
+                        + "aaaa\000aa\000\000\000\000\000aaaaaaaa\000aaa"
+                        + "\000aaaaaaaaaaaaaaaaaaaaaaa"
+                        + "aaaaaa\000\000aaa\000\000\000\000aaaaaaaaa"
+                        + "a\000\000\000\000\000\000\000aaaaaaaaa\000\000\000\000\000\000\000"
+                        + "bbbbbbbbbbbbbbbbbbbbbbbb"
+                        + "bbbbbbbbcccccccccccccccc"
+                        + "cccccccccccccccc\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "dddddddddddddddddddddddd"
+                        + "ddddddddddddddd\000\000\000\000ddddd"
+                        + "ddddddd\000\000\000\000\000\000\000\000\000eeeeeeee"
+                        + "eeeeeeeeeeeeeeeeeeeeeeee"
+                        + "eeeeeeeeeeeeeeeeeeeeee\000\000"
+                        + "\000eeeeeeeffffffffffffffff"
+                        + "ffffff\000\000ffffffffgggggggg"
+                        + "ggggggggggg\000\000\000\000\000gggggggg"
+                        + "hhhhhhhhhhhhhhhhhh\000\000\000\000\000\000"
+                        + "\000hhhh\000\000\000\000\000\000\000\000\000\000\000\000hhhhhhh"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000iiiiiiiiiiiiiiii"
+                        + "iiiiiiiiiiiiiiiiiiiiiiii"
+                        + "iiiiiiiiiiiiiiiiiiiiiiii"
+                        + "iiiiiiiii\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000jjjjjjjj"
+                        + "jjjjjjjjjjjjjjjjjjjjjjjj"
+                        + "jjjjjjjjjjjjjjjjjjj\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000jjjjjjjjjjjjjjjj"
+                        + "jjjjjjjjjjjjjjjjjjjjjjjj"
+                        + "jjjjjjjjjjj\000\000\000\000\000\000\000jjjjjj"
+                        + "kkkkkkkkkkkkkkkkkkkkkkkk"
+                        + "kkkkkkkkkkkkkkkk\000\000\000\000\000\000\000\000"
+                        + "kkkkkkkkkk\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\000"
+                        + "llllllllllllllllllllllll"
+                        + "llllllllllllllllll\000lll\000\000"
+                        + "ll\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\012\012\012mmmmmmmmmmmmmmmm"
+                        + "mmmmmmmmmmmmmmmmmmmmmmmm"
+                        + "\000\000\000\000\000\000\000\000nnnnnnnnnnnnnnnn"
+                        + "nnnnnnnnnnnnnnnnnnnnnnnn"
+                        + "nn\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "oooooooooooooooooooooooo"
+                        + "oo\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000pppppppp"
+                        + "pppppppppppppppppppp\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000qqqqqqqq"
+                        + "qqqqqqqqqqqqqqq\000\000\000\000\000\000\000\000\000"
+                        + "rrrrrrrrrrrrrrrrrrrrrrrr"
+                        + "rrrrrrrrrrrrrrrrrrrrrrrr"
+                        + "rrrrrrrrrrrrrrrrrrrrrrrr"
+                        + "rrrrrr\000\000\000\000rrrrrrrrrrrrrr"
+                        + "rrrrrrrrrrrrrrrrrrrrrr\000\000"
+                        + "\000\000\000\000\000\000\000rssssssssssssssss"
+                        + "ssssssssssssssssssssssss"
+                        + "ssssssssssssssssssssssss"
+                        + "sss\000\000\000\000\000\000\000\000\000\000s\000\000tttttttt"
+                        + "ttttttttttttttttt\000\000\000\000\000\000\000"
+                        + "tttttttttt\000\000\000\000\000\000",
+                "uuuuuuuuuuuuuuuuuuuuuuuu"
+                        + "uuuuuuuuuuuuuuuuuuuuuuuu"
+                        + "uuuuu\000uuuuuuuuuuuuuuuuuu"
+                        + "\000\000\000\000\000\000\000\000vvvvvvvvvvvvvvvv"
+                        + "vvvvvvvvvvvvvvvvvvvvvvv\000"
+                        + "\000\000\000\000\000\000\000\000wwwwwwwwwwwwwwww"
+                        + "wwwwwwwwwwwwwwwwwwwwwwww"
+                        + "wwwwwwwwwwwwwwwwwwwwwwww"
+                        + "wwwwwwwwwwwwwwwwwwwwwwww"
+                        + "wwwwwwww\000\031\031\031\031\031\031\031\031\031\031\031\031\031\031\031"
+                        + "\031\031\031\031\031\000\000\000\000\000\000\000\000\000\000\000xxxxxxxx"
+                        + "xxxxxxxxxx\000xxxxxxxxxxxxx"
+                        + "xxxxxxxxxxxxxxxxxxxxxxxx"
+                        + "xxxxxxxxxx\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "yyyyyyy\000y\000yyyy\000yyyyyyyyy"
+                        + "yyyyyy\000yyyyyyyyyyy\000\000\000\000\000\000"
+                        + "zzzzzzzzzzzzzzzzzzzzzzzz"
+                        + "zzzzzzzzzzzzzzzzzzzzzzzz"
+                        + "zzzzzzzzzzz\000\000\000\000\000zzzzzzzz"
+                        + "zz\000\000\000\000\000\000{{{{\000{{{{{{{{\000\000{"
+                        + "{\000\000{{{{{{{{{{{{{{{{{{{{{"
+                        + "{\000{{{{{{{\000{{\000{{{{{\000\004{{{{"
+                        + "{{{{{\000\000{{\000\000{{{\000\000{\000\000\000\000\000\000{"
+                        + "\000\000\000\000\000{{{{{{{\000\000{{{{{{{\000\000\000"
+                        + "{{{{{\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "||||||||||||||||||||||||"
+                        + "||||||||||||||||||||||||"
+                        + "||||||||||||||||||||||||"
+                        + "||||||||||||||||||||\000|||"
+                        + "||\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000}}}}}}}}}}}}}}}}"
+                        + "}}}}}}}}}}}}}}}}}}}}}}}}"
+                        + "}}}}}}}}}}}}}}}}}}}}}}}}"
+                        + "}}}}}}}}\000\000\000\000\000\000\000\000}}}}}}}}"
+                        + "}}\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "~~~~~~~~~~~~~~~~~~~~~~~~"
+                        + "~~~~~~~~~~~~~~~~~~~~~~~~"
+                        + "~~~~~~\000\000~~~~~~~~~~~~~~~~"
+                        + "~~~~~~~~~~~~~~~~~~~~~~\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\177\177\177\177\177\177\177\177\177\177\177\177\177\177\177\177"
+                        + "\177\177\177\177\177\177\177\177\177\177\177\177\177\177\177\177\177\177\177\177\177\177\177\177"
+                        + "\177\177\177\177\177\177\177\177\177\177\177\177\177\177\177\177\177\177\177\177\177\177\177\177"
+                        + "\177\177\177\177\177\000\000\000\000\000\000\000\000\000\000\000\177\177\177\177\177\177\177\177"
+                        + "\177\177\000\000\000\000\000\000*************\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\200\200\200\200\200\200\200\200"
+                        + "\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200"
+                        + "\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200\200"
+                        + "\200\200\000\000\000\000\000\000\200\200\200\200\200\200\200\200\200\200\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\201\201\201\201\201\201\201\201\201\201\201\201\201\201\201\201\201\201\201\201\201\201\201\201"
+                        + "\201\201\201\000\000\201\201\201\201\201\201\201\201\201\201\201\201\201\201\201\000\000\000\000"
+                        + "\201\201\201\201\201\201\201\201\201\201\201\201\201\201\201\201\201\201\201\201\201\201\201\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\202\202\202\202\202\202\202\202"
+                        + "\202\202\202\202\202\202\202\202\202\202\202\202\202\202\202\202\202\202\202\202\202\202\202\202"
+                        + "\202\202\202\202\202\202\202\202\202\202\202\202\202\202\202\202\202\202\202\202\202\202\202\202"
+                        + "\202\202\202\202\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203"
+                        + "\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203"
+                        + "\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203"
+                        + "\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203\203\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\203\204\204\204\204\204\204\204\000\000\204\000\000\204\204\204\204"
+                        + "\204\204\204\204\000\204\204\000\204\204\204\204\204\204\204\204\204\204\204\204\204\204\204\204"
+                        + "\204\204\204\204\204\204\204\204\204\204\204\204\204\204\000\204\204\000\000\204\204\204\204\204"
+                        + "\204\204\204\204\204\204\204\000\000\000\000\000\000\000\000\000\204\204\204\204\204\204\204\204"
+                        + "\204\204\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\205\205\205\205\205\205\205\205\000\000\205\205\205\205\205\205\205\205\205\205\205\205\205\205"
+                        + "\205\205\205\205\205\205\205\205\205\205\205\205\205\205\205\205\205\205\205\205\205\205\205\205"
+                        + "\205\205\205\205\205\205\205\205\000\000\205\205\205\205\205\205\205\205\205\205\205\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206"
+                        + "\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206"
+                        + "\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206\206"
+                        + "\000\000\000\000\000\000\000\000\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207"
+                        + "\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207"
+                        + "\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207"
+                        + "\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\207\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\"\"\"\"\"\"\"\"\"\"\"\"\"\"\"\""
+                        + "\210\210\210\210\210\210\210\210\210\210\210\210\210\210\210\210\210\210\210\210\210\210\210\210"
+                        + "\210\210\210\210\210\210\210\210\210\210\210\210\210\210\210\210\210\210\210\210\210\210\210\210"
+                        + "\210\210\210\210\210\210\210\210\210\000\000\000\000\000\000\000\020\020\020\020\020\020\020\020"
+                        + "\020\020\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\211\211\211\211\211\211\211\211\211\000\211\211\211\211\211\211"
+                        + "\211\211\211\211\211\211\211\211\211\211\211\211\211\211\211\211\211\211\211\211\211\211\211\211"
+                        + "\211\211\211\211\211\211\211\211\211\211\211\211\211\211\211\000\211\211\211\211\211\211\211\211"
+                        + "\211\211\211\211\211\211\000\000\000\000\000\000\000\000\000\000\211\211\211\211\211\211\211\211"
+                        + "\211\211\211\211\211\211\211\211\211\211\211\211\211\211\211\211\211\211\211\211\211\000\000\000"
+                        + "\212\212\212\212\212\212\212\212\212\212\212\212\212\212\212\212\212\212\212\212\212\212\212\212"
+                        + "\212\212\212\212\212\212\212\212\000\000\212\212\212\212\212\212\212\212\212\212\212\212\212\212"
+                        + "\212\212\212\212\212\212\212\212\000\212\212\212\212\212\212\212\212\212\212\212\212\212\212\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\213\213\213\213\213\213\213\000\213\213\000\213\213\213\213\213\213\213\213\213\213\213\213\213"
+                        + "\213\213\213\213\213\213\213\213\213\213\213\213\213\213\213\213\213\213\213\213\213\213\213\213"
+                        + "\213\213\213\213\213\213\213\000\000\000\213\000\213\213\000\213\213\213\213\213\213\213\213\213"
+                        + "\000\000\000\000\000\000\000\000\213\213\213\213\213\213\213\213\213\213\000\000\000\000\000\000"
+                        + "\214\214\214\214\214\214\000\214\214\000\214\214\214\214\214\214\214\214\214\214\214\214\214\214"
+                        + "\214\214\214\214\214\214\214\214\214\214\214\214\214\214\214\214\214\214\214\214\214\214\214\000"
+                        + "\214\214\000\214\214\214\214\214\214\000\000\000\000\000\000\000\214\214\214\214\214\214\214\214"
+                        + "\214\214\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\215\215\215\215\215\215\215\215\215\215\215\215\215\215\215\215\215\215\215\215\215\215\215\215"
+                        + "\215\000\000\000\000\000\000\000\216\216\216\216\216\216\216\216\216\216\216\216\216\216\216\216"
+                        + "\216\000\216\216\216\216\216\216\216\216\216\216\216\216\216\216\216\216\216\216\216\216\216\216"
+                        + "\216\216\216\216\216\216\216\216\216\216\216\216\216\216\216\216\216\216\216\000\000\000\216\216"
+                        + "\216\216\216\216\216\216\216\216\216\216\216\216\216\216\216\216\216\216\216\216\216\216\216\216"
+                        + "\216\216\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000<\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025"
+                        + "\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025\025"
+                        + "\025\025\025\025\025\025\025\025\025\025\000\000\000\000\000\000\000\000\000\000\000\000\000\025"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217",
+                "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\000\217\217\217\217\217\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217\217"
+                        + "\217\217\217\217\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220"
+                        + "\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220"
+                        + "\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220"
+                        + "\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220\220"
+                        + "\220\220\220\000\000\000\000\000\000\000\000\000\000\000\000\000\221\221\221\221\221\221\221\221"
+                        + "\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221"
+                        + "\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221"
+                        + "\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221"
+                        + "\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221"
+                        + "\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221"
+                        + "\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221"
+                        + "\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221"
+                        + "\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221"
+                        + "\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221"
+                        + "\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221"
+                        + "\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221"
+                        + "\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221"
+                        + "\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221"
+                        + "\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\221\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222"
+                        + "\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222"
+                        + "\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222"
+                        + "\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222"
+                        + "\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222"
+                        + "\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222"
+                        + "\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222"
+                        + "\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222"
+                        + "\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222"
+                        + "\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222"
+                        + "\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222"
+                        + "\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222"
+                        + "\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222"
+                        + "\222\222\222\222\222\222\222\222\222\222\222\222\222\222\222\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000>>>>>>>>>>>>>>>>"
+                        + ">>>>>>>>>>>>>>>>>>>>>>>>"
+                        + ">>>>>>>>>>>>>>>>>>>>>>>>"
+                        + ">>>>>>>>>>>>>>>>>>>>>>>>"
+                        + ">>>>>>>>>>>>>>>>>>>>>>>>"
+                        + ">>>>>>>>>>>>>>>>>>>>>>>>"
+                        + ">>>>>>>>>>>>>>>>>>>>>>>>"
+                        + ">>>>>>>>>>>>>>>>>>>>>>>>"
+                        + ">>>>>>>>>>>>>>>>>>>>>>>>"
+                        + ">>>>>>>>>>>>>>>>>>>>>>>>"
+                        + ">>>>>>>>>>>>>>>>>>>>>>>>"
+                        + ">>>>>>>>>>>>>>>>>>>>>>>>"
+                        + ">>>>>>>>>>>>>>>>>>>>>>>>"
+                        + ">>>>>>>>>\000\000\000\000\000\000\000\223\223\223\223\223\223\223\223"
+                        + "\223\223\223\223\223\223\223\223\223\223\223\223\223\223\223\223\223\223\223\223\223\223\223\000"
+                        + "\223\223\223\223\223\223\223\223\223\223\000\000\000\000\223\223\224\224\224\224\224\224\224\224"
+                        + "\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224"
+                        + "\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224"
+                        + "\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\224\000"
+                        + "\224\224\224\224\224\224\224\224\224\224\000\000\000\000\000\000\225\225\225\225\225\225\225\225"
+                        + "\225\225\225\225\225\225\225\225\225\225\225\225\225\225\225\225\225\225\225\225\225\225\000\000"
+                        + "\225\225\225\225\225\225\000\000\000\000\000\000\000\000\000\000\226\226\226\226\226\226\226\226"
+                        + "\226\226\226\226\226\226\226\226\226\226\226\226\226\226\226\226\226\226\226\226\226\226\226\226"
+                        + "\226\226\226\226\226\226\226\226\226\226\226\226\226\226\226\226\226\226\226\226\226\226\226\226"
+                        + "\226\226\226\226\226\226\226\226\226\226\226\226\226\226\000\000\000\000\000\000\000\000\000\000"
+                        + "\226\226\226\226\226\226\226\226\226\226\000\226\226\226\226\226\226\226\000\226\226\226\226\226"
+                        + "\226\226\226\226\226\226\226\226\226\226\226\226\226\226\226\226\000\000\000\000\000\226\226\226"
+                        + "\226\226\226\226\226\226\226\226\226\226\226\226\226\226\226\226\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227"
+                        + "\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227"
+                        + "\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227"
+                        + "\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\227\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230"
+                        + "\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230"
+                        + "\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230"
+                        + "\230\230\230\000\000\000\000\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230"
+                        + "\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230"
+                        + "\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\000\000\000\000\000\000\000\230"
+                        + "\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\230\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\231\23288\233\000\000\000\000\000\000\000\000\000\000\000"
+                        + "88\000\000\000\000\000\000\000\000\000\000\000\000\000\000\231\231\231\231\231\231\231\231"
+                        + "\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231"
+                        + "\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231"
+                        + "\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231"
+                        + "\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231"
+                        + "\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231"
+                        + "\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231"
+                        + "\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231"
+                        + "\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231"
+                        + "\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231"
+                        + "\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231"
+                        + "\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231"
+                        + "\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231"
+                        + "\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231"
+                        + "\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231"
+                        + "\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231"
+                        + "\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231"
+                        + "\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231"
+                        + "\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231"
+                        + "\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231"
+                        + "\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231"
+                        + "\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\231\000\000\000\000\000\000\000\000"
+                        + "\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233"
+                        + "\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233"
+                        + "\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233"
+                        + "\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233"
+                        + "\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233"
+                        + "\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233"
+                        + "\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233"
+                        + "\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233"
+                        + "\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233"
+                        + "\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233"
+                        + "\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233",
+                "\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233"
+                        + "\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233"
+                        + "\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233"
+                        + "\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233"
+                        + "\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233"
+                        + "\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233"
+                        + "\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233"
+                        + "\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233"
+                        + "\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\233\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\231\231\231\231\231\231\231\231"
+                        + "\231\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000::::\000:::::::\000::\000"
+                        + ":99999999999999999999999"
+                        + "999999999999999999999999"
+                        + "999999999999999999999999"
+                        + "999999999999999999999999"
+                        + "999999999999999999999999"
+                        + "999999999999999999999999"
+                        + "999999999999999999999999"
+                        + "999999999999999999999999"
+                        + "999999999999999999999999"
+                        + "999999999999999999999999"
+                        + "999999999999999999999999"
+                        + "999999999999999999999999"
+                        + ":::\000\000\000\000\000\000\000\000\000\000\000\000\000\000\0009\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "999\000\000:\000\000\000\000\000\000\000\000\000\000\000\000\000\000::::"
+                        + "\000\000\000\000\000\000\000\000\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232"
+                        + "\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232"
+                        + "\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232"
+                        + "\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232"
+                        + "\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232"
+                        + "\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232"
+                        + "\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232"
+                        + "\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232"
+                        + "\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232"
+                        + "\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232"
+                        + "\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232"
+                        + "\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232"
+                        + "\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232"
+                        + "\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232"
+                        + "\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232"
+                        + "\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232"
+                        + "\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\232\000\000\000\000"
+                        + "\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234"
+                        + "\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234"
+                        + "\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234"
+                        + "\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234\234"
+                        + "\234\234\234\234\234\234\234\234\234\234\234\000\000\000\000\000\234\234\234\234\234\234\234\234"
+                        + "\234\234\234\234\234\000\000\000\234\234\234\234\234\234\234\234\234\000\000\000\000\000\000\000"
+                        + "\234\234\234\234\234\234\234\234\234\234\000\000\234\234\234\234\001\001\001\001\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\000\000\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\000\000\000\000\000\000\000\000\000"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\004\004\004\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\004\004\004\004\004\004\004\004\001\001\004\004\004\004\004\004\004\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\004\004\004\004\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\005\005\005\005\005\005\005\005"
+                        + "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005"
+                        + "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005\005"
+                        + "\005\005\005\005\005\005\005\005\005\005\005\005\005\005\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000"
+                        + "\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\000\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\000\001\001\000\000\001\000\000\001\001\000"
+                        + "\000\001\001\001\001\000\001\001\001\001\001\001\001\001\001\001\001\001\000\001\000\001\001\001"
+                        + "\001\001\001\001\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\001"
+                        + "\001\001\001\000\000\001\001\001\001\001\001\001\001\000\001\001\001\001\001\001\001\000\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\000\001\001\001\001\000\001\001\001\001\001\000\001\000\000\000\001\001\001\001\001\001"
+                        + "\001\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\000\000\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001",
+                "\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235"
+                        + "\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235"
+                        + "\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235"
+                        + "\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235"
+                        + "\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235"
+                        + "\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235"
+                        + "\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235"
+                        + "\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235"
+                        + "\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235"
+                        + "\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235"
+                        + "\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235"
+                        + "\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235"
+                        + "\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235"
+                        + "\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235"
+                        + "\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235"
+                        + "\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235"
+                        + "\235\235\235\235\235\235\235\235\235\235\235\235\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\235\235\235\235\235\000\235\235\235\235\235\235\235\235\235\235\235\235\235\235\235"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002"
+                        + "\002\002\002\002\002\002\002\002\002\002\002\002\002\002\002\000\000\000\000\000\000\002\002\002"
+                        + "\002\002\002\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "6666666\0006666666666666666"
+                        + "6\000\0006666666\00066\00066666\000\000\000\000\000"
+                        + "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007"
+                        + "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007\007"
+                        + "\007\007\007\007\007\007\007\007\007\007\007\007\007\007\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\007"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\236\236\236\236\236\236\236\236"
+                        + "\236\236\236\236\236\236\236\236\236\236\236\236\236\236\236\236\236\236\236\236\236\236\236\236"
+                        + "\236\236\236\236\236\236\236\236\236\236\236\236\236\000\000\000\236\236\236\236\236\236\236\236"
+                        + "\236\236\236\236\236\236\000\000\236\236\236\236\236\236\236\236\236\236\000\000\000\000\236\236"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\237\237\237\237\237\237\237\237\237\237\237\237\237\237\237\237"
+                        + "\237\237\237\237\237\237\237\237\237\237\237\237\237\237\237\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\240\240\240\240\240\240\240\240\240\240\240\240\240\240\240\240"
+                        + "\240\240\240\240\240\240\240\240\240\240\240\240\240\240\240\240\240\240\240\240\240\240\240\240"
+                        + "\240\240\240\240\240\240\240\240\240\240\240\240\240\240\240\240\240\240\000\000\000\000\000\240"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241\241"
+                        + "\241\241\241\241\241\241\241\241\241\241\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "       \000    \000  \000        "
+                        + "       \000\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242"
+                        + "\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242"
+                        + "\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242"
+                        + "\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242"
+                        + "\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242"
+                        + "\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242"
+                        + "\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242"
+                        + "\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242\242"
+                        + "\242\242\242\242\242\242\242\242\242\242\242\242\242\000\000\242\242\242\242\242\242\242\242\242"
+                        + "\242\242\242\242\242\242\242\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243"
+                        + "\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243"
+                        + "\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243\243"
+                        + "\243\243\243\243\000\000\000\000\243\243\243\243\243\243\243\243\243\243\000\000\000\000\243\243"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\012\012\012\012\000\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\000\012\012\000\012\000\000\012\000\012\012\012\012\012\012\012"
+                        + "\012\012\012\000\012\012\012\012\000\012\000\012\000\000\000\000\000\000\012\000\000\000\000\012"
+                        + "\000\012\000\012\000\012\012\012\000\012\012\000\012\000\000\012\000\012\000\012\000\012\000\012"
+                        + "\000\012\012\000\012\000\000\012\012\012\012\000\012\012\012\012\012\012\012\000\012\012\012\012"
+                        + "\000\012\012\012\012\000\012\000\012\012\012\012\012\012\012\012\012\012\000\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\000\000\000\000\000\012\012\012\000\012\012\012"
+                        + "\012\012\000\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\012\012\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000"
+                        + "\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000"
+                        + "\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "9\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\001\001\001\001\001\001\001\001"
+                        + "\001\000\000\000\000\000\000\000\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000",
+                "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\001\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001"
+                        + "\001\001\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\001\001\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\000\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\000\000\000\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\001"
+                        + "\001\001\001\001\001\001\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\000\000\000\000\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000"
+                        + "\001\001\001\001\001\001\001\001\001\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\000\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\001\001\001\001\001\001\001"
+                        + "\001\001\000\000\000\000\000\0008888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "8888888888888888\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "8888888888\000\000\000\000\000\00088888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "8888888888888888888888\000\000"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "88\000\000\000\000\000\000\000\000\000\000\000\000\000\00088888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\00088888888"
+                        + "8888888888888888888888\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\0008888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "88888888888\000\000\000\000\00088888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "888888888888888888888888"
+                        + "88888888\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\001\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        };
+
+        private Scripts() {
+        }
+    }
+
+    static final class GraphemeBreaks {
+        static final String[] INDEX = {
+                "\000\001\001\002\003\004\005\006\007\010\011\012\013\014\015\016\017\020\001\021\001\001\001\022"
+                        + "\023\024\025\026\027\030\001\001\031\032\001\033\034\035\036\037\001 \001!\"#\001\001"
+                        + "$\001%\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001&\001"
+                        + "'()*+,-./01+,-./01+,-./0"
+                        + "1+,-./01+,-./01+,-./01+2"
+                        + "33333333\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\0014\001\00156\001789\001\001\001\001"
+                        + "\001\001:\001\001;<=>?@ABCDEFGH\001IJKL"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001M\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001NO\001\001\001P\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001Q\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001R\001ST\001\001\001\001\001\001\001U\001\001\001\001\001"
+                        + "VOW\001X\001\001\001YZ\001\001\001\001\001\001[\\]^[_`a"
+                        + "bc[\001[[[d\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001ef33333333333333"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001",
+                "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+                        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+        };
+        static final String[] DATA = {
+                "\003\003\003\003\003\003\003\003\003\003\002\003\003\001\003\003\003\003\003\003\003\003\003\003"
+                        + "\003\003\003\003\003\003\003\003\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003"
+                        + "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\000\000\000\000\000\000\000\000"
+                        + "\000\016\000\000\000\003\016\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004\004\004\004\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\000\004\000\004\004\000\004\004\000\004"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\007\007\007\007\007\007\000\000\000\000\000\000\000\000\000\000"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\000\003\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\004\004\004\004\004\004\004\007\000\004\004\004\004\004\004\000\000\004"
+                        + "\004\000\004\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\007\000\004\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004\004"
+                        + "\004\004\004\004\000\000\000\000\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004\000\004\004\004\004\004"
+                        + "\004\004\004\004\000\004\004\004\000\004\004\004\004\004\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\007\007\000\000\000\000\000\000"
+                        + "\004\004\004\004\004\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\007\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\010\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\010\004\000\010\010"
+                        + "\010\004\004\004\004\004\004\004\004\010\010\010\010\004\010\010\000\004\004\004\004\004\004\004"
+                        + "\000\000\000\000\000\000\000\000\000\000\004\004\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\010\010\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\004\000\004\010\010\004\004\004\004\000\000\010\010\000\000\010\010\004\000\000"
+                        + "\000\000\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000\004\004\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\000"
+                        + "\000\004\004\010\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\004\000\010\010\010\004\004\000\000\000\000\004"
+                        + "\004\000\000\004\004\004\000\000\000\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\000\000\000\004\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\004\004\010\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\000\010\010"
+                        + "\010\004\004\004\004\004\000\004\004\010\000\010\010\004\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\004\004\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\004\004\004\004\004\004\000\004\010\010\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\004\000\004\004\010\004\004\004\004\000\000\010\010\000\000\010\010\004\000\000"
+                        + "\000\000\000\000\000\004\004\004\000\000\000\000\000\000\000\000\000\000\004\004\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\010\004\010\010\000\000\000\010\010"
+                        + "\010\000\010\010\010\004\000\000\000\000\000\000\000\000\000\004\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\004\010\010\010\004\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\000\004\004"
+                        + "\004\010\010\010\010\000\004\004\004\000\004\004\004\004\000\000\000\000\000\000\000\004\004\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\004\004\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\010\010\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\004\000\010\004\010\010\004\010\010\000\004\010\010\000\010\010\004\004\000\000"
+                        + "\000\000\000\000\000\004\004\000\000\000\000\000\000\000\000\000\000\000\004\004\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\010\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\004\004\010\010\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\004\004\000\004\010\010\004\004\004\004\000\010\010"
+                        + "\010\000\010\010\010\004\007\000\000\000\000\000\000\000\000\004\000\000\000\000\000\000\000\000"
+                        + "\000\000\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\004\010\010\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\004\000\000\000\000\004\010\010\004\004\004\000\004\000"
+                        + "\010\010\010\010\010\010\010\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\010\010\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\000\010\004\004\004\004"
+                        + "\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004\004\004\004\004\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\004\000\010\004\004\004\004\004\004\004\004\004\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\004\004\004\004\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\004\000\004\000\004\000\000\000\000\010\010"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\004\004\004\004\004\004\004\004\004\004\004\004\004\004\010\004\004\004\004\004\000\004\004"
+                        + "\000\000\000\000\000\004\004\004\004\004\004\004\004\004\004\004\000\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\000\000\000\000\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004"
+                        + "\004\010\004\004\004\004\004\004\000\004\004\010\010\004\004\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\010\010\004\004\000\000\000\000\004\004"
+                        + "\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\004\000\010\004\004\000\000\000\000\000\000\004\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000",
+                "\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011"
+                        + "\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011"
+                        + "\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011"
+                        + "\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\004\004\004\010\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\004\004\010\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\010\004"
+                        + "\004\004\004\004\004\004\010\010\010\010\010\010\010\010\004\010\010\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\000\000\000\000\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\004\004\004\003\004\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\004\004\004\010\010\010\010\004\004\010\010\010\000\000\000\000\010\010\004\010\010\010\010\010"
+                        + "\010\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\004\004\010\010\004\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\010\004\010"
+                        + "\004\004\004\004\004\004\004\000\004\000\004\000\000\004\004\004\004\004\004\004\004\010\010\010"
+                        + "\010\010\010\004\004\004\004\004\004\004\004\004\004\000\000\004\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\004\004\004\004\010\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\004\004\004\004\004\004\004\010\004\010\010\010\010\010\004\010\010\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004\004\004\004\004\004\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\004\004\010\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\010\004\004\004\004\010\010"
+                        + "\004\004\010\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\010\004\004\010\010\010\004\010\004"
+                        + "\004\004\010\010\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\010\010\010\010\010\010\010\010\004\004\004\004\004\004\004\004\010\010\004\004"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\004\004\004\000\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\010\004\004\004\004\004\004\004\000\000\000\000\004\000\000\000\000\000\000\004\000\000\010"
+                        + "\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\003\004\005\003\003\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\003\003\003\003\003\003\003\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\016\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\016\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\016\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\016\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\016\016\016\016"
+                        + "\016\016\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\016\016\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\016\016\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\016\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\016\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\016"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\016\016\016\016\016\016\016\016\016\016\016\000\000\000\000\016\016\016\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\016\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\016\016\000\000\000\000"
+                        + "\000\000\000\000\000\000\016\000\000\000\000\000\000\000\000\000\016\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\016\016\016\016\000\016\016\016\016\016\016\000\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\000\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\000\000"
+                        + "\000\000\000\000\000\000\000\000\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\000\000\016\016\016\016\016\016\016\016\016\016\016\000\016\000\016\000"
+                        + "\000\000\000\000\000\016\000\000\000\016\000\000\000\000\000\000\016\000\000\000\000\000\000\000"
+                        + "\000\000\000\016\016\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\016\000\000\016"
+                        + "\000\000\000\000\016\000\016\000\000\000\000\016\016\016\000\016\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\016\016\016\016\016\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\016\016\016\000\000\000\000\000\000\000\000\000\016\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\016\000\000\000\000\000\000\000\000\000\000\000\000\000\000\016"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000",
+                "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\016\016\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\016\016\016"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\016\016\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\016\000\000\000\000\016\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\004\004\004\004\004\004\016\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\016\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\016\000\016\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004\000\004\004\004\004"
+                        + "\004\004\004\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\000\000\000\004\000"
+                        + "\000\000\000\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\010\010\004\004\010\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\010\010\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\004\004\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004"
+                        + "\004\004\004\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\004\004\004\004\004\004\004\004\004\004\004\010\010\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011\011"
+                        + "\011\011\011\011\011\011\011\011\011\011\011\011\011\000\000\000\004\004\004\010\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\010\010\004\004"
+                        + "\004\004\010\010\004\004\010\010\010\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004\004\004\010"
+                        + "\010\004\004\010\010\004\004\000\000\000\000\000\000\000\000\000\000\000\000\004\000\000\000\000"
+                        + "\000\000\000\000\004\010\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\004\000\004\004\004\000\000\004\004\000\000\000\000\000\004\004"
+                        + "\000\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\010\004\004\010\010"
+                        + "\000\000\000\000\000\010\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\010\010\004\010\010\004\010\010\000\010\004\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015",
+                "\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\014\015\015\015"
+                        + "\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\014\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015\015"
+                        + "\015\015\015\015\000\000\000\000\000\000\000\000\000\000\000\000\012\012\012\012\012\012\012\012"
+                        + "\012\012\012\012\012\012\012\012\012\012\012\012\012\012\012\000\000\000\000\013\013\013\013\013"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013"
+                        + "\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\013\000\000\000\000"
+                        + "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003"
+                        + "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003"
+                        + "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003"
+                        + "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003"
+                        + "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003"
+                        + "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003"
+                        + "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003"
+                        + "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003"
+                        + "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003"
+                        + "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003"
+                        + "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\003"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\003\003\003\003\003\003\003\003\003\003\003\003\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004"
+                        + "\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\000\004\004\000"
+                        + "\000\000\000\000\004\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\004\004\004\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\004\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\010\004\010\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\004\000\000\004\004\000\000\000\000\000\000\000\000\000\000\004\004\004\010\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\010\010\010\004\004\004\004\010"
+                        + "\010\004\004\000\000\007\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000\007\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004\004\010\004\004\004"
+                        + "\004\004\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\010\010\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\004\004\010\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\010\010\010\004\004\004\004\004\004\004\004\004\010"
+                        + "\010\000\007\007\000\000\000\000\000\004\004\004\004\000\010\004\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000",
+                "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\010\010\010\004"
+                        + "\004\004\010\010\004\010\004\004\000\000\000\000\000\000\004\000\000\004\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\004\010\010\010\004\004\004\004\004\004\004\004\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\010\010\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\004\004\000\004\010\004\010\010\010\010\000\000\010\010\000\000\010\010\010\000\000"
+                        + "\000\000\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000\010\010\000\000\004\004"
+                        + "\004\004\004\004\004\000\000\000\004\004\004\004\004\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\010\010\010\004\004\004\004\004\004\004\004"
+                        + "\010\010\004\004\004\010\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\010\010\004\004\004\004\004"
+                        + "\004\010\004\010\010\004\010\004\004\010\004\004\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\004\010\010\004\004\004\004\000\000\010\010\010\010\004\004\010\004"
+                        + "\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\010\010\010\004\004\004\004\004"
+                        + "\004\004\004\010\010\004\010\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\010\004\010\010"
+                        + "\004\004\004\004\004\004\010\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\010\010\004\004\004\004\010\004"
+                        + "\004\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\010\010\010\004"
+                        + "\004\004\004\004\004\004\004\004\010\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\010\010\010\010\010\000\010"
+                        + "\010\000\000\004\004\010\004\007\010\007\010\004\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\010\010\010\004\004\004\004\000\000\004\004\010\010\010\010"
+                        + "\004\000\000\000\010\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\004\004\004\004\004\004\004\004\004\004\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004\004\004\010\007\004\004\004\004\000"
+                        + "\000\000\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\004\004\004\004\004\004\010"
+                        + "\010\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\007\007\007\007"
+                        + "\007\007\004\004\004\004\004\004\004\004\004\004\004\004\004\010\004\004\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\010"
+                        + "\004\004\004\004\004\004\004\000\004\004\004\004\004\004\010\004\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\000\010\004\004\004\004\004\004\004\010\004\004\010\004\004\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004\004\004\000"
+                        + "\000\000\004\000\004\004\000\004\004\004\004\004\004\004\007\004\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\010\010\010\010\010\000\004\004\000\010\010\004\010\004"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\004\004\010\010\000\000\000\000\000\000\000\000\000"
+                        + "\004\004\007\010\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\010\010\004\004\004\004\004\000\000\000\010\010\004\010\004\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\003\003\003\003\003\003\003\003"
+                        + "\003\003\003\003\003\003\003\003\004\000\000\000\000\000\000\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\004\004\004\004\004\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\004\004\004\004\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000",
+                "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\004\000\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010"
+                        + "\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010"
+                        + "\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\010\000\000\000\000\000\000\000\004"
+                        + "\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\010\010\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\004\004\000\003\003\003\003\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\000\000\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\004\010\004\004\004\000\000\000\010\004\004\004\004\004\003\003\003\003\003"
+                        + "\003\003\003\004\004\004\004\004\004\004\004\000\000\004\004\004\004\004\004\004\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\004\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\004\004\004\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\000\000\000\000\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\000\000\000"
+                        + "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004\004"
+                        + "\000\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\004\004\004\004\004\004\004\000\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\000\000\004\004\004\004\004\004\004\000\004\004\000\004\004\004\004\004\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\004\004\004\004\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004\004\004\004\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\004\004\004\004\004\004\004\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\016\016\016\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\016"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\016\016\016\016\016\016\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\016\016\000\000\000\000\000\000\000\000\000\000\000\000\000\000\016\000"
+                        + "\000\016\016\016\016\016\016\016\016\016\016\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\006\006\006\006\006\006\006\006\006\006"
+                        + "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\000\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\000\000\000\000\000\000\000\000\000\000\016\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\016\000\000\016\016\016\016\016\016"
+                        + "\016\016\016\000\016\016\016\016\000\000\000\000\000\000\000\000\000\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\004\004\004\004\004"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\000\000\000\000\000\000\000\000\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016",
+                "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\000\000\000\000\000\000\000\000\000\000\000\000\016\016\016\016"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\016\016\016\016\016\016\016\016\000\000\000\000\000\000\000\000"
+                        + "\000\000\016\016\016\016\016\016\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\016\016\016\016\016\016\016\016\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\000\000\000\000\000\000\000\000\000\000\000\000\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\000\016\016\016\016\016\016\016\016\016\016\000\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016\016"
+                        + "\016\016\016\016\016\016\000\000\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003"
+                        + "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\003\003\003\003\003\003\003\003"
+                        + "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003"
+                        + "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003"
+                        + "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003"
+                        + "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003"
+                        + "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+                        + "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003"
+        };
+
+        private GraphemeBreaks() {
+        }
+    }
+}
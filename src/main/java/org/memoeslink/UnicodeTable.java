@@ -0,0 +1,58 @@
+package org.memoeslink;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A two-stage lookup table that maps every code point to an 8-bit value. The first stage holds, for each
+ * block of 256 code points, the position of its values in the second stage, where identical blocks are
+ * stored only once.
+ */
+final class UnicodeTable {
+    private static final int BLOCK_SHIFT = 8;
+    private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    private static final int BLOCK_MASK = BLOCK_SIZE - 1;
+    private static final int BLOCK_COUNT = (Character.MAX_CODE_POINT >>> BLOCK_SHIFT) + 1;
+    private final char[] index;
+    private final byte[] data;
+
+    private UnicodeTable(char[] index, byte[] data) {
+        this.index = index;
+        this.data = data;
+    }
+
+    /**
+     * Creates a table from the stages emitted by {@code tools/UnicodeDataGenerator.java}. The first stage holds
+     * one char per block, and the second stage one Latin-1 char per value, so both are only copied.
+     *
+     * @param index the chunks of the first stage, with the position of every block in order
+     * @param data  the chunks of the second stage, with the values of the distinct blocks
+     * @return the table
+     */
+    static UnicodeTable of(String[] index, String[] data) {
+        char[] positions = String.join("", index).toCharArray();
+        byte[] values = String.join("", data).getBytes(StandardCharsets.ISO_8859_1);
+
+        if (positions.length != BLOCK_COUNT)
+            throw new IllegalStateException("Unicode table has " + positions.length + " blocks instead of " + BLOCK_COUNT);
+
+        if ((values.length & BLOCK_MASK) != 0)
+            throw new IllegalStateException("Unicode table data is not a whole number of blocks");
+        int blocks = values.length >>> BLOCK_SHIFT;
+
+        for (char position : positions) {
+            if (position >= blocks) throw new IllegalStateException("Unicode table refers to missing block " + (int) position);
+        }
+        return new UnicodeTable(positions, values);
+    }
+
+    /**
+     * Returns the value of the given code point.
+     *
+     * @param c the code point to look up
+     * @return the value of {@code c}, or 0 if {@code c} is not a valid code point
+     */
+    int get(int c) {
+        if (c < 0 || c > Character.MAX_CODE_POINT) return 0;
+        return data[(index[c >>> BLOCK_SHIFT] << BLOCK_SHIFT) | (c & BLOCK_MASK)] & 0xFF;
+    }
+}
@@ -0,0 +1,61 @@
+package org.memoeslink;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccentFoldingTest {
+
+    private static final int[][] COVERED_RANGES = {{0x0000, 0x024F}, {0x1E00, 0x1EFF}};
+
+    @Nested
+    class IsCovered {
+
+        @Test
+        void withLatinChars_returnsTrue() {
+            assertTrue(AccentFolding.isCovered('a'));
+            assertTrue(AccentFolding.isCovered('ǿ'));
+            assertTrue(AccentFolding.isCovered('ỹ'));
+        }
+
+        @Test
+        void withNonLatinChars_returnsFalse() {
+            assertFalse(AccentFolding.isCovered('́'));
+            assertFalse(AccentFolding.isCovered('ά'));
+            assertFalse(AccentFolding.isCovered(0x1F600));
+            assertFalse(AccentFolding.isCovered(-1));
+        }
+    }
+
+    @Nested
+    class Fold {
+
+        @Test
+        void withCoveredChars_matchesStripAccents() {
+            for (int[] range : COVERED_RANGES) {
+                for (int c = range[0]; c <= range[1]; c++) {
+                    String expected = StringHelper.stripAccents(String.valueOf((char) c));
+                    assertEquals(expected, String.valueOf(AccentFolding.fold(c)));
+                }
+            }
+        }
+
+        @Test
+        void withCoveredChars_keepsPredicateResults() {
+            for (int[] range : COVERED_RANGES) {
+                for (int c = range[0] + 1; c <= range[1]; c++) {
+                    String original = String.valueOf((char) c);
+                    String stripped = StringHelper.stripAccents(original);
+                    boolean accented = !original.equals(stripped);
+                    assertEquals(CharHelper.CONSONANTS.contains(stripped), CharHelper.isConsonant(c));
+                    assertEquals(CharHelper.VOWELS.contains(stripped), CharHelper.isVowel(c));
+                    assertEquals(Character.isLetter(c) && accented, CharHelper.isAccentedLetter(c));
+                    assertEquals(Character.isLetter(c) && !accented, CharHelper.isUnaccentedLetter(c));
+                    assertEquals(CharHelper.CONSONANTS.contains(stripped) && accented, CharHelper.isAccentedConsonant(c));
+                    assertEquals(CharHelper.VOWELS.contains(stripped) && accented, CharHelper.isAccentedVowel(c));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.memoeslink;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures the heap memory allocated by the current thread, skipping the calling test
+ * when the running JVM cannot report it.
+ */
+final class Allocations {
+    private static final int WARM_UP_RUNS = 1_000;
+
+    private Allocations() {
+    }
+
+    /**
+     * Returns the bytes allocated by the current thread while running the given task several times,
+     * after running it beforehand so that class loading and call site linkage are not counted.
+     *
+     * @param runs the number of measured runs
+     * @param task the task to measure
+     * @return the bytes allocated during the measured runs
+     */
+    static long measure(int runs, Runnable task) {
+        com.sun.management.ThreadMXBean bean = threadMXBean();
+
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            task.run();
+        }
+        long before = bean.getCurrentThreadAllocatedBytes();
+
+        for (int i = 0; i < runs; i++) {
+            task.run();
+        }
+        return bean.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean, "Thread allocation counting is not available");
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled(), "Thread allocation counting is disabled");
+        bean.getCurrentThreadAllocatedBytes(); // Loads the classes used by the measurement
+        return bean;
+    }
+}
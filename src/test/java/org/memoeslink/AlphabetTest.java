@@ -0,0 +1,75 @@
+package org.memoeslink;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlphabetTest {
+
+    @Nested
+    class Register {
+
+        @Test
+        void withNullName_throwsException() {
+            assertThrows(IllegalArgumentException.class, () -> Alphabet.register(null, "a", "b"));
+        }
+
+        @Test
+        void withVowelsAndConsonants_includesThemAsLetters() {
+            Alphabet alphabet = Alphabet.register("test-romanian", "ăâ", "aeiouăâî", "bcdșț");
+            assertTrue(alphabet.isLetter('ă'));
+            assertTrue(alphabet.isLetter('ș'));
+            assertTrue(alphabet.isVowel('î'));
+            assertTrue(alphabet.isConsonant('ț'));
+            assertFalse(alphabet.isConsonant('ş'));
+        }
+
+        @Test
+        void withExistingName_replacesAlphabet() {
+            Alphabet.register("test-replaced", "a", "b");
+            Alphabet replacement = Alphabet.register("test-replaced", "e", "c");
+            assertSame(replacement, Alphabet.get("test-replaced"));
+        }
+    }
+
+    @Nested
+    class Get {
+
+        @Test
+        void withGlobalName_returnsGlobal() {
+            assertSame(Alphabet.GLOBAL, Alphabet.get("global"));
+        }
+
+        @Test
+        void withUnknownName_returnsNull() {
+            assertNull(Alphabet.get("unknown"));
+            assertNull(Alphabet.get(null));
+        }
+    }
+
+    @Nested
+    class Unregister {
+
+        @Test
+        void withRegisteredName_removesAlphabet() {
+            Alphabet.register("test-removed", "a", "b");
+            assertTrue(Alphabet.unregister("test-removed"));
+            assertNull(Alphabet.get("test-removed"));
+            assertFalse(Alphabet.unregister("test-removed"));
+        }
+    }
+
+    @Nested
+    class Global {
+
+        @Test
+        void withGlobalRegistries_matchesCharHelper() {
+            for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+                assertEquals(CharHelper.isGlobalLetter(c), Alphabet.GLOBAL.isLetter(c));
+                assertEquals(CharHelper.isGlobalVowel(c), Alphabet.GLOBAL.isVowel(c));
+                assertEquals(CharHelper.isGlobalConsonant(c), Alphabet.GLOBAL.isConsonant(c));
+            }
+        }
+    }
+}
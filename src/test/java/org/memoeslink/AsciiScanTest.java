@@ -0,0 +1,138 @@
+package org.memoeslink;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class AsciiScanTest {
+    private static final String ALPHABET = "aZ09 \t\n\r\u000B\f_-!~\u007F\u0080é 日\u3000😀\uFFFF";
+    private static final String[] STRINGS = strings();
+
+    private static String[] strings() {
+        Random random = new Random(20);
+        int[] lengths = {0, 1, 7, 63, 64, 65, 100, 1023, 1024, 1025, 3000};
+        String[] strings = new String[lengths.length * 4];
+
+        for (int i = 0; i < strings.length; i++) {
+            StringBuilder sb = new StringBuilder();
+            int alphabetSize = 1 + random.nextInt(ALPHABET.length());
+
+            for (int j = 0; j < lengths[i / 4]; j++) {
+                sb.append(ALPHABET.charAt(random.nextInt(alphabetSize)));
+            }
+            strings[i] = sb.toString();
+        }
+        return strings;
+    }
+
+    private static AsciiScan.Kernel vectorKernel() {
+        assumeTrue(AsciiScan.kernel() != null, "The jdk.incubator.vector module is not available");
+        return AsciiScan.kernel();
+    }
+
+    private static int indexOf(String s, CharPredicate predicate, boolean expected) {
+        for (int i = 0; i < s.length(); i++) {
+            if (predicate.test(s.charAt(i)) == expected) return i;
+        }
+        return -1;
+    }
+
+    @Nested
+    class Category {
+
+        @Test
+        void withEveryBmpChar_rangesMatchPredicate() {
+            for (AsciiScan.Category category : AsciiScan.Category.values()) {
+                char[] ranges = category.ranges();
+
+                for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+                    boolean inRanges = false;
+
+                    for (int i = 0; i < ranges.length; i += 2) {
+                        inRanges |= c >= ranges[i] && c <= ranges[i + 1];
+                    }
+                    assertEquals(category.predicate().test((char) c), inRanges, category + " " + Integer.toHexString(c));
+                }
+            }
+        }
+
+        @Test
+        void withEveryAsciiChar_maskMatchesPredicate() {
+            for (AsciiScan.Category category : AsciiScan.Category.values()) {
+                long[] mask = category.mask();
+
+                for (char c = 0; c < 0x80; c++) {
+                    boolean inMask = (mask[c >>> 6] & (1L << c)) != 0;
+                    assertEquals(category.predicate().test(c), inMask, category + " " + Integer.toHexString(c));
+                }
+            }
+        }
+
+        @Test
+        void withWhitespace_returnsMergedRanges() {
+            assertArrayEquals(new char[]{'\t', '\r', ' ', ' '}, AsciiScan.Category.WHITESPACE.ranges());
+            assertArrayEquals(new char[]{'0', '9', 'A', 'Z', 'a', 'z'}, AsciiScan.Category.ALPHANUMERIC.ranges());
+        }
+    }
+
+    @Nested
+    class Count {
+
+        @Test
+        void withVectorKernel_matchesScalarCount() {
+            AsciiScan.Kernel kernel = vectorKernel();
+
+            for (AsciiScan.Category category : AsciiScan.Category.values()) {
+                for (String s : STRINGS) {
+                    assertEquals(StringFilter.count(s, category.predicate()), AsciiScan.count(s, category, kernel), category + " " + s.length());
+                }
+            }
+        }
+
+        @Test
+        void withoutKernel_matchesScalarCount() {
+            for (String s : STRINGS) {
+                assertEquals(StringFilter.count(s, CharHelper::isAsciiAlphanumeric), AsciiScan.count(s, AsciiScan.Category.ALPHANUMERIC, null));
+            }
+        }
+
+        @Test
+        void withNull_returnsZero() {
+            assertEquals(0, AsciiScan.count(null, AsciiScan.Category.ASCII));
+        }
+    }
+
+    @Nested
+    class IndexOf {
+
+        @Test
+        void withVectorKernel_matchesScalarIndex() {
+            AsciiScan.Kernel kernel = vectorKernel();
+
+            for (AsciiScan.Category category : AsciiScan.Category.values()) {
+                for (String s : STRINGS) {
+                    assertEquals(indexOf(s, category.predicate(), true), AsciiScan.indexOf(s, category, true, kernel), category + " " + s.length());
+                    assertEquals(indexOf(s, category.predicate(), false), AsciiScan.indexOf(s, category, false, kernel), category + " " + s.length());
+                }
+            }
+        }
+
+        @Test
+        void withMismatchAfterFirstBlock_returnsItsIndex() {
+            AsciiScan.Kernel kernel = vectorKernel();
+            String s = "a".repeat(2_000) + "é" + "a".repeat(10);
+            assertEquals(2_000, AsciiScan.indexOf(s, AsciiScan.Category.ASCII, false, kernel));
+            assertTrue(AsciiScan.any(s, AsciiScan.Category.ALPHA_LOWER));
+            assertFalse(AsciiScan.all(s, AsciiScan.Category.ALPHA_LOWER));
+        }
+
+        @Test
+        void withNull_returnsMinusOne() {
+            assertEquals(-1, AsciiScan.indexOf(null, AsciiScan.Category.ASCII, true, null));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.memoeslink;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkFilterTest {
+    private static final String[] STRINGS = strings(20_000);
+
+    private static String[] strings(int count) {
+        String[] samples = {"plain", "zero\u200Bwidth", "\u0001ctrl\u007F", "Crème brûlée", "", null, "  spaced  "};
+        Random random = new Random(19);
+        String[] strings = new String[count];
+
+        for (int i = 0; i < count; i++) {
+            String sample = samples[random.nextInt(samples.length)];
+            strings[i] = sample == null ? null : sample.repeat(1 + random.nextInt(i % 100 == 0 ? 500 : 5));
+        }
+        return strings;
+    }
+
+    private static String[] expected(String[] strings, UnaryOperator<String> operation) {
+        return Arrays.stream(strings).map(operation).toArray(String[]::new);
+    }
+
+    @Nested
+    class Apply {
+
+        @Test
+        void withArray_matchesSequentialResults() {
+            assertArrayEquals(expected(STRINGS, StringFilter::removeZeroWidthSpaces), BulkFilter.apply(STRINGS, StringFilter::removeZeroWidthSpaces));
+        }
+
+        @Test
+        void withList_matchesSequentialResults() {
+            String[] expected = expected(STRINGS, RegexFilter::removeCntrl);
+            assertArrayEquals(expected, BulkFilter.apply(new ArrayList<>(Arrays.asList(STRINGS)), RegexFilter::removeCntrl));
+            assertArrayEquals(expected, BulkFilter.apply(new LinkedList<>(Arrays.asList(STRINGS)), RegexFilter::removeCntrl));
+        }
+
+        @Test
+        void withStream_keepsEncounterOrder() {
+            assertArrayEquals(expected(STRINGS, StringHelper::stripAccents), BulkFilter.apply(Arrays.stream(STRINGS), StringHelper::stripAccents));
+        }
+
+        @Test
+        void withEmptyBatch_returnsEmptyArray() {
+            assertArrayEquals(new String[0], BulkFilter.apply(Stream.empty(), StringFilter::keepLetters));
+        }
+
+        @Test
+        void withPreallocatedArray_writesOnlyTheRange() {
+            String[] out = {"a", "b", "c", "d"};
+            assertSame(out, BulkFilter.apply(new String[]{"x", "1y2", "3z", "w"}, 1, 2, StringFilter::keepLetters, out, 2));
+            assertArrayEquals(new String[]{"a", "b", "y", "z"}, out);
+        }
+
+        @Test
+        void withSameArray_replacesInPlace() {
+            String[] strings = STRINGS.clone();
+            String[] expected = expected(strings, StringFilter::removeZeroWidthSpaces);
+            BulkFilter.apply(strings, 0, strings.length, StringFilter::removeZeroWidthSpaces, strings, 0);
+            assertArrayEquals(expected, strings);
+        }
+
+        @Test
+        void withSmallBatch_runsOnCallingThread() {
+            Set<Thread> threads = ConcurrentHashMap.newKeySet();
+            BulkFilter.apply(List.of("a", "b", "c"), s -> {
+                threads.add(Thread.currentThread());
+                return s;
+            });
+            assertEquals(Set.of(Thread.currentThread()), threads);
+        }
+
+        @Test
+        void withAnyThreshold_matchesSequentialResults() {
+            String[] expected = expected(STRINGS, StringFilter::keepLetters);
+
+            for (int threshold : new int[]{0, 1, 100, 10_000, Integer.MAX_VALUE}) {
+                String[] out = new String[STRINGS.length];
+                BulkFilter.apply(i -> STRINGS[i], STRINGS.length, StringFilter::keepLetters, out, 0, threshold);
+                assertArrayEquals(expected, out, "Threshold " + threshold);
+            }
+        }
+
+        @Test
+        void withFailingOperation_rethrowsException() {
+            assertThrows(IllegalStateException.class, () -> BulkFilter.apply(STRINGS, s -> {
+                throw new IllegalStateException();
+            }));
+        }
+
+        @Test
+        void withInvalidRange_throwsException() {
+            assertThrows(IndexOutOfBoundsException.class, () -> BulkFilter.apply(new String[4], 2, 3, s -> s, new String[4], 0));
+            assertThrows(IndexOutOfBoundsException.class, () -> BulkFilter.apply(new String[4], 0, 4, s -> s, new String[4], 1));
+        }
+    }
+}
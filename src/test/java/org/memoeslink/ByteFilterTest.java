@@ -0,0 +1,149 @@
+package org.memoeslink;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteFilterTest {
+    private static final String TEXT = "Hello, World!\tété 2024\n日本 😀 x_Y-9\u0001 ";
+
+    private interface RangeFilter {
+        int apply(byte[] bytes, int offset, int length);
+    }
+
+    private static String filter(RangeFilter filter, String s) {
+        byte[] bytes = ("<>" + s).getBytes(StandardCharsets.UTF_8);
+        int length = filter.apply(bytes, 2, bytes.length - 2);
+        return new String(bytes, 2, length, StandardCharsets.UTF_8);
+    }
+
+    private static String filter(ToIntFunction<ByteBuffer> filter, ByteBuffer buffer, String s) {
+        buffer.put(s.getBytes(StandardCharsets.UTF_8)).flip();
+        int length = filter.applyAsInt(buffer);
+        assertEquals(length, buffer.remaining());
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void assertSameAsString(Function<String, String> expected, RangeFilter actual, ToIntFunction<ByteBuffer> actualBuffer) {
+        assertEquals(expected.apply(TEXT), filter(actual, TEXT));
+        assertEquals(expected.apply(TEXT), filter(actualBuffer, ByteBuffer.allocate(64), TEXT));
+        assertEquals(expected.apply(TEXT), filter(actualBuffer, ByteBuffer.allocateDirect(64), TEXT));
+    }
+
+    private static void assertSameCount(ToIntFunction<String> expected, RangeFilter actual, ToIntFunction<ByteBuffer> actualBuffer) {
+        byte[] bytes = TEXT.getBytes(StandardCharsets.UTF_8);
+        assertEquals(expected.applyAsInt(TEXT), actual.apply(bytes, 0, bytes.length));
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        assertEquals(expected.applyAsInt(TEXT), actualBuffer.applyAsInt(buffer));
+        assertEquals(0, buffer.position());
+    }
+
+    @Nested
+    class Keep {
+
+        @Test
+        void withEveryCategory_matchesStringFilter() {
+            assertSameAsString(StringFilter::keepAscii, ByteFilter::keepAscii, ByteFilter::keepAscii);
+            assertSameAsString(StringFilter::keepAsciiSpaces, ByteFilter::keepAsciiSpaces, ByteFilter::keepAsciiSpaces);
+            assertSameAsString(StringFilter::keepAsciiWhitespaces, ByteFilter::keepAsciiWhitespaces, ByteFilter::keepAsciiWhitespaces);
+            assertSameAsString(StringFilter::keepAsciiAlpha, ByteFilter::keepAsciiAlpha, ByteFilter::keepAsciiAlpha);
+            assertSameAsString(StringFilter::keepAsciiAlphaLower, ByteFilter::keepAsciiAlphaLower, ByteFilter::keepAsciiAlphaLower);
+            assertSameAsString(StringFilter::keepAsciiAlphaUpper, ByteFilter::keepAsciiAlphaUpper, ByteFilter::keepAsciiAlphaUpper);
+            assertSameAsString(StringFilter::keepAsciiNumeric, ByteFilter::keepAsciiNumeric, ByteFilter::keepAsciiNumeric);
+            assertSameAsString(StringFilter::keepAsciiAlphaOrSpaces, ByteFilter::keepAsciiAlphaOrSpaces, ByteFilter::keepAsciiAlphaOrSpaces);
+            assertSameAsString(StringFilter::keepAsciiAlphaOrWhitespaces, ByteFilter::keepAsciiAlphaOrWhitespaces, ByteFilter::keepAsciiAlphaOrWhitespaces);
+            assertSameAsString(StringFilter::keepAsciiAlphanumeric, ByteFilter::keepAsciiAlphanumeric, ByteFilter::keepAsciiAlphanumeric);
+            assertSameAsString(StringFilter::keepAsciiAlphanumericOrSpaces, ByteFilter::keepAsciiAlphanumericOrSpaces, ByteFilter::keepAsciiAlphanumericOrSpaces);
+            assertSameAsString(StringFilter::keepAsciiAlphanumericOrWhitespaces, ByteFilter::keepAsciiAlphanumericOrWhitespaces, ByteFilter::keepAsciiAlphanumericOrWhitespaces);
+        }
+
+        @Test
+        void withRange_leavesBytesOutsideUntouched() {
+            byte[] bytes = "ab1c2d".getBytes(StandardCharsets.US_ASCII);
+            assertEquals(1, ByteFilter.keepAsciiNumeric(bytes, 1, 3));
+            assertEquals("a1" + "1c2d", new String(bytes, StandardCharsets.US_ASCII));
+        }
+
+        @Test
+        void withInvalidRange_throwsException() {
+            assertThrows(IndexOutOfBoundsException.class, () -> ByteFilter.keepAscii(new byte[4], 2, 3));
+        }
+
+        @Test
+        void withReadOnlyBuffer_throwsException() {
+            ByteBuffer buffer = ByteBuffer.wrap("a1".getBytes(StandardCharsets.US_ASCII)).asReadOnlyBuffer();
+            assertThrows(java.nio.ReadOnlyBufferException.class, () -> ByteFilter.keepAsciiAlpha(buffer));
+        }
+    }
+
+    @Nested
+    class Remove {
+
+        @Test
+        void withEveryCategory_matchesStringFilter() {
+            assertSameAsString(StringFilter::removeAscii, ByteFilter::removeAscii, ByteFilter::removeAscii);
+            assertSameAsString(StringFilter::removeAsciiSpaces, ByteFilter::removeAsciiSpaces, ByteFilter::removeAsciiSpaces);
+            assertSameAsString(StringFilter::removeAsciiWhitespaces, ByteFilter::removeAsciiWhitespaces, ByteFilter::removeAsciiWhitespaces);
+            assertSameAsString(StringFilter::removeAsciiAlpha, ByteFilter::removeAsciiAlpha, ByteFilter::removeAsciiAlpha);
+            assertSameAsString(StringFilter::removeAsciiAlphaLower, ByteFilter::removeAsciiAlphaLower, ByteFilter::removeAsciiAlphaLower);
+            assertSameAsString(StringFilter::removeAsciiAlphaUpper, ByteFilter::removeAsciiAlphaUpper, ByteFilter::removeAsciiAlphaUpper);
+            assertSameAsString(StringFilter::removeAsciiNumeric, ByteFilter::removeAsciiNumeric, ByteFilter::removeAsciiNumeric);
+            assertSameAsString(StringFilter::removeAsciiAlphaOrSpaces, ByteFilter::removeAsciiAlphaOrSpaces, ByteFilter::removeAsciiAlphaOrSpaces);
+            assertSameAsString(StringFilter::removeAsciiAlphaOrWhitespaces, ByteFilter::removeAsciiAlphaOrWhitespaces, ByteFilter::removeAsciiAlphaOrWhitespaces);
+            assertSameAsString(StringFilter::removeAsciiAlphanumeric, ByteFilter::removeAsciiAlphanumeric, ByteFilter::removeAsciiAlphanumeric);
+            assertSameAsString(StringFilter::removeAsciiAlphanumericOrSpaces, ByteFilter::removeAsciiAlphanumericOrSpaces, ByteFilter::removeAsciiAlphanumericOrSpaces);
+            assertSameAsString(StringFilter::removeAsciiAlphanumericOrWhitespaces, ByteFilter::removeAsciiAlphanumericOrWhitespaces, ByteFilter::removeAsciiAlphanumericOrWhitespaces);
+        }
+
+        @Test
+        void withMultibyteSequences_passesThemThrough() {
+            byte[] bytes = "aé😀 b".getBytes(StandardCharsets.UTF_8);
+            int length = ByteFilter.removeAsciiAlphaOrSpaces(bytes, 0, bytes.length);
+            assertArrayEquals("é😀".getBytes(StandardCharsets.UTF_8), Arrays.copyOf(bytes, length));
+        }
+
+        @Test
+        void withBufferPosition_keepsPrefix() {
+            ByteBuffer buffer = ByteBuffer.wrap("ab 1 2".getBytes(StandardCharsets.US_ASCII));
+            buffer.position(2);
+            assertEquals(2, ByteFilter.removeAsciiWhitespaces(buffer));
+            assertEquals(2, buffer.position());
+            assertEquals(4, buffer.limit());
+            assertEquals("ab12", new String(buffer.array(), 0, 4, StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Nested
+    class Count {
+
+        @Test
+        void withEveryCategory_matchesStringFilter() {
+            assertSameCount(StringFilter::countAscii, ByteFilter::countAscii, ByteFilter::countAscii);
+            assertSameCount(StringFilter::countAsciiSpace, ByteFilter::countAsciiSpace, ByteFilter::countAsciiSpace);
+            assertSameCount(StringFilter::countAsciiWhitespace, ByteFilter::countAsciiWhitespace, ByteFilter::countAsciiWhitespace);
+            assertSameCount(StringFilter::countAsciiAlpha, ByteFilter::countAsciiAlpha, ByteFilter::countAsciiAlpha);
+            assertSameCount(StringFilter::countAsciiAlphaLower, ByteFilter::countAsciiAlphaLower, ByteFilter::countAsciiAlphaLower);
+            assertSameCount(StringFilter::countAsciiAlphaUpper, ByteFilter::countAsciiAlphaUpper, ByteFilter::countAsciiAlphaUpper);
+            assertSameCount(StringFilter::countAsciiNumeric, ByteFilter::countAsciiNumeric, ByteFilter::countAsciiNumeric);
+            assertSameCount(StringFilter::countAsciiAlphaOrSpaces, ByteFilter::countAsciiAlphaOrSpaces, ByteFilter::countAsciiAlphaOrSpaces);
+            assertSameCount(StringFilter::countAsciiAlphaOrWhitespaces, ByteFilter::countAsciiAlphaOrWhitespaces, ByteFilter::countAsciiAlphaOrWhitespaces);
+            assertSameCount(StringFilter::countAsciiAlphanumeric, ByteFilter::countAsciiAlphanumeric, ByteFilter::countAsciiAlphanumeric);
+            assertSameCount(StringFilter::countAsciiAlphanumericOrSpaces, ByteFilter::countAsciiAlphanumericOrSpaces, ByteFilter::countAsciiAlphanumericOrSpaces);
+            assertSameCount(StringFilter::countAsciiAlphanumericOrWhitespaces, ByteFilter::countAsciiAlphanumericOrWhitespaces, ByteFilter::countAsciiAlphanumericOrWhitespaces);
+        }
+
+        @Test
+        void withEmptyRange_returnsZero() {
+            assertEquals(0, ByteFilter.countAsciiNumeric(new byte[]{'1'}, 1, 0));
+        }
+    }
+}
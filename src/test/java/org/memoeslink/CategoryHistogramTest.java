@@ -0,0 +1,176 @@
+package org.memoeslink;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryHistogramTest {
+    private static final String[] SAMPLES = {
+            "",
+            "Hello, World! 123",
+            "  \t\n\u000B\f\r  \u3000  ",
+            "Ärger über Öl, ¿qué? ÑANDÚ 2024_- «»",
+            "日本語のテキスト、１２３ ٣٤٥ ⅫⅯ ½ $€ ©",
+            "\u200B\u200C\u200D\u2060\uFEFF zero ",
+            "😀𝐀 x\u0301\u0000\u007F \uD800 \uDC00 \u0378"
+    };
+
+    private static void assertCounts(String s, CategoryHistogram histogram) {
+        assertEquals(s.length(), histogram.getLength(), s);
+
+        for (UnicodeCharCategory category : UnicodeCharCategory.values()) {
+            if (category == UnicodeCharCategory.ZERO_WIDTH_CHAR || category == UnicodeCharCategory.DIACRITIC) continue;
+            assertEquals(RegexFilter.count(s, EnumSet.of(category)), histogram.getCount(category), category + " " + s);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void withNull_returnsEmptyHistogram() {
+            CategoryHistogram histogram = CategoryHistogram.of(null);
+            assertEquals(0, histogram.getLength());
+            assertEquals(0, histogram.getCount(UnicodeCharCategory.LETTER));
+        }
+
+        @Test
+        void withSamples_matchesRegexFilterCounts() {
+            for (String s : SAMPLES) {
+                assertCounts(s, CategoryHistogram.of(s));
+            }
+        }
+
+        @Test
+        void withEveryCodePoint_matchesRegexFilterCounts() {
+            StringBuilder sb = new StringBuilder();
+
+            for (int c = Character.MIN_CODE_POINT; c <= Character.MAX_CODE_POINT; c += c <= Character.MAX_VALUE ? 1 : 31) {
+                sb.appendCodePoint(c);
+            }
+            assertCounts(sb.toString(), CategoryHistogram.of(sb));
+        }
+
+        @Test
+        void withSamples_matchesCharacterGetType() {
+            String s = String.join("", SAMPLES);
+            CategoryHistogram histogram = CategoryHistogram.of(s);
+
+            for (int type = 0; type <= Character.FINAL_QUOTE_PUNCTUATION; type++) {
+                if (type == 17) continue;
+                int expected = type;
+                long count = s.codePoints()
+                        .filter(c -> Character.getType(c) == expected)
+                        .mapToLong(Character::charCount)
+                        .sum();
+                assertEquals(count, histogram.getCount(type), "type " + type);
+            }
+        }
+    }
+
+    @Nested
+    class Accumulate {
+
+        @Test
+        void withSeveralSequences_addsTheirCounts() {
+            CategoryHistogram histogram = new CategoryHistogram().accumulate("abc").accumulate(new StringBuilder(" 12!"));
+            assertEquals(7, histogram.getLength());
+            assertEquals(3, histogram.getCount(UnicodeCharCategory.LETTER));
+            assertEquals(2, histogram.getCount(UnicodeCharCategory.DIGIT));
+            assertEquals(1, histogram.getCount(UnicodeCharCategory.PUNCT));
+            assertEquals(6, histogram.getCount(UnicodeCharCategory.GRAPH));
+        }
+
+        @Test
+        void withRange_countsOnlyTheRange() {
+            CategoryHistogram histogram = new CategoryHistogram().accumulate("ab12  ", 1, 4);
+            assertEquals(3, histogram.getLength());
+            assertEquals(1, histogram.getCount(UnicodeCharCategory.LETTER));
+            assertEquals(2, histogram.getCount(UnicodeCharCategory.NUMBER));
+            assertEquals(0, histogram.getCount(UnicodeCharCategory.SPACE));
+        }
+
+        @Test
+        void withRangeSplittingSurrogatePair_countsLoneSurrogate() {
+            CategoryHistogram histogram = new CategoryHistogram().accumulate("a𝐀", 0, 2);
+            assertEquals(1, histogram.getCount(Character.SURROGATE));
+            assertEquals(1, histogram.getCount(UnicodeCharCategory.LETTER));
+        }
+
+        @Test
+        void withInvalidRange_throwsException() {
+            assertThrows(IndexOutOfBoundsException.class, () -> new CategoryHistogram().accumulate("abc", 2, 4));
+        }
+    }
+
+    @Nested
+    class Merge {
+
+        @Test
+        void withChunks_matchesWholeHistogram() {
+            String s = String.join("", SAMPLES);
+            CategoryHistogram whole = CategoryHistogram.of(s);
+
+            for (int split = 0; split <= s.length(); split += 7) {
+                if (split > 0 && split < s.length() && Character.isLowSurrogate(s.charAt(split))) split++;
+                CategoryHistogram merged = CategoryHistogram.of(s.substring(0, split)).merge(CategoryHistogram.of(s.substring(split)));
+                assertEquals(whole.getLength(), merged.getLength());
+
+                for (UnicodeCharCategory category : EnumSet.range(UnicodeCharCategory.ALNUM, UnicodeCharCategory.UNASSIGNED)) {
+                    assertEquals(whole.getCount(category), merged.getCount(category), category + " " + split);
+                }
+            }
+        }
+    }
+
+    @Nested
+    class Reset {
+
+        @Test
+        void withFilledHistogram_clearsAllCounts() {
+            CategoryHistogram histogram = CategoryHistogram.of("Hello 123 é€").reset();
+            assertEquals(0, histogram.getLength());
+            assertEquals(0, histogram.getCount(UnicodeCharCategory.LETTER));
+            assertEquals(0, histogram.getCount(UnicodeCharCategory.ALNUM));
+            assertEquals(0, histogram.getCount(Character.CURRENCY_SYMBOL));
+        }
+
+        @Test
+        void withReusedHistogram_allocatesNothing() {
+            String s = "Hello, Wörld! 123 😀 ".repeat(20);
+            CategoryHistogram histogram = new CategoryHistogram();
+
+            for (int i = 0; i < 10_000; i++) {
+                histogram.reset().accumulate(s); // Lets the loop be fully compiled before measuring
+            }
+            assertEquals(0, Allocations.measure(1_000, () -> histogram.reset().accumulate(s)));
+        }
+    }
+
+    @Nested
+    class GetCount {
+
+        @Test
+        void withRangeCategory_throwsException() {
+            CategoryHistogram histogram = CategoryHistogram.of("a\u200B");
+            assertThrows(IllegalArgumentException.class, () -> histogram.getCount(UnicodeCharCategory.ZERO_WIDTH_CHAR));
+            assertThrows(IllegalArgumentException.class, () -> histogram.getCount(UnicodeCharCategory.DIACRITIC));
+        }
+
+        @Test
+        void withInvalidType_throwsException() {
+            CategoryHistogram histogram = new CategoryHistogram();
+            assertThrows(IllegalArgumentException.class, () -> histogram.getCount(-1));
+            assertThrows(IllegalArgumentException.class, () -> histogram.getCount(17));
+            assertThrows(IllegalArgumentException.class, () -> histogram.getCount(31));
+        }
+
+        @Test
+        void withDiacriticalLetter_countsOnlyNonAsciiLettersAndMarks() {
+            assertEquals(3, CategoryHistogram.of("café x\u0301 Ñ").getCount(UnicodeCharCategory.DIACRITICAL_LETTER));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package org.memoeslink;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryMatcherTest {
+    private static final CategoryMatcher DIGITS = CategoryMatcher.ofAsciiRanges('0', '9');
+    private static final CategoryMatcher LETTERS = CategoryMatcher.ofCategories(CategoryMatcher.LETTERS);
+
+    @Nested
+    class GetType {
+
+        @Test
+        void withEveryCodePoint_matchesCharacterGetType() {
+            for (int c = Character.MIN_CODE_POINT; c <= Character.MAX_CODE_POINT; c++) {
+                int codePoint = c;
+                assertEquals(Character.getType(c), CategoryMatcher.getType(c), () -> Integer.toHexString(codePoint));
+            }
+        }
+    }
+
+    @Nested
+    class Matches {
+
+        @Test
+        void withCategories_matchesAsciiAndOtherCodePoints() {
+            assertTrue(LETTERS.matches('a'));
+            assertTrue(LETTERS.matches('é'));
+            assertTrue(LETTERS.matches(0x1D400));
+            assertFalse(LETTERS.matches('1'));
+            assertFalse(LETTERS.matches(0x1F600));
+        }
+
+        @Test
+        void withAsciiRanges_matchesOnlyAscii() {
+            assertTrue(DIGITS.matches('7'));
+            assertFalse(DIGITS.matches('٧'));
+        }
+
+        @Test
+        void withRanges_matchesBounds() {
+            CategoryMatcher matcher = CategoryMatcher.ofRanges('b', 'c', 0x1F600, 0x1F600);
+            assertTrue(matcher.matches('b'));
+            assertTrue(matcher.matches('c'));
+            assertTrue(matcher.matches(0x1F600));
+            assertFalse(matcher.matches('a'));
+            assertFalse(matcher.matches(0x1F601));
+        }
+    }
+
+    @Nested
+    class Or {
+
+        @Test
+        void withTwoMatchers_matchesEither() {
+            CategoryMatcher matcher = LETTERS.or(DIGITS);
+            assertTrue(matcher.matches('a'));
+            assertTrue(matcher.matches('1'));
+            assertFalse(matcher.matches('!'));
+        }
+
+        @Test
+        void withNegatedMatcher_throwsException() {
+            assertThrows(IllegalStateException.class, () -> LETTERS.or(DIGITS.negate()));
+        }
+    }
+
+    @Nested
+    class Negate {
+
+        @Test
+        void withEveryBmpChar_returnsComplement() {
+            CategoryMatcher matcher = LETTERS.or(CategoryMatcher.ofRanges(0x2000, 0x20FF)).withoutAscii();
+            CategoryMatcher negated = matcher.negate();
+
+            for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+                assertNotEquals(matcher.matches(c), negated.matches(c), Integer.toHexString(c));
+            }
+        }
+    }
+
+    @Nested
+    class CountIn {
+
+        @Test
+        void withSurrogatePair_countsBothChars() {
+            assertEquals(3, LETTERS.countIn("a1𝐀😀", 0, 6));
+        }
+
+        @Test
+        void withRangeSplittingSurrogatePair_testsLoneSurrogate() {
+            assertEquals(1, LETTERS.countIn("a𝐀", 0, 2));
+            assertEquals(1, LETTERS.negate().countIn("a𝐀", 0, 2));
+        }
+    }
+
+    @Nested
+    class RetainFrom {
+
+        @Test
+        void withSurrogatePair_keepsItWhole() {
+            assertEquals("a𝐀", LETTERS.retainFrom("a1𝐀😀"));
+        }
+
+        @Test
+        void withAllMatching_returnsSameInstance() {
+            String s = "letters";
+            assertSame(s, LETTERS.retainFrom(s));
+        }
+
+        @Test
+        void withStringBuilder_appendsMatchingCodePoints() {
+            StringBuilder sb = new StringBuilder(">");
+            assertSame(sb, DIGITS.retainFrom(new StringBuilder("a1b22"), sb));
+            assertEquals(">122", sb.toString());
+        }
+    }
+
+    @Nested
+    class RemoveFrom {
+
+        @Test
+        void withNoneMatching_returnsSameInstance() {
+            String s = "!?";
+            assertSame(s, LETTERS.removeFrom(s));
+        }
+
+        @Test
+        void withStringBuilder_appendsRemainingCodePoints() {
+            StringBuilder sb = new StringBuilder();
+            assertSame(sb, DIGITS.removeFrom("a1b22c", sb));
+            assertEquals("abc", sb.toString());
+        }
+
+        @Test
+        void withNull_appendsNothing() {
+            assertEquals("", DIGITS.removeFrom(null, new StringBuilder()).toString());
+        }
+    }
+}
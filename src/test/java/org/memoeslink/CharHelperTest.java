@@ -169,6 +169,16 @@ class CharHelperTest {
     @Nested
     class IsLetter {
 
+        @Test
+        void withSupplementaryLetter_returnsTrue() {
+            assertTrue(CharHelper.isLetter(0x1D400));
+        }
+
+        @Test
+        void withInvalidCodePoint_returnsFalse() {
+            assertFalse(CharHelper.isLetter(Character.MAX_CODE_POINT + 1));
+        }
+
         @Test
         void withLetter_returnsTrue() {
             assertTrue(CharHelper.isLetter('a'));
@@ -486,6 +496,28 @@ class CharHelperTest {
     @Nested
     class IsConsonant {
 
+        @Test
+        void withAlphabetConsonant_returnsTrue() {
+            Alphabet turkish = Alphabet.register("test-turkish", "aeıioöuü", "bcçdfgğhjklmnprsştvyz");
+            assertTrue(CharHelper.isConsonant('ğ', turkish));
+            assertFalse(CharHelper.isConsonant('ı', turkish));
+        }
+
+        @Test
+        void withNullAlphabet_returnsFalse() {
+            assertFalse(CharHelper.isConsonant('b', null));
+        }
+
+        @Test
+        void withSupplementaryLetter_returnsFalse() {
+            assertFalse(CharHelper.isConsonant(0x1D41B));
+        }
+
+        @Test
+        void withInvalidCodePoint_returnsFalse() {
+            assertFalse(CharHelper.isConsonant(-1));
+        }
+
         @Test
         void withNullChar_returnsFalse() {
             assertFalse(CharHelper.isConsonant('\0'));
@@ -520,6 +552,13 @@ class CharHelperTest {
     @Nested
     class IsVowel {
 
+        @Test
+        void withAlphabetVowel_returnsTrue() {
+            Alphabet vietnamese = Alphabet.register("test-vietnamese", "aăâeêioôơuưy", "bcdđghklmnpqrstvx");
+            assertTrue(CharHelper.isVowel('ơ', vietnamese));
+            assertFalse(CharHelper.isVowel('đ', vietnamese));
+        }
+
         @Test
         void withNullChar_returnsFalse() {
             assertFalse(CharHelper.isVowel('\0'));
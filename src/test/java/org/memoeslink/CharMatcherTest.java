@@ -0,0 +1,186 @@
+package org.memoeslink;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CharMatcherTest {
+
+    @Nested
+    class Constants {
+
+        @Test
+        void withRegistryChars_matchesCharHelper() {
+            for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+                assertEquals(CharHelper.CONSONANTS.indexOf(c) != -1, CharMatcher.CONSONANTS.matches((char) c));
+                assertEquals(CharHelper.VOWELS.indexOf(c) != -1, CharMatcher.VOWELS.matches((char) c));
+                assertEquals(CharHelper.isGlobalLetter(c), CharMatcher.GLOBAL_LETTERS.matches((char) c));
+                assertEquals(CharHelper.NON_CLUSTER_CONSONANTS.indexOf(c) != -1, CharMatcher.NON_CLUSTER_CONSONANTS.matches((char) c));
+            }
+        }
+
+        @Test
+        void withAnyAndNone_matchesAccordingly() {
+            assertTrue(CharMatcher.ANY.matches('\uFFFF'));
+            assertFalse(CharMatcher.NONE.matches('\0'));
+        }
+    }
+
+    @Nested
+    class Factories {
+
+        @Test
+        void withIs_matchesOnlyThatChar() {
+            CharMatcher matcher = CharMatcher.is('ñ');
+            assertTrue(matcher.matches('ñ'));
+            assertFalse(matcher.matches('n'));
+        }
+
+        @Test
+        void withNullAnyOf_returnsNone() {
+            assertSame(CharMatcher.NONE, CharMatcher.anyOf(null));
+        }
+
+        @Test
+        void withInRange_matchesBounds() {
+            CharMatcher matcher = CharMatcher.inRange('0', '9');
+            assertTrue(matcher.matches('0'));
+            assertTrue(matcher.matches('9'));
+            assertFalse(matcher.matches('a'));
+        }
+
+        @Test
+        void withReversedRange_returnsNone() {
+            assertSame(CharMatcher.NONE, CharMatcher.inRange('z', 'a'));
+        }
+
+        @Test
+        void withPredicate_matchesPredicate() {
+            CharMatcher matcher = CharMatcher.forPredicate(CharHelper::isLetter);
+            assertTrue(matcher.matches('é'));
+            assertFalse(matcher.matches('1'));
+        }
+    }
+
+    @Nested
+    class Combinators {
+
+        @Test
+        void withOr_matchesEither() {
+            CharMatcher matcher = CharMatcher.forPredicate(Character::isLetterOrDigit).or(CharMatcher.forPredicate(CharHelper::isZeroWidthChar));
+            assertTrue(matcher.matches('a'));
+            assertTrue(matcher.matches('\u200B'));
+            assertFalse(matcher.matches(' '));
+        }
+
+        @Test
+        void withAnd_matchesBoth() {
+            CharMatcher matcher = CharMatcher.GLOBAL_LETTERS.and(CharMatcher.VOWELS.negate());
+            assertTrue(matcher.matches('é'));
+            assertFalse(matcher.matches('e'));
+        }
+
+        @Test
+        void withNegate_matchesComplement() {
+            assertFalse(CharMatcher.VOWELS.negate().matches('a'));
+            assertTrue(CharMatcher.VOWELS.negate().matches('b'));
+        }
+
+        @Test
+        void withCharPredicate_combinesAsPredicate() {
+            CharPredicate predicate = CharMatcher.VOWELS.or(CharHelper::isDigit);
+            assertTrue(predicate.test('a'));
+            assertTrue(predicate.test('1'));
+            assertFalse(predicate.test('b'));
+        }
+    }
+
+    @Nested
+    class IndexIn {
+
+        @Test
+        void withNull_returnsMinusOne() {
+            assertEquals(-1, CharMatcher.VOWELS.indexIn(null));
+        }
+
+        @Test
+        void withMatch_returnsFirstIndex() {
+            assertEquals(1, CharMatcher.VOWELS.indexIn("banana"));
+            assertEquals(3, CharMatcher.VOWELS.indexIn("banana", 2));
+        }
+
+        @Test
+        void withoutMatch_returnsMinusOne() {
+            assertEquals(-1, CharMatcher.VOWELS.indexIn("rhythm"));
+        }
+    }
+
+    @Nested
+    class CountIn {
+
+        @Test
+        void withNull_returnsZero() {
+            assertEquals(0, CharMatcher.VOWELS.countIn(null));
+        }
+
+        @Test
+        void withMatches_returnsCount() {
+            assertEquals(3, CharMatcher.VOWELS.countIn("banana"));
+        }
+    }
+
+    @Nested
+    class RetainFrom {
+
+        @Test
+        void withNull_returnsNull() {
+            assertNull(CharMatcher.VOWELS.retainFrom(null));
+        }
+
+        @Test
+        void withMixedChars_retainsMatches() {
+            assertEquals("aaa", CharMatcher.VOWELS.retainFrom("banana"));
+        }
+
+        @Test
+        void withAllMatching_returnsSameInstance() {
+            String s = "aeiou";
+            assertSame(s, CharMatcher.VOWELS.retainFrom(s));
+        }
+    }
+
+    @Nested
+    class RemoveFrom {
+
+        @Test
+        void withMixedChars_removesMatches() {
+            assertEquals("bnn", CharMatcher.VOWELS.removeFrom("banana"));
+        }
+
+        @Test
+        void withNoneMatching_returnsSameInstance() {
+            String s = "rhythm";
+            assertSame(s, CharMatcher.VOWELS.removeFrom(s));
+        }
+    }
+
+    @Nested
+    class TrimFrom {
+
+        @Test
+        void withNull_returnsNull() {
+            assertNull(CharMatcher.VOWELS.trimFrom(null));
+        }
+
+        @Test
+        void withMatchesAtEnds_trimsBothEnds() {
+            assertEquals("b", CharMatcher.VOWELS.trimFrom("aeboo"));
+        }
+
+        @Test
+        void withAllMatching_returnsEmpty() {
+            assertEquals("", CharMatcher.VOWELS.trimFrom("aeiou"));
+        }
+    }
+}
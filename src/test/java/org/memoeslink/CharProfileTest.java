@@ -0,0 +1,137 @@
+package org.memoeslink;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CharProfileTest {
+    private static final String[] SAMPLES = {
+            "",
+            "Hello, World! 123",
+            "  \t\n\u000B\f\r  \u3000",
+            "Ärger über Öl, ¿qué? ÑANDÚ 2024_-",
+            "日本語のテキスト、１２３ ٣٤٥ ⅫⅯ",
+            "\u200B\u200C\u200D\u2060\uFEFF zero",
+            "😀𝐀 x́\u0000\u007F"
+    };
+
+    private static void assertCount(ToIntFunction<String> expected, ToLongFunction<CharProfile> actual) {
+        for (String s : SAMPLES) {
+            assertEquals(expected.applyAsInt(s), actual.applyAsLong(CharProfile.of(s)), s);
+        }
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void withNull_returnsEmptyProfile() {
+            CharProfile profile = CharProfile.of(null);
+            assertEquals(0, profile.getLength());
+            assertEquals(0, profile.getLetters());
+            assertEquals(0, profile.getSpecialChars());
+        }
+
+        @Test
+        void withSamples_matchesStringFilterCounts() {
+            assertCount(String::length, CharProfile::getLength);
+            assertCount(StringFilter::countWhitespaces, CharProfile::getWhitespaces);
+            assertCount(StringFilter::countZeroWidthChars, CharProfile::getZeroWidthChars);
+            assertCount(StringFilter::countLetters, CharProfile::getLetters);
+            assertCount(StringFilter::countLowercase, CharProfile::getLowercase);
+            assertCount(StringFilter::countUppercase, CharProfile::getUppercase);
+            assertCount(StringFilter::countDigits, CharProfile::getDigits);
+            assertCount(StringFilter::countLettersOrWhitespaces, CharProfile::getLettersOrWhitespaces);
+            assertCount(StringFilter::countLettersOrDigits, CharProfile::getLettersOrDigits);
+            assertCount(StringFilter::countLettersDigitsOrWhitespaces, CharProfile::getLettersDigitsOrWhitespaces);
+            assertCount(StringFilter::countAlphabetic, CharProfile::getAlphabetic);
+            assertCount(StringFilter::countAlphabeticOrWhitespaces, CharProfile::getAlphabeticOrWhitespaces);
+            assertCount(StringFilter::countAlphabeticOrDigits, CharProfile::getAlphabeticOrDigits);
+            assertCount(StringFilter::countAlphanumericOrWhitespaces, CharProfile::getAlphanumericOrWhitespaces);
+            assertCount(StringFilter::countSpecialChars, CharProfile::getSpecialChars);
+            assertCount(StringFilter::countAscii, CharProfile::getAscii);
+            assertCount(StringFilter::countAsciiSpace, CharProfile::getAsciiSpace);
+            assertCount(StringFilter::countAsciiWhitespace, CharProfile::getAsciiWhitespace);
+            assertCount(StringFilter::countAsciiAlpha, CharProfile::getAsciiAlpha);
+            assertCount(StringFilter::countAsciiAlphaLower, CharProfile::getAsciiAlphaLower);
+            assertCount(StringFilter::countAsciiAlphaUpper, CharProfile::getAsciiAlphaUpper);
+            assertCount(StringFilter::countAsciiNumeric, CharProfile::getAsciiNumeric);
+            assertCount(StringFilter::countAsciiAlphanumeric, CharProfile::getAsciiAlphanumeric);
+            assertCount(StringFilter::countAsciiAlphanumericOrSpaces, CharProfile::getAsciiAlphanumericOrSpaces);
+            assertCount(StringFilter::countAsciiAlphanumericOrWhitespaces, CharProfile::getAsciiAlphanumericOrWhitespaces);
+            assertCount(StringFilter::countAsciiAlphaOrSpaces, CharProfile::getAsciiAlphaOrSpaces);
+            assertCount(StringFilter::countAsciiAlphaOrWhitespaces, CharProfile::getAsciiAlphaOrWhitespaces);
+        }
+    }
+
+    @Nested
+    class Accumulate {
+
+        @Test
+        void withSeveralSequences_addsTheirCounts() {
+            CharProfile profile = new CharProfile().accumulate("abc").accumulate(new StringBuilder(" 12"));
+            assertEquals(6, profile.getLength());
+            assertEquals(3, profile.getLetters());
+            assertEquals(2, profile.getDigits());
+            assertEquals(1, profile.getWhitespaces());
+        }
+
+        @Test
+        void withRange_countsOnlyTheRange() {
+            CharProfile profile = new CharProfile().accumulate("ab12  ", 1, 4);
+            assertEquals(3, profile.getLength());
+            assertEquals(1, profile.getLetters());
+            assertEquals(2, profile.getDigits());
+            assertEquals(0, profile.getWhitespaces());
+        }
+
+        @Test
+        void withInvalidRange_throwsException() {
+            assertThrows(IndexOutOfBoundsException.class, () -> new CharProfile().accumulate("abc", 2, 4));
+        }
+    }
+
+    @Nested
+    class Merge {
+
+        @Test
+        void withChunks_matchesWholeProfile() {
+            String s = String.join("", SAMPLES);
+            CharProfile whole = CharProfile.of(s);
+
+            for (int split = 0; split <= s.length(); split += 7) {
+                CharProfile merged = CharProfile.of(s.substring(0, split)).merge(CharProfile.of(s.substring(split)));
+                assertEquals(whole.getLength(), merged.getLength());
+                assertEquals(whole.getLetters(), merged.getLetters());
+                assertEquals(whole.getSpecialChars(), merged.getSpecialChars());
+                assertEquals(whole.getAsciiAlphanumericOrWhitespaces(), merged.getAsciiAlphanumericOrWhitespaces());
+                assertEquals(whole.getZeroWidthChars(), merged.getZeroWidthChars());
+            }
+        }
+    }
+
+    @Nested
+    class Reset {
+
+        @Test
+        void withFilledProfile_clearsAllCounts() {
+            CharProfile profile = CharProfile.of("Hello 123 \u200B").reset();
+            assertEquals(0, profile.getLength());
+            assertEquals(0, profile.getLetters());
+            assertEquals(0, profile.getDigits());
+            assertEquals(0, profile.getZeroWidthChars());
+            assertEquals(0, profile.getSpecialChars());
+        }
+
+        @Test
+        void withReusedProfile_allocatesNothing() {
+            String s = "Hello, World! 123 ".repeat(20);
+            CharProfile profile = new CharProfile();
+            assertEquals(0, Allocations.measure(1_000, () -> profile.reset().accumulate(s)));
+        }
+    }
+}
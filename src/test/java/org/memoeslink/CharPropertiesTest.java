@@ -0,0 +1,42 @@
+package org.memoeslink;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CharPropertiesTest {
+
+    @Nested
+    class Of {
+
+        @Test
+        void withBmpChars_matchesUnicodeData() {
+            for (int c = 0; c <= Character.MAX_VALUE; c++) {
+                assertEquals(UnicodeCharacter.isLetter(c), CharProperties.is(c, CharProperties.LETTER), () -> "letter");
+                assertEquals(UnicodeCharacter.isDigit(c), CharProperties.is(c, CharProperties.DIGIT), () -> "digit");
+                assertEquals(UnicodeCharacter.isWhitespace(c), CharProperties.is(c, CharProperties.WHITESPACE), () -> "whitespace");
+                assertEquals(UnicodeCharacter.isAlphabetic(c), CharProperties.is(c, CharProperties.ALPHABETIC), () -> "alphabetic");
+                assertEquals(UnicodeCharacter.isLowerCase(c), CharProperties.is(c, CharProperties.LOWERCASE), () -> "lowercase");
+                assertEquals(UnicodeCharacter.isUpperCase(c), CharProperties.is(c, CharProperties.UPPERCASE), () -> "uppercase");
+                assertEquals(c == ' ' || UnicodeCharacter.isSpaceChar(c), CharProperties.is(c, CharProperties.SPACE), () -> "space");
+            }
+        }
+
+        @Test
+        void withSupplementaryChars_matchesUnicodeData() {
+            int[] codePoints = {0x1D400, 0x1F600, 0x20000, 0x1D7CE, 0x10FFFF};
+
+            for (int c : codePoints) {
+                assertEquals(UnicodeCharacter.isLetter(c), CharProperties.is(c, CharProperties.LETTER));
+                assertEquals(UnicodeCharacter.isDigit(c), CharProperties.is(c, CharProperties.DIGIT));
+                assertEquals(UnicodeCharacter.isUpperCase(c), CharProperties.is(c, CharProperties.UPPERCASE));
+            }
+        }
+
+        @Test
+        void withNegativeValue_keepsAsciiSemantics() {
+            assertEquals(CharProperties.ASCII, CharProperties.of(-1));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.memoeslink;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodePointSetTest {
+
+    @Nested
+    class Of {
+
+        @Test
+        void withNull_returnsEmpty() {
+            assertSame(CodePointSet.EMPTY, CodePointSet.of((CharSequence) null));
+        }
+
+        @Test
+        void withEmpty_returnsEmpty() {
+            assertTrue(CodePointSet.of("").isEmpty());
+        }
+
+        @Test
+        void withChars_containsEachChar() {
+            CodePointSet set = CodePointSet.of("aeiouñ");
+            assertTrue(set.contains('a'));
+            assertTrue(set.contains('ñ'));
+            assertFalse(set.contains('b'));
+            assertEquals(6, set.size());
+        }
+
+        @Test
+        void withSupplementaryChars_containsCodePoints() {
+            CodePointSet set = CodePointSet.of("a😀");
+            assertTrue(set.contains(0x1F600));
+            assertFalse(set.contains(0xD83D));
+            assertEquals(2, set.size());
+        }
+
+        @Test
+        void withInvalidCodePoint_throwsException() {
+            assertThrows(IllegalArgumentException.class, () -> CodePointSet.of(-1));
+        }
+    }
+
+    @Nested
+    class OfRange {
+
+        @Test
+        void withValidRange_containsBounds() {
+            CodePointSet set = CodePointSet.ofRange('a', 'z');
+            assertTrue(set.contains('a'));
+            assertTrue(set.contains('z'));
+            assertFalse(set.contains('{'));
+            assertEquals(26, set.size());
+        }
+
+        @Test
+        void withReversedRange_returnsEmpty() {
+            assertTrue(CodePointSet.ofRange('z', 'a').isEmpty());
+        }
+    }
+
+    @Nested
+    class Contains {
+
+        @Test
+        void withOutOfRangeValues_returnsFalse() {
+            CodePointSet set = CodePointSet.of("m");
+            assertFalse(set.contains(-1));
+            assertFalse(set.contains(Integer.MAX_VALUE));
+            assertFalse(CodePointSet.EMPTY.contains(0));
+        }
+    }
+
+    @Nested
+    class Union {
+
+        @Test
+        void withDisjointSets_containsBoth() {
+            CodePointSet set = CodePointSet.of("ab").union(CodePointSet.of("ẞ"));
+            assertEquals("abẞ", set.toString());
+        }
+
+        @Test
+        void withEmptySet_returnsSameSet() {
+            CodePointSet set = CodePointSet.of("ab");
+            assertSame(set, set.union(CodePointSet.EMPTY));
+        }
+    }
+
+    @Nested
+    class EqualsAndHashCode {
+
+        @Test
+        void withSameCodePoints_areEqual() {
+            CodePointSet a = CodePointSet.of("cba");
+            CodePointSet b = CodePointSet.ofRange('a', 'c');
+            assertEquals(a, b);
+            assertEquals(a.hashCode(), b.hashCode());
+        }
+    }
+}
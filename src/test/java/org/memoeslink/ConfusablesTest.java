@@ -0,0 +1,52 @@
+package org.memoeslink;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfusablesTest {
+
+    @Nested
+    class Prototype {
+
+        @Test
+        void withPlainLatinLetter_returnsNull() {
+            assertNull(Confusables.prototype('a'));
+            assertNull(Confusables.prototype('l'));
+        }
+
+        @Test
+        void withAsciiHomoglyph_returnsPrototype() {
+            assertEquals("l", Confusables.prototype('1'));
+            assertEquals("l", Confusables.prototype('I'));
+            assertEquals("O", Confusables.prototype('0'));
+            assertEquals("rn", Confusables.prototype('m'));
+        }
+
+        @Test
+        void withCyrillicAndGreek_returnsLatinPrototype() {
+            assertEquals("a", Confusables.prototype('а'));
+            assertEquals("O", Confusables.prototype('Ο'));
+        }
+
+        @Test
+        void withFullwidthForm_returnsPrototypeOfBase() {
+            assertEquals("l", Confusables.prototype('１'));
+            assertEquals("a", Confusables.prototype('ａ'));
+            assertEquals("rn", Confusables.prototype('ｍ'));
+        }
+
+        @Test
+        void withMathematicalAlphanumeric_returnsPrototypeOfBase() {
+            assertEquals("A", Confusables.prototype(0x1D400));
+            assertEquals("O", Confusables.prototype(0x1D7CE)); // Mathematical bold digit zero
+        }
+
+        @Test
+        void withInvalidCodePoint_returnsNull() {
+            assertNull(Confusables.prototype(-1));
+            assertNull(Confusables.prototype(Character.MAX_CODE_POINT + 1));
+        }
+    }
+}
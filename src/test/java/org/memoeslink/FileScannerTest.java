@@ -0,0 +1,116 @@
+package org.memoeslink;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.IntPredicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileScannerTest {
+    private static final String TEXT = "Hello\u200B w\u00F6rld\t\u0001 \u00BFqu\u00E9? \u65E5\u672C\u8A9E \uD83D\uDE00\uD835\uDC00\uFEFF\n";
+    private static final IntPredicate[] PREDICATES = {CharHelper::isZeroWidthChar, CharHelper::isAscii, Character::isISOControl, CharHelper::isLetter};
+    @TempDir
+    Path directory;
+
+    private Path write(String name, byte[] bytes) throws IOException {
+        return Files.write(directory.resolve(name), bytes);
+    }
+
+    private Path write(String name, String s) throws IOException {
+        return write(name, s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long[] expectedCounts(String s) {
+        long[] counts = new long[PREDICATES.length];
+
+        for (int i = 0; i < PREDICATES.length; i++) {
+            counts[i] = StringFilter.countCodePoints(s, PREDICATES[i]);
+        }
+        return counts;
+    }
+
+    @Nested
+    class Count {
+
+        @Test
+        void withSinglePredicate_matchesStringCount() throws IOException {
+            String s = TEXT.repeat(100);
+            assertEquals(StringFilter.countZeroWidthChars(s), FileScanner.count(write("a.txt", s), CharHelper::isZeroWidthChar));
+        }
+
+        @Test
+        void withSeveralPredicates_countsAllInOnePass() throws IOException {
+            String s = TEXT.repeat(100);
+            assertArrayEquals(expectedCounts(s), FileScanner.count(write("a.txt", s), PREDICATES));
+        }
+
+        @Test
+        void withEmptyFile_returnsZeros() throws IOException {
+            assertArrayEquals(new long[2], FileScanner.count(write("empty.txt", ""), CharHelper::isAscii, CharHelper::isLetter));
+        }
+
+        @Test
+        void withSmallChunks_alignsToCodePoints() throws IOException {
+            String s = TEXT.repeat(3);
+            Path path = write("a.txt", s);
+
+            for (int chunkSize = 4; chunkSize < 12; chunkSize++) {
+                assertArrayEquals(expectedCounts(s), FileScanner.count(path, chunkSize, false, PREDICATES), "Chunk size " + chunkSize);
+                assertArrayEquals(expectedCounts(s), FileScanner.count(path, chunkSize, true, PREDICATES), "Chunk size " + chunkSize);
+            }
+        }
+
+        @Test
+        void withMalformedBytes_countsReplacementChars() throws IOException {
+            byte[] bytes = {'a', (byte) 0xFF, 'b', (byte) 0xC3, 'c', (byte) 0xE2, (byte) 0x82, (byte) 0xC0, (byte) 0x80, (byte) 0xED, (byte) 0xA0, (byte) 0x80, (byte) 0xF0, (byte) 0x9F};
+            long[] counts = FileScanner.count(write("bad.txt", bytes), c -> c == FileScanner.REPLACEMENT_CHAR, CharHelper::isAsciiAlpha);
+            assertArrayEquals(new long[]{7, 3}, counts);
+        }
+    }
+
+    @Nested
+    class CountParallel {
+
+        @Test
+        void withLargeFile_matchesSequentialCount() throws IOException {
+            String s = TEXT.repeat(100_000);
+            Path path = write("large.txt", s);
+            assertArrayEquals(FileScanner.count(path, PREDICATES), FileScanner.countParallel(path, PREDICATES));
+        }
+
+        @Test
+        void withSmallFile_matchesStringCounts() throws IOException {
+            assertArrayEquals(expectedCounts(TEXT), FileScanner.countParallel(write("a.txt", TEXT), PREDICATES));
+        }
+    }
+
+    @Nested
+    class Has {
+
+        @Test
+        void withMatchingCodePoint_returnsTrue() throws IOException {
+            assertTrue(FileScanner.has(write("a.txt", TEXT), CharHelper::isZeroWidthChar));
+        }
+
+        @Test
+        void withSupplementaryCodePoint_returnsTrue() throws IOException {
+            assertTrue(FileScanner.has(write("a.txt", TEXT), c -> c == 0x1F600));
+        }
+
+        @Test
+        void withNoMatchingCodePoint_returnsFalse() throws IOException {
+            assertFalse(FileScanner.has(write("a.txt", "plain ascii text"), CharHelper::isZeroWidthChar));
+        }
+
+        @Test
+        void withEmptyFile_returnsFalse() throws IOException {
+            assertFalse(FileScanner.has(write("empty.txt", ""), c -> true));
+        }
+    }
+}
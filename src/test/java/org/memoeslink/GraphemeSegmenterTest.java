@@ -0,0 +1,145 @@
+package org.memoeslink;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GraphemeSegmenterTest {
+
+    private static final Pattern GRAPHEME_PATTERN = Pattern.compile("\\X");
+    // One code point of each grapheme break value, plus a lone surrogate
+    private static final int[] SAMPLES = {'a', '\r', '\n', 0x01, 0x0300, 0x200D, 0x1F1E6, 0x0600, 0x0903, 0x1100,
+            0x1160, 0x11A8, 0xAC00, 0xAC01, 0x1F600, 0xD800, 0x00A9, 0x1F3FB};
+
+    private static String assertSameBoundaries(String s) {
+        Matcher matcher = GRAPHEME_PATTERN.matcher(s);
+        int index = 0;
+
+        while (matcher.find()) {
+            int next = GraphemeSegmenter.next(s, index);
+            assertEquals(matcher.end(), next, () -> "boundary in " + s.codePoints().mapToObj(Integer::toHexString).toList());
+            index = next;
+        }
+        assertEquals(s.length(), index);
+        return s;
+    }
+
+    @Nested
+    class Next {
+
+        @Test
+        void withCrLf_returnsSingleCluster() {
+            assertEquals(2, GraphemeSegmenter.next("\r\na", 0));
+        }
+
+        @Test
+        void withCombiningMarks_includesMarks() {
+            assertEquals(3, GraphemeSegmenter.next("é̂f", 0));
+        }
+
+        @Test
+        void withZeroWidthJoinerSequence_includesWholeSequence() {
+            String family = "👨‍👩‍👧";
+            assertEquals(family.length(), GraphemeSegmenter.next(family + "a", 0));
+        }
+
+        @Test
+        void withJoinerAfterLetter_doesNotJoinPictograph() {
+            assertEquals(2, GraphemeSegmenter.next("a‍😀", 0));
+        }
+
+        @Test
+        void withRegionalIndicators_pairsFlags() {
+            String flags = "🇲🇽🇪";
+            assertEquals(4, GraphemeSegmenter.next(flags, 0));
+            assertEquals(6, GraphemeSegmenter.next(flags, 4));
+        }
+
+        @Test
+        void withHangulJamo_joinsSyllable() {
+            assertEquals(3, GraphemeSegmenter.next("각ᄀ", 0));
+        }
+
+        @Test
+        void withRepeatedJoiners_doesNotJoinPictograph() {
+            assertEquals(3, GraphemeSegmenter.next("©\u200D\u200D©", 0));
+        }
+
+        @Test
+        void withSpacingMarkBeforeJoiner_doesNotJoinPictograph() {
+            assertEquals(4, GraphemeSegmenter.next("😀ः\u200D©", 0));
+        }
+
+        @Test
+        void withPrependBeforePictograph_joinsPictograph() {
+            assertEquals(5, GraphemeSegmenter.next("\u0600😀\u200D©", 0));
+        }
+
+        @Test
+        void withIndexAtEnd_returnsLength() {
+            assertEquals(3, GraphemeSegmenter.next("abc", 3));
+        }
+
+        @Test
+        void withAssignedPairs_matchesRegexClusters() {
+            for (int c = 0; c <= Character.MAX_VALUE; c++) {
+                if (!Character.isDefined(c)) continue; // The JDK treats unassigned code points as controls
+
+                for (int sample : SAMPLES) {
+                    assertSameBoundaries(new StringBuilder().appendCodePoint(sample).appendCodePoint(c).toString());
+                    assertSameBoundaries(new StringBuilder().appendCodePoint(c).appendCodePoint(sample).toString());
+                }
+            }
+        }
+
+        @Test
+        void withRandomSequences_matchesRegexClusters() {
+            Random random = new Random(29);
+
+            for (int i = 0; i < 20000; i++) {
+                StringBuilder sb = new StringBuilder();
+
+                for (int j = random.nextInt(8); j >= 0; j--) {
+                    int c = SAMPLES[random.nextInt(SAMPLES.length)];
+
+                    // The JDK applies GB11 whenever a cluster started with a pictograph, so joiners are tested separately
+                    if (c != 0x200D) sb.appendCodePoint(c);
+                }
+                assertSameBoundaries(sb.toString());
+            }
+        }
+    }
+
+    @Nested
+    class Count {
+
+        @Test
+        void withNull_returnsZero() {
+            assertEquals(0, GraphemeSegmenter.count(null));
+        }
+
+        @Test
+        void withMixedText_countsClusters() {
+            assertEquals(4, GraphemeSegmenter.count("éa🇲🇽\r\n"));
+        }
+    }
+
+    @Nested
+    class OffsetByGraphemes {
+
+        @Test
+        void withFewerClusters_returnsLength() {
+            assertEquals(3, GraphemeSegmenter.offsetByGraphemes("éa", 0, 5));
+        }
+
+        @Test
+        void withClusters_returnsOffset() {
+            assertEquals(2, GraphemeSegmenter.offsetByGraphemes("éa", 0, 1));
+        }
+    }
+}
@@ -3,8 +3,18 @@ package org.memoeslink;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class RegexFilterTest {
 
@@ -201,6 +211,26 @@ class RegexFilterTest {
         void withControlCharOnly_returnsEmpty() {
             assertEquals("", RegexFilter.removeCntrl("\u0001\u0002"));
         }
+
+        @Test
+        void withCleanInput_returnsSameInstance() {
+            String s = "hello world";
+            assertSame(s, RegexFilter.removeCntrl(s));
+        }
+
+        @Test
+        void withCleanInput_allocatesOnlyTheMatcher() {
+            String shortInput = "hello world";
+            String longInput = shortInput.repeat(1_000);
+            long shortBytes = Allocations.measure(100, () -> RegexFilter.removeCntrl(shortInput));
+            long longBytes = Allocations.measure(100, () -> RegexFilter.removeCntrl(longInput));
+            assertTrue(longBytes < shortBytes + longInput.length(), "Clean input should not be copied: " + longBytes + " bytes");
+        }
+
+        @Test
+        void withControlCharsBetweenRuns_keepsRunsInOrder() {
+            assertEquals("abcdef", RegexFilter.removeCntrl("\u0000ab\u0001\u0002cd\u007Fef\u001F"));
+        }
     }
 
     @Nested
@@ -1779,4 +1809,374 @@ class RegexFilterTest {
             assertEquals(1, RegexFilter.countDiacriticalLetter("café"));
         }
     }
+
+    @Nested
+    class Keep {
+
+        @Test
+        void withPattern_appendsMatchingChars() {
+            StringBuilder sb = new StringBuilder(">");
+            assertSame(sb, RegexFilter.keep("a1b2", UnicodeCharCategory.DIGIT.getPattern(), sb));
+            assertEquals(">12", sb.toString());
+        }
+
+        @Test
+        void withNullSource_appendsNothing() {
+            assertEquals("", RegexFilter.keep(null, UnicodeCharCategory.DIGIT.getPattern(), new StringBuilder()).toString());
+        }
+
+        @Test
+        void withReusedMatcher_matchesKeepMethod() {
+            Matcher matcher = UnicodeCharCategory.LETTER.getPattern().matcher("");
+            StringBuilder sb = new StringBuilder();
+
+            for (String s : new String[]{"héllo 123", "", "\uD835\uDC00x"}) {
+                sb.setLength(0);
+                assertEquals(RegexFilter.keepLetter(s), RegexFilter.keep(s, matcher, sb).toString());
+            }
+        }
+
+        @Test
+        void withReusedMatcherAndBuffer_allocatesNothing() {
+            String s = "a1 b2 c3 ".repeat(50);
+            Matcher matcher = UnicodeCharCategory.DIGIT.getPattern().matcher("");
+            StringBuilder sb = new StringBuilder(s.length());
+            assertEquals(0, Allocations.measure(1_000, () -> {
+                sb.setLength(0);
+                RegexFilter.keep(s, matcher, sb);
+            }));
+        }
+    }
+
+    @Nested
+    class Remove {
+
+        @Test
+        void withPattern_appendsRemainingChars() {
+            StringBuilder sb = new StringBuilder();
+            assertSame(sb, RegexFilter.remove("a1b22c", UnicodeCharCategory.DIGIT.getPattern(), sb));
+            assertEquals("abc", sb.toString());
+        }
+
+        @Test
+        void withReusedMatcher_matchesRemoveMethod() {
+            Matcher matcher = UnicodeCharCategory.CNTRL.getPattern().matcher("");
+            StringBuilder sb = new StringBuilder();
+
+            for (String s : new String[]{"\u0001a\u0002b\u007F", "clean", ""}) {
+                sb.setLength(0);
+                assertEquals(RegexFilter.removeCntrl(s), RegexFilter.remove(s, matcher, sb).toString());
+            }
+        }
+    }
+
+    @Nested
+    class Count {
+
+        @Test
+        void withPattern_countsMatchingChars() {
+            assertEquals(3, RegexFilter.count(new StringBuilder("a1b22"), UnicodeCharCategory.DIGIT.getPattern()));
+        }
+
+        @Test
+        void withNull_returnsZero() {
+            assertEquals(0, RegexFilter.count(null, UnicodeCharCategory.DIGIT.getPattern()));
+        }
+    }
+
+    @Nested
+    class CountInRange {
+
+        @Test
+        void withRange_countsOnlyTheRange() {
+            assertEquals(2, RegexFilter.countInRange("1a2b3c4", 1, 5, UnicodeCharCategory.DIGIT.getPattern()));
+        }
+
+        @Test
+        void withSupplementaryChars_countsTheirChars() {
+            String s = "a\uD835\uDC00b";
+            assertEquals(3, RegexFilter.countInRange(s, 1, 4, UnicodeCharCategory.LETTER.getPattern()));
+        }
+
+        @Test
+        void withInvalidRange_throwsException() {
+            assertThrows(IndexOutOfBoundsException.class, () -> RegexFilter.countInRange("abc", 2, 4, UnicodeCharCategory.DIGIT.getPattern()));
+        }
+
+        @Test
+        void withCategories_countsOnlyTheRange() {
+            assertEquals(2, RegexFilter.countInRange("1a2b3c4", 1, 5, EnumSet.of(UnicodeCharCategory.DIGIT)));
+            assertEquals(4, RegexFilter.countInRange("1a2b3c4", 1, 5, EnumSet.of(UnicodeCharCategory.DIGIT, UnicodeCharCategory.LOWER)));
+        }
+
+        @Test
+        void withCategoriesAndSupplementaryChars_countsTheirChars() {
+            String s = "a\uD835\uDC00b";
+            assertEquals(3, RegexFilter.countInRange(s, 1, 4, EnumSet.of(UnicodeCharCategory.LETTER)));
+            assertEquals(1, RegexFilter.countInRange(s, 0, 2, EnumSet.of(UnicodeCharCategory.SURROGATE)));
+        }
+
+        @Test
+        void withCategories_matchesPatternCount() {
+            String s = "Hola, señor 123 ¿qué? ٣٤٥ ½ €";
+            EnumSet<UnicodeCharCategory> categories = EnumSet.of(UnicodeCharCategory.LETTER, UnicodeCharCategory.NUMBER);
+            Pattern pattern = Pattern.compile("[" + UnicodeCharCategory.LETTER_REGEX + UnicodeCharCategory.NUMBER_REGEX + "]");
+
+            for (int start = 0; start <= s.length(); start += 3) {
+                for (int end = start; end <= s.length(); end += 2) {
+                    assertEquals(RegexFilter.countInRange(s, start, end, pattern), RegexFilter.countInRange(s, start, end, categories), start + ".." + end);
+                }
+            }
+        }
+
+        @Test
+        void withCategoriesAndInvalidRange_throwsException() {
+            assertThrows(IndexOutOfBoundsException.class, () -> RegexFilter.countInRange("abc", 2, 4, EnumSet.of(UnicodeCharCategory.DIGIT)));
+        }
+    }
+
+    @Nested
+    class KeepCategories {
+
+        @Test
+        void withNull_returnsNull() {
+            assertNull(RegexFilter.keep(null, EnumSet.of(UnicodeCharCategory.LETTER, UnicodeCharCategory.DIGIT)));
+        }
+
+        @Test
+        void withUnion_keepsCharsOfAnyCategory() {
+            EnumSet<UnicodeCharCategory> categories = EnumSet.of(UnicodeCharCategory.LETTER, UnicodeCharCategory.DIGIT);
+            assertEquals("héllo123", RegexFilter.keep("héllo, 123!", categories));
+        }
+
+        @Test
+        void withSingleCategory_matchesKeepMethod() {
+            String s = "Héllo, Wörld 𝐀 ½";
+            assertEquals(RegexFilter.keepUppercaseLetter(s), RegexFilter.keep(s, EnumSet.of(UnicodeCharCategory.UPPERCASE_LETTER)));
+        }
+
+        @Test
+        void withLetterDigitAndSpace_matchesKeepAlphanumericSpace() {
+            String s = "Héllo,\tWörld 123 ½!";
+            EnumSet<UnicodeCharCategory> categories = EnumSet.of(UnicodeCharCategory.LETTER, UnicodeCharCategory.DIGIT,
+                    UnicodeCharCategory.SPACE);
+            assertEquals(RegexFilter.keepAlphanumericSpace(s), RegexFilter.keep(s, categories));
+        }
+
+        @Test
+        void withEmptySet_returnsEmptyString() {
+            assertEquals("", RegexFilter.keep("abc", EnumSet.noneOf(UnicodeCharCategory.class)));
+        }
+
+        @Test
+        void withSetModifiedAfterCall_usesCurrentCategories() {
+            EnumSet<UnicodeCharCategory> categories = EnumSet.of(UnicodeCharCategory.DIGIT, UnicodeCharCategory.LOWER);
+            assertEquals("a1", RegexFilter.keep("a1_", categories));
+            categories.add(UnicodeCharCategory.CONNECTOR_PUNCTUATION);
+            assertEquals("a1_", RegexFilter.keep("a1_", categories));
+            categories.remove(UnicodeCharCategory.LOWER);
+            assertEquals("1_", RegexFilter.keep("a1_", categories));
+        }
+    }
+
+    @Nested
+    class RemoveCategories {
+
+        @Test
+        void withUnion_removesCharsOfAnyCategory() {
+            EnumSet<UnicodeCharCategory> categories = EnumSet.of(UnicodeCharCategory.PUNCTUATION, UnicodeCharCategory.SPACE);
+            assertEquals("héllo123", RegexFilter.remove("héllo, 123!", categories));
+        }
+
+        @Test
+        void withEmptySet_returnsSameString() {
+            String s = "abc";
+            assertSame(s, RegexFilter.remove(s, EnumSet.noneOf(UnicodeCharCategory.class)));
+        }
+    }
+
+    @Nested
+    class CountCategories {
+
+        @Test
+        void withUnion_countsCharsOfAnyCategory() {
+            EnumSet<UnicodeCharCategory> categories = EnumSet.of(UnicodeCharCategory.LETTER, UnicodeCharCategory.DIGIT);
+            assertEquals(10, RegexFilter.count("héllo, 123! 𝐀", categories));
+        }
+
+        @Test
+        void withNull_returnsZero() {
+            assertEquals(0, RegexFilter.count(null, EnumSet.of(UnicodeCharCategory.LETTER)));
+        }
+
+        @Test
+        void withCachedUnion_countsWithoutAllocating() {
+            String s = "Hello, Wörld! 123 ".repeat(50);
+            EnumSet<UnicodeCharCategory> categories = EnumSet.of(UnicodeCharCategory.LETTER, UnicodeCharCategory.NUMBER);
+            assertEquals(0, Allocations.measure(1_000, () -> RegexFilter.count(s, categories)));
+        }
+
+        @Test
+        void withMoreUnionsThanCached_cachesLatestUnion() {
+            String s = "Hello, Wörld! 123 ".repeat(50);
+            UnicodeCharCategory[] values = UnicodeCharCategory.values();
+
+            for (int i = 1; i < values.length; i++) {
+                for (int j = 0; j < 2; j++) {
+                    EnumSet<UnicodeCharCategory> categories = EnumSet.of(values[i - 1], values[i], values[j]);
+                    assertEquals(RegexFilter.count(s, categories), RegexFilter.keep(s, categories).length());
+                }
+            }
+            EnumSet<UnicodeCharCategory> latest = EnumSet.of(UnicodeCharCategory.LETTER, UnicodeCharCategory.SYMBOL, UnicodeCharCategory.DIGIT);
+            RegexFilter.count(s, latest);
+            assertEquals(0, Allocations.measure(1_000, () -> RegexFilter.count(s, latest)));
+        }
+    }
+
+    @Nested
+    class CategoryFilters {
+        private static final Object[][] FILTERS = {
+                {UnicodeCharCategory.ALNUM.getPattern(), UnicodeCharCategory.ALNUM.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepAlnum, (UnaryOperator<String>) RegexFilter::removeAlnum, (ToIntFunction<String>) RegexFilter::countAlnum},
+                {UnicodeCharCategory.ALPHA.getPattern(), UnicodeCharCategory.ALPHA.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepAlpha, (UnaryOperator<String>) RegexFilter::removeAlpha, (ToIntFunction<String>) RegexFilter::countAlpha},
+                {UnicodeCharCategory.ASCII.getPattern(), UnicodeCharCategory.ASCII.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepAscii, (UnaryOperator<String>) RegexFilter::removeAscii, (ToIntFunction<String>) RegexFilter::countAscii},
+                {UnicodeCharCategory.BLANK.getPattern(), UnicodeCharCategory.BLANK.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepBlank, (UnaryOperator<String>) RegexFilter::removeBlank, (ToIntFunction<String>) RegexFilter::countBlank},
+                {UnicodeCharCategory.CNTRL.getPattern(), UnicodeCharCategory.CNTRL.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepCntrl, (UnaryOperator<String>) RegexFilter::removeCntrl, (ToIntFunction<String>) RegexFilter::countCntrl},
+                {UnicodeCharCategory.DIGIT.getPattern(), UnicodeCharCategory.DIGIT.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepDigit, (UnaryOperator<String>) RegexFilter::removeDigit, (ToIntFunction<String>) RegexFilter::countDigit},
+                {UnicodeCharCategory.LOWER.getPattern(), UnicodeCharCategory.LOWER.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepLower, (UnaryOperator<String>) RegexFilter::removeLower, (ToIntFunction<String>) RegexFilter::countLower},
+                {UnicodeCharCategory.UPPER.getPattern(), UnicodeCharCategory.UPPER.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepUpper, (UnaryOperator<String>) RegexFilter::removeUpper, (ToIntFunction<String>) RegexFilter::countUpper},
+                {UnicodeCharCategory.PUNCT.getPattern(), UnicodeCharCategory.PUNCT.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepPunct, (UnaryOperator<String>) RegexFilter::removePunct, (ToIntFunction<String>) RegexFilter::countPunct},
+                {UnicodeCharCategory.GRAPH.getPattern(), UnicodeCharCategory.GRAPH.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepGraph, (UnaryOperator<String>) RegexFilter::removeGraph, (ToIntFunction<String>) RegexFilter::countGraph},
+                {UnicodeCharCategory.PRINT.getPattern(), UnicodeCharCategory.PRINT.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepPrint, (UnaryOperator<String>) RegexFilter::removePrint, (ToIntFunction<String>) RegexFilter::countPrint},
+                {UnicodeCharCategory.SPACE.getPattern(), UnicodeCharCategory.SPACE.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepSpace, (UnaryOperator<String>) RegexFilter::removeSpace, (ToIntFunction<String>) RegexFilter::countSpace},
+                {UnicodeCharCategory.XDIGIT.getPattern(), UnicodeCharCategory.XDIGIT.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepXDigit, (UnaryOperator<String>) RegexFilter::removeXDigit, (ToIntFunction<String>) RegexFilter::countXDigit},
+                {UnicodeCharCategory.LETTER.getPattern(), UnicodeCharCategory.LETTER.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepLetter, (UnaryOperator<String>) RegexFilter::removeLetter, (ToIntFunction<String>) RegexFilter::countLetter},
+                {UnicodeCharCategory.LOWERCASE_LETTER.getPattern(), UnicodeCharCategory.LOWERCASE_LETTER.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepLowercaseLetter, (UnaryOperator<String>) RegexFilter::removeLowercaseLetter, (ToIntFunction<String>) RegexFilter::countLowercaseLetter},
+                {UnicodeCharCategory.UPPERCASE_LETTER.getPattern(), UnicodeCharCategory.UPPERCASE_LETTER.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepUppercaseLetter, (UnaryOperator<String>) RegexFilter::removeUppercaseLetter, (ToIntFunction<String>) RegexFilter::countUppercaseLetter},
+                {UnicodeCharCategory.TITLECASE_LETTER.getPattern(), UnicodeCharCategory.TITLECASE_LETTER.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepTitlecaseLetter, (UnaryOperator<String>) RegexFilter::removeTitlecaseLetter, (ToIntFunction<String>) RegexFilter::countTitlecaseLetter},
+                {UnicodeCharCategory.CASED_LETTER.getPattern(), UnicodeCharCategory.CASED_LETTER.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepCasedLetter, (UnaryOperator<String>) RegexFilter::removeCasedLetter, (ToIntFunction<String>) RegexFilter::countCasedLetter},
+                {UnicodeCharCategory.MODIFIER_LETTER.getPattern(), UnicodeCharCategory.MODIFIER_LETTER.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepModifierLetter, (UnaryOperator<String>) RegexFilter::removeModifierLetter, (ToIntFunction<String>) RegexFilter::countModifierLetter},
+                {UnicodeCharCategory.OTHER_LETTER.getPattern(), UnicodeCharCategory.OTHER_LETTER.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepOtherLetter, (UnaryOperator<String>) RegexFilter::removeOtherLetter, (ToIntFunction<String>) RegexFilter::countOtherLetter},
+                {UnicodeCharCategory.MARK.getPattern(), UnicodeCharCategory.MARK.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepMark, (UnaryOperator<String>) RegexFilter::removeMark, (ToIntFunction<String>) RegexFilter::countMark},
+                {UnicodeCharCategory.NON_SPACING_MARK.getPattern(), UnicodeCharCategory.NON_SPACING_MARK.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepNonSpacingMark, (UnaryOperator<String>) RegexFilter::removeNonSpacingMark, (ToIntFunction<String>) RegexFilter::countNonSpacingMark},
+                {UnicodeCharCategory.SPACING_COMBINING_MARK.getPattern(), UnicodeCharCategory.SPACING_COMBINING_MARK.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepSpacingCombiningMark, (UnaryOperator<String>) RegexFilter::removeSpacingCombiningMark, (ToIntFunction<String>) RegexFilter::countSpacingCombiningMark},
+                {UnicodeCharCategory.ENCLOSING_MARK.getPattern(), UnicodeCharCategory.ENCLOSING_MARK.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepEnclosingMark, (UnaryOperator<String>) RegexFilter::removeEnclosingMark, (ToIntFunction<String>) RegexFilter::countEnclosingMark},
+                {UnicodeCharCategory.SEPARATOR.getPattern(), UnicodeCharCategory.SEPARATOR.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepSeparator, (UnaryOperator<String>) RegexFilter::removeSeparator, (ToIntFunction<String>) RegexFilter::countSeparator},
+                {UnicodeCharCategory.SPACE_SEPARATOR.getPattern(), UnicodeCharCategory.SPACE_SEPARATOR.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepSpaceSeparator, (UnaryOperator<String>) RegexFilter::removeSpaceSeparator, (ToIntFunction<String>) RegexFilter::countSpaceSeparator},
+                {UnicodeCharCategory.LINE_SEPARATOR.getPattern(), UnicodeCharCategory.LINE_SEPARATOR.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepLineSeparator, (UnaryOperator<String>) RegexFilter::removeLineSeparator, (ToIntFunction<String>) RegexFilter::countLineSeparator},
+                {UnicodeCharCategory.PARAGRAPH_SEPARATOR.getPattern(), UnicodeCharCategory.PARAGRAPH_SEPARATOR.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepParagraphSeparator, (UnaryOperator<String>) RegexFilter::removeParagraphSeparator, (ToIntFunction<String>) RegexFilter::countParagraphSeparator},
+                {UnicodeCharCategory.SYMBOL.getPattern(), UnicodeCharCategory.SYMBOL.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepSymbol, (UnaryOperator<String>) RegexFilter::removeSymbol, (ToIntFunction<String>) RegexFilter::countSymbol},
+                {UnicodeCharCategory.MATH_SYMBOL.getPattern(), UnicodeCharCategory.MATH_SYMBOL.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepMathSymbol, (UnaryOperator<String>) RegexFilter::removeMathSymbol, (ToIntFunction<String>) RegexFilter::countMathSymbol},
+                {UnicodeCharCategory.CURRENCY_SYMBOL.getPattern(), UnicodeCharCategory.CURRENCY_SYMBOL.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepCurrencySymbol, (UnaryOperator<String>) RegexFilter::removeCurrencySymbol, (ToIntFunction<String>) RegexFilter::countCurrencySymbol},
+                {UnicodeCharCategory.MODIFIER_SYMBOL.getPattern(), UnicodeCharCategory.MODIFIER_SYMBOL.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepModifierSymbol, (UnaryOperator<String>) RegexFilter::removeModifierSymbol, (ToIntFunction<String>) RegexFilter::countModifierSymbol},
+                {UnicodeCharCategory.OTHER_SYMBOL.getPattern(), UnicodeCharCategory.OTHER_SYMBOL.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepOtherSymbol, (UnaryOperator<String>) RegexFilter::removeOtherSymbol, (ToIntFunction<String>) RegexFilter::countOtherSymbol},
+                {UnicodeCharCategory.NUMBER.getPattern(), UnicodeCharCategory.NUMBER.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepNumber, (UnaryOperator<String>) RegexFilter::removeNumber, (ToIntFunction<String>) RegexFilter::countNumber},
+                {UnicodeCharCategory.DECIMAL_DIGIT_NUMBER.getPattern(), UnicodeCharCategory.DECIMAL_DIGIT_NUMBER.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepDecimalDigitNumber, (UnaryOperator<String>) RegexFilter::removeDecimalDigitNumber, (ToIntFunction<String>) RegexFilter::countDecimalDigitNumber},
+                {UnicodeCharCategory.LETTER_NUMBER.getPattern(), UnicodeCharCategory.LETTER_NUMBER.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepLetterNumber, (UnaryOperator<String>) RegexFilter::removeLetterNumber, (ToIntFunction<String>) RegexFilter::countLetterNumber},
+                {UnicodeCharCategory.OTHER_NUMBER.getPattern(), UnicodeCharCategory.OTHER_NUMBER.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepOtherNumber, (UnaryOperator<String>) RegexFilter::removeOtherNumber, (ToIntFunction<String>) RegexFilter::countOtherNumber},
+                {UnicodeCharCategory.PUNCTUATION.getPattern(), UnicodeCharCategory.PUNCTUATION.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepPunctuation, (UnaryOperator<String>) RegexFilter::removePunctuation, (ToIntFunction<String>) RegexFilter::countPunctuation},
+                {UnicodeCharCategory.DASH_PUNCTUATION.getPattern(), UnicodeCharCategory.DASH_PUNCTUATION.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepDashPunctuation, (UnaryOperator<String>) RegexFilter::removeDashPunctuation, (ToIntFunction<String>) RegexFilter::countDashPunctuation},
+                {UnicodeCharCategory.OPEN_PUNCTUATION.getPattern(), UnicodeCharCategory.OPEN_PUNCTUATION.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepOpenPunctuation, (UnaryOperator<String>) RegexFilter::removeOpenPunctuation, (ToIntFunction<String>) RegexFilter::countOpenPunctuation},
+                {UnicodeCharCategory.CLOSE_PUNCTUATION.getPattern(), UnicodeCharCategory.CLOSE_PUNCTUATION.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepClosePunctuation, (UnaryOperator<String>) RegexFilter::removeClosePunctuation, (ToIntFunction<String>) RegexFilter::countClosePunctuation},
+                {UnicodeCharCategory.INITIAL_PUNCTUATION.getPattern(), UnicodeCharCategory.INITIAL_PUNCTUATION.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepInitialPunctuation, (UnaryOperator<String>) RegexFilter::removeInitialPunctuation, (ToIntFunction<String>) RegexFilter::countInitialPunctuation},
+                {UnicodeCharCategory.FINAL_PUNCTUATION.getPattern(), UnicodeCharCategory.FINAL_PUNCTUATION.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepFinalPunctuation, (UnaryOperator<String>) RegexFilter::removeFinalPunctuation, (ToIntFunction<String>) RegexFilter::countFinalPunctuation},
+                {UnicodeCharCategory.CONNECTOR_PUNCTUATION.getPattern(), UnicodeCharCategory.CONNECTOR_PUNCTUATION.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepConnectorPunctuation, (UnaryOperator<String>) RegexFilter::removeConnectorPunctuation, (ToIntFunction<String>) RegexFilter::countConnectorPunctuation},
+                {UnicodeCharCategory.OTHER_PUNCTUATION.getPattern(), UnicodeCharCategory.OTHER_PUNCTUATION.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepOtherPunctuation, (UnaryOperator<String>) RegexFilter::removeOtherPunctuation, (ToIntFunction<String>) RegexFilter::countOtherPunctuation},
+                {UnicodeCharCategory.OTHER.getPattern(), UnicodeCharCategory.OTHER.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepOther, (UnaryOperator<String>) RegexFilter::removeOther, (ToIntFunction<String>) RegexFilter::countOther},
+                {UnicodeCharCategory.CONTROL.getPattern(), UnicodeCharCategory.CONTROL.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepControl, (UnaryOperator<String>) RegexFilter::removeControl, (ToIntFunction<String>) RegexFilter::countControl},
+                {UnicodeCharCategory.FORMAT.getPattern(), UnicodeCharCategory.FORMAT.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepFormat, (UnaryOperator<String>) RegexFilter::removeFormat, (ToIntFunction<String>) RegexFilter::countFormat},
+                {UnicodeCharCategory.PRIVATE_USE.getPattern(), UnicodeCharCategory.PRIVATE_USE.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepPrivateUse, (UnaryOperator<String>) RegexFilter::removePrivateUse, (ToIntFunction<String>) RegexFilter::countPrivateUse},
+                {UnicodeCharCategory.SURROGATE.getPattern(), UnicodeCharCategory.SURROGATE.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepSurrogate, (UnaryOperator<String>) RegexFilter::removeSurrogate, (ToIntFunction<String>) RegexFilter::countSurrogate},
+                {UnicodeCharCategory.UNASSIGNED.getPattern(), UnicodeCharCategory.UNASSIGNED.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepUnassigned, (UnaryOperator<String>) RegexFilter::removeUnassigned, (ToIntFunction<String>) RegexFilter::countUnassigned},
+                {UnicodeCharCategory.ZERO_WIDTH_CHAR.getPattern(), UnicodeCharCategory.ZERO_WIDTH_CHAR.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepZWChar, (UnaryOperator<String>) RegexFilter::removeZWChar, (ToIntFunction<String>) RegexFilter::countZWChar},
+                {UnicodeCharCategory.DIACRITICAL_LETTER.getPattern(), UnicodeCharCategory.DIACRITICAL_LETTER.getExceptPattern(), (UnaryOperator<String>) RegexFilter::keepDiacriticalLetter, (UnaryOperator<String>) RegexFilter::removeDiacriticalLetter, (ToIntFunction<String>) RegexFilter::countDiacriticalLetter},
+                {Pattern.compile("[" + UnicodeCharCategory.ALNUM_REGEX + UnicodeCharCategory.SPACE_REGEX + "]"), Pattern.compile("[^" + UnicodeCharCategory.ALNUM_REGEX + UnicodeCharCategory.SPACE_REGEX + "]"), (UnaryOperator<String>) RegexFilter::keepAlnumSpace, (UnaryOperator<String>) RegexFilter::removeAlnumSpace, (ToIntFunction<String>) RegexFilter::countAlnumSpace},
+                {Pattern.compile("[" + UnicodeCharCategory.LETTER_REGEX + UnicodeCharCategory.DIGIT_REGEX + "]"), Pattern.compile("[^" + UnicodeCharCategory.LETTER_REGEX + UnicodeCharCategory.DIGIT_REGEX + "]"), (UnaryOperator<String>) RegexFilter::keepAlphanumeric, (UnaryOperator<String>) RegexFilter::removeAlphanumeric, (ToIntFunction<String>) RegexFilter::countAlphanumeric},
+                {Pattern.compile("[" + UnicodeCharCategory.LETTER_REGEX + UnicodeCharCategory.DIGIT_REGEX + UnicodeCharCategory.SPACE_REGEX + "]"), Pattern.compile("[^" + UnicodeCharCategory.LETTER_REGEX + UnicodeCharCategory.DIGIT_REGEX + UnicodeCharCategory.SPACE_REGEX + "]"), (UnaryOperator<String>) RegexFilter::keepAlphanumericSpace, (UnaryOperator<String>) RegexFilter::removeAlphanumericSpace, (ToIntFunction<String>) RegexFilter::countAlphanumericSpace}
+        };
+
+        private static String text() {
+            StringBuilder sb = new StringBuilder();
+
+            for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+                sb.append((char) c);
+            }
+
+            for (int c = Character.MIN_SUPPLEMENTARY_CODE_POINT; c <= Character.MAX_CODE_POINT; c += 31) {
+                sb.appendCodePoint(c);
+            }
+            Random random = new Random(21);
+            String alphabet = "a1 \u00E9\u0301_\uD835\uDC00\uD83D\uDE00\uDC00\uD800\u200B\u00A0";
+
+            for (int i = 0; i < 10_000; i++) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            return sb.toString();
+        }
+
+        private static String filter(String s, Pattern pattern) {
+            return RegexFilter.keep(s, pattern, new StringBuilder()).toString();
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void withEveryCodePoint_matchesPatterns() {
+            String s = text();
+
+            for (Object[] filter : FILTERS) {
+                Pattern pattern = (Pattern) filter[0];
+                Pattern exceptPattern = (Pattern) filter[1];
+                assertEquals(filter(s, pattern), ((UnaryOperator<String>) filter[2]).apply(s), pattern.pattern());
+                assertEquals(filter(s, exceptPattern), ((UnaryOperator<String>) filter[3]).apply(s), exceptPattern.pattern());
+            }
+        }
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void withEveryCodePoint_countsMatchFilteredLength() {
+            String s = text();
+
+            for (Object[] filter : FILTERS) {
+                Pattern pattern = (Pattern) filter[0];
+                assertEquals(filter(s, pattern).length(), ((ToIntFunction<String>) filter[4]).applyAsInt(s), pattern.pattern());
+                assertEquals(filter(s, pattern).length(), RegexFilter.count(s, pattern), pattern.pattern());
+            }
+        }
+
+        @Test
+        void withLongText_countsWithoutAllocating() {
+            String s = "Hello, Wörld! 123 ".repeat(50);
+            assertEquals(0, Allocations.measure(1_000, () -> RegexFilter.countLetter(s)));
+        }
+
+        @Test
+        void withRandomCategorySets_matchUnionPatterns() {
+            String s = text();
+            UnicodeCharCategory[] values = UnicodeCharCategory.values();
+            Random random = new Random(24);
+
+            for (int i = 0; i < 40; i++) {
+                EnumSet<UnicodeCharCategory> categories = EnumSet.noneOf(UnicodeCharCategory.class);
+                StringBuilder regex = new StringBuilder("[");
+
+                for (int j = 1 + random.nextInt(4); j > 0; j--) {
+                    UnicodeCharCategory category = values[random.nextInt(values.length)];
+                    categories.add(category);
+                    regex.append(category.getRegex());
+                }
+                Pattern pattern = Pattern.compile(regex.append(']').toString());
+                String kept = filter(s, pattern);
+                assertEquals(kept, RegexFilter.keep(s, categories), pattern.pattern());
+                assertEquals(filter(s, Pattern.compile("[^" + pattern.pattern().substring(1))), RegexFilter.remove(s, categories), pattern.pattern());
+                assertEquals(kept.length(), RegexFilter.count(s, categories), pattern.pattern());
+            }
+        }
+
+        @Test
+        void withLoneSurrogates_matchesPatterns() {
+            String s = "\uDC00a\uD800\uD835\uDC00\uDC00\uD800";
+            assertEquals(filter(s, UnicodeCharCategory.SURROGATE.getPattern()), RegexFilter.keepSurrogate(s));
+            assertEquals(filter(s, UnicodeCharCategory.SURROGATE.getExceptPattern()), RegexFilter.removeSurrogate(s));
+            assertEquals("\uDC00\uD800\uDC00\uD800", RegexFilter.keepSurrogate(s));
+        }
+    }
 }
@@ -0,0 +1,147 @@
+package org.memoeslink;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SanitizerTest {
+    private static final Sanitizer INGESTION = Sanitizer.builder()
+            .removeZeroWidthChars()
+            .removeCntrl()
+            .removeFormat()
+            .stripAccents()
+            .collapseWhitespaces()
+            .trim()
+            .build();
+    private static final String[] SAMPLES = {
+            "",
+            " ",
+            "plain text",
+            "  Crème brûlée\u200B at the café\t\n ",
+            "\u0001Ångström\u007F\u00A0and  Ærøskøbing ",
+            "Ελληνικά ἄλφα, русский й, 한국어 한",
+            "e\u0301 a\u0308\u0323 o\u0591\u0301 ﬁ Ω",
+            "soft\u00ADhyphen\u202Eright\u202C \uD834\uDD5E \uDB40\uDC01tag",
+            "\uD800 lone \uDC00 surrogates ",
+            "\u3000 ideographic\u2003space  "
+    };
+    private static final String[] BENCHMARK_INPUTS = { // The inputs of tools/SanitizerBenchmark.java
+            "The quick brown fox jumps over the lazy dog. ".repeat(40),
+            "  Crème brûlée\u200B at the café,\tÅngström  and Ærøskøbing. ".repeat(30),
+            "Ελληνικά ἄλφα\u00AD русский й\u0001 한국어 e\u0301 ﬁ\u3000 ".repeat(40)
+    };
+
+    private static String chain(String s) {
+        s = StringFilter.removeZeroWidthSpaces(s);
+        s = RegexFilter.removeCntrl(s);
+        s = RegexFilter.removeFormat(s);
+        s = StringHelper.stripAccents(s);
+        s = s.replaceAll("\\p{javaWhitespace}+", " ");
+        return StringHelper.trim(s);
+    }
+
+    @Nested
+    class Sanitize {
+
+        @Test
+        void withNull_returnsNull() {
+            assertNull(INGESTION.sanitize(null));
+        }
+
+        @Test
+        void withSamples_matchesChainedCalls() {
+            for (String s : SAMPLES) {
+                assertEquals(chain(s), INGESTION.sanitize(s), s);
+            }
+        }
+
+        @Test
+        void withBenchmarkInputs_matchesChainedCalls() {
+            for (String s : BENCHMARK_INPUTS) {
+                assertEquals(chain(s), INGESTION.sanitize(s), s);
+            }
+        }
+
+        @Test
+        void withRandomText_matchesChainedCalls() {
+            Random random = new Random(18);
+            String alphabet = String.join("", SAMPLES);
+
+            for (int i = 0; i < 2_000; i++) {
+                StringBuilder sb = new StringBuilder();
+
+                for (int j = random.nextInt(12); j > 0; j--) {
+                    sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                String s = sb.toString();
+                assertEquals(chain(s), INGESTION.sanitize(s), s);
+            }
+        }
+
+        @Test
+        void withCleanInput_returnsSameInstance() {
+            String s = "already clean text";
+            assertSame(s, INGESTION.sanitize(s));
+        }
+
+        @Test
+        void withNoSteps_returnsSameInstance() {
+            String s = " \u200Bcafé\t";
+            assertSame(s, Sanitizer.builder().build().sanitize(s));
+        }
+
+        @Test
+        void withCollapseOnly_keepsEdgeSpaces() {
+            Sanitizer sanitizer = Sanitizer.builder().collapseWhitespaces().build();
+            assertEquals(" a b ", sanitizer.sanitize("\t a \n\n b  "));
+        }
+
+        @Test
+        void withTrimOnly_matchesStringTrim() {
+            Sanitizer sanitizer = Sanitizer.builder().trim().build();
+
+            for (String s : SAMPLES) {
+                assertEquals(s.trim(), sanitizer.sanitize(s), s);
+            }
+        }
+
+        @Test
+        void withCustomPredicate_removesMatchingCodePoints() {
+            Sanitizer sanitizer = Sanitizer.builder().remove(CharHelper::isDigit).remove(c -> c == 0x1F600).build();
+            assertEquals("ab", sanitizer.sanitize("a1\uD83D\uDE00b2"));
+        }
+
+        @Test
+        void withStripAccents_removesByBaseLetter() {
+            Sanitizer sanitizer = Sanitizer.builder().remove(c -> c == 'e').stripAccents().build();
+            assertEquals("caf ", sanitizer.sanitize("café é"));
+            assertEquals("caf  α", sanitizer.sanitize("café é ά")); // The Greek letter forces a full decomposition
+            assertEquals("caf  α", sanitizer.sanitize(new StringBuilder("café é ά"), new StringBuilder()).toString());
+        }
+
+        @Test
+        void withStringBuilder_appendsSanitizedText() {
+            StringBuilder sb = new StringBuilder("x:");
+            assertSame(sb, INGESTION.sanitize(new StringBuilder("  Café\u200B  "), sb));
+            assertEquals("x:Cafe", sb.toString());
+        }
+    }
+
+    @Nested
+    class StripAccents {
+
+        @Test
+        void withEveryBmpChar_matchesStringHelper() {
+            Sanitizer sanitizer = Sanitizer.builder().stripAccents().build();
+
+            for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+                if (Character.isSurrogate((char) c)) continue;
+                String s = "a" + (char) c + "\u0301";
+                assertEquals(StringHelper.stripAccents(s), sanitizer.sanitize(s), () -> Integer.toHexString(s.charAt(1)));
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package org.memoeslink;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ScriptProfileTest {
+
+    @Nested
+    class Of {
+
+        @Test
+        void withNull_returnsEmptyProfile() {
+            ScriptProfile profile = ScriptProfile.of(null);
+            assertTrue(profile.getCounts().isEmpty());
+            assertEquals(Character.UnicodeScript.COMMON, profile.getDominantScript());
+            assertFalse(profile.isMixed());
+        }
+
+        @Test
+        void withLatinText_returnsLatin() {
+            ScriptProfile profile = ScriptProfile.of("Hola, señor 123");
+            assertEquals(Character.UnicodeScript.LATIN, profile.getDominantScript());
+            assertEquals(9, profile.getCount(Character.UnicodeScript.LATIN));
+            assertEquals(6, profile.getCount(Character.UnicodeScript.COMMON));
+            assertFalse(profile.isMixed());
+        }
+
+        @Test
+        void withMixedText_returnsMixedWithDominant() {
+            ScriptProfile profile = ScriptProfile.of("Привет world");
+            assertTrue(profile.isMixed());
+            assertEquals(2, profile.getScriptCount());
+            assertEquals(Character.UnicodeScript.CYRILLIC, profile.getDominantScript());
+            assertEquals(Map.of(Character.UnicodeScript.CYRILLIC, 6, Character.UnicodeScript.LATIN, 5, Character.UnicodeScript.COMMON, 1), profile.getCounts());
+        }
+
+        @Test
+        void withSupplementaryHan_countsCodePoints() {
+            ScriptProfile profile = ScriptProfile.of("𠀀漢");
+            assertEquals(2, profile.getCount(Character.UnicodeScript.HAN));
+        }
+
+        @Test
+        void withJapaneseSentence_returnsSingleScript() {
+            ScriptProfile profile = ScriptProfile.of("日本語のテキストです");
+            assertFalse(profile.isMixed());
+            assertEquals(1, profile.getScriptCount());
+            assertEquals(Character.UnicodeScript.KATAKANA, profile.getDominantScript());
+            assertEquals(4, profile.getCount(Character.UnicodeScript.KATAKANA));
+        }
+
+        @Test
+        void withKoreanSentence_returnsSingleScript() {
+            ScriptProfile profile = ScriptProfile.of("한국어 漢字");
+            assertFalse(profile.isMixed());
+            assertEquals(Character.UnicodeScript.HANGUL, profile.getDominantScript());
+            assertEquals(Character.UnicodeScript.HAN, ScriptProfile.of("漢字한").getDominantScript());
+            assertEquals(Character.UnicodeScript.HANGUL, ScriptProfile.of("안녕하세요").getDominantScript());
+        }
+
+        @Test
+        void withKanaOnly_returnsKanaScript() {
+            ScriptProfile profile = ScriptProfile.of("ひらがなカタカナです");
+            assertFalse(profile.isMixed());
+            assertEquals(Character.UnicodeScript.HIRAGANA, profile.getDominantScript());
+            assertEquals(0, profile.getCount(Character.UnicodeScript.HAN));
+        }
+
+        @Test
+        void withJapaneseSentenceAndLatinWord_addsUpJapaneseScripts() {
+            ScriptProfile profile = ScriptProfile.of("Tokyo 東京のカフェ");
+            assertTrue(profile.isMixed());
+            assertEquals(Character.UnicodeScript.KATAKANA, profile.getDominantScript());
+        }
+
+        @Test
+        void withKanaAndHangul_returnsMixed() {
+            ScriptProfile profile = ScriptProfile.of("ひらがな 한글");
+            assertTrue(profile.isMixed());
+            assertEquals(Character.UnicodeScript.HIRAGANA, profile.getDominantScript());
+        }
+
+        @Test
+        void withJapaneseAndLatin_returnsMixed() {
+            ScriptProfile profile = ScriptProfile.of("東京 Tokyo");
+            assertTrue(profile.isMixed());
+            assertEquals(2, profile.getScriptCount());
+            assertEquals(Character.UnicodeScript.LATIN, profile.getDominantScript());
+        }
+
+        @Test
+        void withCombiningMark_ignoresInherited() {
+            ScriptProfile profile = ScriptProfile.of("ά́");
+            assertEquals(Character.UnicodeScript.GREEK, profile.getDominantScript());
+            assertEquals(1, profile.getCount(Character.UnicodeScript.INHERITED));
+            assertFalse(profile.isMixed());
+        }
+
+        @Test
+        void withEveryBmpChar_matchesUnicodeScript() {
+            assumeTrue(CharHelper.UNICODE_VERSION.equals(UnicodeCharacterTest.jdkUnicodeVersion()));
+
+            for (int c = 0; c <= Character.MAX_VALUE; c++) {
+                if (!Character.isDefined(c)) continue;
+                assertEquals(1, ScriptProfile.of(String.valueOf((char) c)).getCount(Character.UnicodeScript.of(c)));
+            }
+        }
+    }
+
+    @Nested
+    class IsSingleScript {
+
+        @Test
+        void withNull_returnsTrue() {
+            assertTrue(ScriptProfile.isSingleScript(null));
+        }
+
+        @Test
+        void withOnlyCommonChars_returnsTrue() {
+            assertTrue(ScriptProfile.isSingleScript("123 !?"));
+        }
+
+        @Test
+        void withSingleScript_returnsTrue() {
+            assertTrue(ScriptProfile.isSingleScript("مرحبا 1"));
+        }
+
+        @Test
+        void withJapaneseSentence_returnsTrue() {
+            assertTrue(ScriptProfile.isSingleScript("日本語のテキスト"));
+            assertTrue(ScriptProfile.isSingleScript("注音符號ㄅㄆㄇ"));
+        }
+
+        @Test
+        void withKoreanSentence_returnsTrue() {
+            assertTrue(ScriptProfile.isSingleScript("한국어 漢字"));
+        }
+
+        @Test
+        void withIncompatibleCjkScripts_returnsFalse() {
+            assertFalse(ScriptProfile.isSingleScript("漢字のハングル한글"));
+            assertFalse(ScriptProfile.isSingleScript("ㄅ한"));
+            assertFalse(ScriptProfile.isSingleScript("日本 Japan"));
+            assertFalse(ScriptProfile.isSingleScript("Japan 日本"));
+        }
+
+        @Test
+        void withHomoglyphs_returnsFalse() {
+            assertFalse(ScriptProfile.isSingleScript("pаypal")); // Cyrillic 'а'
+        }
+    }
+}
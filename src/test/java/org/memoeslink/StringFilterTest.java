@@ -3,8 +3,14 @@ package org.memoeslink;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class StringFilterTest {
 
@@ -541,6 +547,15 @@ class StringFilterTest {
     @Nested
     class KeepAsciiAlphanumericOrWhitespaces {
 
+        @Test
+        void withReader_matchesStringMethod() throws IOException {
+            String s = "Hello, World!\t\u00E9 123\n".repeat(1_000);
+            StringWriter writer = new StringWriter();
+            long written = StringFilter.keepAsciiAlphanumericOrWhitespaces(new StringReader(s), writer);
+            assertEquals(StringFilter.keepAsciiAlphanumericOrWhitespaces(s), writer.toString());
+            assertEquals(writer.toString().length(), written);
+        }
+
         @Test
         void withNull_returnsNull() {
             assertNull(StringFilter.keepAsciiAlphanumericOrWhitespaces(null));
@@ -604,6 +619,38 @@ class StringFilterTest {
             assertEquals("helloworld", StringFilter.removeZeroWidthSpaces("hello\u200B\u200C\u200Dworld"));
         }
 
+        @Test
+        void withCleanInput_returnsSameInstance() {
+            String s = "hello world";
+            assertSame(s, StringFilter.removeZeroWidthSpaces(s));
+        }
+
+        @Test
+        void withCleanInput_allocatesNothing() {
+            String s = "hello world ".repeat(100);
+            assertEquals(0, Allocations.measure(1_000, () -> StringFilter.removeZeroWidthSpaces(s)));
+        }
+
+        @Test
+        void withZeroWidthCharAtEnds_removesThem() {
+            assertEquals("hello", StringFilter.removeZeroWidthSpaces("\uFEFFhello\u200B"));
+        }
+
+        @Test
+        void withReader_removesZeroWidthChars() throws IOException {
+            String s = "log\u200B line\uFEFF\n".repeat(10_000);
+            StringWriter writer = new StringWriter();
+            StringFilter.removeZeroWidthSpaces(new ChunkedReader(s, 4_099), writer);
+            assertEquals("log line\n".repeat(10_000), writer.toString());
+        }
+
+        @Test
+        void withEmptyReader_writesNothing() throws IOException {
+            StringWriter writer = new StringWriter();
+            assertEquals(0, StringFilter.removeZeroWidthSpaces(new StringReader(""), writer));
+            assertEquals("", writer.toString());
+        }
+
         @Test
         void withNoZeroWidthChar_returnsUnchanged() {
             assertEquals("hello", StringFilter.removeZeroWidthSpaces("hello"));
@@ -1464,4 +1511,288 @@ class StringFilterTest {
             assertEquals(6, StringFilter.countAsciiAlphaOrWhitespaces("hello\t123!"));
         }
     }
+
+    @Nested
+    class KeepCodePoints {
+
+        @Test
+        void withSurrogatePairsAcrossChunks_keepsWholeCodePoints() throws IOException {
+            String s = "a1\uD835\uDC00\uD83D\uDE00".repeat(5_000);
+
+            for (int chunk : new int[]{1, 2, 3, 7, Integer.MAX_VALUE}) {
+                StringWriter writer = new StringWriter();
+                StringFilter.keepCodePoints(new ChunkedReader(s, chunk), CharHelper::isLetter, writer);
+                assertEquals(StringFilter.keepCodePoints(s, CharHelper::isLetter), writer.toString(), "Chunk size " + chunk);
+            }
+        }
+
+        @Test
+        void withPairAtBufferBoundary_keepsWholeCodePoint() throws IOException {
+            for (int prefix = 8_185; prefix < 8_195; prefix++) {
+                String s = "-".repeat(prefix) + "\uD835\uDC00" + "-";
+                StringWriter writer = new StringWriter();
+                StringFilter.keepCodePoints(new StringReader(s), CharHelper::isLetter, writer);
+                assertEquals("\uD835\uDC00", writer.toString(), "Prefix " + prefix);
+            }
+        }
+
+        @Test
+        void withTrailingHighSurrogate_testsItOnItsOwn() throws IOException {
+            StringWriter writer = new StringWriter();
+            StringFilter.keepCodePoints(new StringReader("a\uD835"), c -> Character.getType(c) == Character.SURROGATE, writer);
+            assertEquals("\uD835", writer.toString());
+        }
+
+        @Test
+        void withNull_returnsNull() {
+            assertNull(StringFilter.keepCodePoints(null, CharHelper::isLetter));
+        }
+
+        @Test
+        void withSupplementaryLetters_keepsWholeCodePoints() {
+            assertEquals("a\uD835\uDC00", StringFilter.keepCodePoints("a1\uD835\uDC00\uD83D\uDE00", CharHelper::isLetter));
+        }
+    }
+
+    @Nested
+    class RemoveCodePoints {
+
+        @Test
+        void withReader_matchesStringMethod() throws IOException {
+            String s = "a1\uD835\uDC00\uD83D\uDE00\uDC00".repeat(3_000);
+            StringWriter writer = new StringWriter();
+            long written = StringFilter.removeCodePoints(new ChunkedReader(s, 5), CharHelper::isLetter, writer);
+            assertEquals(StringFilter.removeCodePoints(s, CharHelper::isLetter), writer.toString());
+            assertEquals(writer.toString().length(), written);
+        }
+
+        @Test
+        void withNull_returnsNull() {
+            assertNull(StringFilter.removeCodePoints(null, CharHelper::isLetter));
+        }
+
+        @Test
+        void withSupplementaryLetters_removesWholeCodePoints() {
+            assertEquals("1\uD83D\uDE00", StringFilter.removeCodePoints("a1\uD835\uDC00\uD83D\uDE00", CharHelper::isLetter));
+        }
+
+        @Test
+        void withNoMatchingCodePoint_returnsSameInstance() {
+            String s = "123\uD83D\uDE00";
+            assertSame(s, StringFilter.removeCodePoints(s, CharHelper::isLetter));
+        }
+    }
+
+    @Nested
+    class CountCodePoints {
+
+        @Test
+        void withNull_returnsZero() {
+            assertEquals(0, StringFilter.countCodePoints(null, CharHelper::isLetter));
+        }
+
+        @Test
+        void withSupplementaryLetters_countsEachCodePointOnce() {
+            assertEquals(2, StringFilter.countCodePoints("a1\uD835\uDC00\uD83D\uDE00", CharHelper::isLetter));
+        }
+    }
+
+    @Nested
+    class Keep {
+
+        @Test
+        void withNull_returnsNull() {
+            assertNull(StringFilter.keep(null, CharHelper::isDigit));
+        }
+
+        @Test
+        void withMethodReference_keepsMatchingChars() {
+            assertEquals("123", StringFilter.keep("a1b2c3", CharHelper::isDigit));
+        }
+
+        @Test
+        void withCharMatcher_keepsMatchingChars() {
+            assertEquals("llo", StringFilter.keep("hello", CharMatcher.anyOf("lo")));
+        }
+
+        @Test
+        void withSurrogatePair_testsEachChar() {
+            assertEquals("\uD83D\uDE00", StringFilter.keep("a\uD83D\uDE00", Character::isSurrogate));
+        }
+
+        @Test
+        void withStringBuilder_appendsMatchingChars() {
+            StringBuilder sb = new StringBuilder("x");
+            assertSame(sb, StringFilter.keep(new StringBuilder("a1b22c3"), CharHelper::isDigit, sb));
+            assertEquals("x1223", sb.toString());
+        }
+
+        @Test
+        void withNullSource_appendsNothing() {
+            assertEquals("", StringFilter.keep(null, CharHelper::isDigit, new StringBuilder()).toString());
+        }
+
+        @Test
+        void withWriter_writesMatchingChars() throws IOException {
+            StringWriter writer = new StringWriter();
+            assertSame(writer, StringFilter.keep("a1b2", CharHelper::isLetter, writer));
+            assertEquals("ab", writer.toString());
+        }
+
+        @Test
+        void withCharArrayRange_compactsInPlace() {
+            char[] chars = "xa1b2c3x".toCharArray();
+            assertEquals(3, StringFilter.keep(chars, 1, 6, CharHelper::isDigit));
+            assertEquals("x123", new String(chars, 0, 4));
+        }
+
+        @Test
+        void withInvalidRange_throwsException() {
+            assertThrows(IndexOutOfBoundsException.class, () -> StringFilter.keep(new char[2], 1, 2, CharHelper::isDigit));
+        }
+
+        @Test
+        void withReader_writesMatchingChars() throws IOException {
+            StringWriter writer = new StringWriter();
+            assertEquals(3, StringFilter.keep(new ChunkedReader("a1b2c3", 2), CharHelper::isDigit, writer));
+            assertEquals("123", writer.toString());
+        }
+
+        @Test
+        void withReusedBuffer_allocatesNothing() {
+            String s = "a1 b2 c3 ".repeat(50);
+            StringBuilder sb = new StringBuilder(s.length());
+            assertEquals(0, Allocations.measure(1_000, () -> {
+                sb.setLength(0);
+                StringFilter.keep(s, CharHelper::isDigit, sb);
+            }));
+        }
+    }
+
+    @Nested
+    class Remove {
+
+        @Test
+        void withNull_returnsNull() {
+            assertNull(StringFilter.remove(null, CharHelper::isDigit));
+        }
+
+        @Test
+        void withLambda_removesMatchingChars() {
+            assertEquals("abc", StringFilter.remove("a1b2c3", c -> c >= '0' && c <= '9'));
+        }
+
+        @Test
+        void withEmptyString_returnsEmptyString() {
+            assertEquals("", StringFilter.remove("", CharHelper::isDigit));
+        }
+
+        @Test
+        void withStringBuilder_appendsRemainingChars() {
+            StringBuilder sb = new StringBuilder();
+            assertSame(sb, StringFilter.remove("a1b22c3", CharHelper::isDigit, sb));
+            assertEquals("abc", sb.toString());
+        }
+
+        @Test
+        void withWriter_writesRemainingChars() throws IOException {
+            StringWriter writer = new StringWriter();
+            StringFilter.remove("a1b2", CharHelper::isLetter, writer);
+            assertEquals("12", writer.toString());
+        }
+
+        @Test
+        void withReader_writesRemainingChars() throws IOException {
+            StringWriter writer = new StringWriter();
+            assertEquals(3, StringFilter.remove(new StringReader("a1b2c3"), CharHelper::isDigit, writer));
+            assertEquals("abc", writer.toString());
+        }
+
+        @Test
+        void withCharArrayRange_compactsInPlace() {
+            char[] chars = "a1b2c3".toCharArray();
+            int length = StringFilter.remove(chars, 0, chars.length, CharHelper::isDigit);
+            assertEquals("abc", new String(chars, 0, length));
+        }
+    }
+
+    @Nested
+    class Count {
+
+        @Test
+        void withNull_returnsZero() {
+            assertEquals(0, StringFilter.count(null, CharHelper::isDigit));
+        }
+
+        @Test
+        void withMatchingChars_returnsCount() {
+            assertEquals(3, StringFilter.count("a1b2c3", CharHelper::isDigit));
+        }
+
+        @Test
+        void withCombinedPredicates_returnsCount() {
+            CharPredicate digit = CharHelper::isDigit;
+            assertEquals(5, StringFilter.count("a1 b2 c", digit.or(CharHelper::isWhitespace).negate().or(c -> c == ' ')));
+        }
+    }
+
+    @Nested
+    class CountInRange {
+
+        @Test
+        void withRange_countsOnlyTheRange() {
+            assertEquals(2, StringFilter.countInRange(new StringBuilder("1a2b3c4"), 1, 5, CharHelper::isDigit));
+        }
+
+        @Test
+        void withEmptyRange_returnsZero() {
+            assertEquals(0, StringFilter.countInRange("123", 2, 2, CharHelper::isDigit));
+        }
+
+        @Test
+        void withInvalidRange_throwsException() {
+            assertThrows(IndexOutOfBoundsException.class, () -> StringFilter.countInRange("abc", 2, 1, CharHelper::isDigit));
+        }
+
+        @Test
+        void withLongText_countsWithoutAllocating() {
+            String s = "Hello, World! 123 ".repeat(50);
+            assertEquals(0, Allocations.measure(1_000, () -> StringFilter.countInRange(s, 5, s.length() - 5, CharHelper::isLetter)));
+        }
+    }
+
+    @Nested
+    class CountCodePointsInRange {
+
+        @Test
+        void withSupplementaryChars_countsEachOnce() {
+            String s = "a𝐀b𝐁";
+            assertEquals(StringFilter.countCodePoints(s, CharHelper::isLetter), StringFilter.countCodePointsInRange(s, 0, s.length(), CharHelper::isLetter));
+            assertEquals(2, StringFilter.countCodePointsInRange(s, 1, 4, CharHelper::isLetter));
+        }
+
+        @Test
+        void withRangeSplittingSurrogatePair_testsLoneSurrogates() {
+            String s = "𝐀";
+            assertEquals(1, StringFilter.countCodePointsInRange(s, 1, 2, c -> c >= 0xDC00 && c <= 0xDFFF));
+            assertEquals(0, StringFilter.countCodePointsInRange(s, 0, 2, c -> c >= 0xDC00 && c <= 0xDFFF));
+        }
+    }
+
+    /**
+     * A reader that returns at most a given number of chars per read, to split the input at every position.
+     */
+    private static class ChunkedReader extends StringReader {
+        private final int chunk;
+
+        ChunkedReader(String s, int chunk) {
+            super(s);
+            this.chunk = chunk;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            return super.read(buffer, offset, Math.min(length, chunk));
+        }
+    }
 }
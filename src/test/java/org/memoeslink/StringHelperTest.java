@@ -893,6 +893,92 @@ class StringHelperTest {
         }
     }
 
+    @Nested
+    class Skeleton {
+
+        @Test
+        void withNull_returnsNull() {
+            assertNull(StringHelper.skeleton(null));
+        }
+
+        @Test
+        void withCyrillicHomoglyphs_returnsLatinSkeleton() {
+            assertEquals(StringHelper.skeleton("paypal"), StringHelper.skeleton("p\u0430yp\u0430l"));
+        }
+
+        @Test
+        void withFullwidthForms_returnsAsciiSkeleton() {
+            assertEquals(StringHelper.skeleton("paypal"), StringHelper.skeleton("\uFF50\uFF41\uFF59\uFF50\uFF41\uFF4C"));
+        }
+
+        @Test
+        void withMathematicalBold_returnsAsciiSkeleton() {
+            assertEquals(StringHelper.skeleton("Ab"), StringHelper.skeleton("\uD835\uDC00\uD835\uDC1B"));
+        }
+
+        @Test
+        void withLetterM_returnsRN() {
+            assertEquals("rn", StringHelper.skeleton("m"));
+        }
+
+        @Test
+        void withBuffer_appendsSkeleton() {
+            StringBuilder sb = new StringBuilder("x:");
+            assertSame(sb, StringHelper.skeleton("\u0430", sb));
+            assertEquals("x:a", sb.toString());
+        }
+    }
+
+    @Nested
+    class IsConfusable {
+
+        @Test
+        void withBothNull_returnsTrue() {
+            assertTrue(StringHelper.isConfusable(null, null));
+        }
+
+        @Test
+        void withOneNull_returnsFalse() {
+            assertFalse(StringHelper.isConfusable("a", null));
+            assertFalse(StringHelper.isConfusable(null, "a"));
+        }
+
+        @Test
+        void withHomoglyphs_returnsTrue() {
+            assertTrue(StringHelper.isConfusable("p\u0430ypal", "paypal"));
+            assertTrue(StringHelper.isConfusable("g00gle", "GOOgle".replace('G', 'g')));
+        }
+
+        @Test
+        void withMultiCharPrototype_returnsTrue() {
+            assertTrue(StringHelper.isConfusable("modern", "rnodern"));
+            assertTrue(StringHelper.isConfusable("rnodern", "modern"));
+        }
+
+        @Test
+        void withDifferentStrings_returnsFalse() {
+            assertFalse(StringHelper.isConfusable("paypal", "paypa"));
+            assertFalse(StringHelper.isConfusable("r", "m"));
+            assertFalse(StringHelper.isConfusable("cat", "dog"));
+        }
+
+        @Test
+        void withDecomposedAccent_returnsFalse() {
+            assertFalse(StringHelper.isConfusable("\u00E9", "e\u0301"));
+        }
+
+        @Test
+        void matchesSkeletonEquality() {
+            String[] samples = {"", "m", "rn", "rnm", "mrn", "l1I|", "0O", "\u0430\u0435", "ae", "\uFF4D", "r"};
+
+            for (String a : samples) {
+                for (String b : samples) {
+                    assertEquals(StringHelper.skeleton(a).equals(StringHelper.skeleton(b)), StringHelper.isConfusable(a, b), a + " / " + b);
+                }
+            }
+        }
+    }
+
     @Nested
     class ToUppercase {
 
@@ -1124,6 +1210,25 @@ class StringHelperTest {
         }
     }
 
+    @Nested
+    class ReverseGraphemes {
+
+        @Test
+        void withNull_returnsNull() {
+            assertNull(StringHelper.reverseGraphemes(null));
+        }
+
+        @Test
+        void withCombiningMarks_keepsMarksWithBase() {
+            assertEquals("e\u0301ba", StringHelper.reverseGraphemes("abe\u0301"));
+        }
+
+        @Test
+        void withJoinedEmoji_keepsSequence() {
+            assertEquals("\uD83C\uDDF2\uD83C\uDDFD!\uD83D\uDC68\u200D\uD83D\uDC69\u200D\uD83D\uDC67", StringHelper.reverseGraphemes("\uD83D\uDC68\u200D\uD83D\uDC69\u200D\uD83D\uDC67!\uD83C\uDDF2\uD83C\uDDFD"));
+        }
+    }
+
     @Nested
     class Mask {
 
@@ -1153,6 +1258,58 @@ class StringHelperTest {
         }
     }
 
+    @Nested
+    class MaskGraphemes {
+
+        @Test
+        void withNull_returnsNull() {
+            assertNull(StringHelper.maskGraphemes(null));
+        }
+
+        @Test
+        void withJoinedEmoji_masksEachCluster() {
+            assertEquals("** *", StringHelper.maskGraphemes("e\u0301a \uD83D\uDC68\u200D\uD83D\uDC69\u200D\uD83D\uDC67"));
+        }
+
+        @Test
+        void withCustomReplacement_usesCustomChar() {
+            assertEquals("##\r\n#", StringHelper.maskGraphemes("ab\r\n\uD83C\uDDF2\uD83C\uDDFD", '#'));
+        }
+    }
+
+    @Nested
+    class MaskStartGraphemes {
+
+        @Test
+        void withNull_returnsNull() {
+            assertNull(StringHelper.maskStartGraphemes(null, '*', 2));
+        }
+
+        @Test
+        void withMoreClusters_masksAllButLast() {
+            assertEquals("**a\uD83D\uDC68\u200D\uD83D\uDC69\u200D\uD83D\uDC67", StringHelper.maskStartGraphemes("\uD83C\uDDF2\uD83C\uDDFDe\u0301a\uD83D\uDC68\u200D\uD83D\uDC69\u200D\uD83D\uDC67", '*', 2));
+        }
+
+        @Test
+        void withFewerClusters_masksAll() {
+            assertEquals("**", StringHelper.maskStartGraphemes("\uD83C\uDDF2\uD83C\uDDFD\uD83D\uDC68\u200D\uD83D\uDC69\u200D\uD83D\uDC67", '*', 2));
+        }
+    }
+
+    @Nested
+    class MaskEndGraphemes {
+
+        @Test
+        void withNonPositiveCount_returnsSame() {
+            assertEquals("abc", StringHelper.maskEndGraphemes("abc", '*', 0));
+        }
+
+        @Test
+        void withMoreClusters_masksAllButFirst() {
+            assertEquals("\uD83C\uDDF2\uD83C\uDDFDe\u0301**", StringHelper.maskEndGraphemes("\uD83C\uDDF2\uD83C\uDDFDe\u0301a\uD83D\uDC68\u200D\uD83D\uDC69\u200D\uD83D\uDC67", '*', 2));
+        }
+    }
+
     @Nested
     class MaskStart {
 
@@ -1994,4 +2151,28 @@ class StringHelperTest {
             assertEquals("hello world", StringHelper.replaceTags("hello ${name}", java.util.Map.of("name", "world")));
         }
     }
+
+    @Nested
+    class TruncateGraphemes {
+
+        @Test
+        void withNull_returnsNull() {
+            assertNull(StringHelper.truncateGraphemes(null, 2));
+        }
+
+        @Test
+        void withNonPositiveMax_returnsEmpty() {
+            assertEquals("", StringHelper.truncateGraphemes("abc", 0));
+        }
+
+        @Test
+        void withJoinedEmoji_doesNotSplitClusters() {
+            assertEquals("a\uD83D\uDC68\u200D\uD83D\uDC69\u200D\uD83D\uDC67", StringHelper.truncateGraphemes("a\uD83D\uDC68\u200D\uD83D\uDC69\u200D\uD83D\uDC67e\u0301", 2));
+        }
+
+        @Test
+        void withFewerClusters_returnsSame() {
+            assertEquals("e\u0301", StringHelper.truncateGraphemes("e\u0301", 5));
+        }
+    }
 }
@@ -2450,4 +2450,84 @@ class StringValidationTest {
             assertFalse(StringValidation.isOnlyAsciiAlphanumericOrWhitespace("hello!"));
         }
     }
+
+    @Nested
+    class HasCodePoint {
+
+        @Test
+        void withNull_returnsFalse() {
+            assertFalse(StringValidation.hasCodePoint(null, CharHelper::isLetter));
+        }
+
+        @Test
+        void withSupplementaryLetter_returnsTrue() {
+            assertTrue(StringValidation.hasCodePoint("1\uD835\uDC00", CharHelper::isLetter));
+        }
+
+        @Test
+        void withoutMatchingCodePoint_returnsFalse() {
+            assertFalse(StringValidation.hasCodePoint("1\uD83D\uDE00", CharHelper::isLetter));
+        }
+    }
+
+    @Nested
+    class HasNoCodePoint {
+
+        @Test
+        void withNull_returnsTrue() {
+            assertTrue(StringValidation.hasNoCodePoint(null, CharHelper::isLetter));
+        }
+
+        @Test
+        void withSupplementaryLetter_returnsFalse() {
+            assertFalse(StringValidation.hasNoCodePoint("1\uD835\uDC00", CharHelper::isLetter));
+        }
+    }
+
+    @Nested
+    class IsOnlyCodePoint {
+
+        @Test
+        void withNull_returnsFalse() {
+            assertFalse(StringValidation.isOnlyCodePoint(null, CharHelper::isLetter));
+        }
+
+        @Test
+        void withOnlySupplementaryLetters_returnsTrue() {
+            assertTrue(StringValidation.isOnlyCodePoint("a\uD835\uDC00", CharHelper::isLetter));
+        }
+
+        @Test
+        void withSurrogatesTestedSeparately_differsFromCharVariant() {
+            assertFalse(StringValidation.isOnlyLetter("a\uD835\uDC00"));
+        }
+    }
+
+    @Nested
+    class AlphabetOverloads {
+        private final Alphabet polish = Alphabet.register("test-polish", "aąeęioóuy", "bcćdfghjklłmnńprsśtwzźż");
+
+        @Test
+        void withNullAlphabet_returnsDefault() {
+            assertFalse(StringValidation.hasVowel("ą", null));
+            assertTrue(StringValidation.hasNoVowel("ą", null));
+            assertFalse(StringValidation.isOnlyVowel("ą", null));
+        }
+
+        @Test
+        void withAlphabetVowels_checksVowels() {
+            assertTrue(StringValidation.hasVowel("łą", polish));
+            assertFalse(StringValidation.hasNoVowel("łą", polish));
+            assertTrue(StringValidation.isOnlyVowel("ąęó", polish));
+            assertFalse(StringValidation.isOnlyVowel("ąęó!", polish));
+        }
+
+        @Test
+        void withAlphabetConsonants_checksConsonants() {
+            assertTrue(StringValidation.hasConsonant("ął", polish));
+            assertTrue(StringValidation.hasNoConsonant("ąę", polish));
+            assertTrue(StringValidation.isOnlyConsonant("źżł", polish));
+            assertFalse(StringValidation.isOnlyConsonant("źża", polish));
+        }
+    }
 }
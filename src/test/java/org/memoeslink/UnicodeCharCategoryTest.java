@@ -0,0 +1,153 @@
+package org.memoeslink;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnicodeCharCategoryTest {
+
+    /**
+     * Loads the classes of the library again in an isolated class loader, so they are initialized from scratch.
+     */
+    private static ClassLoader isolatedLoader() {
+        URL classes = UnicodeCharCategory.class.getProtectionDomain().getCodeSource().getLocation();
+        return new URLClassLoader(new URL[]{classes}, ClassLoader.getPlatformClassLoader());
+    }
+
+    private static boolean isCompiled(ClassLoader loader, String name) throws ReflectiveOperationException {
+        Class<?> type = Class.forName(UnicodeCharCategory.class.getName(), true, loader);
+        Method valueOf = type.getMethod("valueOf", String.class);
+        Method isCompiled = type.getDeclaredMethod("isCompiled");
+        isCompiled.setAccessible(true);
+        return (boolean) isCompiled.invoke(valueOf.invoke(null, name));
+    }
+
+    private static String constantName(UnicodeCharCategory category) {
+        return category == UnicodeCharCategory.ZERO_WIDTH_CHAR ? "ZW_CHAR" : category.name();
+    }
+
+    @Nested
+    class GetRegex {
+
+        @Test
+        void withConstant_returnsRegexConstant() {
+            assertEquals(UnicodeCharCategory.LETTER_REGEX, UnicodeCharCategory.LETTER.getRegex());
+            assertEquals(UnicodeCharCategory.ZERO_WIDTH_CHAR_REGEX, UnicodeCharCategory.ZERO_WIDTH_CHAR.getRegex());
+        }
+    }
+
+    @Nested
+    class GetExceptRegex {
+
+        @Test
+        void withConstant_returnsExceptRegexConstant() {
+            assertEquals(UnicodeCharCategory.EXCEPT_LETTER_REGEX, UnicodeCharCategory.LETTER.getExceptRegex());
+            assertEquals(UnicodeCharCategory.EXCEPT_DIACRITIC_REGEX, UnicodeCharCategory.DIACRITIC.getExceptRegex());
+        }
+    }
+
+    @Nested
+    class GetPattern {
+
+        @Test
+        void withAnyCategory_compilesItsRegexes() {
+            for (UnicodeCharCategory category : UnicodeCharCategory.values()) {
+                assertEquals(category.getRegex(), category.getPattern().pattern(), category.name());
+                assertEquals(category.getExceptRegex(), category.getExceptPattern().pattern(), category.name());
+            }
+        }
+
+        @Test
+        void withRepeatedCalls_returnsSameInstance() {
+            assertSame(UnicodeCharCategory.LETTER.getPattern(), UnicodeCharCategory.LETTER.getPattern());
+            assertSame(UnicodeCharCategory.LETTER.getExceptPattern(), UnicodeCharCategory.LETTER.getExceptPattern());
+        }
+
+        @Test
+        void withRegexFilterConstant_returnsSameInstance() throws ReflectiveOperationException {
+            for (UnicodeCharCategory category : UnicodeCharCategory.values()) {
+                Field field = RegexFilter.class.getField(constantName(category) + "_PATTERN");
+                Field exceptField = RegexFilter.class.getField("EXCEPT_" + constantName(category) + "_PATTERN");
+                assertSame(category.getPattern(), field.get(null), category.name());
+                assertSame(category.getExceptPattern(), exceptField.get(null), category.name());
+            }
+        }
+
+        @Test
+        void withRegexFilterConstantCount_coversEveryCategory() {
+            long fields = Arrays.stream(RegexFilter.class.getFields())
+                    .filter(field -> field.getType() == Pattern.class)
+                    .count();
+            assertEquals(2 * UnicodeCharCategory.values().length + 6, fields); // Plus three unions and their complements
+        }
+    }
+
+    @Nested
+    class IsCompiled {
+
+        @Test
+        void withRegexFilterMethodCall_compilesNoPattern() throws ReflectiveOperationException {
+            ClassLoader loader = isolatedLoader();
+            Class<?> regexFilter = Class.forName(RegexFilter.class.getName(), true, loader);
+            assertEquals("abc", regexFilter.getMethod("keepLetter", String.class).invoke(null, "a1b2c3"));
+            assertEquals(3, regexFilter.getMethod("countDigit", String.class).invoke(null, "a1b2c3"));
+
+            for (UnicodeCharCategory category : UnicodeCharCategory.values()) {
+                assertFalse(isCompiled(loader, category.name()), category.name());
+            }
+        }
+
+        @Test
+        void withNormalizeAndMask_compilesOnlyUsedPatterns() throws ReflectiveOperationException {
+            ClassLoader loader = isolatedLoader();
+            Class<?> stringHelper = Class.forName(StringHelper.class.getName(), true, loader);
+            stringHelper.getMethod("normalize", String.class).invoke(null, "café");
+            stringHelper.getMethod("mask", String.class).invoke(null, "secret value");
+
+            for (UnicodeCharCategory category : UnicodeCharCategory.values()) {
+                boolean used = category == UnicodeCharCategory.ASCII || category == UnicodeCharCategory.SPACE;
+                assertEquals(used, isCompiled(loader, category.name()), category.name());
+            }
+        }
+
+        @Test
+        void withRegexFilterConstantRead_compilesAllPatterns() throws ReflectiveOperationException {
+            ClassLoader loader = isolatedLoader();
+            Class<?> regexFilter = Class.forName(RegexFilter.class.getName(), true, loader);
+            Field field = regexFilter.getField("LETTER_PATTERN");
+            field.setAccessible(true); // Declared in a package-private interface of another runtime package
+            assertNotNull(field.get(null));
+            assertTrue(isCompiled(loader, "DIACRITIC"));
+        }
+    }
+
+    @Nested
+    class Matches {
+
+        @Test
+        void withEveryCodePoint_matchesRegex() {
+            for (UnicodeCharCategory category : UnicodeCharCategory.values()) {
+                Pattern pattern = Pattern.compile(category.getRegex());
+
+                for (int c = Character.MIN_CODE_POINT; c <= Character.MAX_CODE_POINT; c += c <= Character.MAX_VALUE ? 1 : 31) {
+                    String s = new String(Character.toChars(c));
+                    assertEquals(pattern.matcher(s).matches(), category.matches(c), category + " " + Integer.toHexString(c));
+                }
+            }
+        }
+
+        @Test
+        void withDiacriticalLetter_excludesAscii() {
+            assertTrue(UnicodeCharCategory.DIACRITICAL_LETTER.matches('é'));
+            assertFalse(UnicodeCharCategory.DIACRITICAL_LETTER.matches('e'));
+        }
+    }
+}
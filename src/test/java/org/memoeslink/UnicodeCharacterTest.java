@@ -0,0 +1,64 @@
+package org.memoeslink;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class UnicodeCharacterTest {
+
+    static String jdkUnicodeVersion() {
+        return switch (Runtime.version().feature()) {
+            case 20, 21 -> "15.0.0";
+            case 22, 23 -> "15.1.0";
+            case 24 -> "16.0.0";
+            default -> "";
+        };
+    }
+
+    @Nested
+    class Properties {
+
+        @Test
+        void withJdkOfSameUnicodeVersion_matchesCharacter() {
+            assumeTrue(UnicodeCharacter.VERSION.equals(jdkUnicodeVersion()));
+
+            for (int c = 0; c <= Character.MAX_CODE_POINT; c++) {
+                if (!Character.isDefined(c)) continue;
+                int codePoint = c;
+                assertEquals(Character.getType(c), UnicodeCharacter.getType(c), () -> "type of " + codePoint);
+                assertEquals(Character.isLetter(c), UnicodeCharacter.isLetter(c), () -> "letter " + codePoint);
+                assertEquals(Character.isDigit(c), UnicodeCharacter.isDigit(c), () -> "digit " + codePoint);
+                assertEquals(Character.isAlphabetic(c), UnicodeCharacter.isAlphabetic(c), () -> "alphabetic " + codePoint);
+                assertEquals(Character.isLowerCase(c), UnicodeCharacter.isLowerCase(c), () -> "lowercase " + codePoint);
+                assertEquals(Character.isUpperCase(c), UnicodeCharacter.isUpperCase(c), () -> "uppercase " + codePoint);
+                assertEquals(Character.isSpaceChar(c), UnicodeCharacter.isSpaceChar(c), () -> "space " + codePoint);
+                assertEquals(Character.isWhitespace(c), UnicodeCharacter.isWhitespace(c), () -> "whitespace " + codePoint);
+                assertEquals(Character.UnicodeScript.of(c).name(), UnicodeCharacter.getScriptName(UnicodeCharacter.getScript(c)), () -> "script " + codePoint);
+            }
+        }
+
+        @Test
+        void withUnassignedCodePoint_returnsUnassigned() {
+            assertEquals(Character.UNASSIGNED, UnicodeCharacter.getType(0x50000));
+            assertEquals("UNKNOWN", UnicodeCharacter.getScriptName(UnicodeCharacter.getScript(0x50000)));
+        }
+
+        @Test
+        void withInvalidCodePoint_returnsNoProperties() {
+            assertEquals(Character.UNASSIGNED, UnicodeCharacter.getType(-1));
+            assertFalse(UnicodeCharacter.isLetter(Character.MAX_CODE_POINT + 1));
+            assertEquals(0, UnicodeCharacter.getScript(-1));
+        }
+    }
+
+    @Nested
+    class Version {
+
+        @Test
+        void withCharHelperConstant_returnsPinnedVersion() {
+            assertEquals("15.0.0", CharHelper.UNICODE_VERSION);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.memoeslink;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnicodeTableTest {
+    private static final int BLOCK_COUNT = (Character.MAX_CODE_POINT >>> 8) + 1;
+
+    private static String block(int value) {
+        return String.valueOf((char) value).repeat(256);
+    }
+
+    private static String index(int first, int rest) {
+        return (char) first + String.valueOf((char) rest).repeat(BLOCK_COUNT - 1);
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void withSharedBlocks_returnsValues() {
+            String first = "\1".repeat(0x41) + "\2".repeat(0x1A) + "\3".repeat(0x100 - 0x5B);
+            UnicodeTable table = UnicodeTable.of(new String[]{index(0, 1)}, new String[]{first, block(3)});
+            assertEquals(1, table.get('@'));
+            assertEquals(2, table.get('A'));
+            assertEquals(2, table.get('Z'));
+            assertEquals(3, table.get('['));
+            assertEquals(3, table.get(0x100));
+            assertEquals(3, table.get(Character.MAX_CODE_POINT));
+        }
+
+        @Test
+        void withChunks_joinsStages() {
+            String index = index(1, 0);
+            UnicodeTable table = UnicodeTable.of(new String[]{index.substring(0, 10), index.substring(10)},
+                    new String[]{block(0xFF), block(7)});
+            assertEquals(7, table.get('A'));
+            assertEquals(0xFF, table.get(0x100));
+        }
+
+        @Test
+        void withInvalidCodePoint_returnsZero() {
+            UnicodeTable table = UnicodeTable.of(new String[]{index(0, 0)}, new String[]{block(7)});
+            assertEquals(0, table.get(-1));
+            assertEquals(0, table.get(Character.MAX_CODE_POINT + 1));
+        }
+
+        @Test
+        void withIncompleteIndex_throwsException() {
+            assertThrows(IllegalStateException.class, () -> UnicodeTable.of(new String[]{"\0"}, new String[]{block(1)}));
+        }
+
+        @Test
+        void withPartialBlock_throwsException() {
+            assertThrows(IllegalStateException.class, () -> UnicodeTable.of(new String[]{index(0, 0)}, new String[]{"\1"}));
+        }
+
+        @Test
+        void withMissingBlock_throwsException() {
+            assertThrows(IllegalStateException.class, () -> UnicodeTable.of(new String[]{index(0, 1)}, new String[]{block(1)}));
+        }
+    }
+}
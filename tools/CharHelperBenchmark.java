@@ -0,0 +1,108 @@
+import org.memoeslink.CharHelper;
+
+import java.text.Normalizer;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the {@link CharHelper} predicates, which look characters up in precomputed property and accent
+ * folding tables, against their previous implementations: {@link Character} methods such as
+ * {@link Character#getType(int)}, {@link String#indexOf(int)} over the letter lists, and accent stripping through
+ * {@link Normalizer} and a regular expression. The previous implementations are copied here as they were.
+ * <p>
+ * Usage:
+ * <pre>
+ * mvn compile
+ * java -cp target/classes tools/CharHelperBenchmark.java [iterations]
+ * </pre>
+ * Each case is warmed up before it is measured, and the average time per pass over the input is printed, along
+ * with whether both implementations matched the same number of characters. The numbers are only meant to compare
+ * both approaches on the same machine, not as absolute figures.
+ */
+public class CharHelperBenchmark {
+    private static final int DEFAULT_ITERATIONS = 2_000;
+    private static final String INPUT = "The quick brown fox, 2024 — «Ærøskøbing» Crème brûlée ἄλφα 한국어 ñandú ½ $5.00!\n".repeat(20);
+    private static final String CONSONANTS = "bcdfghjklmnpqrstvwxyzBCDFGHJKLMNPQRSTVWXYZ";
+    private static final String NON_CLUSTER_CONSONANTS = "HJQVWXhjqvwxÇÐÑÞßçðñþĞğĴĵŁłŊŋŠšŴŵŽžẞ";
+    private static final String VOWELS = "aeiouAEIOU";
+    private static final Pattern DIACRITIC_PATTERN = Pattern.compile("\\p{InCombiningDiacriticalMarks}");
+    private static volatile int sink;
+
+    private static String stripAccents(String s) {
+        String normalized = Normalizer.normalize(s, Normalizer.Form.NFD);
+        return DIACRITIC_PATTERN.matcher(normalized).replaceAll("");
+    }
+
+    private static boolean isDiacritic(int c) {
+        if (c == 0) return false;
+        int type = Character.getType(c);
+        return type == Character.MODIFIER_SYMBOL || type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK || type == Character.ENCLOSING_MARK;
+    }
+
+    private static boolean isSpecialChar(int c) {
+        return !Character.isLetterOrDigit(c) && !Character.isWhitespace(c);
+    }
+
+    private static boolean isNonClusterConsonant(int c) {
+        return NON_CLUSTER_CONSONANTS.indexOf(c) != -1;
+    }
+
+    private static boolean isConsonant(int c) {
+        if (c == 0) return false;
+        return CONSONANTS.contains(stripAccents(Character.toString((char) c)));
+    }
+
+    private static boolean isVowel(int c) {
+        if (c == 0) return false;
+        return VOWELS.contains(stripAccents(Character.toString((char) c)));
+    }
+
+    private static boolean isAccentedLetter(int c) {
+        if (c == 0) return false;
+        String originalChar = Character.toString((char) c);
+        String modifiedChar = stripAccents(originalChar);
+        return Character.isLetter(c) && !originalChar.equals(modifiedChar);
+    }
+
+    private static int count(IntPredicate predicate) {
+        int count = 0;
+
+        for (int i = 0; i < INPUT.length(); i++) {
+            if (predicate.test(INPUT.charAt(i))) count++;
+        }
+        return count;
+    }
+
+    private static double measure(IntPredicate predicate, int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            sink += count(predicate);
+        }
+        long start = System.nanoTime();
+
+        for (int i = 0; i < iterations; i++) {
+            sink += count(predicate);
+        }
+        return (double) (System.nanoTime() - start) / iterations;
+    }
+
+    private static void compare(String name, IntPredicate previous, IntPredicate table, int iterations) {
+        double previousTime = measure(previous, iterations);
+        double tableTime = measure(table, iterations);
+        boolean agree = count(previous) == count(table);
+        System.out.printf("%-22s %14.0f %14.0f %7.1fx %6s%n", name, previousTime, tableTime, previousTime / tableTime, agree ? "yes" : "NO");
+    }
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ITERATIONS;
+        System.out.printf("%d chars per pass%n", INPUT.length());
+        System.out.printf("%-22s %14s %14s %8s %6s%n", "predicate", "previous ns", "table ns", "speedup", "agree");
+        compare("isLetter", Character::isLetter, CharHelper::isLetter, iterations);
+        compare("isWhitespace", Character::isWhitespace, CharHelper::isWhitespace, iterations);
+        compare("isSpecialChar", CharHelperBenchmark::isSpecialChar, CharHelper::isSpecialChar, iterations);
+        compare("isDiacritic", CharHelperBenchmark::isDiacritic, CharHelper::isDiacritic, iterations);
+        compare("isNonClusterConsonant", CharHelperBenchmark::isNonClusterConsonant, CharHelper::isNonClusterConsonant, iterations);
+        compare("isConsonant", CharHelperBenchmark::isConsonant, CharHelper::isConsonant, iterations);
+        compare("isVowel", CharHelperBenchmark::isVowel, CharHelper::isVowel, iterations);
+        compare("isAccentedLetter", CharHelperBenchmark::isAccentedLetter, CharHelper::isAccentedLetter, iterations);
+    }
+}
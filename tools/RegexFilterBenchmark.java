@@ -0,0 +1,57 @@
+import org.memoeslink.RegexFilter;
+import org.memoeslink.UnicodeCharCategory;
+
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the keep and remove methods of {@link RegexFilter}, which match code points by general category,
+ * against filtering the same input with the equivalent {@link Pattern} through a {@link java.util.regex.Matcher}.
+ * <p>
+ * Usage:
+ * <pre>
+ * mvn compile
+ * java -cp target/classes tools/RegexFilterBenchmark.java [iterations]
+ * </pre>
+ * Each case is warmed up before it is measured, and the average time per call is printed. The numbers are only
+ * meant to compare both approaches on the same machine, not as absolute figures.
+ */
+public class RegexFilterBenchmark {
+    private static final int DEFAULT_ITERATIONS = 20_000;
+    private static final String INPUT = "The quick brown fox, 2024 — «Ærøskøbing» ἄλφα 한국어 😀 ½ $5.00!\n".repeat(25);
+    private static volatile int sink;
+
+    private static String keep(String s, Pattern pattern) {
+        return RegexFilter.keep(s, pattern, new StringBuilder()).toString();
+    }
+
+    private static double measure(UnaryOperator<String> operation, int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            sink += operation.apply(INPUT).length();
+        }
+        long start = System.nanoTime();
+
+        for (int i = 0; i < iterations; i++) {
+            sink += operation.apply(INPUT).length();
+        }
+        return (double) (System.nanoTime() - start) / iterations;
+    }
+
+    private static void compare(String name, UnaryOperator<String> filter, Pattern pattern, int iterations) {
+        double regex = measure(s -> keep(s, pattern), iterations);
+        double table = measure(filter, iterations);
+        System.out.printf("%-22s %14.0f %14.0f %7.1fx%n", name, regex, table, regex / table);
+    }
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ITERATIONS;
+        System.out.printf("%d chars per call%n", INPUT.length());
+        System.out.printf("%-22s %14s %14s %8s%n", "filter", "regex ns/op", "table ns/op", "speedup");
+        compare("keepLetter", RegexFilter::keepLetter, UnicodeCharCategory.LETTER.getPattern(), iterations);
+        compare("removeLetter", RegexFilter::removeLetter, UnicodeCharCategory.LETTER.getExceptPattern(), iterations);
+        compare("keepPunct", RegexFilter::keepPunct, UnicodeCharCategory.PUNCT.getPattern(), iterations);
+        compare("removeCntrl", RegexFilter::removeCntrl, UnicodeCharCategory.CNTRL.getExceptPattern(), iterations);
+        compare("keepDiacriticalLetter", RegexFilter::keepDiacriticalLetter, UnicodeCharCategory.DIACRITICAL_LETTER.getPattern(), iterations);
+        compare("keepAlphanumericSpace", RegexFilter::keepAlphanumericSpace, Pattern.compile("[" + UnicodeCharCategory.LETTER_REGEX + UnicodeCharCategory.DIGIT_REGEX + UnicodeCharCategory.SPACE_REGEX + "]"), iterations);
+    }
+}
@@ -0,0 +1,75 @@
+import org.memoeslink.RegexFilter;
+import org.memoeslink.StringHelper;
+import org.memoeslink.UnicodeCharCategory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cold-start cost of the first calls into {@link RegexFilter} and {@link StringHelper}, as paid by a
+ * fresh JVM. Each scenario runs in its own JVM, several times, and the median time of the measured call is printed.
+ * The "all patterns" scenario reads a pattern constant of {@code RegexFilter}, which compiles every pattern, as the
+ * first touch of the class used to do; the other scenarios only compile the patterns they use.
+ * <p>
+ * Usage:
+ * <pre>
+ * mvn compile
+ * java -cp target/classes tools/RegexFilterStartupBenchmark.java [runs]
+ * </pre>
+ * The numbers are only meant to compare the scenarios on the same machine, not as absolute figures.
+ */
+public class RegexFilterStartupBenchmark {
+    private static final int DEFAULT_RUNS = 10;
+    private static final String[] SCENARIOS = {"allPatterns", "keepLetter", "letterPattern", "normalize", "mask"};
+    private static volatile Object sink;
+
+    @SuppressWarnings("deprecation") // The "all patterns" scenario measures the deprecated constants on purpose
+    private static void run(String scenario) {
+        switch (scenario) {
+            case "allPatterns" -> sink = RegexFilter.LETTER_PATTERN;
+            case "keepLetter" -> sink = RegexFilter.keepLetter("a1b2c3");
+            case "letterPattern" -> sink = UnicodeCharCategory.LETTER.getPattern();
+            case "normalize" -> sink = StringHelper.normalize("café");
+            case "mask" -> sink = StringHelper.mask("secret value");
+            default -> throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        }
+    }
+
+    private static long measureInNewJvm(String scenario) throws IOException, InterruptedException {
+        Path java = Path.of(System.getProperty("java.home"), "bin", "java");
+        List<String> command = new ArrayList<>(List.of(java.toString(), "-cp", System.getProperty("java.class.path"),
+                "tools/RegexFilterStartupBenchmark.java", "--child", scenario));
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes()).trim();
+
+        if (!process.waitFor(1, TimeUnit.MINUTES) || process.exitValue() != 0) {
+            throw new IllegalStateException("The run of " + scenario + " failed: " + output);
+        }
+        return Long.parseLong(output);
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length == 2 && args[0].equals("--child")) {
+            long start = System.nanoTime();
+            run(args[1]);
+            System.out.println(System.nanoTime() - start);
+            return;
+        }
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_RUNS;
+        System.out.printf("%-16s %14s%n", "first call", "median us");
+
+        for (String scenario : SCENARIOS) {
+            long[] times = new long[runs];
+
+            for (int i = 0; i < runs; i++) {
+                times[i] = measureInNewJvm(scenario);
+            }
+            Arrays.sort(times);
+            System.out.printf("%-16s %14.0f%n", scenario, times[runs / 2] / 1_000.0);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+import org.memoeslink.RegexFilter;
+import org.memoeslink.Sanitizer;
+import org.memoeslink.StringFilter;
+import org.memoeslink.StringHelper;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Compares the fused {@link Sanitizer} against the equivalent chain of {@link StringFilter}, {@link RegexFilter}
+ * and {@link StringHelper} calls on a few kinds of input.
+ * <p>
+ * Usage:
+ * <pre>
+ * mvn compile
+ * java -cp target/classes tools/SanitizerBenchmark.java [iterations]
+ * </pre>
+ * Each case is warmed up before it is measured, and the average time per call is printed. The numbers are only
+ * meant to compare both approaches on the same machine, not as absolute figures.
+ */
+public class SanitizerBenchmark {
+    private static final int DEFAULT_ITERATIONS = 20_000;
+    private static final Sanitizer SANITIZER = Sanitizer.builder()
+            .removeZeroWidthChars()
+            .removeCntrl()
+            .removeFormat()
+            .stripAccents()
+            .collapseWhitespaces()
+            .trim()
+            .build();
+    private static final String[][] INPUTS = {
+            {"clean ASCII", "The quick brown fox jumps over the lazy dog. ".repeat(40)},
+            {"Latin accents", "  Crème brûlée\u200B at the café,\tÅngström  and Ærøskøbing. ".repeat(30)},
+            {"mixed scripts", "Ελληνικά ἄλφα\u00AD русский й\u0001 한국어 e\u0301 ﬁ\u3000 ".repeat(40)}
+    };
+    private static volatile int sink;
+
+    private static String chain(String s) {
+        s = StringFilter.removeZeroWidthSpaces(s);
+        s = RegexFilter.removeCntrl(s);
+        s = RegexFilter.removeFormat(s);
+        s = StringHelper.stripAccents(s);
+        s = s.replaceAll("\\p{javaWhitespace}+", " "); // The whitespace of Sanitizer.Builder.collapseWhitespaces
+        return StringHelper.trim(s);
+    }
+
+    private static double measure(UnaryOperator<String> operation, String input, int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            sink += operation.apply(input).length();
+        }
+        long start = System.nanoTime();
+
+        for (int i = 0; i < iterations; i++) {
+            sink += operation.apply(input).length();
+        }
+        return (double) (System.nanoTime() - start) / iterations;
+    }
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ITERATIONS;
+        System.out.printf("%-14s %8s %14s %14s %8s%n", "input", "chars", "chained ns/op", "fused ns/op", "speedup");
+
+        for (String[] input : INPUTS) {
+            double chained = measure(SanitizerBenchmark::chain, input[1], iterations);
+            double fused = measure(SANITIZER::sanitize, input[1], iterations);
+            System.out.printf("%-14s %8d %14.0f %14.0f %7.1fx%n", input[0], input[1].length(), chained, fused, chained / fused);
+        }
+    }
+}
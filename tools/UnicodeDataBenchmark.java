@@ -0,0 +1,176 @@
+import org.memoeslink.CharHelper;
+import org.memoeslink.GraphemeSegmenter;
+import org.memoeslink.ScriptProfile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * Compares the classification methods backed by the pinned Unicode tables of {@code UnicodeData} against the
+ * JDK path they replace: {@link Character} for the character properties, {@link Character.UnicodeScript#of(int)}
+ * for the scripts and {@link BreakIterator} for the grapheme clusters.
+ * <p>
+ * The startup part runs the first call of each path in a fresh JVM, several times, and prints the median time,
+ * which includes loading the pinned tables. The {@code isLetter} row is a single {@link CharHelper#isLetter(int)}
+ * call, the cold start paid by the first classification in an application. The throughput part warms up each path on a mixed-script input and
+ * prints the average time per call.
+ * <p>
+ * Usage:
+ * <pre>
+ * mvn compile
+ * java -cp target/classes tools/UnicodeDataBenchmark.java [iterations] [runs]
+ * </pre>
+ * The numbers are only meant to compare both paths on the same machine, not as absolute figures.
+ */
+public class UnicodeDataBenchmark {
+    private static final int DEFAULT_ITERATIONS = 20_000;
+    private static final int DEFAULT_RUNS = 10;
+    private static final String INPUT = "The quick brown fox, 2024 — «Ærøskøbing» ἄλφα 한국어 日本語のテキスト 😀👍🏽 ½ $5.00!\n".repeat(20);
+    private static final String[] STARTUP_SCENARIOS = {"isLetter", "letters", "scripts", "graphemes"};
+    private static final String[] SCENARIOS = {"letters", "scripts", "graphemes"};
+    private static volatile Object sink;
+
+    private static int isFirstLetterPinned(String s) {
+        return CharHelper.isLetter(s.codePointAt(0)) ? 1 : 0;
+    }
+
+    private static int isFirstLetterJdk(String s) {
+        return Character.isLetter(s.codePointAt(0)) ? 1 : 0;
+    }
+
+    private static int countLettersPinned(String s) {
+        int count = 0;
+
+        for (int i = 0; i < s.length(); ) {
+            int c = s.codePointAt(i);
+
+            if (CharHelper.isLetter(c)) count++;
+            i += Character.charCount(c);
+        }
+        return count;
+    }
+
+    private static int countLettersJdk(String s) {
+        int count = 0;
+
+        for (int i = 0; i < s.length(); ) {
+            int c = s.codePointAt(i);
+
+            if (Character.isLetter(c)) count++;
+            i += Character.charCount(c);
+        }
+        return count;
+    }
+
+    private static int dominantScriptPinned(String s) {
+        return ScriptProfile.of(s).getDominantScript().ordinal();
+    }
+
+    private static int dominantScriptJdk(String s) {
+        int[] counts = new int[Character.UnicodeScript.values().length];
+        int dominant = Character.UnicodeScript.COMMON.ordinal();
+
+        for (int i = 0; i < s.length(); ) {
+            int c = s.codePointAt(i);
+            int script = Character.UnicodeScript.of(c).ordinal();
+
+            if (++counts[script] > counts[dominant]) dominant = script;
+            i += Character.charCount(c);
+        }
+        return dominant;
+    }
+
+    private static int countGraphemesPinned(String s) {
+        return GraphemeSegmenter.count(s);
+    }
+
+    private static int countGraphemesJdk(String s) {
+        BreakIterator iterator = BreakIterator.getCharacterInstance();
+        iterator.setText(s);
+        int count = 0;
+
+        while (iterator.next() != BreakIterator.DONE) {
+            count++;
+        }
+        return count;
+    }
+
+    private static ToIntFunction<String> operation(String scenario, boolean pinned) {
+        return switch (scenario) {
+            case "isLetter" -> pinned ? UnicodeDataBenchmark::isFirstLetterPinned : UnicodeDataBenchmark::isFirstLetterJdk;
+            case "letters" -> pinned ? UnicodeDataBenchmark::countLettersPinned : UnicodeDataBenchmark::countLettersJdk;
+            case "scripts" -> pinned ? UnicodeDataBenchmark::dominantScriptPinned : UnicodeDataBenchmark::dominantScriptJdk;
+            case "graphemes" -> pinned ? UnicodeDataBenchmark::countGraphemesPinned : UnicodeDataBenchmark::countGraphemesJdk;
+            default -> throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        };
+    }
+
+    private static long measureInNewJvm(String scenario, boolean pinned) throws IOException, InterruptedException {
+        Path java = Path.of(System.getProperty("java.home"), "bin", "java");
+        List<String> command = new ArrayList<>(List.of(java.toString(), "-cp", System.getProperty("java.class.path"),
+                "tools/UnicodeDataBenchmark.java", "--child", scenario, pinned ? "pinned" : "jdk"));
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes()).trim();
+
+        if (!process.waitFor(1, TimeUnit.MINUTES) || process.exitValue() != 0) {
+            throw new IllegalStateException("The run of " + scenario + " failed: " + output);
+        }
+        return Long.parseLong(output);
+    }
+
+    private static double medianFirstCall(String scenario, boolean pinned, int runs) throws IOException, InterruptedException {
+        long[] times = new long[runs];
+
+        for (int i = 0; i < runs; i++) {
+            times[i] = measureInNewJvm(scenario, pinned);
+        }
+        Arrays.sort(times);
+        return times[runs / 2] / 1_000.0;
+    }
+
+    private static double measure(ToIntFunction<String> operation, int iterations) {
+        int result = 0;
+
+        for (int i = 0; i < iterations; i++) {
+            result += operation.applyAsInt(INPUT);
+        }
+        long start = System.nanoTime();
+
+        for (int i = 0; i < iterations; i++) {
+            result += operation.applyAsInt(INPUT);
+        }
+        sink = result;
+        return (double) (System.nanoTime() - start) / iterations;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length == 3 && args[0].equals("--child")) {
+            ToIntFunction<String> operation = operation(args[1], args[2].equals("pinned"));
+            long start = System.nanoTime();
+            sink = operation.applyAsInt("Ærøskøbing ἄλφα 日本語 👍🏽");
+            System.out.println(System.nanoTime() - start);
+            return;
+        }
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ITERATIONS;
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUNS;
+        System.out.printf("%-10s %14s %14s%n", "first call", "jdk median us", "pinned us");
+
+        for (String scenario : STARTUP_SCENARIOS) {
+            System.out.printf("%-10s %14.0f %14.0f%n", scenario, medianFirstCall(scenario, false, runs), medianFirstCall(scenario, true, runs));
+        }
+        System.out.printf("%n%d chars per call%n", INPUT.length());
+        System.out.printf("%-10s %14s %14s %8s%n", "throughput", "jdk ns/op", "pinned ns/op", "speedup");
+
+        for (String scenario : SCENARIOS) {
+            double jdk = measure(operation(scenario, false), iterations);
+            double pinned = measure(operation(scenario, true), iterations);
+            System.out.printf("%-10s %14.0f %14.0f %7.1fx%n", scenario, jdk, pinned, jdk / pinned);
+        }
+    }
+}
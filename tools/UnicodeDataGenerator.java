@@ -0,0 +1,419 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generates {@code org.memoeslink.UnicodeData}, the pinned Unicode tables used by the library.
+ * <p>
+ * Usage:
+ * <pre>
+ * java tools/UnicodeDataGenerator.java &lt;ucd-directory&gt; &lt;output-file&gt;
+ * java tools/UnicodeDataGenerator.java --jdk &lt;unicode-version&gt; &lt;output-file&gt;
+ * </pre>
+ * The first form reads {@code UnicodeData.txt}, {@code DerivedCoreProperties.txt}, {@code Scripts.txt},
+ * {@code auxiliary/GraphemeBreakProperty.txt} and {@code emoji/emoji-data.txt} from a directory of the Unicode
+ * Character Database. The second form takes the same properties from the running JDK, which must implement
+ * the given Unicode version (checked against {@link #JDK_UNICODE_VERSIONS}), and is meant for environments
+ * without access to the UCD files. Since the JDK does not expose the Grapheme_Cluster_Break and emoji
+ * properties, they are derived from the general category and the lists of UAX #29 and UTS #51 written in
+ * this file for Unicode {@value #LISTS_VERSION}, which also restricts this form to that version. Unlike the
+ * emoji methods of {@link Character}, which need JDK 21, the lists keep both forms running on JDK 20.
+ * <p>
+ * Every code point is given an 8-bit property value (the general category as a {@link Character} type
+ * constant in the lower five bits, followed by the Alphabetic, Lowercase and Uppercase flags), a script
+ * index and a grapheme break value (an index in {@link #GRAPHEME_BREAKS}). Each sequence is split into
+ * blocks of 256 code points and written as the two stages read by {@code org.memoeslink.UnicodeTable}, with
+ * identical blocks stored once, so that no decoding is left for the first lookup at runtime.
+ */
+public class UnicodeDataGenerator {
+    private static final int CODE_POINTS = Character.MAX_CODE_POINT + 1;
+    private static final String LISTS_VERSION = "15.0.0";
+    private static final int ALPHABETIC = 1 << 5;
+    private static final int LOWERCASE = 1 << 6;
+    private static final int UPPERCASE = 1 << 7;
+    private static final int BLOCK_SIZE = 256;
+    private static final int CHUNK_SIZE = 4096;
+    private static final int CHARS_PER_LINE = 24;
+    private static final String UNKNOWN_SCRIPT = "UNKNOWN";
+    private static final List<String> GRAPHEME_BREAKS = List.of("Other", "CR", "LF", "Control", "Extend", "ZWJ",
+            "Regional_Indicator", "Prepend", "SpacingMark", "L", "V", "T", "LV", "LVT", "Extended_Pictographic");
+    private static final int[][] OTHER_GRAPHEME_EXTEND = {
+            {0x09BE, 0x09BE}, {0x09D7, 0x09D7}, {0x0B3E, 0x0B3E}, {0x0B57, 0x0B57}, {0x0BBE, 0x0BBE},
+            {0x0BD7, 0x0BD7}, {0x0CC2, 0x0CC2}, {0x0CD5, 0x0CD6}, {0x0D3E, 0x0D3E}, {0x0D57, 0x0D57},
+            {0x0DCF, 0x0DCF}, {0x0DDF, 0x0DDF}, {0x1B35, 0x1B35}, {0x200C, 0x200C}, {0x302E, 0x302F},
+            {0xFF9E, 0xFF9F}, {0x1133E, 0x1133E}, {0x11357, 0x11357}, {0x114B0, 0x114B0}, {0x114BD, 0x114BD},
+            {0x115AF, 0x115AF}, {0x11930, 0x11930}, {0x1D165, 0x1D165}, {0x1D16E, 0x1D172}, {0xE0020, 0xE007F}
+    };
+    private static final int[][] PREPEND = {
+            {0x0600, 0x0605}, {0x06DD, 0x06DD}, {0x070F, 0x070F}, {0x0890, 0x0891}, {0x08E2, 0x08E2},
+            {0x0D4E, 0x0D4E}, {0x110BD, 0x110BD}, {0x110CD, 0x110CD}, {0x111C2, 0x111C3}, {0x1193F, 0x1193F},
+            {0x11941, 0x11941}, {0x11A3A, 0x11A3A}, {0x11A84, 0x11A89}, {0x11D46, 0x11D46}, {0x11F02, 0x11F02}
+    };
+    private static final int[][] NOT_SPACING_MARK = {
+            {0x102B, 0x102C}, {0x1038, 0x1038}, {0x1062, 0x1064}, {0x1067, 0x106D}, {0x1083, 0x1083},
+            {0x1087, 0x108C}, {0x108F, 0x108F}, {0x109A, 0x109C}, {0x1A61, 0x1A61}, {0x1A63, 0x1A64},
+            {0xAA7B, 0xAA7B}, {0xAA7D, 0xAA7D}
+    };
+    private static final int[][] EMOJI_MODIFIER = {
+            {0x1F3FB, 0x1F3FF}
+    };
+    private static final int[][] EXTENDED_PICTOGRAPHIC = {
+            {0x00A9, 0x00A9}, {0x00AE, 0x00AE}, {0x203C, 0x203C}, {0x2049, 0x2049}, {0x2122, 0x2122},
+            {0x2139, 0x2139}, {0x2194, 0x2199}, {0x21A9, 0x21AA}, {0x231A, 0x231B}, {0x2328, 0x2328},
+            {0x2388, 0x2388}, {0x23CF, 0x23CF}, {0x23E9, 0x23F3}, {0x23F8, 0x23FA}, {0x24C2, 0x24C2},
+            {0x25AA, 0x25AB}, {0x25B6, 0x25B6}, {0x25C0, 0x25C0}, {0x25FB, 0x25FE}, {0x2600, 0x2605},
+            {0x2607, 0x2612}, {0x2614, 0x2685}, {0x2690, 0x2705}, {0x2708, 0x2712}, {0x2714, 0x2714},
+            {0x2716, 0x2716}, {0x271D, 0x271D}, {0x2721, 0x2721}, {0x2728, 0x2728}, {0x2733, 0x2734},
+            {0x2744, 0x2744}, {0x2747, 0x2747}, {0x274C, 0x274C}, {0x274E, 0x274E}, {0x2753, 0x2755},
+            {0x2757, 0x2757}, {0x2763, 0x2767}, {0x2795, 0x2797}, {0x27A1, 0x27A1}, {0x27B0, 0x27B0},
+            {0x27BF, 0x27BF}, {0x2934, 0x2935}, {0x2B05, 0x2B07}, {0x2B1B, 0x2B1C}, {0x2B50, 0x2B50},
+            {0x2B55, 0x2B55}, {0x3030, 0x3030}, {0x303D, 0x303D}, {0x3297, 0x3297}, {0x3299, 0x3299},
+            {0x1F000, 0x1F0FF}, {0x1F10D, 0x1F10F}, {0x1F12F, 0x1F12F}, {0x1F16C, 0x1F171}, {0x1F17E, 0x1F17F},
+            {0x1F18E, 0x1F18E}, {0x1F191, 0x1F19A}, {0x1F1AD, 0x1F1E5}, {0x1F201, 0x1F20F}, {0x1F21A, 0x1F21A},
+            {0x1F22F, 0x1F22F}, {0x1F232, 0x1F23A}, {0x1F23C, 0x1F23F}, {0x1F249, 0x1F3FA}, {0x1F400, 0x1F53D},
+            {0x1F546, 0x1F64F}, {0x1F680, 0x1F6FF}, {0x1F774, 0x1F77F}, {0x1F7D5, 0x1F7FF}, {0x1F80C, 0x1F80F},
+            {0x1F848, 0x1F84F}, {0x1F85A, 0x1F85F}, {0x1F888, 0x1F88F}, {0x1F8AE, 0x1F8FF}, {0x1F90C, 0x1F93A},
+            {0x1F93C, 0x1F945}, {0x1F947, 0x1FAFF}, {0x1FC00, 0x1FFFD}
+    };
+    private static final int[][] UNASSIGNED_DEFAULT_IGNORABLE = {
+            {0x2065, 0x2065}, {0xFFF0, 0xFFF8}, {0xE0000, 0xE0000}, {0xE0002, 0xE001F}, {0xE0080, 0xE00FF},
+            {0xE01F0, 0xE0FFF}
+    };
+    private static final Map<Integer, String> JDK_UNICODE_VERSIONS = Map.of(17, "13.0.0", 18, "13.0.0", 19, "14.0.0",
+            20, "15.0.0", 21, "15.0.0", 22, "15.1.0", 23, "15.1.0", 24, "16.0.0", 25, "16.0.0");
+    private static final Pattern VERSION_PATTERN = Pattern.compile("-(\\d+\\.\\d+\\.\\d+)\\.txt");
+    private static final Map<String, Integer> CATEGORIES = Map.ofEntries(
+            Map.entry("Cn", (int) Character.UNASSIGNED),
+            Map.entry("Lu", (int) Character.UPPERCASE_LETTER),
+            Map.entry("Ll", (int) Character.LOWERCASE_LETTER),
+            Map.entry("Lt", (int) Character.TITLECASE_LETTER),
+            Map.entry("Lm", (int) Character.MODIFIER_LETTER),
+            Map.entry("Lo", (int) Character.OTHER_LETTER),
+            Map.entry("Mn", (int) Character.NON_SPACING_MARK),
+            Map.entry("Me", (int) Character.ENCLOSING_MARK),
+            Map.entry("Mc", (int) Character.COMBINING_SPACING_MARK),
+            Map.entry("Nd", (int) Character.DECIMAL_DIGIT_NUMBER),
+            Map.entry("Nl", (int) Character.LETTER_NUMBER),
+            Map.entry("No", (int) Character.OTHER_NUMBER),
+            Map.entry("Zs", (int) Character.SPACE_SEPARATOR),
+            Map.entry("Zl", (int) Character.LINE_SEPARATOR),
+            Map.entry("Zp", (int) Character.PARAGRAPH_SEPARATOR),
+            Map.entry("Cc", (int) Character.CONTROL),
+            Map.entry("Cf", (int) Character.FORMAT),
+            Map.entry("Co", (int) Character.PRIVATE_USE),
+            Map.entry("Cs", (int) Character.SURROGATE),
+            Map.entry("Pd", (int) Character.DASH_PUNCTUATION),
+            Map.entry("Ps", (int) Character.START_PUNCTUATION),
+            Map.entry("Pe", (int) Character.END_PUNCTUATION),
+            Map.entry("Pc", (int) Character.CONNECTOR_PUNCTUATION),
+            Map.entry("Po", (int) Character.OTHER_PUNCTUATION),
+            Map.entry("Sm", (int) Character.MATH_SYMBOL),
+            Map.entry("Sc", (int) Character.CURRENCY_SYMBOL),
+            Map.entry("Sk", (int) Character.MODIFIER_SYMBOL),
+            Map.entry("So", (int) Character.OTHER_SYMBOL),
+            Map.entry("Pi", (int) Character.INITIAL_QUOTE_PUNCTUATION),
+            Map.entry("Pf", (int) Character.FINAL_QUOTE_PUNCTUATION)
+    );
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 3 && args[0].equals("--jdk")) {
+            write(fromJdk(args[1]), Path.of(args[2]), args);
+        } else if (args.length == 2) {
+            write(fromUcd(Path.of(args[0])), Path.of(args[1]), args);
+        } else {
+            System.err.println("Usage: java UnicodeDataGenerator.java <ucd-directory> <output-file>");
+            System.err.println("       java UnicodeDataGenerator.java --jdk <unicode-version> <output-file>");
+            System.exit(1);
+        }
+    }
+
+    private static Tables fromJdk(String version) {
+        int feature = Runtime.version().feature();
+        String jdkVersion = JDK_UNICODE_VERSIONS.get(feature);
+
+        if (jdkVersion == null) throw new IllegalStateException("Unknown Unicode version of JDK " + feature);
+
+        if (!jdkVersion.equals(version))
+            throw new IllegalStateException("JDK " + feature + " implements Unicode " + jdkVersion + ", not " + version);
+
+        if (!version.equals(LISTS_VERSION))
+            throw new IllegalStateException("The grapheme break lists are written for Unicode " + LISTS_VERSION + ", not " + version);
+        Tables tables = new Tables(version, "the java.lang.Character tables of JDK " + Runtime.version() + " (Unicode " +
+                version + ") and the grapheme break lists of UAX #29");
+        tables.scriptIndex(UNKNOWN_SCRIPT);
+
+        for (int c = 0; c < CODE_POINTS; c++) {
+            int value = Character.getType(c);
+
+            if (Character.isAlphabetic(c)) value |= ALPHABETIC;
+
+            if (Character.isLowerCase(c)) value |= LOWERCASE;
+
+            if (Character.isUpperCase(c)) value |= UPPERCASE;
+            tables.properties[c] = value;
+            tables.scripts[c] = tables.scriptIndex(Character.UnicodeScript.of(c).name());
+            tables.graphemeBreaks[c] = GRAPHEME_BREAKS.indexOf(graphemeBreakFromJdk(c));
+        }
+        return tables;
+    }
+
+    private static String graphemeBreakFromJdk(int c) {
+        int type = Character.getType(c);
+
+        if (c == '\r') return "CR";
+
+        if (c == '\n') return "LF";
+
+        if (contains(PREPEND, c)) return "Prepend";
+
+        if (c == 0x200D) return "ZWJ";
+
+        if (type == Character.NON_SPACING_MARK || type == Character.ENCLOSING_MARK || contains(OTHER_GRAPHEME_EXTEND, c)
+                || contains(EMOJI_MODIFIER, c)) return "Extend";
+
+        if (c >= 0x1F1E6 && c <= 0x1F1FF) return "Regional_Indicator";
+
+        if ((c >= 0x1100 && c <= 0x115F) || (c >= 0xA960 && c <= 0xA97C)) return "L";
+
+        if ((c >= 0x1160 && c <= 0x11A7) || (c >= 0xD7B0 && c <= 0xD7C6)) return "V";
+
+        if ((c >= 0x11A8 && c <= 0x11FF) || (c >= 0xD7CB && c <= 0xD7FB)) return "T";
+
+        if (c >= 0xAC00 && c <= 0xD7A3) return (c - 0xAC00) % 28 == 0 ? "LV" : "LVT";
+
+        if ((type == Character.COMBINING_SPACING_MARK && !contains(NOT_SPACING_MARK, c)) || c == 0x0E33 || c == 0x0EB3)
+            return "SpacingMark";
+
+        if (type == Character.LINE_SEPARATOR || type == Character.PARAGRAPH_SEPARATOR || type == Character.CONTROL
+                || type == Character.FORMAT || type == Character.SURROGATE || (type == Character.UNASSIGNED && contains(UNASSIGNED_DEFAULT_IGNORABLE, c)))
+            return "Control";
+
+        if (contains(EXTENDED_PICTOGRAPHIC, c)) return "Extended_Pictographic";
+        return "Other";
+    }
+
+    private static boolean contains(int[][] ranges, int c) {
+        for (int[] range : ranges) {
+            if (c >= range[0] && c <= range[1]) return true;
+        }
+        return false;
+    }
+
+    private static Tables fromUcd(Path directory) throws IOException {
+        Path derivedCoreProperties = directory.resolve("DerivedCoreProperties.txt");
+        String version = readVersion(derivedCoreProperties);
+        Tables tables = new Tables(version, "the Unicode Character Database " + version + " files");
+        List<String> unicodeData = Files.readAllLines(directory.resolve("UnicodeData.txt"), StandardCharsets.UTF_8);
+        int rangeStart = -1;
+
+        for (String line : unicodeData) {
+            String[] fields = line.split(";", -1);
+            int c = Integer.parseInt(fields[0], 16);
+            Integer category = CATEGORIES.get(fields[2]);
+
+            if (category == null) throw new IllegalStateException("Unknown general category: " + fields[2]);
+
+            if (fields[1].endsWith(", First>")) {
+                rangeStart = c;
+                continue;
+            }
+            int start = fields[1].endsWith(", Last>") ? rangeStart : c;
+
+            for (int i = start; i <= c; i++) {
+                tables.properties[i] = category;
+            }
+        }
+        Map<String, Integer> flags = Map.of("Alphabetic", ALPHABETIC, "Lowercase", LOWERCASE, "Uppercase", UPPERCASE);
+        forEachRange(derivedCoreProperties, (start, end, property) -> {
+            Integer flag = flags.get(property);
+
+            if (flag == null) return;
+
+            for (int i = start; i <= end; i++) {
+                tables.properties[i] |= flag;
+            }
+        });
+        tables.scriptIndex(UNKNOWN_SCRIPT);
+        forEachRange(directory.resolve("Scripts.txt"), (start, end, script) -> {
+            int index = tables.scriptIndex(script.toUpperCase(Locale.ROOT));
+
+            for (int i = start; i <= end; i++) {
+                tables.scripts[i] = index;
+            }
+        });
+        forEachRange(directory.resolve("auxiliary").resolve("GraphemeBreakProperty.txt"), (start, end, value) -> {
+            int index = GRAPHEME_BREAKS.indexOf(value);
+
+            if (index == -1) throw new IllegalStateException("Unknown grapheme break value: " + value);
+
+            for (int i = start; i <= end; i++) {
+                tables.graphemeBreaks[i] = index;
+            }
+        });
+        int extendedPictographic = GRAPHEME_BREAKS.indexOf("Extended_Pictographic");
+        forEachRange(directory.resolve("emoji").resolve("emoji-data.txt"), (start, end, property) -> {
+            if (!property.equals("Extended_Pictographic")) return;
+
+            for (int i = start; i <= end; i++) {
+                if (tables.graphemeBreaks[i] == 0) tables.graphemeBreaks[i] = extendedPictographic;
+            }
+        });
+        return tables;
+    }
+
+    private static String readVersion(Path file) throws IOException {
+        String header = Files.readAllLines(file, StandardCharsets.UTF_8).get(0);
+        Matcher matcher = VERSION_PATTERN.matcher(header);
+
+        if (!matcher.find()) throw new IllegalStateException("Cannot read the Unicode version from " + file);
+        return matcher.group(1);
+    }
+
+    private static void forEachRange(Path file, RangeConsumer consumer) throws IOException {
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            int comment = line.indexOf('#');
+            String data = (comment == -1 ? line : line.substring(0, comment)).trim();
+
+            if (data.isEmpty()) continue;
+            String[] fields = data.split(";");
+            String[] range = fields[0].trim().split("\\.\\.");
+            int start = Integer.parseInt(range[0], 16);
+            int end = range.length == 1 ? start : Integer.parseInt(range[1], 16);
+            consumer.accept(start, end, fields[1].trim());
+        }
+    }
+
+    private static void write(Tables tables, Path output, String[] args) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("package org.memoeslink;\n\n");
+        sb.append("// Generated with: java tools/UnicodeDataGenerator.java ").append(String.join(" ", args)).append('\n');
+        sb.append("// Source: ").append(tables.source).append(".\n");
+        sb.append("// Do not edit.\n");
+        sb.append("final class UnicodeData {\n");
+        sb.append("    static final String VERSION = \"").append(tables.version).append("\";\n");
+        sb.append("    static final String[] SCRIPT_NAMES = {");
+
+        for (int i = 0; i < tables.scriptNames.size(); i++) {
+            sb.append(i % 8 == 0 ? "\n            " : " ");
+            sb.append('"').append(tables.scriptNames.get(i)).append('"');
+
+            if (i < tables.scriptNames.size() - 1) sb.append(',');
+        }
+        sb.append("\n    };\n");
+        sb.append("\n    private UnicodeData() {\n    }\n");
+        appendTable(sb, "Properties", tables.properties);
+        appendTable(sb, "Scripts", tables.scripts);
+        appendTable(sb, "GraphemeBreaks", tables.graphemeBreaks);
+        sb.append("}\n");
+
+        try {
+            Files.writeString(output, sb, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends the two stages of a table as a nested class: {@code INDEX}, the position of each block of
+     * {@link #BLOCK_SIZE} code points in the second stage, and {@code DATA}, the distinct blocks, one value per
+     * char. Both are written as they are used, so loading them is only a copy, and each table is in its own
+     * class so that only the tables in use are loaded.
+     */
+    private static void appendTable(StringBuilder sb, String name, int[] values) {
+        StringBuilder index = new StringBuilder();
+        StringBuilder data = new StringBuilder();
+        Map<String, Integer> positions = new HashMap<>();
+
+        for (int start = 0; start < values.length; start += BLOCK_SIZE) {
+            StringBuilder block = new StringBuilder(BLOCK_SIZE);
+
+            for (int i = start; i < start + BLOCK_SIZE; i++) {
+                if (values[i] > 0xFF) throw new IllegalStateException(name + " value does not fit in 8 bits: " + values[i]);
+                block.append((char) values[i]);
+            }
+            Integer position = positions.get(block.toString());
+
+            if (position == null) {
+                position = positions.size();
+                positions.put(block.toString(), position);
+                data.append(block);
+            }
+            index.append((char) position.intValue());
+        }
+        sb.append("\n    static final class ").append(name).append(" {\n");
+        appendChunks(sb, "INDEX", index);
+        appendChunks(sb, "DATA", data);
+        sb.append("\n        private ").append(name).append("() {\n        }\n    }\n");
+    }
+
+    private static void appendChunks(StringBuilder sb, String name, CharSequence chars) {
+        sb.append("        static final String[] ").append(name).append(" = {\n");
+
+        for (int chunk = 0; chunk < chars.length(); chunk += CHUNK_SIZE) {
+            int chunkEnd = Math.min(chunk + CHUNK_SIZE, chars.length());
+
+            for (int line = chunk; line < chunkEnd; line += CHARS_PER_LINE) {
+                sb.append(line == chunk ? "                \"" : "                        + \"");
+
+                for (int i = line; i < Math.min(line + CHARS_PER_LINE, chunkEnd); i++) {
+                    sb.append(escape(chars.charAt(i)));
+                }
+                sb.append('"');
+
+                if (line + CHARS_PER_LINE >= chunkEnd) sb.append(chunkEnd < chars.length() ? "," : "");
+                sb.append('\n');
+            }
+        }
+        sb.append("        };\n");
+    }
+
+    /**
+     * Escapes a char for a string literal. Printable ASCII is written as is and the other Latin-1 chars as octal
+     * escapes, since Unicode escapes are translated before the literal is parsed and cannot stand for line
+     * terminators, quotes or backslashes.
+     */
+    private static String escape(char c) {
+        if (c == '"' || c == '\\') return "\\" + c;
+
+        if (c >= ' ' && c < 0x7F) return String.valueOf(c);
+
+        if (c <= 0xFF) return String.format("\\%03o", (int) c);
+        return String.format("\\u%04X", (int) c);
+    }
+
+    @FunctionalInterface
+    private interface RangeConsumer {
+        void accept(int start, int end, String value);
+    }
+
+    private static final class Tables {
+        private final String version;
+        private final String source;
+        private final int[] properties = new int[CODE_POINTS];
+        private final int[] scripts = new int[CODE_POINTS];
+        private final int[] graphemeBreaks = new int[CODE_POINTS];
+        private final List<String> scriptNames = new ArrayList<>();
+        private final Map<String, Integer> scriptIndexes = new HashMap<>();
+
+        private Tables(String version, String source) {
+            this.version = version;
+            this.source = source;
+        }
+
+        private int scriptIndex(String script) {
+            return scriptIndexes.computeIfAbsent(script, key -> {
+                scriptNames.add(key);
+                return scriptNames.size() - 1;
+            });
+        }
+    }
+}